@@ -0,0 +1,62 @@
+package com.ssafy.keepick.album.tier.application;
+
+import com.ssafy.keepick.album.tier.domain.Tier;
+import com.ssafy.keepick.album.tier.domain.TierAlbum;
+import com.ssafy.keepick.album.tier.domain.TierAlbumPhoto;
+import com.ssafy.keepick.photo.domain.Photo;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 티어 앨범 수정 시 사진 ID 검증과 티어, sequence 재배치 시간 (DB 접근 제외)
+ * 공개 API인 updateTierAlbum은 앨범, 사진 조회와 이벤트 발행이 측정을 덮으므로 재배치 메서드를 직접 호출한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TierAlbumServiceBenchmark {
+
+    @Param({"100", "1000"})
+    private int photoCount;
+
+    private TierAlbumService tierAlbumService;
+    private TierAlbum tierAlbum;
+    private Map<Long, TierAlbumPhoto> albumPhotoMap;
+    private Map<String, List<Long>> photosMap;
+
+    @Setup
+    public void setUp() {
+        tierAlbumService = new TierAlbumService(null, null, null, null, null, null);
+        tierAlbum = TierAlbum.createTierAlbum(1L);
+
+        albumPhotoMap = new HashMap<>();
+        for (long photoId = 1; photoId <= photoCount; photoId++) {
+            Photo photo = Photo.createPhoto(LocalDateTime.now(), 1920, 1080, null);
+            albumPhotoMap.put(photoId, TierAlbumPhoto.createTierAlbumPhoto(tierAlbum, photo, null, 0));
+        }
+
+        // 80%는 티어에 고르게 배정하고 나머지는 요청에 포함하지 않아 미지정으로 되돌린다
+        photosMap = new LinkedHashMap<>();
+        Tier[] tiers = Tier.values();
+        for (Tier tier : tiers) {
+            photosMap.put(tier.name(), new ArrayList<>());
+        }
+        int assignedCount = photoCount * 8 / 10;
+        for (long photoId = 1; photoId <= assignedCount; photoId++) {
+            photosMap.get(tiers[(int) (photoId % tiers.length)].name()).add(photoId);
+        }
+    }
+
+    @Benchmark
+    public TierAlbum validateAndUpdateTierPhotos() {
+        tierAlbumService.validateAndUpdateTierPhotos(tierAlbum, albumPhotoMap, photosMap);
+        return tierAlbum;
+    }
+}
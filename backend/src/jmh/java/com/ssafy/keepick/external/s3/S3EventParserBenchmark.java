@@ -0,0 +1,56 @@
+package com.ssafy.keepick.external.s3;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SQS로 받은 S3 이벤트 메시지 파싱 시간 (SNS로 감싼 메시지는 JSON을 두 번 파싱)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class S3EventParserBenchmark {
+
+    @Param({"1", "10"})
+    private int recordCount;
+
+    @Param({"false", "true"})
+    private boolean snsWrapped;
+
+    private S3EventParser s3EventParser;
+    private String message;
+
+    @Setup
+    public void setUp() throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper();
+        s3EventParser = new S3EventParser(objectMapper);
+
+        StringBuilder records = new StringBuilder();
+        for (int i = 0; i < recordCount; i++) {
+            if (i > 0) {
+                records.append(',');
+            }
+            records.append("""
+                    {"eventVersion":"2.1","eventSource":"aws:s3","awsRegion":"ap-northeast-2",
+                     "eventTime":"2025-08-11T12:34:56.000Z","eventName":"ObjectCreated:Put",
+                     "s3":{"bucket":{"name":"keepick-bucket"},
+                           "object":{"key":"originals/%d/%s.jpg","size":2048576,"eTag":"d41d8cd98f00b204e9800998ecf8427e"}}}
+                    """.formatted(1000 + i, UUID.randomUUID()));
+        }
+        String s3Event = "{\"Records\":[" + records + "]}";
+        message = snsWrapped
+                ? objectMapper.writeValueAsString(objectMapper.createObjectNode().put("Type", "Notification").put("Message", s3Event))
+                : s3Event;
+    }
+
+    @Benchmark
+    public List<JsonNode> parseAndExtractRecords() throws IOException {
+        return s3EventParser.extractRecords(s3EventParser.parse(message));
+    }
+}
@@ -0,0 +1,61 @@
+package com.ssafy.keepick.global.response;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.keepick.photo.controller.response.GroupPhotoDetailResponse;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 갤러리 페이지 응답(PagingResponse) JSON 직렬화 시간
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class PagingResponseBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<PagingResponse<GroupPhotoDetailResponse>> response;
+
+    @Setup
+    public void setUp() {
+        // 스프링 MVC 메시지 컨버터와 같은 설정
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+        List<GroupPhotoDetailResponse> photos = new ArrayList<>(pageSize);
+        for (long i = 0; i < pageSize; i++) {
+            String baseUrl = "https://keepick-bucket.s3.ap-northeast-2.amazonaws.com/";
+            photos.add(GroupPhotoDetailResponse.builder()
+                    .photoId(1000 + i)
+                    .originalUrl(baseUrl + "originals/" + (1000 + i) + "/8f14e45f-ceea-467f-a0e6-1e4c0c1f2b3a.jpg")
+                    .thumbnailUrl(baseUrl + "thumbnails/" + (1000 + i) + "/8f14e45f-ceea-467f-a0e6-1e4c0c1f2b3a.jpg")
+                    .takenAt("2025-08-11T12:34:56")
+                    .width(1920)
+                    .height(1080)
+                    .build());
+        }
+        PagingResponse<GroupPhotoDetailResponse> page = PagingResponse.<GroupPhotoDetailResponse>builder()
+                .list(photos)
+                .pageInfo(PagingResponse.PageInfo.builder()
+                        .hasNext(true)
+                        .page(0)
+                        .size(pageSize)
+                        .totalPage(50)
+                        .totalElement(50L * pageSize)
+                        .build())
+                .build();
+        response = ApiResponse.ok(page);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
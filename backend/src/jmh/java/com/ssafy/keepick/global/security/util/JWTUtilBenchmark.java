@@ -0,0 +1,53 @@
+package com.ssafy.keepick.global.security.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 수행되는 토큰 검증 시간 (검증 캐시 적중, 서명 검증 포함 파싱)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JWTUtilBenchmark {
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-32-bytes";
+    private static final long EXPIRED_MS = 60 * 60 * 1000L;
+    private static final int TOKEN_COUNT = 10_000;
+
+    private JWTUtil cachedJwtUtil;
+    private JWTUtil uncachedJwtUtil;
+    private String token;
+    private String[] tokens;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        cachedJwtUtil = new JWTUtil(SECRET, EXPIRED_MS);
+        token = cachedJwtUtil.createToken(1L, "kakao 1234567890");
+        cachedJwtUtil.verify(token);
+
+        // 캐시 크기보다 훨씬 많은 토큰을 돌아가며 검증해 매번 파싱하도록 함
+        uncachedJwtUtil = new JWTUtil(SECRET, EXPIRED_MS, 1);
+        tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = uncachedJwtUtil.createToken((long) i, "kakao " + i);
+        }
+    }
+
+    @Benchmark
+    public JWTClaims verifyCached() {
+        return cachedJwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public JWTClaims verifyUncached() {
+        index = (index + 1) % TOKEN_COUNT;
+        return uncachedJwtUtil.verify(tokens[index]);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return cachedJwtUtil.createToken(1L, "kakao 1234567890");
+    }
+}
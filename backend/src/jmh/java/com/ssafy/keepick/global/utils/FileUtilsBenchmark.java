@@ -0,0 +1,36 @@
+package com.ssafy.keepick.global.utils;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * S3 이벤트, 이미지 서빙 경로에서 호출되는 객체 키 파싱 시간
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class FileUtilsBenchmark {
+    private static final String OBJECT_KEY = "originals/12345/8f14e45f-ceea-467f-a0e6-1e4c0c1f2b3a.jpg";
+    private static final String PUBLIC_URL = "https://keepick-bucket.s3.ap-northeast-2.amazonaws.com/" + OBJECT_KEY;
+
+    @Benchmark
+    public String extractImageNumber() {
+        return FileUtils.extractImageNumber(OBJECT_KEY);
+    }
+
+    @Benchmark
+    public String extractFileName() {
+        return FileUtils.extractFileName(OBJECT_KEY);
+    }
+
+    @Benchmark
+    public String extractObjectKey() {
+        return FileUtils.extractObjectKey(PUBLIC_URL);
+    }
+
+    @Benchmark
+    public String guessContentType() {
+        return FileUtils.guessContentType(OBJECT_KEY);
+    }
+}
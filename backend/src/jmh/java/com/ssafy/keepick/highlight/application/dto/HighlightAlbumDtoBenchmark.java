@@ -0,0 +1,57 @@
+package com.ssafy.keepick.highlight.application.dto;
+
+import com.ssafy.keepick.group.domain.Group;
+import com.ssafy.keepick.highlight.domain.HighlightAlbum;
+import com.ssafy.keepick.highlight.domain.HighlightAlbumPhoto;
+import com.ssafy.keepick.highlight.domain.HighlightType;
+import com.ssafy.keepick.member.domain.Member;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하이라이트 앨범 DTO 생성 시간 (스크린샷을 감정 타입별로 묶는 비용이 대부분)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class HighlightAlbumDtoBenchmark {
+
+    @Param({"50", "500"})
+    private int photoCount;
+
+    private HighlightAlbum album;
+    private List<HighlightAlbumPhoto> photos;
+
+    @Setup
+    public void setUp() {
+        HighlightType[] types = HighlightType.values();
+        Member member = Member.builder().build();
+        album = HighlightAlbum.builder()
+                .name("하이라이트")
+                .chatSessionId("chat-session-1")
+                .photoCount(photoCount)
+                .group(Group.createGroup("그룹", member))
+                .build();
+        LocalDateTime takenAt = LocalDateTime.now();
+
+        photos = new ArrayList<>(photoCount);
+        for (int i = 0; i < photoCount; i++) {
+            photos.add(HighlightAlbumPhoto.builder()
+                    .member(member)
+                    .takenAt(takenAt.plusSeconds(i))
+                    .photoUrl("https://keepick-bucket.s3.ap-northeast-2.amazonaws.com/highlights/" + i + ".jpg")
+                    .type(types[i % types.length])
+                    .chatSessionId("chat-session-1")
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public HighlightAlbumDto of() {
+        return HighlightAlbumDto.of(album, photos);
+    }
+}
@@ -0,0 +1,63 @@
+package com.ssafy.keepick.photo.application;
+
+import com.ssafy.keepick.support.BenchmarkSupport;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 원본 해상도, 원본 포맷별 썸네일 생성(디코딩, 리사이즈, 인코딩) 시간
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ThumbnailServiceBenchmark {
+
+    @Param({"1280x960", "1920x1080", "4032x3024"})
+    private String resolution;
+
+    @Param({"jpg", "png"})
+    private String sourceFormat;
+
+    private ThumbnailService thumbnailService;
+    private byte[] originalImage;
+
+    @Setup
+    public void setUp() throws IOException {
+        thumbnailService = new ThumbnailService(null, null, null, ObservationRegistry.NOOP);
+        BenchmarkSupport.setField(thumbnailService, "thumbnailWidth", 300);
+        BenchmarkSupport.setField(thumbnailService, "thumbnailQuality", 0.85);
+        BenchmarkSupport.setField(thumbnailService, "thumbnailFormat", "jpg");
+
+        String[] size = resolution.split("x");
+        originalImage = createImage(Integer.parseInt(size[0]), Integer.parseInt(size[1]), sourceFormat);
+    }
+
+    @Benchmark
+    public byte[] generateThumbnail() {
+        return thumbnailService.generateThumbnail(originalImage);
+    }
+
+    // 단색 이미지는 압축률이 비현실적으로 높으므로 그라데이션과 노이즈를 섞는다
+    private static byte[] createImage(int width, int height, String format) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int r = (x * 255 / width + random.nextInt(32)) & 0xFF;
+                int g = (y * 255 / height + random.nextInt(32)) & 0xFF;
+                int b = random.nextInt(256);
+                image.setRGB(x, y, (r << 16) | (g << 8) | b);
+            }
+        }
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, format, outputStream);
+        return outputStream.toByteArray();
+    }
+}
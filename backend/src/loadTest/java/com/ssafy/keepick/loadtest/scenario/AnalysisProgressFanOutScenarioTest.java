@@ -0,0 +1,79 @@
+package com.ssafy.keepick.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ssafy.keepick.loadtest.support.LoadTestFixtures.GroupFixture;
+import com.ssafy.keepick.loadtest.support.LoadTestProperties;
+import com.ssafy.keepick.loadtest.support.LoadTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 분석 진행률 팬아웃
+ * 그룹 회원들이 각자 유사 사진 분석을 요청하고, 작업마다 여러 화면이 SSE로 진행률을 구독한다
+ * Vision AI stub이 응답 지연 후 Redis에 진행률을 기록하므로 실제 서버와 같은 경로로 이벤트가 전달된다
+ */
+class AnalysisProgressFanOutScenarioTest extends LoadTestSupport {
+
+    @Test
+    @DisplayName("분석 작업마다 여러 구독자가 붙어도 모든 구독자가 완료 이벤트를 받는다")
+    void progressFanOut() throws Exception {
+        int photoCount = LoadTestProperties.getInt("loadtest.analysis.photos", 300);
+        int jobs = LoadTestProperties.getInt("loadtest.analysis.jobs", 20);
+        int subscribersPerJob = LoadTestProperties.getInt("loadtest.analysis.subscribers-per-job", 25);
+
+        GroupFixture group = fixtures.createGroup(jobs);
+        fixtures.createPhotos(group.groupId(), photoCount);
+        String analysisPath = "/api/groups/" + group.groupId() + "/photos/analysis";
+
+        runConcurrently(jobs, jobs, job -> {
+            String token = group.token(job);
+            JsonNode response = client.call("POST /api/groups/{groupId}/photos/analysis/similarity", token,
+                    "POST", analysisPath + "/similarity", null);
+            if (response == null) return;
+            String statusPath = analysisPath + "/status/" + response.get("jobId").asText();
+
+            try {
+                runConcurrently(subscribersPerJob, subscribersPerJob, subscriber -> subscribe(token, statusPath));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        recorder.report();
+        assertThat(recorder.errorCount()).isZero();
+    }
+
+    // 첫 이벤트 수신까지와 COMPLETED 수신까지의 시간을 각각 기록
+    private void subscribe(String token, String statusPath) {
+        long start = System.nanoTime();
+        boolean firstEvent = true;
+        try (Stream<String> lines = client.subscribe(token, statusPath)) {
+            Iterator<String> iterator = lines.iterator();
+            while (iterator.hasNext()) {
+                String line = iterator.next();
+                if (!line.startsWith("data:")) continue;
+                if (firstEvent) {
+                    recorder.record("sse first-event", Duration.ofNanos(System.nanoTime() - start), true);
+                    firstEvent = false;
+                }
+                if (line.contains("COMPLETED")) {
+                    recorder.record("sse completed", Duration.ofNanos(System.nanoTime() - start), true);
+                    return;
+                }
+                if (line.contains("FAILED")) break;
+            }
+            recorder.record("sse completed", Duration.ofNanos(System.nanoTime() - start), false);
+        } catch (IOException e) {
+            recorder.record("sse completed", Duration.ofNanos(System.nanoTime() - start), false);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
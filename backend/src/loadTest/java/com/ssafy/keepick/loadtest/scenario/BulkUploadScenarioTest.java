@@ -0,0 +1,107 @@
+package com.ssafy.keepick.loadtest.scenario;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.ssafy.keepick.loadtest.support.LoadTestFixtures.GroupFixture;
+import com.ssafy.keepick.loadtest.support.LoadTestProperties;
+import com.ssafy.keepick.loadtest.support.LoadTestSupport;
+import com.ssafy.keepick.photo.controller.request.GroupPhotoUploadRequest;
+import com.ssafy.keepick.photo.controller.request.GroupPhotoUploadRequest.ImageFileRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사진 1,000장 업로드 폭주
+ * presigned URL 발급 → S3 직접 업로드 → S3 이벤트(SQS) → 썸네일 생성까지의 지연을 사진 단위로 측정
+ */
+class BulkUploadScenarioTest extends LoadTestSupport {
+    private static final int BATCH_SIZE = 20;  // presigned URL 발급 API의 최대 파일 수
+    private static final String CONTENT_TYPE = "image/jpeg";
+
+    @Test
+    @DisplayName("여러 회원이 동시에 사진을 올려도 모든 사진의 썸네일이 제한 시간 안에 생성된다")
+    void bulkUpload() throws Exception {
+        int photoCount = LoadTestProperties.getInt("loadtest.upload.photos", 1000);
+        int uploaders = LoadTestProperties.getInt("loadtest.upload.concurrency", 10);
+        Duration timeout = Duration.ofSeconds(LoadTestProperties.getLong("loadtest.upload.timeout-seconds", 600));
+
+        GroupFixture group = fixtures.createGroup(uploaders);
+        byte[] image = sampleJpeg(3000, 2000);
+        Map<Long, Long> uploadedAt = new ConcurrentHashMap<>();
+
+        // 회원마다 20장씩 나누어 발급, 업로드
+        int batches = (photoCount + BATCH_SIZE - 1) / BATCH_SIZE;
+        runConcurrently(uploaders, batches, batch -> {
+            int size = Math.min(BATCH_SIZE, photoCount - batch * BATCH_SIZE);
+            GroupPhotoUploadRequest request = GroupPhotoUploadRequest.builder()
+                    .files(IntStream.range(0, size)
+                            .mapToObj(i -> ImageFileRequest.builder()
+                                    .fileName("photo-" + batch + "-" + i + ".jpg")
+                                    .contentType(CONTENT_TYPE)
+                                    .fileSize((long) image.length)
+                                    .width(3000)
+                                    .height(2000)
+                                    .takenAt(LocalDateTime.now().minusMinutes(batch * BATCH_SIZE + i))
+                                    .build())
+                            .toList())
+                    .build();
+            JsonNode presignedUrls = client.call("POST /api/groups/{groupId}/photos/presigned-urls", group.token(batch),
+                    "POST", "/api/groups/" + group.groupId() + "/photos/presigned-urls", request);
+            if (presignedUrls == null) return;
+
+            for (JsonNode presigned : presignedUrls) {
+                if (client.upload("PUT presigned-url", presigned.get("presignedUrl").asText(), CONTENT_TYPE, image)) {
+                    uploadedAt.put(presigned.get("imageId").asLong(), System.nanoTime());
+                }
+            }
+        });
+
+        // 업로드 완료 시점부터 THUMBNAIL_READY가 될 때까지의 지연 기록
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!uploadedAt.isEmpty() && System.nanoTime() < deadline) {
+            List<Long> readyIds = jdbcTemplate.queryForList(
+                    "select id from photo where group_id = ? and status = 'THUMBNAIL_READY'", Long.class, group.groupId());
+            long now = System.nanoTime();
+            for (Long photoId : readyIds) {
+                Long uploaded = uploadedAt.remove(photoId);
+                if (uploaded != null) {
+                    recorder.record("thumbnail-pipeline", Duration.ofNanos(now - uploaded), true);
+                }
+            }
+            Thread.sleep(200);
+        }
+        uploadedAt.keySet().forEach(photoId -> recorder.record("thumbnail-pipeline", timeout, false));
+
+        recorder.report();
+        assertThat(uploadedAt).as("제한 시간 안에 썸네일이 생성되지 않은 사진").isEmpty();
+        assertThat(recorder.errorCount()).isZero();
+    }
+
+    // 실제 사진과 비슷한 크기로 리사이즈 비용이 들도록 그라데이션 이미지 생성
+    private static byte[] sampleJpeg(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        for (int x = 0; x < width; x += 10) {
+            graphics.setColor(new Color(x % 256, (x / 2) % 256, (x / 3) % 256));
+            graphics.fillRect(x, 0, 10, height);
+        }
+        graphics.dispose();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return out.toByteArray();
+    }
+}
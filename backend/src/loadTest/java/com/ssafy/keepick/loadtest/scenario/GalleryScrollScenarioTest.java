@@ -0,0 +1,43 @@
+package com.ssafy.keepick.loadtest.scenario;
+
+import com.ssafy.keepick.loadtest.support.LoadTestFixtures.GroupFixture;
+import com.ssafy.keepick.loadtest.support.LoadTestProperties;
+import com.ssafy.keepick.loadtest.support.LoadTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 갤러리 스크롤
+ * 그룹 회원들이 동시에 갤러리 첫 화면(overview)을 열고 페이지를 끝까지 넘긴다
+ */
+class GalleryScrollScenarioTest extends LoadTestSupport {
+
+    @Test
+    @DisplayName("여러 회원이 동시에 갤러리를 스크롤해도 오류 없이 모든 페이지를 조회한다")
+    void scrollGallery() throws Exception {
+        int photoCount = LoadTestProperties.getInt("loadtest.gallery.photos", 5000);
+        int users = LoadTestProperties.getInt("loadtest.gallery.users", 50);
+        int pageSize = LoadTestProperties.getInt("loadtest.gallery.page-size", 50);
+        int sessions = LoadTestProperties.getInt("loadtest.gallery.sessions", 500);
+
+        GroupFixture group = fixtures.createGroup(users);
+        fixtures.createPhotos(group.groupId(), photoCount);
+        int pages = (photoCount + pageSize - 1) / pageSize;
+        String photosPath = "/api/groups/" + group.groupId() + "/photos";
+
+        // 세션 하나 = overview 진입 후 마지막 페이지까지 스크롤
+        runConcurrently(users, sessions, session -> {
+            String token = group.token(session);
+            client.call("GET /api/groups/{groupId}/photos/overview", token, "GET", photosPath + "/overview", null);
+            for (int page = 0; page < pages; page++) {
+                client.call("GET /api/groups/{groupId}/photos", token, "GET",
+                        photosPath + "?page=" + page + "&size=" + pageSize, null);
+            }
+        });
+
+        recorder.report();
+        assertThat(recorder.errorCount()).isZero();
+    }
+}
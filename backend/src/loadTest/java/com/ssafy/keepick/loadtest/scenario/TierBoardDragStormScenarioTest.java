@@ -0,0 +1,56 @@
+package com.ssafy.keepick.loadtest.scenario;
+
+import com.ssafy.keepick.album.tier.controller.request.TierPhotoMoveRequest;
+import com.ssafy.keepick.album.tier.domain.Tier;
+import com.ssafy.keepick.loadtest.support.LoadTestFixtures.GroupFixture;
+import com.ssafy.keepick.loadtest.support.LoadTestProperties;
+import com.ssafy.keepick.loadtest.support.LoadTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 티어 보드 드래그 폭주
+ * 한 티어 앨범을 여러 회원이 동시에 편집하며 사진을 옮기고, 사이사이 보드를 다시 조회한다
+ */
+class TierBoardDragStormScenarioTest extends LoadTestSupport {
+    private static final Tier[] TIERS = Tier.values();
+
+    @Test
+    @DisplayName("여러 회원이 같은 티어 앨범에서 동시에 사진을 옮겨도 오류 없이 처리된다")
+    void dragStorm() throws Exception {
+        int photoCount = LoadTestProperties.getInt("loadtest.tier.photos", 200);
+        int editors = LoadTestProperties.getInt("loadtest.tier.editors", 20);
+        int moves = LoadTestProperties.getInt("loadtest.tier.moves", 5000);
+        int readEvery = LoadTestProperties.getInt("loadtest.tier.read-every", 5);
+
+        GroupFixture group = fixtures.createGroup(editors);
+        List<Long> photoIds = fixtures.createPhotos(group.groupId(), photoCount);
+        Long tierAlbumId = fixtures.createTierAlbum(group.groupId(), photoIds);
+        String albumPath = "/api/groups/" + group.groupId() + "/tier-albums/" + tierAlbumId;
+
+        runConcurrently(editors, moves, move -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            String token = group.token(move);
+            Long photoId = photoIds.get(random.nextInt(photoIds.size()));
+            TierPhotoMoveRequest request = TierPhotoMoveRequest.builder()
+                    .tier(TIERS[random.nextInt(TIERS.length)].name())
+                    .position(random.nextInt(photoCount / TIERS.length + 1))
+                    .build();
+            client.call("PATCH /api/groups/{groupId}/tier-albums/{tierAlbumId}/photos/{photoId}/position", token,
+                    "PATCH", albumPath + "/photos/" + photoId + "/position", request);
+
+            // 편집 중 다른 회원의 변경 사항을 보기 위한 재조회
+            if (move % readEvery == 0) {
+                client.call("GET /api/groups/{groupId}/tier-albums/{tierAlbumId}", token, "GET", albumPath, null);
+            }
+        });
+
+        recorder.report();
+        assertThat(recorder.errorCount()).isZero();
+    }
+}
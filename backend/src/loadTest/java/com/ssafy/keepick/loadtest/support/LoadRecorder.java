@@ -0,0 +1,114 @@
+package com.ssafy.keepick.loadtest.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시나리오의 엔드포인트(또는 단계)별 응답 시간, 에러 수를 모아 처리량과 p50/p95/p99를 보고한다
+ */
+@Slf4j
+public class LoadRecorder {
+    private static final double[] PERCENTILES = {0.5, 0.95, 0.99};
+
+    private final String scenario;
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> errors = new ConcurrentHashMap<>();
+    private final long startedAt = System.nanoTime();
+
+    public LoadRecorder(String scenario) {
+        this.scenario = scenario;
+    }
+
+    public void record(String name, Duration elapsed, boolean success) {
+        timer(name).record(elapsed);
+        if (!success) {
+            errors.computeIfAbsent(name, key -> Counter.builder("loadtest.errors").tag("name", key).register(registry))
+                    .increment();
+        }
+    }
+
+    public Timer timer(String name) {
+        // 시나리오 전체 구간의 분포가 필요하므로 분포 통계 만료 시간을 충분히 길게 둔다
+        return timers.computeIfAbsent(name, key -> Timer.builder("loadtest.requests")
+                .tag("name", key)
+                .publishPercentiles(PERCENTILES)
+                .percentilePrecision(2)
+                .distributionStatisticExpiry(Duration.ofHours(6))
+                .distributionStatisticBufferLength(1)
+                .register(registry));
+    }
+
+    /**
+     * 결과 표를 출력하고 build/reports/load-test/{scenario}.json 으로 저장
+     */
+    public List<Map<String, Object>> report() {
+        double elapsedSeconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+        List<Map<String, Object>> rows = new ArrayList<>();
+        StringBuilder table = new StringBuilder(String.format("%n[%s] 소요 %.1fs%n%-55s %8s %7s %10s %9s %9s %9s %9s%n",
+                scenario, elapsedSeconds, "name", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+
+        timers.forEach((name, timer) -> {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            Map<String, Double> percentiles = new LinkedHashMap<>();
+            for (ValueAtPercentile value : snapshot.percentileValues()) {
+                percentiles.put("p" + Math.round(value.percentile() * 100), value.value(TimeUnit.MILLISECONDS));
+            }
+            Counter errorCounter = errors.get(name);
+            long errorCount = errorCounter == null ? 0 : (long) errorCounter.count();
+
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("name", name);
+            row.put("count", snapshot.count());
+            row.put("errors", errorCount);
+            row.put("throughput", snapshot.count() / elapsedSeconds);
+            row.putAll(percentiles);
+            row.put("max", snapshot.max(TimeUnit.MILLISECONDS));
+            rows.add(row);
+
+            table.append(String.format("%-55s %8d %7d %10.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    name, snapshot.count(), errorCount, snapshot.count() / elapsedSeconds,
+                    percentiles.getOrDefault("p50", 0.0), percentiles.getOrDefault("p95", 0.0),
+                    percentiles.getOrDefault("p99", 0.0), snapshot.max(TimeUnit.MILLISECONDS)));
+        });
+        log.info(table.toString());
+        write(rows, elapsedSeconds);
+        return rows;
+    }
+
+    public long errorCount() {
+        return errors.values().stream().mapToLong(counter -> (long) counter.count()).sum();
+    }
+
+    private void write(List<Map<String, Object>> rows, double elapsedSeconds) {
+        Path dir = Path.of(LoadTestProperties.getString("loadtest.report-dir", "build/reports/load-test"));
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("scenario", scenario);
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("results", rows);
+        try {
+            Files.createDirectories(dir);
+            new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                    .writeValue(dir.resolve(scenario + ".json").toFile(), report);
+        } catch (IOException e) {
+            log.warn("부하 테스트 결과 저장 실패: {}", dir, e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.ssafy.keepick.loadtest.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+/**
+ * 부하 생성용 HTTP 클라이언트, 요청마다 응답 시간과 성공 여부를 LoadRecorder에 기록한다
+ */
+public class LoadTestClient {
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(60);
+
+    private final String baseUrl;
+    private final ObjectMapper objectMapper;
+    private final LoadRecorder recorder;
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    public LoadTestClient(String baseUrl, ObjectMapper objectMapper, LoadRecorder recorder) {
+        this.baseUrl = baseUrl;
+        this.objectMapper = objectMapper;
+        this.recorder = recorder;
+    }
+
+    /**
+     * API 호출 후 응답 본문의 data 필드 반환 (실패하면 null)
+     * name은 집계 단위이므로 경로 변수 대신 템플릿 경로를 사용한다
+     */
+    public JsonNode call(String name, String token, String method, String path, Object body) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + token)
+                .header("Content-Type", "application/json");
+        builder.method(method, body == null
+                ? HttpRequest.BodyPublishers.noBody()
+                : HttpRequest.BodyPublishers.ofByteArray(toJson(body)));
+
+        long start = System.nanoTime();
+        try {
+            HttpResponse<byte[]> response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofByteArray());
+            boolean success = response.statusCode() / 100 == 2;
+            recorder.record(name, Duration.ofNanos(System.nanoTime() - start), success);
+            if (!success || response.body().length == 0) {
+                return null;
+            }
+            return objectMapper.readTree(response.body()).get("data");
+        } catch (IOException e) {
+            recorder.record(name, Duration.ofNanos(System.nanoTime() - start), false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * presigned URL로 원본 업로드 (클라이언트가 S3에 직접 PUT)
+     */
+    public boolean upload(String name, String presignedUrl, String contentType, byte[] content) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(presignedUrl))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Content-Type", contentType)
+                .PUT(HttpRequest.BodyPublishers.ofByteArray(content))
+                .build();
+        long start = System.nanoTime();
+        try {
+            HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            boolean success = response.statusCode() / 100 == 2;
+            recorder.record(name, Duration.ofNanos(System.nanoTime() - start), success);
+            return success;
+        } catch (IOException e) {
+            recorder.record(name, Duration.ofNanos(System.nanoTime() - start), false);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * SSE 구독, 응답 본문을 줄 단위 스트림으로 반환
+     */
+    public Stream<String> subscribe(String token, String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .header("Accept", "text/event-stream")
+                .GET()
+                .build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofLines()).body();
+    }
+
+    private byte[] toJson(Object body) {
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.ssafy.keepick.loadtest.support;
+
+import com.ssafy.keepick.album.tier.domain.TierAlbum;
+import com.ssafy.keepick.album.tier.domain.TierAlbumPhoto;
+import com.ssafy.keepick.album.tier.persistence.TierAlbumPhotoRepository;
+import com.ssafy.keepick.album.tier.persistence.TierAlbumRepository;
+import com.ssafy.keepick.global.security.util.JWTUtil;
+import com.ssafy.keepick.group.domain.Group;
+import com.ssafy.keepick.group.domain.GroupMember;
+import com.ssafy.keepick.group.persistence.GroupMemberRepository;
+import com.ssafy.keepick.group.persistence.GroupRepository;
+import com.ssafy.keepick.member.domain.Member;
+import com.ssafy.keepick.member.persistence.MemberRepository;
+import com.ssafy.keepick.photo.domain.Photo;
+import com.ssafy.keepick.photo.persistence.PhotoRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * 시나리오 시작 전 필요한 회원, 그룹, 사진, 티어 앨범 데이터 생성
+ */
+@RequiredArgsConstructor
+public class LoadTestFixtures {
+    private static final String IMAGE_BASE_URL = "https://keepick-loadtest.s3.ap-northeast-2.amazonaws.com/";
+
+    private final MemberRepository memberRepository;
+    private final GroupRepository groupRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final PhotoRepository photoRepository;
+    private final TierAlbumRepository tierAlbumRepository;
+    private final TierAlbumPhotoRepository tierAlbumPhotoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final JWTUtil jwtUtil;
+
+    /**
+     * 회원 memberCount명이 모두 가입(ACCEPTED)한 그룹 생성
+     */
+    public GroupFixture createGroup(int memberCount) {
+        return transactionTemplate.execute(status -> {
+            String runId = UUID.randomUUID().toString().substring(0, 8);
+            List<Member> members = memberRepository.saveAll(IntStream.range(0, memberCount)
+                    .mapToObj(i -> Member.builder()
+                            .name("부하테스트" + i)
+                            .email("loadtest-" + runId + "-" + i + "@keepick.com")
+                            .nickname("lt-" + runId + "-" + i)
+                            .provider("kakao")
+                            .providerId(runId + i)
+                            .build())
+                    .toList());
+
+            Group group = groupRepository.save(Group.createGroup("부하테스트 " + runId, members.get(0)));
+            for (Member member : members) {
+                GroupMember groupMember = GroupMember.createGroupMember(group, member);
+                groupMember.accept();
+                groupMemberRepository.save(groupMember);
+            }
+
+            List<String> tokens = members.stream()
+                    .map(member -> jwtUtil.createToken(member.getId(), member.getEmail()))
+                    .toList();
+            return new GroupFixture(group.getId(), members.stream().map(Member::getId).toList(), tokens);
+        });
+    }
+
+    /**
+     * 썸네일까지 생성된(THUMBNAIL_READY) 사진 count장 생성
+     */
+    public List<Long> createPhotos(Long groupId, int count) {
+        return transactionTemplate.execute(status -> {
+            Group group = groupRepository.getReferenceById(groupId);
+            LocalDateTime takenAt = LocalDateTime.now().minusDays(count);
+            List<Photo> photos = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Photo photo = Photo.createPhoto(takenAt.plusHours(i), 4032, 3024, group);
+                photo.upload(IMAGE_BASE_URL + "originals/" + UUID.randomUUID() + ".jpg");
+                photo.uploadThumbnail(IMAGE_BASE_URL + "thumbnails/" + UUID.randomUUID() + ".jpg");
+                photos.add(photo);
+            }
+            return photoRepository.saveAll(photos).stream().map(Photo::getId).toList();
+        });
+    }
+
+    /**
+     * 사진이 모두 미지정 상태로 담긴 티어 앨범 생성
+     */
+    public Long createTierAlbum(Long groupId, List<Long> photoIds) {
+        return transactionTemplate.execute(status -> {
+            TierAlbum tierAlbum = tierAlbumRepository.save(TierAlbum.createTierAlbum(groupId));
+            List<TierAlbumPhoto> albumPhotos = IntStream.range(0, photoIds.size())
+                    .mapToObj(i -> TierAlbumPhoto.createTierAlbumPhoto(tierAlbum,
+                            photoRepository.getReferenceById(photoIds.get(i)), null, i * TierAlbumPhoto.SEQUENCE_GAP))
+                    .toList();
+            tierAlbumPhotoRepository.saveAll(albumPhotos);
+            return tierAlbum.getId();
+        });
+    }
+
+    public record GroupFixture(Long groupId, List<Long> memberIds, List<String> tokens) {
+
+        public String token(int index) {
+            return tokens.get(index % tokens.size());
+        }
+    }
+}
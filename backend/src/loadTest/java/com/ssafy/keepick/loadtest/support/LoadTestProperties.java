@@ -0,0 +1,24 @@
+package com.ssafy.keepick.loadtest.support;
+
+/**
+ * 시나리오 파라미터, ./gradlew loadTest -Ploadtest.upload.photos=1000 처럼 덮어쓴다
+ */
+public final class LoadTestProperties {
+
+    private LoadTestProperties() {
+    }
+
+    public static int getInt(String key, int defaultValue) {
+        String value = System.getProperty(key);
+        return value == null ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    public static long getLong(String key, long defaultValue) {
+        String value = System.getProperty(key);
+        return value == null ? defaultValue : Long.parseLong(value.trim());
+    }
+
+    public static String getString(String key, String defaultValue) {
+        return System.getProperty(key, defaultValue);
+    }
+}
@@ -0,0 +1,184 @@
+package com.ssafy.keepick.loadtest.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.keepick.album.tier.persistence.TierAlbumPhotoRepository;
+import com.ssafy.keepick.album.tier.persistence.TierAlbumRepository;
+import com.ssafy.keepick.global.security.util.JWTUtil;
+import com.ssafy.keepick.group.persistence.GroupMemberRepository;
+import com.ssafy.keepick.group.persistence.GroupRepository;
+import com.ssafy.keepick.member.persistence.MemberRepository;
+import com.ssafy.keepick.photo.persistence.PhotoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestInfo;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.lifecycle.Startables;
+import org.testcontainers.utility.DockerImageName;
+import org.testcontainers.utility.MountableFile;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.Event;
+import software.amazon.awssdk.services.s3.model.QueueConfiguration;
+import software.amazon.awssdk.services.sqs.SqsClient;
+import software.amazon.awssdk.services.sqs.model.QueueAttributeName;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+/**
+ * 부하 테스트 공통 환경
+ * MySQL, Redis, LocalStack(S3 + SQS, 업로드 이벤트를 SQS로 전달), Vision AI stub을 한 번만 띄우고
+ * 앱은 실제 포트로 기동해 HTTP로 부하를 건다.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+public abstract class LoadTestSupport {
+    protected static final String BUCKET_NAME = "keepick-loadtest";
+    protected static final String QUEUE_NAME = "keepick-loadtest-s3-events";
+
+    // 운영 스키마(ddl.sql)를 MySQL 초기화 스크립트로 실행
+    static final MySQLContainer<?> mysql = new MySQLContainer<>("mysql:8.0")
+            .withDatabaseName("keepick")
+            .withCopyFileToContainer(
+                    MountableFile.forHostPath(LoadTestProperties.getString("loadtest.ddl-file", "../exec/sql/ddl.sql")),
+                    "/docker-entrypoint-initdb.d/ddl.sql")
+            .withCommand("--max-connections=500");
+
+    static final GenericContainer<?> redis = new GenericContainer<>("redis:6-alpine")
+            .withExposedPorts(6379);
+
+    static final LocalStackContainer localstack = new LocalStackContainer(DockerImageName.parse("localstack/localstack:3.8"))
+            .withServices(LocalStackContainer.Service.S3, LocalStackContainer.Service.SQS);
+
+    protected static final VisionAIStubServer visionAI;
+
+    static {
+        Startables.deepStart(mysql, redis, localstack).join();
+        createBucketAndQueue();
+        visionAI = VisionAIStubServer.start(redis.getHost(), redis.getMappedPort(6379),
+                LoadTestProperties.getLong("loadtest.vision.latency-ms", 2000));
+    }
+
+    @DynamicPropertySource
+    static void overrideProps(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", mysql::getJdbcUrl);
+        registry.add("spring.datasource.username", mysql::getUsername);
+        registry.add("spring.datasource.password", mysql::getPassword);
+        registry.add("spring.data.redis.host", redis::getHost);
+        registry.add("spring.data.redis.port", () -> redis.getMappedPort(6379));
+        registry.add("spring.cloud.aws.endpoint", () -> localstack.getEndpoint().toString());
+        registry.add("spring.cloud.aws.region.static", localstack::getRegion);
+        registry.add("spring.cloud.aws.credentials.access-key", localstack::getAccessKey);
+        registry.add("spring.cloud.aws.credentials.secret-key", localstack::getSecretKey);
+        registry.add("app.aws.s3.bucket-name", () -> BUCKET_NAME);
+        registry.add("app.aws.sqs.queue-name", () -> QUEUE_NAME);
+        registry.add("app.vision-ai.url", visionAI::getUrl);
+    }
+
+    @LocalServerPort
+    protected int port;
+
+    @Autowired
+    protected ObjectMapper objectMapper;
+
+    @Autowired
+    protected JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private GroupRepository groupRepository;
+
+    @Autowired
+    private GroupMemberRepository groupMemberRepository;
+
+    @Autowired
+    private PhotoRepository photoRepository;
+
+    @Autowired
+    private TierAlbumRepository tierAlbumRepository;
+
+    @Autowired
+    private TierAlbumPhotoRepository tierAlbumPhotoRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JWTUtil jwtUtil;
+
+    protected LoadRecorder recorder;
+    protected LoadTestClient client;
+    protected LoadTestFixtures fixtures;
+
+    @BeforeEach
+    void setUpLoadTest(TestInfo testInfo) {
+        recorder = new LoadRecorder(testInfo.getTestClass().orElseThrow().getSimpleName());
+        client = new LoadTestClient("http://127.0.0.1:" + port, objectMapper, recorder);
+        fixtures = new LoadTestFixtures(memberRepository, groupRepository, groupMemberRepository, photoRepository,
+                tierAlbumRepository, tierAlbumPhotoRepository, transactionTemplate, jwtUtil);
+    }
+
+    /**
+     * 가상 쓰레드로 task를 iterations번 실행하되 동시에 concurrency개까지만 실행
+     */
+    protected void runConcurrently(int concurrency, int iterations, IntConsumer task) throws InterruptedException {
+        Semaphore permits = new Semaphore(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < iterations; i++) {
+                int iteration = i;
+                permits.acquire();
+                executor.execute(() -> {
+                    try {
+                        task.accept(iteration);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+            executor.shutdown();
+            executor.awaitTermination(30, TimeUnit.MINUTES);
+        }
+    }
+
+    // 원본 업로드 시 S3 이벤트가 SQS로 전달되도록 실제 환경과 같이 버킷 알림 설정
+    private static void createBucketAndQueue() {
+        StaticCredentialsProvider credentials = StaticCredentialsProvider.create(
+                AwsBasicCredentials.create(localstack.getAccessKey(), localstack.getSecretKey()));
+        try (S3Client s3 = S3Client.builder()
+                .endpointOverride(localstack.getEndpoint())
+                .region(Region.of(localstack.getRegion()))
+                .credentialsProvider(credentials)
+                .forcePathStyle(true)
+                .build();
+             SqsClient sqs = SqsClient.builder()
+                     .endpointOverride(localstack.getEndpoint())
+                     .region(Region.of(localstack.getRegion()))
+                     .credentialsProvider(credentials)
+                     .build()) {
+            s3.createBucket(request -> request.bucket(BUCKET_NAME));
+            String queueUrl = sqs.createQueue(request -> request.queueName(QUEUE_NAME)).queueUrl();
+            String queueArn = sqs.getQueueAttributes(request -> request.queueUrl(queueUrl)
+                            .attributeNames(QueueAttributeName.QUEUE_ARN))
+                    .attributes().get(QueueAttributeName.QUEUE_ARN);
+            s3.putBucketNotificationConfiguration(request -> request.bucket(BUCKET_NAME)
+                    .notificationConfiguration(configuration -> configuration.queueConfigurations(
+                            QueueConfiguration.builder().queueArn(queueArn).events(Event.S3_OBJECT_CREATED).build())));
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.ssafy.keepick.loadtest.support;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.sync.RedisCommands;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+/**
+ * Python Vision AI 서버 대역
+ * 설정한 지연 시간 동안 작업 진행률을 Redis(job_id 키)에 나눠 기록한 뒤 분석 결과를 응답한다
+ */
+@Slf4j
+public class VisionAIStubServer {
+    private static final int PROGRESS_STEPS = 4;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpServer server;
+    private final RedisCommands<String, String> redis;
+    private final long latencyMillis;
+
+    private VisionAIStubServer(String redisHost, int redisPort, long latencyMillis) throws IOException {
+        this.redis = RedisClient.create(RedisURI.create(redisHost, redisPort)).connect().sync();
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/api/similar_grouping", exchange -> handleJob(exchange, "images", this::similarGrouping));
+        server.createContext("/api/tag_and_detect", exchange -> handleJob(exchange, "source_images", this::compositeAnalysis));
+        server.createContext("/api/face/validate", exchange -> respond(exchange, objectMapper.createObjectNode()
+                .put("is_valid", true)
+                .put("message", "ok")));
+        server.start();
+        log.info("Vision AI stub 시작: {} (지연 {}ms)", getUrl(), latencyMillis);
+    }
+
+    public static VisionAIStubServer start(String redisHost, int redisPort, long latencyMillis) {
+        try {
+            return new VisionAIStubServer(redisHost, redisPort, latencyMillis);
+        } catch (IOException e) {
+            throw new IllegalStateException("Vision AI stub 시작 실패", e);
+        }
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private void handleJob(HttpExchange exchange, String imagesField,
+                           BiFunction<String, List<Long>, ObjectNode> resultFactory) throws IOException {
+        JsonNode request;
+        try (InputStream body = exchange.getRequestBody()) {
+            request = objectMapper.readTree(body);
+        }
+        String jobId = request.path("job_id").asText();
+        List<Long> imageIds = request.path(imagesField).findValuesAsText("name").stream()
+                .map(Long::valueOf)
+                .toList();
+
+        try {
+            for (int step = 1; step <= PROGRESS_STEPS; step++) {
+                TimeUnit.MILLISECONDS.sleep(latencyMillis / PROGRESS_STEPS);
+                updateJob(jobId, step == PROGRESS_STEPS ? "COMPLETED" : "PROCESSING", imageIds.size() * step / PROGRESS_STEPS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        respond(exchange, resultFactory.apply(jobId, imageIds));
+    }
+
+    // 앱이 저장해 둔 작업 상태에서 진행률과 상태만 갱신 (실제 Vision AI 서버와 같은 방식)
+    private void updateJob(String jobId, String status, int processedImages) throws IOException {
+        String json = redis.get(jobId);
+        if (json == null) {
+            return;
+        }
+        ObjectNode job = (ObjectNode) objectMapper.readTree(json);
+        job.put("job_status", status);
+        job.put("processed_images", processedImages);
+        job.put("message", "COMPLETED".equals(status) ? "이미지 분석이 완료되었습니다." : "이미지 분석 중입니다.");
+        redis.setex(jobId, TimeUnit.HOURS.toSeconds(1), objectMapper.writeValueAsString(job));
+    }
+
+    // 두 장씩 묶어 유사 그룹으로 응답
+    private ObjectNode similarGrouping(String jobId, List<Long> imageIds) {
+        ObjectNode response = objectMapper.createObjectNode();
+        ArrayNode groups = response.putArray("groups");
+        for (int i = 0; i + 1 < imageIds.size(); i += 2) {
+            ObjectNode group = groups.addObject().put("group_id", String.valueOf(i / 2));
+            group.putArray("images").add(imageIds.get(i)).add(imageIds.get(i + 1));
+            group.putArray("similarities");
+        }
+        response.put("similarity_threshold", 0.8);
+        response.put("status", "success");
+        response.putObject("summary")
+                .put("grouped_images", groups.size() * 2)
+                .put("total_groups", groups.size())
+                .put("total_images", imageIds.size());
+        return response;
+    }
+
+    // 열 장 중 한 장은 흐린 사진, 얼굴과 객체는 없는 결과로 응답
+    private ObjectNode compositeAnalysis(String jobId, List<Long> imageIds) {
+        ObjectNode response = objectMapper.createObjectNode();
+        ArrayNode results = response.putArray("results");
+        for (int i = 0; i < imageIds.size(); i++) {
+            ObjectNode result = results.addObject()
+                    .put("image_name", imageIds.get(i))
+                    .put("has_face", false)
+                    .put("is_blur", i % 10 == 0)
+                    .put("laplacian_variance", i % 10 == 0 ? 42.0 : 420.0)
+                    .put("total_faces", 0);
+            result.putArray("found_faces");
+            result.putArray("objects");
+        }
+        response.put("distance_threshold", 0.6);
+        response.put("status", "success");
+        response.putObject("tagged_images");
+        response.putObject("tagged_images_by_person");
+        response.putArray("target_persons");
+        return response;
+    }
+
+    private void respond(HttpExchange exchange, JsonNode body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+}
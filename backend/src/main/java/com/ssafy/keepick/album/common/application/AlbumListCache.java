@@ -0,0 +1,70 @@
+package com.ssafy.keepick.album.common.application;
+
+import com.ssafy.keepick.album.common.application.dto.AlbumSummaryDto;
+import com.ssafy.keepick.album.common.domain.AlbumType;
+import com.ssafy.keepick.album.tier.application.event.TierAlbumChangedEvent;
+import com.ssafy.keepick.global.cache.VersionedLocalCache;
+import com.ssafy.keepick.global.cache.VersionedLocalCacheFactory;
+import com.ssafy.keepick.highlight.application.event.HighlightAlbumChangedEvent;
+import com.ssafy.keepick.timeline.application.event.TimelineAlbumChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 그룹별 앨범 카드 목록 캐시 (전체 목록, 페이지 단위 목록)
+ * 종류와 관계없이 그룹의 앨범이 생성/수정/삭제되면 그룹 버전을 올려 해당 그룹의 목록과 페이지를 모두 다시 적재한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AlbumListCache {
+    private static final String VERSION_KEY_PREFIX = "album:list:version:group:";
+
+    private final VersionedLocalCacheFactory versionedLocalCacheFactory;
+
+    @Value("${app.album.list.cache-size}")
+    private long cacheSize;
+
+    // key: groupId, value: 최신순 앨범 카드 목록
+    private VersionedLocalCache<Long, List<AlbumSummaryDto>> listCache;
+
+    // key: groupId (종류:page:size로 구분), value: 최신순 앨범 카드 페이지
+    private VersionedLocalCache<Long, Page<AlbumSummaryDto>> pageCache;
+
+    @PostConstruct
+    void init() {
+        // 같은 버전 키를 공유하므로 한 번 올리면 목록과 페이지가 함께 무효화됨
+        this.listCache = versionedLocalCacheFactory.create(VERSION_KEY_PREFIX, cacheSize);
+        this.pageCache = versionedLocalCacheFactory.create(VERSION_KEY_PREFIX, cacheSize);
+    }
+
+    public List<AlbumSummaryDto> get(Long groupId, Supplier<List<AlbumSummaryDto>> loader) {
+        return listCache.get(groupId, () -> List.copyOf(loader.get()));
+    }
+
+    public Page<AlbumSummaryDto> getPage(Long groupId, AlbumType type, int page, int size, Supplier<Page<AlbumSummaryDto>> loader) {
+        String variant = (type != null ? type : "ALL") + ":" + page + ":" + size;
+        return pageCache.get(groupId, variant, loader);
+    }
+
+    @TransactionalEventListener
+    public void handleTimelineAlbumChanged(TimelineAlbumChangedEvent event) {
+        listCache.invalidate(event.getGroupId());
+    }
+
+    @TransactionalEventListener
+    public void handleTierAlbumChanged(TierAlbumChangedEvent event) {
+        listCache.invalidate(event.getGroupId());
+    }
+
+    @TransactionalEventListener
+    public void handleHighlightAlbumChanged(HighlightAlbumChangedEvent event) {
+        listCache.invalidate(event.getGroupId());
+    }
+}
@@ -0,0 +1,90 @@
+package com.ssafy.keepick.album.common.application;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.keepick.album.common.domain.AlbumType;
+import com.ssafy.keepick.album.tier.application.event.TierAlbumChangedEvent;
+import com.ssafy.keepick.album.tier.persistence.TierAlbumRepository;
+import com.ssafy.keepick.highlight.application.event.HighlightAlbumChangedEvent;
+import com.ssafy.keepick.highlight.presistence.HighlightAlbumRepository;
+import com.ssafy.keepick.timeline.application.event.TimelineAlbumChangedEvent;
+import com.ssafy.keepick.timeline.persistence.TimelineAlbumRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 앨범 → 소속 그룹 캐시
+ * 앨범의 소속 그룹은 바뀌지 않으므로 삭제되지 않은 앨범의 그룹 ID만 보관한다.
+ * 삭제된 앨범은 변경 이벤트로 현재 서버에서 바로 제거하고, 다른 서버는 TTL이 지나면 제거되며
+ * 그 사이의 요청은 서비스의 삭제 여부 조회에서 걸러진다.
+ */
+@Component
+@RequiredArgsConstructor
+public class AlbumOwnershipCache {
+    private final TimelineAlbumRepository timelineAlbumRepository;
+    private final TierAlbumRepository tierAlbumRepository;
+    private final HighlightAlbumRepository highlightAlbumRepository;
+
+    @Value("${app.album.ownership.cache-size}")
+    private long cacheSize;
+
+    @Value("${app.album.ownership.cache-ttl-seconds}")
+    private long cacheTtlSeconds;
+
+    // key: 앨범 타입:albumId, value: groupId
+    private Cache<String, Long> ownerCache;
+
+    @PostConstruct
+    void init() {
+        this.ownerCache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build();
+    }
+
+    public boolean belongsToGroup(AlbumType type, Long albumId, Long groupId) {
+        String cacheKey = key(type, albumId);
+        Long ownerGroupId = ownerCache.getIfPresent(cacheKey);
+        if (ownerGroupId == null) {
+            ownerGroupId = findGroupId(type, albumId).orElse(null);
+            if (ownerGroupId == null) {
+                return false;
+            }
+            ownerCache.put(cacheKey, ownerGroupId);
+        }
+        return ownerGroupId.equals(groupId);
+    }
+
+    @TransactionalEventListener
+    public void handleTimelineAlbumChanged(TimelineAlbumChangedEvent event) {
+        ownerCache.invalidate(key(AlbumType.TIMELINE, event.getAlbumId()));
+    }
+
+    @TransactionalEventListener
+    public void handleTierAlbumChanged(TierAlbumChangedEvent event) {
+        ownerCache.invalidate(key(AlbumType.TIER, event.getTierAlbumId()));
+    }
+
+    @TransactionalEventListener
+    public void handleHighlightAlbumChanged(HighlightAlbumChangedEvent event) {
+        ownerCache.invalidate(key(AlbumType.HIGHLIGHT, event.getAlbumId()));
+    }
+
+    private Optional<Long> findGroupId(AlbumType type, Long albumId) {
+        return switch (type) {
+            case TIMELINE -> timelineAlbumRepository.findGroupIdByIdAndDeletedAtIsNull(albumId);
+            case TIER -> tierAlbumRepository.findGroupIdByIdAndDeletedAtIsNull(albumId);
+            case HIGHLIGHT -> highlightAlbumRepository.findGroupIdByIdAndDeletedAtIsNull(albumId);
+        };
+    }
+
+    private String key(AlbumType type, Long albumId) {
+        return type.name() + ":" + albumId;
+    }
+}
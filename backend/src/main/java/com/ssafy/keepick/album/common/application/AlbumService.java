@@ -1,18 +1,16 @@
 package com.ssafy.keepick.album.common.application;
 
 import com.ssafy.keepick.album.common.application.dto.AlbumDto;
-import com.ssafy.keepick.album.tier.application.dto.TierAlbumDto;
-import com.ssafy.keepick.album.tier.domain.TierAlbum;
-import com.ssafy.keepick.album.tier.persistence.TierAlbumRepository;
+import com.ssafy.keepick.album.common.application.dto.AlbumSummaryDto;
+import com.ssafy.keepick.album.common.domain.AlbumType;
+import com.ssafy.keepick.album.common.persistence.AlbumSummaryJdbcRepository;
 import com.ssafy.keepick.group.persistence.GroupMemberRepository;
 import com.ssafy.keepick.group.persistence.GroupRepository;
-import com.ssafy.keepick.highlight.application.dto.HighlightAlbumDto;
-import com.ssafy.keepick.highlight.domain.HighlightAlbum;
-import com.ssafy.keepick.highlight.presistence.HighlightAlbumRepository;
-import com.ssafy.keepick.timeline.application.dto.TimelineAlbumDto;
-import com.ssafy.keepick.timeline.domain.TimelineAlbum;
-import com.ssafy.keepick.timeline.persistence.TimelineAlbumRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,31 +24,26 @@ public class AlbumService {
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
 
-    private final TimelineAlbumRepository timelineAlbumRepository;
-    private final TierAlbumRepository tierAlbumRepository;
-    private final HighlightAlbumRepository highlightAlbumRepository;
+    private final AlbumSummaryJdbcRepository albumSummaryJdbcRepository;
+    private final AlbumListCache albumListCache;
 
     public AlbumDto getAllAlbumList(Long groupId) {
-        return AlbumDto.of(
-                getAllTimelineAlbumList(groupId),
-                getAllTierAlbumList(groupId),
-                getAllHighlightAlbumList(groupId)
-        );
+        return AlbumDto.from(getAlbumSummaryList(groupId));
     }
 
-    private List<TimelineAlbumDto> getAllTimelineAlbumList(Long groupId) {
-        List<TimelineAlbum> timelineAlbumList = timelineAlbumRepository.findAllByGroupIdAndDeletedAtIsNullOrderByCreatedAtDesc(groupId);
-        return timelineAlbumList.stream().map(TimelineAlbumDto::from).toList();
+    // 종류가 표시된 앨범 카드 목록 조회 (페이징, type이 null이면 전체 종류)
+    public Page<AlbumSummaryDto> getAlbumSummaryPage(Long groupId, AlbumType type, int page, int size) {
+        return albumListCache.getPage(groupId, type, page, size, () -> {
+            Pageable pageable = PageRequest.of(page, size);
+            List<AlbumSummaryDto> albums = albumSummaryJdbcRepository.findPageByGroupId(groupId, type, pageable);
+            return PageableExecutionUtils.getPage(albums, pageable,
+                    () -> albumSummaryJdbcRepository.countByGroupId(groupId, type));
+        });
     }
 
-    private List<TierAlbumDto> getAllTierAlbumList(Long groupId) {
-        List<TierAlbum> tierAlbumList = tierAlbumRepository.findByGroupId(groupId);
-        return tierAlbumList.stream().map(TierAlbumDto::from).toList();
-    }
-
-    private List<HighlightAlbumDto> getAllHighlightAlbumList(Long groupId) {
-        List<HighlightAlbum> highlightAlbumList = highlightAlbumRepository.findAllByGroupIdAndDeletedAtIsNullOrderByCreatedAtDesc(groupId);
-        return highlightAlbumList.stream().map(HighlightAlbumDto::from).toList();
+    // 세 종류의 앨범을 UNION 한 번으로 조회하고 그룹 단위로 캐시
+    private List<AlbumSummaryDto> getAlbumSummaryList(Long groupId) {
+        return albumListCache.get(groupId, () -> albumSummaryJdbcRepository.findAllByGroupId(groupId));
     }
 
 }
@@ -6,6 +6,7 @@ import com.ssafy.keepick.timeline.application.dto.TimelineAlbumDto;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -16,6 +17,41 @@ public class AlbumDto {
     private List<TierAlbumDto> tierAlbumDtoList;
     private List<HighlightAlbumDto> highlightAlbumDtoList;
 
+    // 앨범 카드 목록을 종류별 목록으로 나눔 (최신순 유지)
+    public static AlbumDto from(List<AlbumSummaryDto> albums) {
+        List<TimelineAlbumDto> timelineAlbumDtoList = new ArrayList<>();
+        List<TierAlbumDto> tierAlbumDtoList = new ArrayList<>();
+        List<HighlightAlbumDto> highlightAlbumDtoList = new ArrayList<>();
+        for (AlbumSummaryDto album : albums) {
+            switch (album.getType()) {
+                case TIMELINE -> timelineAlbumDtoList.add(TimelineAlbumDto.builder()
+                        .albumId(album.getAlbumId())
+                        .name(album.getName())
+                        .description(album.getDescription())
+                        .thumbnailUrl(album.getThumbnailUrl())
+                        .photoCount(album.getPhotoCount())
+                        .createdAt(album.getCreatedAt())
+                        .build());
+                case TIER -> tierAlbumDtoList.add(TierAlbumDto.builder()
+                        .id(album.getAlbumId())
+                        .name(album.getName())
+                        .description(album.getDescription())
+                        .thumbnailUrl(album.getThumbnailUrl())
+                        .photoCount(album.getPhotoCount())
+                        .createdAt(album.getCreatedAt())
+                        .build());
+                case HIGHLIGHT -> highlightAlbumDtoList.add(HighlightAlbumDto.builder()
+                        .albumId(album.getAlbumId())
+                        .name(album.getName())
+                        .description(album.getDescription())
+                        .thumbnailUrl(album.getThumbnailUrl())
+                        .photoCount(album.getPhotoCount() != null ? album.getPhotoCount() : 0)
+                        .build());
+            }
+        }
+        return of(timelineAlbumDtoList, tierAlbumDtoList, highlightAlbumDtoList);
+    }
+
     public static AlbumDto of(
             List<TimelineAlbumDto> timelineAlbumDtoList,
             List<TierAlbumDto> tierAlbumDtoList,
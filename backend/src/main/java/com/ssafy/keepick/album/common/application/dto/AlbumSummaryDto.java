@@ -0,0 +1,22 @@
+package com.ssafy.keepick.album.common.application.dto;
+
+import com.ssafy.keepick.album.common.domain.AlbumType;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 앨범 목록 화면의 앨범 카드 (앨범 종류와 목록에 필요한 컬럼만 포함)
+ */
+@Getter
+@Builder
+public class AlbumSummaryDto {
+    private final AlbumType type;
+    private final Long albumId;
+    private final String name;
+    private final String description;
+    private final String thumbnailUrl;
+    private final Integer photoCount;
+    private final LocalDateTime createdAt;
+}
@@ -2,11 +2,20 @@ package com.ssafy.keepick.album.common.controller;
 
 import com.ssafy.keepick.album.common.application.AlbumService;
 import com.ssafy.keepick.album.common.application.dto.AlbumDto;
+import com.ssafy.keepick.album.common.application.dto.AlbumSummaryDto;
+import com.ssafy.keepick.album.common.controller.response.AlbumCardResponse;
 import com.ssafy.keepick.album.common.controller.response.AlbumResponse;
+import com.ssafy.keepick.album.common.domain.AlbumType;
 import com.ssafy.keepick.global.response.ApiResponse;
+import com.ssafy.keepick.global.response.PagingResponse;
+import com.ssafy.keepick.photo.application.ImageService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -16,13 +25,26 @@ import org.springframework.web.bind.annotation.*;
 public class AlbumController {
 
     private final AlbumService albumService;
+    private final ImageService imageService;
 
     @Operation(summary = "전체 앨범 목록 조회", description = "특정 그룹의 타임라인, 티어, 하이라이트 앨범 목록을 조회합니다. 페이징 없이 모든 앨범 목록을 조회합니다.")
     @GetMapping("")
     public ApiResponse<AlbumResponse> getAllAlbums(@PathVariable Long groupId) {
         AlbumDto albumDto = albumService.getAllAlbumList(groupId);
-        AlbumResponse response = AlbumResponse.from(albumDto);
+        AlbumResponse response = AlbumResponse.from(albumDto, imageService::toReadUrl);
         return ApiResponse.ok(response);
     }
 
+    @Operation(summary = "앨범 카드 목록 조회 (페이징)", description = "특정 그룹의 타임라인, 티어, 하이라이트 앨범을 종류와 함께 최신순으로 페이징하여 조회합니다. type을 지정하면 해당 종류만 조회합니다.")
+    @GetMapping("/cards")
+    public ApiResponse<PagingResponse<AlbumCardResponse>> getAlbumCards(
+            @PathVariable Long groupId,
+            @RequestParam(required = false) AlbumType type,
+            @RequestParam(defaultValue = "0") @Min(value = 0, message = "페이지 번호는 0 이상이어야 합니다.") int page,
+            @RequestParam(defaultValue = "20") @Positive(message = "페이지 크기는 양수여야 합니다.") @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size
+    ) {
+        Page<AlbumSummaryDto> albumPage = albumService.getAlbumSummaryPage(groupId, type, page, size);
+        return ApiResponse.ok(PagingResponse.from(albumPage, dto -> AlbumCardResponse.from(dto, imageService::toReadUrl)));
+    }
+
 }
@@ -0,0 +1,53 @@
+package com.ssafy.keepick.album.common.controller.response;
+
+import com.ssafy.keepick.album.common.application.dto.AlbumSummaryDto;
+import com.ssafy.keepick.album.common.domain.AlbumType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.function.UnaryOperator;
+
+@Getter
+@Builder
+@Schema(description = "앨범 카드 정보")
+public class AlbumCardResponse {
+
+    @Schema(description = "앨범 종류", example = "TIMELINE")
+    private AlbumType type;
+
+    @Schema(description = "앨범 ID", example = "101")
+    private Long albumId;
+
+    @Schema(description = "앨범 이름", example = "여름 여행")
+    private String name;
+
+    @Schema(description = "앨범 설명", example = "2025년 여름 바다 여행 기록", nullable = true)
+    private String description;
+
+    @Schema(description = "앨범 대표 사진 썸네일 URL", example = "https://example.com/thumbnail.jpg")
+    private String thumbnailUrl;
+
+    @Schema(description = "앨범 내 사진 개수", example = "20")
+    private Integer photoCount;
+
+    @Schema(description = "앨범 생성 일시", example = "2025-07-01T12:00:00")
+    private LocalDateTime createdAt;
+
+    public static AlbumCardResponse from(AlbumSummaryDto dto) {
+        return from(dto, UnaryOperator.identity());
+    }
+
+    public static AlbumCardResponse from(AlbumSummaryDto dto, UnaryOperator<String> urlResolver) {
+        return AlbumCardResponse.builder()
+                .type(dto.getType())
+                .albumId(dto.getAlbumId())
+                .name(dto.getName())
+                .description(dto.getDescription())
+                .thumbnailUrl(urlResolver.apply(dto.getThumbnailUrl()))
+                .photoCount(dto.getPhotoCount())
+                .createdAt(dto.getCreatedAt())
+                .build();
+    }
+}
@@ -9,6 +9,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 @Getter
 @Builder
@@ -24,10 +25,14 @@ public class AlbumResponse {
     private List<Album> highlightAlbumList;
 
     public static AlbumResponse from(AlbumDto dto) {
+        return from(dto, UnaryOperator.identity());
+    }
+
+    public static AlbumResponse from(AlbumDto dto, UnaryOperator<String> urlResolver) {
         return AlbumResponse.builder()
-                .timelineAlbumList(dto.getTimelineAlbumDtoList().stream().map(Album::from).toList())
-                .tierAlbumList(dto.getTierAlbumDtoList().stream().map(Album::from).toList())
-                .highlightAlbumList(dto.getHighlightAlbumDtoList().stream().map(Album::from).toList())
+                .timelineAlbumList(dto.getTimelineAlbumDtoList().stream().map(album -> Album.from(album, urlResolver)).toList())
+                .tierAlbumList(dto.getTierAlbumDtoList().stream().map(album -> Album.from(album, urlResolver)).toList())
+                .highlightAlbumList(dto.getHighlightAlbumDtoList().stream().map(album -> Album.from(album, urlResolver)).toList())
                 .build();
     }
 
@@ -51,32 +56,32 @@ public class AlbumResponse {
         @Schema(description = "앨범 내 사진 개수", example = "20")
         private Integer photoCount;
 
-        public static Album from(TimelineAlbumDto dto) {
+        public static Album from(TimelineAlbumDto dto, UnaryOperator<String> urlResolver) {
             return Album.builder()
                     .albumId(dto.getAlbumId())
                     .name(dto.getName())
                     .description(dto.getDescription())
-                    .thumbnailUrl(dto.getThumbnailUrl())
+                    .thumbnailUrl(urlResolver.apply(dto.getThumbnailUrl()))
                     .photoCount(dto.getPhotoCount())
                     .build();
         }
 
-        public static Album from(TierAlbumDto dto) {
+        public static Album from(TierAlbumDto dto, UnaryOperator<String> urlResolver) {
             return Album.builder()
                     .albumId(dto.getId())
                     .name(dto.getName())
                     .description(dto.getDescription())
-                    .thumbnailUrl(dto.getThumbnailUrl())
+                    .thumbnailUrl(urlResolver.apply(dto.getThumbnailUrl()))
                     .photoCount(dto.getPhotoCount())
                     .build();
         }
 
-        public static Album from(HighlightAlbumDto dto) {
+        public static Album from(HighlightAlbumDto dto, UnaryOperator<String> urlResolver) {
             return Album.builder()
                     .albumId(dto.getAlbumId())
                     .name(dto.getName())
                     .description(dto.getDescription())
-                    .thumbnailUrl(dto.getThumbnailUrl())
+                    .thumbnailUrl(urlResolver.apply(dto.getThumbnailUrl()))
                     .photoCount(dto.getPhotoCount())
                     .build();
         }
@@ -0,0 +1,5 @@
+package com.ssafy.keepick.album.common.domain;
+
+public enum AlbumType {
+    TIMELINE, TIER, HIGHLIGHT
+}
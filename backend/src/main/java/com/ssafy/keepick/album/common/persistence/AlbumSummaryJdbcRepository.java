@@ -0,0 +1,91 @@
+package com.ssafy.keepick.album.common.persistence;
+
+import com.ssafy.keepick.album.common.application.dto.AlbumSummaryDto;
+import com.ssafy.keepick.album.common.domain.AlbumType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Repository
+@RequiredArgsConstructor
+public class AlbumSummaryJdbcRepository {
+    // 앨범 종류별 테이블, 세 테이블의 카드 컬럼이 같아 UNION ALL 한 번으로 조회
+    private static final Map<AlbumType, String> ALBUM_TABLES = new EnumMap<>(Map.of(
+            AlbumType.TIMELINE, "timeline_album",
+            AlbumType.TIER, "tier_album",
+            AlbumType.HIGHLIGHT, "highlight_album"));
+
+    private static final String ORDER_BY = " ORDER BY created_at DESC, id DESC";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 그룹의 타임라인/티어/하이라이트 앨범을 종류를 붙여 한 번에 최신순으로 조회 (엔티티 로딩 없음)
+     */
+    public List<AlbumSummaryDto> findAllByGroupId(Long groupId) {
+        List<AlbumType> types = albumTypes(null);
+        return jdbcTemplate.query(summarySql(types) + ORDER_BY, this::mapRow, groupIdParams(groupId, types));
+    }
+
+    /**
+     * 그룹의 앨범 카드를 최신순으로 한 페이지만 조회 (type이 null이면 전체 종류)
+     */
+    public List<AlbumSummaryDto> findPageByGroupId(Long groupId, AlbumType type, Pageable pageable) {
+        List<AlbumType> types = albumTypes(type);
+        Object[] params = Stream.concat(Arrays.stream(groupIdParams(groupId, types)),
+                Stream.of(pageable.getPageSize(), pageable.getOffset())).toArray();
+        return jdbcTemplate.query(summarySql(types) + ORDER_BY + " LIMIT ? OFFSET ?", this::mapRow, params);
+    }
+
+    /**
+     * 그룹의 앨범 카드 개수 (type이 null이면 전체 종류)
+     */
+    public long countByGroupId(Long groupId, AlbumType type) {
+        List<AlbumType> types = albumTypes(type);
+        String sql = types.stream()
+                .map(albumType -> "(SELECT COUNT(*) FROM " + ALBUM_TABLES.get(albumType) + " WHERE group_id = ? AND deleted_at IS NULL)")
+                .collect(Collectors.joining(" + ", "SELECT ", ""));
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, groupIdParams(groupId, types));
+        return count != null ? count : 0;
+    }
+
+    private List<AlbumType> albumTypes(AlbumType type) {
+        return type != null ? List.of(type) : List.copyOf(ALBUM_TABLES.keySet());
+    }
+
+    private String summarySql(List<AlbumType> types) {
+        return types.stream()
+                .map(albumType -> "SELECT '" + albumType.name() + "' AS album_type, id, name, description, thumbnail_url, photo_count, created_at"
+                        + " FROM " + ALBUM_TABLES.get(albumType)
+                        + " WHERE group_id = ? AND deleted_at IS NULL")
+                .collect(Collectors.joining(" UNION ALL "));
+    }
+
+    private Object[] groupIdParams(Long groupId, List<AlbumType> types) {
+        return types.stream().map(albumType -> groupId).toArray();
+    }
+
+    private AlbumSummaryDto mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp createdAt = rs.getTimestamp("created_at");
+        return AlbumSummaryDto.builder()
+                .type(AlbumType.valueOf(rs.getString("album_type")))
+                .albumId(rs.getLong("id"))
+                .name(rs.getString("name"))
+                .description(rs.getString("description"))
+                .thumbnailUrl(rs.getString("thumbnail_url"))
+                .photoCount(rs.getObject("photo_count", Integer.class))
+                .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                .build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.ssafy.keepick.album.tier.application;
+
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.ssafy.keepick.album.tier.application.dto.TierAlbumDetailDto;
+import com.ssafy.keepick.album.tier.application.event.TierAlbumChangedEvent;
+import com.ssafy.keepick.global.cache.VersionedLocalCache;
+import com.ssafy.keepick.global.cache.VersionedLocalCacheFactory;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 티어 앨범 상세 조회 결과 캐시
+ * 앨범이 수정되면 Redis의 앨범 버전을 올려 모든 서버가 다음 조회 때 다시 적재하도록 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class TierAlbumDetailCache {
+    private static final String VERSION_KEY_PREFIX = "album:tier:version:";
+
+    private final VersionedLocalCacheFactory versionedLocalCacheFactory;
+
+    @Value("${app.album.tier.detail-cache-size}")
+    private long cacheSize;
+
+    // key: tierAlbumId, value: 앨범 상세
+    private VersionedLocalCache<Long, TierAlbumDetailDto> detailCache;
+
+    @PostConstruct
+    void init() {
+        this.detailCache = versionedLocalCacheFactory.create(VERSION_KEY_PREFIX, cacheSize);
+    }
+
+    public TierAlbumDetailDto get(Long tierAlbumId, Supplier<TierAlbumDetailDto> loader) {
+        return detailCache.get(tierAlbumId, loader);
+    }
+
+    @TransactionalEventListener
+    public void handleTierAlbumChanged(TierAlbumChangedEvent event) {
+        detailCache.invalidate(event.getTierAlbumId());
+    }
+}
@@ -1,10 +1,15 @@
 package com.ssafy.keepick.album.tier.application;
 
-import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -15,6 +20,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.ssafy.keepick.album.tier.application.dto.TierAlbumDetailDto;
 import com.ssafy.keepick.album.tier.application.dto.TierAlbumDto;
 import com.ssafy.keepick.album.tier.application.dto.TierAlbumPhotoDto;
+import com.ssafy.keepick.album.tier.application.event.TierAlbumChangedEvent;
 import com.ssafy.keepick.album.tier.controller.request.UpdateTierAlbumRequest;
 import com.ssafy.keepick.album.tier.domain.Tier;
 import com.ssafy.keepick.album.tier.domain.TierAlbum;
@@ -24,6 +30,7 @@ import com.ssafy.keepick.album.tier.persistence.TierAlbumRepository;
 import com.ssafy.keepick.global.exception.BaseException;
 import com.ssafy.keepick.global.exception.ErrorCode;
 import com.ssafy.keepick.global.response.PagingResponse;
+import com.ssafy.keepick.photo.application.ImageService;
 import com.ssafy.keepick.photo.domain.Photo;
 import com.ssafy.keepick.photo.persistence.PhotoRepository;
 
@@ -35,37 +42,32 @@ public class TierAlbumService {
     
     // 썸네일 정보를 담는 record
     private record ThumbnailInfo(String thumbnailUrl, String originalUrl) {}
+    private static final String UNASSIGNED = "UNASSIGNED";
     private final TierAlbumRepository tierAlbumRepository;
     private final TierAlbumPhotoRepository tierAlbumPhotoRepository;
     private final PhotoRepository photoRepository;
+    private final TierAlbumDetailCache tierAlbumDetailCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImageService imageService;
 
     
     // 티어 앨범 생성
     @Transactional
     public TierAlbumDto createTierAlbum(Long groupId, List<Long> photoIds) {
-        // 빈 티어 앨범 생성
+        // 사진 한 번에 조회 (요청 순서 유지, 중복 제거)
+        List<Long> distinctPhotoIds = List.copyOf(new LinkedHashSet<>(photoIds));
+        Map<Long, Photo> photoMap = findPhotoMap(distinctPhotoIds);
+
+        // 빈 티어 앨범 생성 후 첫번째 사진으로 앨범 썸네일 세팅
         TierAlbum tierAlbum = TierAlbum.createTierAlbum(groupId);
         TierAlbum savedTierAlbum = tierAlbumRepository.save(tierAlbum);
-        
-        // 각 사진에 대해 TierAlbumPhoto 관계 생성
-        for (int i = 0; i < photoIds.size(); i++) {
-            Photo photo = photoRepository.findById(photoIds.get(i))
-                .orElseThrow(() -> new BaseException(ErrorCode.NOT_FOUND));
-            
-            // 첫번째 사진으로 앨범 썸네일 세팅
-            if (i == 0) {
-                tierAlbum.updateThumbnail(photo.getOriginalUrl(), photo.getThumbnailUrl());
-            }
+        Photo firstPhoto = photoMap.get(distinctPhotoIds.get(0));
+        savedTierAlbum.updateThumbnail(firstPhoto.getOriginalUrl(), firstPhoto.getThumbnailUrl());
+
+        // TierAlbumPhoto 관계 한 번에 생성 (tier는 null, sequence는 0부터 간격을 두고 시작)
+        tierAlbumPhotoRepository.bulkInsert(savedTierAlbum.getId(), distinctPhotoIds, 0);
+        eventPublisher.publishEvent(TierAlbumChangedEvent.of(groupId, savedTierAlbum.getId()));
 
-            TierAlbumPhoto tierAlbumPhoto = TierAlbumPhoto.createTierAlbumPhoto(
-                savedTierAlbum, 
-                photo, 
-                null, // tier는 null (아직 등급이 정해지지 않음)
-                i // sequence는 0부터 시작
-            );
-            tierAlbumPhotoRepository.save(tierAlbumPhoto);
-        }
-        
         return TierAlbumDto.from(savedTierAlbum);
     }
 
@@ -79,30 +81,39 @@ public class TierAlbumService {
         Page<TierAlbum> tierAlbumPage = tierAlbumRepository.findByGroupIdWithPaging(groupId, pageable);
         
         // PagingResponse.from() 메서드를 사용하여 자동으로 페이징 정보 생성
-        return PagingResponse.from(tierAlbumPage, TierAlbumDto::from);
+        return PagingResponse.from(tierAlbumPage, tierAlbum -> TierAlbumDto.from(tierAlbum, imageService::toReadUrl));
     }
 
     // 티어 앨범 상세 조회 (사진 목록 포함)
     @Transactional(readOnly = true)
     public TierAlbumDetailDto getTierAlbumDetail(Long groupId, Long tierAlbumId) {
-        TierAlbum tierAlbum = tierAlbumRepository.findAlbumWithPhotosById(tierAlbumId)
-                .orElseThrow(() -> new BaseException(ErrorCode.ALBUM_NOT_FOUND));
+        return tierAlbumDetailCache.get(tierAlbumId, () -> {
+            TierAlbum tierAlbum = tierAlbumRepository.findAlbumById(tierAlbumId)
+                    .orElseThrow(() -> new BaseException(ErrorCode.ALBUM_NOT_FOUND));
 
-        return TierAlbumDetailDto.from(tierAlbum);
+            // 사진은 엔티티 대신 보드에 필요한 컬럼만 sequence 순으로 조회
+            return TierAlbumDetailDto.of(tierAlbum, tierAlbumPhotoRepository.findPhotoRowsByAlbumId(tierAlbumId));
+        });
     }
 
     // 티어 앨범 수정
     @Transactional
     public TierAlbumDto updateTierAlbum(Long groupId, Long tierAlbumId, UpdateTierAlbumRequest request) {
-        TierAlbum tierAlbum = tierAlbumRepository.findAlbumWithPhotosById(tierAlbumId)
+        TierAlbum tierAlbum = tierAlbumRepository.findAlbumById(tierAlbumId)
                 .orElseThrow(() -> new BaseException(ErrorCode.ALBUM_NOT_FOUND));
 
+        // 썸네일 검증이나 티어 수정이 필요한 경우에만 앨범 사진을 한 번 조회 (photoId -> TierAlbumPhoto)
+        Map<Long, TierAlbumPhoto> albumPhotoMap = request.getThumbnailId() != null || request.getPhotos() != null
+            ? findAlbumPhotoMap(tierAlbumId)
+            : Map.of();
+
         // 썸네일 URL 정보 가져오기
-        ThumbnailInfo thumbnailInfo = getThumbnailInfo(request.getThumbnailId(), tierAlbum);
+        ThumbnailInfo thumbnailInfo = getThumbnailInfo(request.getThumbnailId(), albumPhotoMap);
         
         // 앨범 기본 정보 업데이트
         tierAlbum.update(request.getName(), request.getDescription(), 
             thumbnailInfo.thumbnailUrl(), thumbnailInfo.originalUrl());
+        eventPublisher.publishEvent(TierAlbumChangedEvent.of(groupId, tierAlbumId));
         
         // 티어별 사진 등급 업데이트가 없는 경우 바로 반환
         if (request.getPhotos() == null) {
@@ -110,11 +121,40 @@ public class TierAlbumService {
         }
         
         // 사진 ID 검증 및 티어별 사진 업데이트
-        validateAndUpdateTierPhotos(tierAlbum, request.getPhotos());
+        validateAndUpdateTierPhotos(tierAlbum, albumPhotoMap, request.getPhotos());
         
         return TierAlbumDto.from(tierAlbum);
     }
 
+    /**
+     * 티어 앨범 사진 이동 (사진 X를 티어 T의 P번째 위치로)
+     * 이동한 사진의 앞뒤 사진 sequence 사이 값을 부여하므로 사진 한 장만 수정한다.
+     * 사이에 남은 간격이 없을 때만 앨범 전체 sequence를 다시 벌린다.
+     */
+    @Transactional
+    public void movePhotoInTierAlbum(Long groupId, Long tierAlbumId, Long photoId, String tierName, int position) {
+        TierAlbum tierAlbum = tierAlbumRepository.findAlbumById(tierAlbumId)
+                .orElseThrow(() -> new BaseException(ErrorCode.ALBUM_NOT_FOUND));
+        TierAlbumPhoto albumPhoto = tierAlbumPhotoRepository.findByAlbumIdAndPhotoId(tierAlbumId, photoId)
+                .orElseThrow(() -> new BaseException(ErrorCode.NOT_FOUND));
+        Tier tier = parseTier(tierName);
+
+        Integer sequence = findSequenceAt(tierAlbumId, tier, photoId, position);
+        if (sequence == null) {
+            rebalanceSequences(tierAlbumId);
+            sequence = findSequenceAt(tierAlbumId, tier, photoId, position);
+        }
+
+        // photoCount는 티어가 지정된 사진 수
+        if (albumPhoto.getTier() == null && tier != null) {
+            tierAlbum.increasePhotoCount();
+        } else if (albumPhoto.getTier() != null && tier == null) {
+            tierAlbum.decreasePhotoCount();
+        }
+        albumPhoto.updateTierAndSequence(tier, sequence);
+        eventPublisher.publishEvent(TierAlbumChangedEvent.of(groupId, tierAlbumId));
+    }
+
     // 티어 앨범 삭제
     @Transactional
     public void deleteTierAlbum(Long groupId, Long tierAlbumId) {
@@ -122,17 +162,32 @@ public class TierAlbumService {
                 .orElseThrow(() -> new BaseException(ErrorCode.ALBUM_NOT_FOUND));
 
         tierAlbum.delete();
+        eventPublisher.publishEvent(TierAlbumChangedEvent.of(groupId, tierAlbumId));
     }
     
+    /**
+     * 사진 ID 목록을 한 번에 조회하는 메서드
+     *
+     * @throws BaseException 존재하지 않는 사진이 포함된 경우
+     */
+    private Map<Long, Photo> findPhotoMap(List<Long> photoIds) {
+        Map<Long, Photo> photoMap = photoRepository.findAllById(photoIds).stream()
+            .collect(Collectors.toMap(Photo::getId, photo -> photo));
+        if (photoMap.size() != new HashSet<>(photoIds).size()) {
+            throw new BaseException(ErrorCode.NOT_FOUND);
+        }
+        return photoMap;
+    }
+
     /**
      * 썸네일 정보를 가져오는 메서드
      * 
      * @param thumbnailId 썸네일로 지정할 사진 ID
-     * @param tierAlbum 앨범 엔티티
+     * @param albumPhotoMap 앨범 사진 맵 (photoId -> TierAlbumPhoto)
      * @return ThumbnailInfo 썸네일 정보
      * @throws BaseException 썸네일 사진이 존재하지 않거나 앨범에 포함되지 않은 경우
      */
-    private ThumbnailInfo getThumbnailInfo(Long thumbnailId, TierAlbum tierAlbum) {
+    private ThumbnailInfo getThumbnailInfo(Long thumbnailId, Map<Long, TierAlbumPhoto> albumPhotoMap) {
         if (thumbnailId == null) {
             return new ThumbnailInfo(null, null);
         }
@@ -141,10 +196,7 @@ public class TierAlbumService {
             .orElseThrow(() -> new BaseException(ErrorCode.NOT_FOUND));
         
         // 썸네일로 지정할 사진이 해당 앨범에 포함되어 있는지 검증
-        boolean isPhotoInAlbum = tierAlbum.getAllPhotos().stream()
-            .anyMatch(albumPhoto -> albumPhoto.getPhoto().getId().equals(thumbnailId));
-        
-        if (!isPhotoInAlbum) {
+        if (!albumPhotoMap.containsKey(thumbnailId)) {
             throw new BaseException(ErrorCode.INVALID_PARAMETER);
         }
         
@@ -155,116 +207,151 @@ public class TierAlbumService {
      * 사진 ID 검증 및 티어별 사진 업데이트
      * 
      * @param tierAlbum 앨범 엔티티
+     * @param albumPhotoMap 앨범 사진 맵 (photoId -> TierAlbumPhoto)
      * @param photosMap 명시적으로 할당된 티어별 사진 ID 맵 (UNASSIGNED 제외)
      * @throws BaseException 사진 ID 검증에 실패한 경우
+     * 저장소 조회 없이 재배치 비용만 측정하도록 같은 패키지의 TierAlbumServiceBenchmark에서 직접 호출하므로 package-private
      */
-    private void validateAndUpdateTierPhotos(TierAlbum tierAlbum, Map<String, List<Long>> photosMap) {
-        Long albumId = tierAlbum.getId();
-        
-        // 1. 앨범에 포함된 모든 사진 ID 수집
-        List<Long> allAlbumPhotoIds = tierAlbum.getAllPhotos().stream()
-            .map(albumPhoto -> albumPhoto.getPhoto().getId())
-            .toList();
-        
-        // 2. 요청에서 명시적으로 할당된 모든 사진 ID들 수집
-        List<Long> allAssignedPhotoIds = photosMap.values().stream()
+    void validateAndUpdateTierPhotos(TierAlbum tierAlbum, Map<Long, TierAlbumPhoto> albumPhotoMap,
+                                     Map<String, List<Long>> photosMap) {
+        // 1. 요청한 사진이 모두 앨범에 있는지 검증 (O(1) 조회)
+        boolean hasInvalidPhoto = photosMap.values().stream()
+            .filter(Objects::nonNull)
             .flatMap(List::stream)
-            .toList();
-        
-        // 3. 요청에 앨범에 없는 사진이 있는지 검증
-        List<Long> invalidPhotoIds = allAssignedPhotoIds.stream()
-            .filter(photoId -> !allAlbumPhotoIds.contains(photoId))
-            .toList();
-        
-        if (!invalidPhotoIds.isEmpty()) {
+            .anyMatch(photoId -> !albumPhotoMap.containsKey(photoId));
+        if (hasInvalidPhoto) {
             throw new BaseException(ErrorCode.INVALID_PARAMETER);
         }
-        
-        // 4. 앨범의 모든 사진을 조회하여 영속성 컨텍스트에서 관리
-        List<TierAlbumPhoto> allTierAlbumPhotos = tierAlbumPhotoRepository.findByAlbumId(albumId);
-        
-        // 성능 개선을 위해 Map으로 변환 (photoId -> TierAlbumPhoto)
-        Map<Long, TierAlbumPhoto> photoIdToAlbumPhotoMap = allTierAlbumPhotos.stream()
-            .collect(Collectors.toMap(
-                albumPhoto -> albumPhoto.getPhoto().getId(),
-                albumPhoto -> albumPhoto
-            ));
-        
-        // 5. 모든 사진의 티어를 null로 초기화 (영속성 컨텍스트 활용)
-        allTierAlbumPhotos.forEach(TierAlbumPhoto::resetTier);
-        
-        // 6. 각 티어별로 sequence 업데이트 및 티어 설정 (영속성 컨텍스트 활용)
+
+        // 2. 요청에 없는 사진은 미지정, 요청한 사진은 티어 내 순서대로 간격을 둔 sequence 부여
+        // 값이 바뀌지 않은 사진은 변경 감지 대상이 아니므로 UPDATE가 나가지 않음
+        Set<Long> assignedPhotoIds = new HashSet<>();
+        int assignedPhotoCount = 0;
         for (Map.Entry<String, List<Long>> entry : photosMap.entrySet()) {
-            String tierName = entry.getKey();
             List<Long> photoIds = entry.getValue();
-            
-            if (photoIds != null && !photoIds.isEmpty()) {
-                // 각 티어 내에서 sequence 순서대로 업데이트
-                for (int i = 0; i < photoIds.size(); i++) {
-                    Long photoId = photoIds.get(i);
-                    
-                    // Map에서 해당 사진을 찾아서 업데이트 (O(1) 조회)
-                    TierAlbumPhoto targetAlbumPhoto = photoIdToAlbumPhotoMap.get(photoId);
-                    if (targetAlbumPhoto == null) {
-                        throw new BaseException(ErrorCode.NOT_FOUND);
-                    }
-                    
-                    // 티어와 시퀀스를 한 번에 업데이트
-                    Tier tier = Tier.valueOf(tierName);
-                    targetAlbumPhoto.updateTierAndSequence(tier, i);
-                }
+            if (photoIds == null) {
+                continue;
+            }
+
+            Tier tier = parseTier(entry.getKey());
+            for (int i = 0; i < photoIds.size(); i++) {
+                albumPhotoMap.get(photoIds.get(i)).updateTierAndSequence(tier, i * TierAlbumPhoto.SEQUENCE_GAP);
+                assignedPhotoIds.add(photoIds.get(i));
+            }
+            if (tier != null) {
+                assignedPhotoCount += photoIds.size();
             }
         }
-        
-        // 7. photoCount 업데이트 - 명시적으로 할당된 사진들만 카운트
-        int assignedPhotoCount = photosMap.values().stream()
-            .mapToInt(List::size) // 각 티어의 사진 개수
-            .sum(); // 모든 티어의 사진 개수 합계
+        albumPhotoMap.forEach((photoId, albumPhoto) -> {
+            if (!assignedPhotoIds.contains(photoId)) {
+                albumPhoto.resetTier();
+            }
+        });
+
+        // 3. photoCount 업데이트 - 명시적으로 할당된 사진들만 카운트
         tierAlbum.updatePhotoCount(assignedPhotoCount);
     }
 
+    /**
+     * 앨범 사진을 한 번 조회하여 photoId 기준 Map으로 변환하는 메서드
+     */
+    private Map<Long, TierAlbumPhoto> findAlbumPhotoMap(Long tierAlbumId) {
+        return tierAlbumPhotoRepository.findByAlbumId(tierAlbumId).stream()
+            .collect(Collectors.toMap(albumPhoto -> albumPhoto.getPhoto().getId(), albumPhoto -> albumPhoto));
+    }
+
+    /**
+     * 티어 이름을 Tier로 변환하는 메서드 (UNASSIGNED는 null)
+     *
+     * @throws BaseException 존재하지 않는 티어인 경우
+     */
+    private Tier parseTier(String tierName) {
+        if (UNASSIGNED.equals(tierName)) {
+            return null;
+        }
+        try {
+            return Tier.valueOf(tierName);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new BaseException(ErrorCode.INVALID_PARAMETER);
+        }
+    }
+
+    /**
+     * 티어 내 position 위치에 들어갈 sequence 계산 (남은 간격이 없으면 null)
+     * 이동할 사진을 제외한 티어 사진 중 position-1, position 번째 sequence 사이 값을 구한다.
+     */
+    private Integer findSequenceAt(Long tierAlbumId, Tier tier, Long photoId, int position) {
+        if (position == 0) {
+            List<Integer> first = tierAlbumPhotoRepository.findTierSequences(tierAlbumId, tier, photoId, 0, 1);
+            return TierAlbumPhoto.sequenceBetween(null, first.isEmpty() ? null : first.get(0));
+        }
+
+        List<Integer> neighbors = tierAlbumPhotoRepository.findTierSequences(tierAlbumId, tier, photoId, position - 1, 2);
+        if (neighbors.isEmpty()) {
+            // 티어 사진 수보다 뒤의 위치는 맨 뒤로 이동
+            Integer last = tierAlbumPhotoRepository.findMaxSequenceByAlbumIdAndTier(tierAlbumId, tier, photoId);
+            return TierAlbumPhoto.sequenceBetween(last, null);
+        }
+        return TierAlbumPhoto.sequenceBetween(neighbors.get(0), neighbors.size() > 1 ? neighbors.get(1) : null);
+    }
+
+    /**
+     * 앨범 전체 sequence를 현재 순서대로 다시 간격을 두고 부여하는 메서드
+     */
+    private void rebalanceSequences(Long tierAlbumId) {
+        List<TierAlbumPhoto> albumPhotos = tierAlbumPhotoRepository.findByAlbumId(tierAlbumId);
+        for (int i = 0; i < albumPhotos.size(); i++) {
+            albumPhotos.get(i).updateSequence(i * TierAlbumPhoto.SEQUENCE_GAP);
+        }
+        tierAlbumPhotoRepository.flush();
+    }
+
     @Transactional
     public List<TierAlbumPhotoDto> uploadPhotoToTierAlbum(Long groupId, Long tierAlbumId, List<Long> photoIds) {
-        TierAlbum tierAlbum = tierAlbumRepository.findAlbumWithPhotosById(tierAlbumId)
-                .orElseThrow(() -> new BaseException(ErrorCode.ALBUM_NOT_FOUND));
-        int currentPhotoCount = tierAlbum.getAllPhotos().size();
-        List<TierAlbumPhotoDto> addedPhotos = new ArrayList<>();
-        for (int i = 0; i < photoIds.size(); i++) {
-            final int sequence = i; // Effectively final for lambda
-            final Long photoId = photoIds.get(i); // Effectively final for lambda
-            Photo photo = photoRepository.findById(photoId)
-                .orElseThrow(() -> new BaseException(ErrorCode.NOT_FOUND));
-            boolean isPhotoAlreadyInAlbum = tierAlbum.getAllPhotos().stream()
-                .anyMatch(albumPhoto -> albumPhoto.getPhoto().getId().equals(photoId));
-            if (isPhotoAlreadyInAlbum) {
+        if (!tierAlbumRepository.existsById(tierAlbumId)) {
+            throw new BaseException(ErrorCode.ALBUM_NOT_FOUND);
+        }
+
+        // 이미 앨범에 포함된 사진이거나 요청 내 중복된 사진이면 실패
+        Set<Long> albumPhotoIds = new HashSet<>(tierAlbumPhotoRepository.findPhotoIdsByAlbumId(tierAlbumId));
+        for (Long photoId : photoIds) {
+            if (!albumPhotoIds.add(photoId)) {
                 throw new BaseException(ErrorCode.INVALID_PARAMETER);
             }
-            TierAlbumPhoto tierAlbumPhoto = TierAlbumPhoto.createTierAlbumPhoto(
-                tierAlbum,
-                photo,
-                null,
-                currentPhotoCount + sequence
-            );
-            TierAlbumPhoto savedTierAlbumPhoto = tierAlbumPhotoRepository.save(tierAlbumPhoto);
-            addedPhotos.add(TierAlbumPhotoDto.from(savedTierAlbumPhoto));
         }
-        return addedPhotos;
+
+        // 사진 한 번에 조회 후 앨범 마지막 순서 뒤에 한 번에 추가
+        Map<Long, Photo> photoMap = findPhotoMap(photoIds);
+        int startSequence = tierAlbumPhotoRepository.findMaxSequenceByAlbumId(tierAlbumId) + TierAlbumPhoto.SEQUENCE_GAP;
+        tierAlbumPhotoRepository.bulkInsert(tierAlbumId, photoIds, startSequence);
+        eventPublisher.publishEvent(TierAlbumChangedEvent.of(groupId, tierAlbumId));
+
+        return IntStream.range(0, photoIds.size())
+            .mapToObj(i -> TierAlbumPhotoDto.of(photoMap.get(photoIds.get(i)), startSequence + i * TierAlbumPhoto.SEQUENCE_GAP))
+            .toList();
     }
 
+    /**
+     * 티어 앨범에서 사진 삭제
+     * 남은 사진의 sequence는 간격이 벌어질 뿐 순서는 유지되므로 다시 부여하지 않는다.
+     * (간격이 부족해지면 사진 이동 시 rebalanceSequences에서 재배치)
+     */
     @Transactional
     public void deletePhotoFromTierAlbum(Long groupId, Long tierAlbumId, List<Long> photoIds) {
-        TierAlbum tierAlbum = tierAlbumRepository.findAlbumWithPhotosById(tierAlbumId)
+        TierAlbum tierAlbum = tierAlbumRepository.findAlbumById(tierAlbumId)
                 .orElseThrow(() -> new BaseException(ErrorCode.ALBUM_NOT_FOUND));
-        for (Long photoId : photoIds) {
-            TierAlbumPhoto tierAlbumPhoto = tierAlbum.getAllPhotos().stream()
-                .filter(albumPhoto -> albumPhoto.getPhoto().getId().equals(photoId))
-                .findFirst()
-                .orElseThrow(() -> new BaseException(ErrorCode.NOT_FOUND));
-            tierAlbumPhotoRepository.delete(tierAlbumPhoto);
-        }
-        List<TierAlbumPhoto> remainingPhotos = tierAlbumPhotoRepository.findByAlbumId(tierAlbumId);
-        for (int i = 0; i < remainingPhotos.size(); i++) {
-            remainingPhotos.get(i).updateSequence(i);
+
+        // 삭제할 사진이 모두 앨범에 포함되어 있는지 검증
+        Set<Long> distinctPhotoIds = new HashSet<>(photoIds);
+        List<Tier> tiers = tierAlbumPhotoRepository.findTiersByAlbumIdAndPhotoIds(tierAlbumId, distinctPhotoIds);
+        if (tiers.size() != distinctPhotoIds.size()) {
+            throw new BaseException(ErrorCode.NOT_FOUND);
         }
+
+        tierAlbumPhotoRepository.deleteByAlbumIdAndPhotoIds(tierAlbumId, distinctPhotoIds);
+
+        // photoCount는 티어가 지정된 사진 수
+        tierAlbum.decreasePhotoCount((int) tiers.stream().filter(Objects::nonNull).count());
+        eventPublisher.publishEvent(TierAlbumChangedEvent.of(groupId, tierAlbumId));
     }
 }
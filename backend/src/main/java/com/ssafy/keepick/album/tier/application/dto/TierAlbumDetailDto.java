@@ -4,11 +4,11 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 import com.ssafy.keepick.album.tier.controller.response.TierAlbumDetailResponse;
 import com.ssafy.keepick.album.tier.domain.TierAlbum;
-import com.ssafy.keepick.album.tier.domain.TierAlbumPhoto;
 
 import lombok.Builder;
 import lombok.Getter;
@@ -23,10 +23,13 @@ public class TierAlbumDetailDto {
     private Integer photoCount;
     private Map<String, List<TierAlbumPhotoDto>> photos; // 티어별로 그룹화
 
-    public static TierAlbumDetailDto from(TierAlbum tierAlbum) {
-        // 모든 사진을 가져와서 DTO에서 티어별로 그룹화
-        List<TierAlbumPhoto> allPhotos = tierAlbum.getAllPhotos();
-        
+    /**
+     * sequence 순으로 조회한 사진 행을 티어별로 그룹화
+     *
+     * @param tierAlbum 앨범 엔티티 (사진 컬렉션은 사용하지 않음)
+     * @param photoRows sequence 순으로 정렬된 사진 행
+     */
+    public static TierAlbumDetailDto of(TierAlbum tierAlbum, List<TierAlbumPhotoRowDto> photoRows) {
         // 모든 등급에 대해 빈 배열로 초기화
         Map<String, List<TierAlbumPhotoDto>> completePhotosByTier = new LinkedHashMap<>();
         completePhotosByTier.put("S", new ArrayList<>());
@@ -37,7 +40,7 @@ public class TierAlbumDetailDto {
         completePhotosByTier.put("UNASSIGNED", new ArrayList<>());
         
         // 각 사진을 해당 등급에 추가
-        for (TierAlbumPhoto photo : allPhotos) {
+        for (TierAlbumPhotoRowDto photo : photoRows) {
             TierAlbumPhotoDto photoDto = TierAlbumPhotoDto.from(photo);
             
             if (photo.getTier() != null) {
@@ -66,6 +69,13 @@ public class TierAlbumDetailDto {
      * @return TierAlbumDetailResponse
      */
     public TierAlbumDetailResponse toResponse() {
+        return toResponse(UnaryOperator.identity());
+    }
+
+    /**
+     * 이미지 URL을 조회용 URL로 바꿔 Response로 변환 (캐시된 DTO는 변경하지 않음)
+     */
+    public TierAlbumDetailResponse toResponse(UnaryOperator<String> urlResolver) {
         // photos 맵을 Response용으로 변환
         Map<String, List<TierAlbumDetailResponse.Photo>> photosResponse = this.photos.entrySet().stream()
             .collect(Collectors.toMap(
@@ -73,8 +83,8 @@ public class TierAlbumDetailDto {
                 entry -> entry.getValue().stream()
                     .map(dto -> TierAlbumDetailResponse.Photo.builder()
                         .photoId(dto.getPhotoId())
-                        .thumbnailUrl(dto.getThumbnailUrl())
-                        .originalUrl(dto.getOriginalUrl())
+                        .thumbnailUrl(urlResolver.apply(dto.getThumbnailUrl()))
+                        .originalUrl(urlResolver.apply(dto.getOriginalUrl()))
                         .sequence(dto.getSequence())
                         .build())
                     .toList()));
@@ -82,8 +92,8 @@ public class TierAlbumDetailDto {
         return TierAlbumDetailResponse.builder()
             .title(this.title)
             .description(this.description)
-            .thumbnailUrl(this.thumbnailUrl)
-            .originalUrl(this.originalUrl)
+            .thumbnailUrl(urlResolver.apply(this.thumbnailUrl))
+            .originalUrl(urlResolver.apply(this.originalUrl))
             .photoCount(this.photoCount)
             .photos(photosResponse)
             .build();
@@ -97,12 +107,12 @@ public class TierAlbumDetailDto {
         private String originalUrl;
         private Integer sequence;
 
-        public static TierAlbumPhotoDto from(TierAlbumPhoto tierAlbumPhoto) {
+        public static TierAlbumPhotoDto from(TierAlbumPhotoRowDto photoRow) {
             return TierAlbumPhotoDto.builder()
-                .photoId(tierAlbumPhoto.getPhoto().getId())
-                .thumbnailUrl(tierAlbumPhoto.getPhoto().getThumbnailUrl())
-                .originalUrl(tierAlbumPhoto.getPhoto().getOriginalUrl())
-                .sequence(tierAlbumPhoto.getSequence())
+                .photoId(photoRow.getPhotoId())
+                .thumbnailUrl(photoRow.getThumbnailUrl())
+                .originalUrl(photoRow.getOriginalUrl())
+                .sequence(photoRow.getSequence())
                 .build();
         }
     }
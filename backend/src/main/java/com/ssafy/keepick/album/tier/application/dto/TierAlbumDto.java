@@ -1,6 +1,7 @@
 package com.ssafy.keepick.album.tier.application.dto;
 
 import java.time.LocalDateTime;
+import java.util.function.UnaryOperator;
 
 import com.ssafy.keepick.album.tier.domain.TierAlbum;
 
@@ -21,12 +22,16 @@ public class TierAlbumDto {
 
 
     public static TierAlbumDto from(TierAlbum tierAlbum) {
+        return from(tierAlbum, UnaryOperator.identity());
+    }
+
+    public static TierAlbumDto from(TierAlbum tierAlbum, UnaryOperator<String> urlResolver) {
         return TierAlbumDto.builder()
                 .id(tierAlbum.getId())
                 .name(tierAlbum.getName())
                 .description(tierAlbum.getDescription())
-                .thumbnailUrl(tierAlbum.getThumbnailUrl())
-                .originalUrl(tierAlbum.getOriginalUrl())
+                .thumbnailUrl(urlResolver.apply(tierAlbum.getThumbnailUrl()))
+                .originalUrl(urlResolver.apply(tierAlbum.getOriginalUrl()))
                 .createdAt(tierAlbum.getCreatedAt())
                 .updatedAt(tierAlbum.getUpdatedAt())
                 .photoCount(tierAlbum.getPhotoCount())
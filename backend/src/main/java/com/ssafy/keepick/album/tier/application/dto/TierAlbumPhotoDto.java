@@ -2,10 +2,12 @@ package com.ssafy.keepick.album.tier.application.dto;
 
 import com.ssafy.keepick.album.tier.controller.response.TierPhotoUploadResponse;
 import com.ssafy.keepick.album.tier.domain.TierAlbumPhoto;
+import com.ssafy.keepick.photo.domain.Photo;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 @Getter
@@ -25,17 +27,34 @@ public class TierAlbumPhotoDto {
             .build();
     }
 
+    public static TierAlbumPhotoDto of(Photo photo, Integer sequence) {
+        return TierAlbumPhotoDto.builder()
+            .photoId(photo.getId())
+            .thumbnailUrl(photo.getThumbnailUrl())
+            .originalUrl(photo.getOriginalUrl())
+            .sequence(sequence)
+            .build();
+    }
+
     public TierPhotoUploadResponse.Photo toResponse() {
+        return toResponse(UnaryOperator.identity());
+    }
+
+    public TierPhotoUploadResponse.Photo toResponse(UnaryOperator<String> urlResolver) {
         return TierPhotoUploadResponse.Photo.builder()
                 .photoId(this.photoId)
-                .originalUrl(this.originalUrl)
-                .thumbnailUrl(this.thumbnailUrl)
+                .originalUrl(urlResolver.apply(this.originalUrl))
+                .thumbnailUrl(urlResolver.apply(this.thumbnailUrl))
                 .build();
     }
 
     public static TierPhotoUploadResponse toResponse(List<TierAlbumPhotoDto> dtos) {
+        return toResponse(dtos, UnaryOperator.identity());
+    }
+
+    public static TierPhotoUploadResponse toResponse(List<TierAlbumPhotoDto> dtos, UnaryOperator<String> urlResolver) {
         List<TierPhotoUploadResponse.Photo> photos = dtos.stream()
-                .map(TierAlbumPhotoDto::toResponse)
+                .map(dto -> dto.toResponse(urlResolver))
                 .collect(Collectors.toList());
         
         return TierPhotoUploadResponse.builder()
@@ -0,0 +1,19 @@
+package com.ssafy.keepick.album.tier.application.dto;
+
+import com.ssafy.keepick.album.tier.domain.Tier;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 티어 앨범 상세 조회용 사진 한 행 (엔티티 대신 보드에 필요한 컬럼만 조회)
+ */
+@Getter
+@AllArgsConstructor
+public class TierAlbumPhotoRowDto {
+    private final Long photoId;
+    private final String thumbnailUrl;
+    private final String originalUrl;
+    private final Tier tier;
+    private final Integer sequence;
+}
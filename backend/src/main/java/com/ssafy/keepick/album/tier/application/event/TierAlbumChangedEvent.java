@@ -0,0 +1,14 @@
+package com.ssafy.keepick.album.tier.application.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 티어 앨범 정보나 앨범 사진의 티어/순서가 바뀌었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class TierAlbumChangedEvent {
+    private final Long groupId;
+    private final Long tierAlbumId;
+}
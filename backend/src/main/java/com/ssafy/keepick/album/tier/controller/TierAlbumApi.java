@@ -3,6 +3,7 @@ package com.ssafy.keepick.album.tier.controller;
 import com.ssafy.keepick.album.tier.application.dto.TierAlbumDto;
 import com.ssafy.keepick.album.tier.controller.request.CreateTierAlbumRequest;
 import com.ssafy.keepick.album.tier.controller.request.TierPhotoDeleteRequest;
+import com.ssafy.keepick.album.tier.controller.request.TierPhotoMoveRequest;
 import com.ssafy.keepick.album.tier.controller.request.TierPhotoUploadRequest;
 import com.ssafy.keepick.album.tier.controller.request.UpdateTierAlbumRequest;
 import com.ssafy.keepick.album.tier.controller.response.TierAlbumDetailResponse;
@@ -281,6 +282,39 @@ public interface TierAlbumApi {
             @Parameter(description = "티어 앨범 ID", example = "1", required = true) Long tierAlbumId,
             @Parameter(description = "사진 업로드 요청", required = true) @Valid TierPhotoUploadRequest request);
 
+    @Operation(summary = "티어 앨범 사진 이동", description = "사진 한 장을 지정한 티어의 지정한 위치로 이동합니다. " +
+            "드래그 한 번에 보드 전체 대신 이동한 사진 한 장만 수정됩니다. 티어가 UNASSIGNED면 미지정 영역으로 이동합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "사진 이동 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(name = "성공 응답 예시", value = """
+                    {
+                        "status": 200,
+                        "message": "success",
+                        "data": null
+                    }
+                    """))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 요청 (존재하지 않는 티어, 음수 위치 등)", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class), examples = @ExampleObject(name = "잘못된 요청 예시", value = """
+                    {
+                        "status": 400,
+                        "message": "잘못된 요청입니다.",
+                        "errorCode": "B004",
+                        "timeStamp": "2025-08-07T13:46:08.346331600"
+                    }
+                    """))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "티어 앨범 또는 앨범 내 사진을 찾을 수 없음", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class), examples = @ExampleObject(name = "앨범 없음 예시", value = """
+                    {
+                        "status": 404,
+                        "message": "존재하지 않는 티어 앨범입니다.",
+                        "errorCode": "B003",
+                        "timeStamp": "2025-08-07T13:46:08.346331600"
+                    }
+                    """)))
+    })
+    ApiResponse<Void> movePhotoInTierAlbum(
+            @Parameter(description = "그룹 ID", example = "1", required = true) Long groupId,
+            @Parameter(description = "티어 앨범 ID", example = "1", required = true) Long tierAlbumId,
+            @Parameter(description = "이동할 사진 ID", example = "1", required = true) Long photoId,
+            @Parameter(description = "사진 이동 요청", required = true) @Valid TierPhotoMoveRequest request);
+
     @Operation(summary = "티어 앨범에서 사진 삭제", description = "특정 티어 앨범에서 사진을 삭제합니다. 앨범에 포함되지 않은 사진은 삭제할 수 없습니다.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "사진 삭제 성공", content = @Content(mediaType = "application/json", examples = @ExampleObject(name = "성공 응답 예시", value = """
@@ -2,6 +2,7 @@ package com.ssafy.keepick.album.tier.controller;
 
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -16,6 +17,7 @@ import com.ssafy.keepick.album.tier.application.dto.TierAlbumDto;
 import com.ssafy.keepick.album.tier.application.dto.TierAlbumPhotoDto;
 import com.ssafy.keepick.album.tier.controller.request.CreateTierAlbumRequest;
 import com.ssafy.keepick.album.tier.controller.request.TierPhotoDeleteRequest;
+import com.ssafy.keepick.album.tier.controller.request.TierPhotoMoveRequest;
 import com.ssafy.keepick.album.tier.controller.request.TierPhotoUploadRequest;
 import com.ssafy.keepick.album.tier.controller.request.UpdateTierAlbumRequest;
 import com.ssafy.keepick.album.tier.controller.response.TierAlbumDetailResponse;
@@ -23,6 +25,7 @@ import com.ssafy.keepick.album.tier.controller.response.TierPhotoUploadResponse;
 import com.ssafy.keepick.global.response.ApiResponse;
 import com.ssafy.keepick.global.response.PagingResponse;
 import com.ssafy.keepick.global.response.ResponseCode;
+import com.ssafy.keepick.photo.application.ImageService;
 
 import java.util.List;
 
@@ -34,6 +37,7 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/groups/{groupId}/tier-albums")
 public class TierAlbumController implements TierAlbumApi {
     private final TierAlbumService tierAlbumService;
+    private final ImageService imageService;
 
     @Override
     @GetMapping("")
@@ -52,8 +56,8 @@ public class TierAlbumController implements TierAlbumApi {
             @PathVariable Long tierAlbumId) {
         TierAlbumDetailDto tierAlbumDetailDto = tierAlbumService.getTierAlbumDetail(groupId, tierAlbumId);
 
-        // DTO를 Response로 변환
-        TierAlbumDetailResponse response = tierAlbumDetailDto.toResponse();
+        // DTO를 Response로 변환 (이미지 URL은 조회용 URL로 변환)
+        TierAlbumDetailResponse response = tierAlbumDetailDto.toResponse(imageService::toReadUrl);
 
         return ApiResponse.ok(response);
     }
@@ -93,10 +97,21 @@ public class TierAlbumController implements TierAlbumApi {
             @PathVariable Long tierAlbumId,
             @Valid @RequestBody TierPhotoUploadRequest request) {
         List<TierAlbumPhotoDto> tierAlbumPhotoDtos = tierAlbumService.uploadPhotoToTierAlbum(groupId, tierAlbumId, request.getPhotoIds());
-        TierPhotoUploadResponse response = TierAlbumPhotoDto.toResponse(tierAlbumPhotoDtos);
+        TierPhotoUploadResponse response = TierAlbumPhotoDto.toResponse(tierAlbumPhotoDtos, imageService::toReadUrl);
         return ApiResponse.ok(response);
     }
 
+    @Override
+    @PatchMapping("/{tierAlbumId}/photos/{photoId}/position")
+    public ApiResponse<Void> movePhotoInTierAlbum(
+            @PathVariable Long groupId,
+            @PathVariable Long tierAlbumId,
+            @PathVariable Long photoId,
+            @Valid @RequestBody TierPhotoMoveRequest request) {
+        tierAlbumService.movePhotoInTierAlbum(groupId, tierAlbumId, photoId, request.getTier(), request.getPosition());
+        return ApiResponse.ok(null);
+    }
+
     @Override
     @DeleteMapping("/{tierAlbumId}/photos")
     public ApiResponse<Void> deletePhotoFromTierAlbum(
@@ -0,0 +1,28 @@
+package com.ssafy.keepick.album.tier.controller.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "티어 앨범 사진 이동 요청")
+public class TierPhotoMoveRequest {
+
+    @Schema(
+        description = "이동할 티어 (S, A, B, C, D, UNASSIGNED)",
+        example = "A"
+    )
+    @NotNull(message = "이동할 티어는 필수입니다.")
+    private String tier;
+
+    @Schema(
+        description = "이동할 티어 내 위치 (0부터 시작, 티어 사진 수보다 크면 맨 뒤)",
+        example = "2"
+    )
+    @NotNull(message = "이동할 위치는 필수입니다.")
+    @Min(value = 0, message = "이동할 위치는 0 이상이어야 합니다.")
+    private Integer position;
+}
@@ -82,6 +82,10 @@ public class TierAlbum extends BaseTimeEntity {
         }
     }
 
+    public void decreasePhotoCount(int count) {
+        this.photoCount = Math.max(0, this.photoCount - count);
+    }
+
     public void updatePhotoCount(int count) {
         this.photoCount = count;
     }
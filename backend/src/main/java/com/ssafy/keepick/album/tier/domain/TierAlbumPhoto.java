@@ -14,6 +14,9 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TierAlbumPhoto {
+
+    // 사진 사이에 끼워 넣을 수 있도록 sequence를 간격을 두고 부여
+    public static final int SEQUENCE_GAP = 1024;
     
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -64,6 +67,29 @@ public class TierAlbumPhoto {
         this.sequence = sequence;
     }
     
+    /**
+     * 두 sequence 사이에 들어갈 sequence 계산
+     *
+     * @param before 앞 사진의 sequence (맨 앞이면 null)
+     * @param after 뒤 사진의 sequence (맨 뒤면 null)
+     * @return 사이의 sequence, 남은 간격이 없으면 null
+     */
+    public static Integer sequenceBetween(Integer before, Integer after) {
+        if (before == null && after == null) {
+            return 0;
+        }
+        if (before == null) {
+            return after - SEQUENCE_GAP;
+        }
+        if (after == null) {
+            return before + SEQUENCE_GAP;
+        }
+        if (after - before <= 1) {
+            return null;
+        }
+        return before + (after - before) / 2;
+    }
+
     /**
      * 티어를 초기화하는 메서드 (null로 설정)
      */
@@ -0,0 +1,9 @@
+package com.ssafy.keepick.album.tier.persistence;
+
+import java.util.List;
+
+public interface TierAlbumPhotoJdbcRepository {
+
+    // 앨범에 사진들을 티어 미지정 상태로 한 번에 추가 (sequence는 startSequence부터 SEQUENCE_GAP 간격)
+    void bulkInsert(Long albumId, List<Long> photoIds, int startSequence);
+}
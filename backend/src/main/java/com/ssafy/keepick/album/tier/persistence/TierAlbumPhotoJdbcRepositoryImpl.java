@@ -0,0 +1,45 @@
+package com.ssafy.keepick.album.tier.persistence;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.ssafy.keepick.album.tier.domain.TierAlbumPhoto;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class TierAlbumPhotoJdbcRepositoryImpl implements TierAlbumPhotoJdbcRepository {
+    private static final String INSERT_SQL = """
+        INSERT INTO tier_album_photo (album_id, photo_id, tier, sequence)
+        VALUES (?, ?, NULL, ?)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * IDENTITY 전략에서는 Hibernate가 insert를 batch로 묶지 못하므로 JDBC batch로 직접 저장
+     * (MySQL은 rewriteBatchedStatements 옵션으로 multi-row insert 한 번으로 전송)
+     */
+    @Override
+    public void bulkInsert(Long albumId, List<Long> photoIds, int startSequence) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setLong(1, albumId);
+                ps.setLong(2, photoIds.get(i));
+                ps.setInt(3, startSequence + i * TierAlbumPhoto.SEQUENCE_GAP);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return photoIds.size();
+            }
+        });
+    }
+}
@@ -0,0 +1,11 @@
+package com.ssafy.keepick.album.tier.persistence;
+
+import java.util.List;
+
+import com.ssafy.keepick.album.tier.domain.Tier;
+
+public interface TierAlbumPhotoQueryFactory {
+
+    // 티어 내 sequence를 순서대로 offset부터 limit개 조회 (tier가 null이면 미지정 사진, excludePhotoId 제외)
+    List<Integer> findTierSequences(Long albumId, Tier tier, Long excludePhotoId, int offset, int limit);
+}
@@ -0,0 +1,39 @@
+package com.ssafy.keepick.album.tier.persistence;
+
+import static com.ssafy.keepick.album.tier.domain.QTierAlbumPhoto.*;
+
+import java.util.List;
+
+import org.springframework.stereotype.Repository;
+
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ssafy.keepick.album.tier.domain.Tier;
+
+import lombok.RequiredArgsConstructor;
+
+@Repository
+@RequiredArgsConstructor
+public class TierAlbumPhotoQueryFactoryImpl implements TierAlbumPhotoQueryFactory {
+    private final JPAQueryFactory jpaQueryFactory;
+
+    @Override
+    public List<Integer> findTierSequences(Long albumId, Tier tier, Long excludePhotoId, int offset, int limit) {
+        return jpaQueryFactory
+                .select(tierAlbumPhoto.sequence)
+                .from(tierAlbumPhoto)
+                .where(
+                        tierAlbumPhoto.album.id.eq(albumId),
+                        tierAlbumPhoto.photo.id.ne(excludePhotoId),
+                        tierEq(tier)
+                )
+                .orderBy(tierAlbumPhoto.sequence.asc())
+                .offset(offset)
+                .limit(limit)
+                .fetch();
+    }
+
+    private BooleanExpression tierEq(Tier tier) {
+        return tier != null ? tierAlbumPhoto.tier.eq(tier) : tierAlbumPhoto.tier.isNull();
+    }
+}
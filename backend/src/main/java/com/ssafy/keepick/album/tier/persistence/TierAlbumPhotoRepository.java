@@ -1,16 +1,19 @@
 package com.ssafy.keepick.album.tier.persistence;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.ssafy.keepick.album.tier.application.dto.TierAlbumPhotoRowDto;
 import com.ssafy.keepick.album.tier.domain.Tier;
 import com.ssafy.keepick.album.tier.domain.TierAlbumPhoto;
 
-public interface TierAlbumPhotoRepository extends JpaRepository<TierAlbumPhoto, Long> {
+public interface TierAlbumPhotoRepository extends JpaRepository<TierAlbumPhoto, Long>, TierAlbumPhotoJdbcRepository, TierAlbumPhotoQueryFactory {
     
     // 앨범의 사진들 조회 (순서대로)
     @Query("""
@@ -20,6 +23,62 @@ public interface TierAlbumPhotoRepository extends JpaRepository<TierAlbumPhoto,
     """)
     List<TierAlbumPhoto> findByAlbumId(@Param("albumId") Long albumId);
 
+    // 앨범 상세 조회용 사진 행 조회 (엔티티를 로딩하지 않고 필요한 컬럼만 조회, 순서대로)
+    @Query("""
+        SELECT new com.ssafy.keepick.album.tier.application.dto.TierAlbumPhotoRowDto(
+            p.id, p.thumbnailUrl, p.originalUrl, tp.tier, tp.sequence)
+        FROM TierAlbumPhoto tp
+        JOIN tp.photo p
+        WHERE tp.album.id = :albumId
+        ORDER BY tp.sequence
+    """)
+    List<TierAlbumPhotoRowDto> findPhotoRowsByAlbumId(@Param("albumId") Long albumId);
+
+    // 앨범의 특정 사진 조회
+    @Query("""
+        SELECT tp FROM TierAlbumPhoto tp
+        WHERE tp.album.id = :albumId AND tp.photo.id = :photoId
+    """)
+    Optional<TierAlbumPhoto> findByAlbumIdAndPhotoId(@Param("albumId") Long albumId, @Param("photoId") Long photoId);
+
+    // 티어 내 마지막 sequence 조회 (tier가 null이면 미지정 사진, 사진이 없으면 null)
+    @Query("""
+        SELECT MAX(tp.sequence) FROM TierAlbumPhoto tp
+        WHERE tp.album.id = :albumId
+        AND tp.photo.id <> :excludePhotoId
+        AND ((:tier IS NULL AND tp.tier IS NULL) OR tp.tier = :tier)
+    """)
+    Integer findMaxSequenceByAlbumIdAndTier(@Param("albumId") Long albumId, @Param("tier") Tier tier, @Param("excludePhotoId") Long excludePhotoId);
+
+    // 앨범에 포함된 사진 ID 목록 조회 (중복 검사용)
+    @Query("""
+        SELECT tp.photo.id FROM TierAlbumPhoto tp
+        WHERE tp.album.id = :albumId
+    """)
+    List<Long> findPhotoIdsByAlbumId(@Param("albumId") Long albumId);
+
+    // 앨범의 마지막 sequence 조회 (사진이 없으면 -1)
+    @Query("""
+        SELECT COALESCE(MAX(tp.sequence), -1) FROM TierAlbumPhoto tp
+        WHERE tp.album.id = :albumId
+    """)
+    int findMaxSequenceByAlbumId(@Param("albumId") Long albumId);
+
+    // 앨범에서 삭제할 사진들의 티어 조회 (앨범에 포함된 사진만, 미지정이면 null)
+    @Query("""
+        SELECT tp.tier FROM TierAlbumPhoto tp
+        WHERE tp.album.id = :albumId AND tp.photo.id IN :photoIds
+    """)
+    List<Tier> findTiersByAlbumIdAndPhotoIds(@Param("albumId") Long albumId, @Param("photoIds") Collection<Long> photoIds);
+
+    // 앨범에서 사진들을 한 번에 삭제
+    @Modifying(flushAutomatically = true)
+    @Query("""
+        DELETE FROM TierAlbumPhoto tp
+        WHERE tp.album.id = :albumId AND tp.photo.id IN :photoIds
+    """)
+    int deleteByAlbumIdAndPhotoIds(@Param("albumId") Long albumId, @Param("photoIds") Collection<Long> photoIds);
+
     // ===== 더 이상 사용하지 않는 메서드들 (JPA 영속성 컨텍스트 기반으로 변경됨) =====
     
     // 배치 업데이트: 앨범의 모든 사진을 제외 상태로 초기화
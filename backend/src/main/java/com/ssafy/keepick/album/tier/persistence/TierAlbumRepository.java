@@ -66,6 +66,7 @@ public interface TierAlbumRepository extends JpaRepository<TierAlbum, Long> {
     """)
     Page<TierAlbum> findByGroupIdWithPaging(@Param("groupId") Long groupId, Pageable pageable);
 
-    boolean existsByIdAndGroupIdAndDeletedAtIsNull(Long id, Long groupId);
+    @Query("SELECT t.groupId FROM TierAlbum t WHERE t.id = :id AND t.deletedAt IS NULL")
+    Optional<Long> findGroupIdByIdAndDeletedAtIsNull(@Param("id") Long id);
 
 }
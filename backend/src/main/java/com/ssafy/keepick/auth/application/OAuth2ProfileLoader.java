@@ -0,0 +1,98 @@
+package com.ssafy.keepick.auth.application;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.keepick.auth.application.dto.GoogleProvider;
+import com.ssafy.keepick.auth.application.dto.KakaoProvider;
+import com.ssafy.keepick.auth.application.dto.NaverProvider;
+import com.ssafy.keepick.auth.application.dto.OAuth2Provider;
+import com.ssafy.keepick.external.oauth2.OAuth2UserInfoClient;
+import com.ssafy.keepick.global.exception.BaseException;
+import com.ssafy.keepick.global.exception.ErrorCode;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 모바일 SDK accessToken → 소셜 프로필 조회
+ * 같은 토큰으로 짧은 시간 안에 다시 로그인하거나(재시도, 푸시 알림 직후 중복 요청) 동시에 요청하면
+ * 제공자 API를 한 번만 호출하고 결과를 공유한다. 실패한 조회는 캐시에 남지 않는다.
+ * 토큰 원문 대신 해시를 키로 보관하고, 폐기된 토큰이 인정될 수 있는 시간은 캐시 TTL로 제한한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OAuth2ProfileLoader {
+    private final OAuth2UserInfoClient oauth2UserInfoClient;
+
+    @Value("${app.auth.mobile-login.profile-cache-size}")
+    private long cacheSize;
+
+    @Value("${app.auth.mobile-login.profile-cache-ttl-seconds}")
+    private long cacheTtlSeconds;
+
+    // key: provider:accessToken 해시, value: 프로필 조회 결과
+    private AsyncCache<String, OAuth2Provider> profileCache;
+
+    @PostConstruct
+    void init() {
+        this.profileCache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .buildAsync();
+    }
+
+    /**
+     * provider별로 사용자 정보를 조회하여 OAuth2Provider 객체로 변환
+     * @param provider 소셜 로그인 제공자 (google, kakao, naver)
+     * @param accessToken 모바일 SDK에서 발급받은 액세스 토큰
+     * @return OAuth2Provider 구현체 (GoogleProvider, KakaoProvider, NaverProvider)
+     */
+    public CompletableFuture<OAuth2Provider> load(String provider, String accessToken) {
+        return profileCache.get(key(provider, accessToken), (cacheKey, executor) -> fetch(provider, accessToken));
+    }
+
+    private CompletableFuture<OAuth2Provider> fetch(String provider, String accessToken) {
+        return oauth2UserInfoClient.fetchUserInfo(provider, accessToken)
+                .map(userInfo -> toProvider(provider, userInfo))
+                .onErrorMap(e -> !(e instanceof BaseException), e -> {
+                    log.error("사용자 정보 조회 실패: provider = {}, error = {}", provider, e.getMessage());
+                    return new BaseException(ErrorCode.OAUTH2_AUTHENTICATION_FAILED,
+                            "OAuth2 인증에 실패했습니다: " + e.getMessage());
+                })
+                .switchIfEmpty(Mono.error(() -> new BaseException(ErrorCode.OAUTH2_AUTHENTICATION_FAILED,
+                        "OAuth2 인증에 실패했습니다: 사용자 정보 응답이 비어 있습니다.")))
+                .toFuture();
+    }
+
+    private static OAuth2Provider toProvider(String provider, Map<String, Object> userInfo) {
+        return switch (provider) {
+            case "google" -> GoogleProvider.from(userInfo);
+            case "kakao" -> KakaoProvider.from(userInfo);
+            case "naver" -> NaverProvider.from(userInfo);
+            default -> throw new BaseException(ErrorCode.UNSUPPORTED_OAUTH2_PROVIDER,
+                    "지원하지 않는 OAuth2 제공자: " + provider);
+        };
+    }
+
+    private static String key(String provider, String accessToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                    .digest((provider + ":" + accessToken).getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
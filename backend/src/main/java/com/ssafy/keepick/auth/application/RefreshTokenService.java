@@ -0,0 +1,158 @@
+package com.ssafy.keepick.auth.application;
+
+import com.ssafy.keepick.auth.application.dto.AuthTokenDto;
+import com.ssafy.keepick.auth.application.dto.RefreshTokenSession;
+import com.ssafy.keepick.external.redis.RedisService;
+import com.ssafy.keepick.external.redis.dto.RotatedBytesDto;
+import com.ssafy.keepick.global.exception.BaseException;
+import com.ssafy.keepick.global.exception.ErrorCode;
+import com.ssafy.keepick.global.security.util.JWTUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * 리프레시 토큰 발급, 교체, 폐기
+ * 리프레시 토큰은 추측할 수 없는 난수이며 Redis에는 토큰 해시를 키로 세션을 보관한다.
+ * 재발급 시 Redis 한 번의 왕복으로 기존 토큰을 폐기하고 새 토큰으로 교체하므로
+ * 소셜 제공자 호출이나 회원 조회 없이 액세스 토큰을 다시 발급하며, 사용한 토큰은 다시 쓸 수 없다.
+ * 재발급할 때마다 만료 시간이 다시 설정되어 계속 사용하는 동안에는 로그인이 유지된다.
+ * 여러 탭이나 요청이 같은 토큰으로 동시에 재발급하면 하나만 성공해 나머지가 로그아웃되므로,
+ * 사용한 토큰은 짧은 유예 시간(grace-seconds) 동안만 다시 쓸 수 있다.
+ * 유예 시간 안에 다시 쓰면 새 세션을 만들지 않고 처음 발급한 후속 토큰을 그대로 돌려주므로, 탈취된 토큰으로 세션이 갈라지지 않는다.
+ * 후속 토큰은 기존 토큰에서 유도한 키로 암호화해 보관하므로 Redis 값만으로는 복원할 수 없다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefreshTokenService {
+    private static final String KEY_PREFIX = "auth:refresh:";
+    private static final String SUCCESSOR_KEY_SUFFIX = ":next";
+    private static final int TOKEN_BYTES = 32;
+    private static final int GCM_IV_BYTES = 12;
+    private static final int GCM_TAG_BITS = 128;
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final RedisService redisService;
+    private final JWTUtil jwtUtil;
+
+    @Value("${jwt.refresh.ttl-days}")
+    private long ttlDays;
+
+    @Value("${jwt.refresh.grace-seconds}")
+    private long graceSeconds;
+
+    /**
+     * 로그인 성공 시 새 세션의 리프레시 토큰 발급
+     */
+    public String issue(Long memberId, String username) {
+        String refreshToken = generateToken();
+        redisService.setBytes(key(refreshToken), RefreshTokenSession.of(memberId, username).encode(), getTtl());
+        return refreshToken;
+    }
+
+    /**
+     * 리프레시 토큰을 새 토큰으로 교체하고 액세스 토큰 재발급
+     * @throws BaseException 유예 시간이 지난 사용한 토큰이거나 만료, 폐기된 토큰인 경우
+     */
+    public AuthTokenDto refresh(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            throw new BaseException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        String newRefreshToken = generateToken();
+        String oldKey = key(refreshToken);
+        RotatedBytesDto rotated = redisService.rotateBytes(oldKey, key(newRefreshToken), oldKey + SUCCESSOR_KEY_SUFFIX,
+                encryptSuccessor(refreshToken, newRefreshToken), getTtl(), Duration.ofSeconds(graceSeconds));
+        if (rotated == null) {
+            log.info("리프레시 토큰 재발급 실패: 존재하지 않는 토큰");
+            throw new BaseException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+        if (rotated.isReplayed()) {
+            newRefreshToken = decryptSuccessor(refreshToken, rotated.getSuccessor());
+        }
+
+        RefreshTokenSession session = RefreshTokenSession.decode(rotated.getValue());
+        String accessToken = jwtUtil.createToken(session.getMemberId(), session.getUsername());
+        return AuthTokenDto.of(accessToken, newRefreshToken);
+    }
+
+    /**
+     * 로그아웃 시 리프레시 토큰 폐기
+     */
+    public void revoke(String refreshToken) {
+        if (refreshToken == null || refreshToken.isBlank()) {
+            return;
+        }
+        redisService.deleteValue(key(refreshToken));
+    }
+
+    public Duration getTtl() {
+        return Duration.ofDays(ttlDays);
+    }
+
+    private static String generateToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        RANDOM.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    // 후속 토큰을 기존 토큰에서 유도한 키로 암호화 (AES-GCM, [iv][암호문+태그]를 Base64URL로 인코딩)
+    private static String encryptSuccessor(String refreshToken, String successor) {
+        try {
+            byte[] iv = new byte[GCM_IV_BYTES];
+            RANDOM.nextBytes(iv);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, successorCipherKey(refreshToken), new GCMParameterSpec(GCM_TAG_BITS, iv));
+            byte[] encrypted = cipher.doFinal(successor.getBytes(StandardCharsets.UTF_8));
+            byte[] payload = ByteBuffer.allocate(iv.length + encrypted.length).put(iv).put(encrypted).array();
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(payload);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String decryptSuccessor(String refreshToken, String encrypted) {
+        try {
+            byte[] payload = Base64.getUrlDecoder().decode(encrypted);
+            Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+            cipher.init(Cipher.DECRYPT_MODE, successorCipherKey(refreshToken),
+                    new GCMParameterSpec(GCM_TAG_BITS, payload, 0, GCM_IV_BYTES));
+            byte[] successor = cipher.doFinal(payload, GCM_IV_BYTES, payload.length - GCM_IV_BYTES);
+            return new String(successor, StandardCharsets.UTF_8);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            log.warn("리프레시 토큰 재발급 실패: 후속 토큰 복호화 실패");
+            throw new BaseException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+    }
+
+    // 조회 키(토큰 해시)와 다른 값이 되도록 용도 문자열을 붙여 유도
+    private static SecretKeySpec successorCipherKey(String refreshToken) {
+        return new SecretKeySpec(sha256("successor:" + refreshToken), "AES");
+    }
+
+    // 토큰 원문 대신 해시를 키로 사용 (Redis가 노출되어도 토큰으로 쓸 수 없음)
+    private static String key(String refreshToken) {
+        return KEY_PREFIX + Base64.getUrlEncoder().withoutPadding().encodeToString(sha256(refreshToken));
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.ssafy.keepick.auth.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 발급한 액세스 토큰과 리프레시 토큰
+ */
+@Getter
+@AllArgsConstructor
+public class AuthTokenDto {
+    private final String accessToken;
+    private final String refreshToken;
+
+    public static AuthTokenDto of(String accessToken, String refreshToken) {
+        return new AuthTokenDto(accessToken, refreshToken);
+    }
+}
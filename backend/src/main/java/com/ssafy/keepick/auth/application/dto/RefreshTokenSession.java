@@ -0,0 +1,51 @@
+package com.ssafy.keepick.auth.application.dto;
+
+import com.ssafy.keepick.global.exception.BaseException;
+import com.ssafy.keepick.global.exception.ErrorCode;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 리프레시 토큰으로 복원하는 로그인 세션
+ * 액세스 토큰 재발급에 필요한 값만 Redis에 바이너리로 보관한다.
+ * [version 1byte][memberId 8byte][username UTF-8]
+ */
+@Getter
+@AllArgsConstructor
+public class RefreshTokenSession {
+    private static final byte VERSION = 1;
+
+    private final Long memberId;
+    private final String username;
+
+    public static RefreshTokenSession of(Long memberId, String username) {
+        return new RefreshTokenSession(memberId, username);
+    }
+
+    public byte[] encode() {
+        byte[] usernameBytes = username.getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(1 + Long.BYTES + usernameBytes.length)
+                .put(VERSION)
+                .putLong(memberId)
+                .put(usernameBytes)
+                .array();
+    }
+
+    public static RefreshTokenSession decode(byte[] encoded) {
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(encoded);
+            if (buffer.get() != VERSION) {
+                throw new BaseException(ErrorCode.INVALID_REFRESH_TOKEN);
+            }
+            long memberId = buffer.getLong();
+            String username = StandardCharsets.UTF_8.decode(buffer).toString();
+            return new RefreshTokenSession(memberId, username);
+        } catch (BufferUnderflowException e) {
+            throw new BaseException(ErrorCode.INVALID_REFRESH_TOKEN);
+        }
+    }
+}
@@ -13,6 +13,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 모바일 인증 API 명세 인터페이스
  * Swagger 문서화를 위한 어노테이션들을 분리하여 컨트롤러를 깔끔하게 유지합니다.
@@ -41,6 +43,7 @@ public interface MobileAuthApiSpec {
             - provider는 소셜 로그인 제공자를 정확히 지정해야 합니다
             - accessToken은 유효한 토큰이어야 합니다
             - 발급된 JWT는 Authorization 헤더에 Bearer 토큰으로 포함해야 합니다
+            - JWT가 만료되면 다시 로그인하지 않고 refreshToken으로 /api/auth/refresh를 호출해 재발급합니다
             """
     )
     @ApiResponses(value = {
@@ -57,7 +60,8 @@ public interface MobileAuthApiSpec {
                         "status": 200,
                         "message": "요청이 성공적으로 처리되었습니다.",
                         "data": {
-                            "accessToken": "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9..."
+                            "accessToken": "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...",
+                            "refreshToken": "q2v8Xh0mR6o1mJ1bqf3o5bq0Xy3S0nE2l4d5pW9cKzA"
                         }
                     }
                     """
@@ -122,7 +126,7 @@ public interface MobileAuthApiSpec {
             )
         )
     })
-    ApiResponse<MobileLoginResponse> login(
+    CompletableFuture<ApiResponse<MobileLoginResponse>> login(
         @Parameter(
             description = "모바일 로그인 요청 정보",
             required = true,
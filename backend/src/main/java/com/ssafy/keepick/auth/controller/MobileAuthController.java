@@ -14,6 +14,8 @@ import com.ssafy.keepick.auth.controller.request.MobileLoginRequest;
 import com.ssafy.keepick.auth.controller.response.MobileLoginResponse;
 import com.ssafy.keepick.global.response.ApiResponse;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/auth")
@@ -24,13 +26,13 @@ public class MobileAuthController implements MobileAuthApiSpec {
     
     @PostMapping("/login")
     @Override
-    public ApiResponse<MobileLoginResponse> login(@Valid @RequestBody MobileLoginRequest request) {
+    public CompletableFuture<ApiResponse<MobileLoginResponse>> login(@Valid @RequestBody MobileLoginRequest request) {
         log.info("모바일 로그인 요청: provider = {}", request.getProvider());
         
-        MobileLoginResponse response = mobileLoginService.login(request);
-        
-        log.info("모바일 로그인 성공: accessToken 발급 완료");
-        
-        return ApiResponse.ok(response);
+        return mobileLoginService.login(request)
+                .thenApply(response -> {
+                    log.info("모바일 로그인 성공: accessToken 발급 완료");
+                    return ApiResponse.ok(response);
+                });
     }
 }
\ No newline at end of file
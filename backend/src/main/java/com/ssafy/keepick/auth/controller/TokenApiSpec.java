@@ -0,0 +1,42 @@
+package com.ssafy.keepick.auth.controller;
+
+import com.ssafy.keepick.auth.controller.request.TokenRefreshRequest;
+import com.ssafy.keepick.auth.controller.response.TokenRefreshResponse;
+import com.ssafy.keepick.global.response.ApiResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Tag(name = "토큰", description = "액세스 토큰 재발급, 로그아웃 API")
+public interface TokenApiSpec {
+
+    @Operation(
+        summary = "액세스 토큰 재발급",
+        description = """
+            리프레시 토큰으로 새 액세스 토큰과 새 리프레시 토큰을 발급합니다.
+            
+            - 모바일: 로그인 응답의 refreshToken을 요청 본문에 담아 전송
+            - 웹: 로그인 시 발급된 refresh_token 쿠키가 자동으로 전송되며 새 토큰도 쿠키로 전달
+              (허용된 프론트엔드 Origin에서 보낸 요청만 처리, 그 외 403)
+            
+            ⚠️ 주의사항:
+            - 사용한 리프레시 토큰은 폐기되므로 응답의 새 토큰으로 교체해야 합니다
+            - 만료되었거나 이미 사용한 토큰이면 401 (A004), 다시 로그인해야 합니다
+            - 동시에 보낸 재발급 요청을 위해 사용한 토큰도 약 10초 동안은 다시 받아줍니다
+            """
+    )
+    ApiResponse<TokenRefreshResponse> refresh(
+        @Parameter(description = "리프레시 토큰 (웹은 생략)") TokenRefreshRequest request,
+        @Parameter(hidden = true) String cookieRefreshToken,
+        @Parameter(hidden = true) String origin,
+        @Parameter(hidden = true) HttpServletResponse response);
+
+    @Operation(summary = "로그아웃", description = "리프레시 토큰을 폐기합니다. 발급된 액세스 토큰은 만료될 때까지 유효합니다.")
+    ApiResponse<Void> logout(
+        @Parameter(description = "리프레시 토큰 (웹은 생략)") TokenRefreshRequest request,
+        @Parameter(hidden = true) String cookieRefreshToken,
+        @Parameter(hidden = true) String origin,
+        @Parameter(hidden = true) HttpServletResponse response);
+}
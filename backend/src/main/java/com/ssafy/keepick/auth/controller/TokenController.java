@@ -0,0 +1,85 @@
+package com.ssafy.keepick.auth.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.bind.annotation.CookieValue;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.ssafy.keepick.auth.application.RefreshTokenService;
+import com.ssafy.keepick.auth.application.dto.AuthTokenDto;
+import com.ssafy.keepick.auth.controller.request.TokenRefreshRequest;
+import com.ssafy.keepick.auth.controller.response.TokenRefreshResponse;
+import com.ssafy.keepick.global.exception.BaseException;
+import com.ssafy.keepick.global.exception.ErrorCode;
+import com.ssafy.keepick.global.response.ApiResponse;
+import com.ssafy.keepick.global.security.util.RefreshTokenCookieUtil;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/auth")
+@RequiredArgsConstructor
+public class TokenController implements TokenApiSpec {
+
+    private final RefreshTokenService refreshTokenService;
+
+    @Value("#{'${app.redirect.allowed}'.split('\\s*,\\s*')}")
+    private List<String> allowedOrigins;
+
+    @PostMapping("/refresh")
+    @Override
+    public ApiResponse<TokenRefreshResponse> refresh(
+            @RequestBody(required = false) TokenRefreshRequest request,
+            @CookieValue(name = RefreshTokenCookieUtil.COOKIE_NAME, required = false) String cookieRefreshToken,
+            @RequestHeader(name = HttpHeaders.ORIGIN, required = false) String origin,
+            HttpServletResponse response) {
+        // 모바일은 본문, 웹은 쿠키로 리프레시 토큰 전달
+        if (request != null && request.getRefreshToken() != null) {
+            return ApiResponse.ok(TokenRefreshResponse.from(refreshTokenService.refresh(request.getRefreshToken())));
+        }
+
+        validateCookieOrigin(origin);
+        AuthTokenDto tokens = refreshTokenService.refresh(cookieRefreshToken);
+        response.addHeader(HttpHeaders.SET_COOKIE,
+                RefreshTokenCookieUtil.create(tokens.getRefreshToken(), refreshTokenService.getTtl()));
+        return ApiResponse.ok(TokenRefreshResponse.withoutRefreshToken(tokens));
+    }
+
+    @PostMapping("/logout")
+    @Override
+    public ApiResponse<Void> logout(
+            @RequestBody(required = false) TokenRefreshRequest request,
+            @CookieValue(name = RefreshTokenCookieUtil.COOKIE_NAME, required = false) String cookieRefreshToken,
+            @RequestHeader(name = HttpHeaders.ORIGIN, required = false) String origin,
+            HttpServletResponse response) {
+        if (cookieRefreshToken != null) {
+            validateCookieOrigin(origin);
+        }
+        refreshTokenService.revoke(request != null ? request.getRefreshToken() : null);
+        if (cookieRefreshToken != null) {
+            refreshTokenService.revoke(cookieRefreshToken);
+            response.addHeader(HttpHeaders.SET_COOKIE, RefreshTokenCookieUtil.expire());
+        }
+        return ApiResponse.ok(null);
+    }
+
+    /**
+     * SameSite=None 쿠키는 다른 사이트에서 보낸 요청에도 함께 전송되므로,
+     * 쿠키로 인증하는 요청은 허용된 프론트엔드 Origin에서 온 경우만 처리 (CSRF 방지)
+     */
+    private void validateCookieOrigin(String origin) {
+        if (origin == null || !allowedOrigins.contains(origin)) {
+            log.warn("리프레시 토큰 쿠키 요청 거부: 허용되지 않은 Origin - {}", origin);
+            throw new BaseException(ErrorCode.FORBIDDEN);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.ssafy.keepick.auth.controller.request;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Getter
+@NoArgsConstructor
+@Schema(description = "토큰 재발급/로그아웃 요청")
+public class TokenRefreshRequest {
+
+    @Schema(
+        description = "리프레시 토큰 (모바일 앱), 웹은 쿠키로 전송되므로 생략",
+        example = "q2v8Xh0mR6o1mJ1bqf3o5bq0Xy3S0nE2l4d5pW9cKzA"
+    )
+    private String refreshToken;
+
+    public TokenRefreshRequest(String refreshToken) {
+        this.refreshToken = refreshToken;
+    }
+}
@@ -16,9 +16,16 @@ public class MobileLoginResponse {
     )
     private String accessToken;
 
-    public static MobileLoginResponse of(String accessToken) {
+    @Schema(
+        description = "액세스 토큰 재발급용 리프레시 토큰 (재발급할 때마다 새 토큰으로 교체)",
+        example = "q2v8Xh0mR6o1mJ1bqf3o5bq0Xy3S0nE2l4d5pW9cKzA"
+    )
+    private String refreshToken;
+
+    public static MobileLoginResponse of(String accessToken, String refreshToken) {
         return MobileLoginResponse.builder()
                 .accessToken(accessToken)
+                .refreshToken(refreshToken)
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,32 @@
+package com.ssafy.keepick.auth.controller.response;
+
+import com.ssafy.keepick.auth.application.dto.AuthTokenDto;
+import lombok.Builder;
+import lombok.Getter;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Getter
+@Builder
+@Schema(description = "토큰 재발급 응답")
+public class TokenRefreshResponse {
+
+    @Schema(description = "새 JWT 액세스 토큰")
+    private String accessToken;
+
+    @Schema(description = "새 리프레시 토큰 (기존 토큰은 폐기됨), 쿠키로 요청한 경우 쿠키로만 전달")
+    private String refreshToken;
+
+    public static TokenRefreshResponse from(AuthTokenDto dto) {
+        return TokenRefreshResponse.builder()
+                .accessToken(dto.getAccessToken())
+                .refreshToken(dto.getRefreshToken())
+                .build();
+    }
+
+    public static TokenRefreshResponse withoutRefreshToken(AuthTokenDto dto) {
+        return TokenRefreshResponse.builder()
+                .accessToken(dto.getAccessToken())
+                .build();
+    }
+}
@@ -0,0 +1,88 @@
+package com.ssafy.keepick.external.oauth2;
+
+import com.ssafy.keepick.global.exception.BaseException;
+import com.ssafy.keepick.global.exception.ErrorCode;
+import io.netty.channel.ChannelOption;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * 소셜 로그인 제공자의 사용자 정보 API 클라이언트
+ * 로그인이 몰려도 요청 쓰레드를 붙잡지 않도록 논블로킹으로 호출하고,
+ * 제공자 장애 시 커넥션 풀 대기와 응답 대기 모두 제한 시간 안에 실패한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class OAuth2UserInfoClient {
+    private static final ParameterizedTypeReference<Map<String, Object>> USER_INFO_TYPE = new ParameterizedTypeReference<>() {};
+
+    private final WebClient.Builder webClientBuilder;
+
+    @Value("${app.auth.mobile-login.max-connections}")
+    private int maxConnections;
+
+    @Value("${app.auth.mobile-login.pending-acquire-timeout-ms}")
+    private long pendingAcquireTimeoutMs;
+
+    @Value("${app.auth.mobile-login.connect-timeout-ms}")
+    private int connectTimeoutMs;
+
+    @Value("${app.auth.mobile-login.response-timeout-ms}")
+    private long responseTimeoutMs;
+
+    private WebClient webClient;
+
+    @PostConstruct
+    void init() {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("oauth2-userinfo")
+                .maxConnections(maxConnections)
+                .pendingAcquireTimeout(Duration.ofMillis(pendingAcquireTimeoutMs))
+                .maxIdleTime(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, connectTimeoutMs)
+                .responseTimeout(Duration.ofMillis(responseTimeoutMs));
+        this.webClient = webClientBuilder
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+
+    /**
+     * provider의 사용자 정보 API를 accessToken으로 호출
+     * @param provider 소셜 로그인 제공자 (google, kakao, naver)
+     * @param accessToken 모바일 SDK에서 발급받은 액세스 토큰
+     * @return provider API에서 반환한 사용자 정보 Map
+     */
+    public Mono<Map<String, Object>> fetchUserInfo(String provider, String accessToken) {
+        return webClient.get()
+                .uri(getUserInfoUri(provider))
+                .headers(headers -> headers.setBearerAuth(accessToken))
+                .retrieve()
+                .bodyToMono(USER_INFO_TYPE);
+    }
+
+    /**
+     * provider별 사용자 정보 조회 API URL 반환
+     */
+    public static String getUserInfoUri(String provider) {
+        return switch (provider) {
+            case "google" -> "https://www.googleapis.com/oauth2/v2/userinfo";  // Google 사용자 정보 API
+            case "kakao" -> "https://kapi.kakao.com/v2/user/me";              // Kakao 사용자 정보 API
+            case "naver" -> "https://openapi.naver.com/v1/nid/me";            // Naver 사용자 정보 API
+            default -> throw new BaseException(ErrorCode.UNSUPPORTED_OAUTH2_PROVIDER,
+                    "지원하지 않는 OAuth2 제공자: " + provider);
+        };
+    }
+}
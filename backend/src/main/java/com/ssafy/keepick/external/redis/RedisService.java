@@ -1,22 +1,141 @@
 package com.ssafy.keepick.external.redis;
 
+import com.ssafy.keepick.external.redis.dto.RotatedBytesDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.TimeUnit;
 
 @Service
 @RequiredArgsConstructor
 public class RedisService {
 
+    // 이미 존재하는 sorted set에만 값을 추가하고 최대 크기를 넘는 낮은 점수의 값을 제거
+    private static final RedisScript<Long> ZADD_TO_EXISTING_SCRIPT = new DefaultRedisScript<>("""
+            for _, key in ipairs(KEYS) do
+                if redis.call('EXISTS', key) == 1 then
+                    redis.call('ZADD', key, ARGV[2], ARGV[1])
+                    redis.call('ZREMRANGEBYRANK', key, 0, -(tonumber(ARGV[3]) + 1))
+                end
+            end
+            return 0
+            """, Long.class);
+
+    // 리스트 전체를 읽고 삭제하는 작업을 원자적으로 수행
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> DRAIN_LIST_SCRIPT = new DefaultRedisScript<>("""
+            local values = redis.call('LRANGE', KEYS[1], 0, -1)
+            redis.call('DEL', KEYS[1])
+            return values
+            """, List.class);
+
+    // 기존 키의 값을 새 키로 옮기고 기존 키는 유예 시간 뒤 만료, 기존 키가 없으면 nil
+    // 유예 시간 동안 KEYS[3]에 새 키와 ARGV[3](후속 값)을 남겨, 그 사이 다시 교체하면 새로 옮기지 않고 같은 후속 값을 돌려준다.
+    // 새 키가 이미 삭제되었으면 다시 교체할 수 없다. 유예 시간이 0이면 기존 키를 바로 삭제
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local value = redis.call('GET', KEYS[1])
+            if not value then
+                return false
+            end
+            local issued = redis.call('HMGET', KEYS[3], 'key', 'successor')
+            if issued[1] then
+                if redis.call('EXISTS', issued[1]) == 0 then
+                    return false
+                end
+                return {value, issued[2]}
+            end
+            local grace = tonumber(ARGV[2])
+            if grace <= 0 then
+                redis.call('DEL', KEYS[1])
+            else
+                local ttl = redis.call('TTL', KEYS[1])
+                if ttl < 0 or ttl > grace then
+                    ttl = grace
+                    redis.call('EXPIRE', KEYS[1], grace)
+                end
+                redis.call('HSET', KEYS[3], 'key', KEYS[2], 'successor', ARGV[3])
+                redis.call('EXPIRE', KEYS[3], ttl)
+            end
+            redis.call('SET', KEYS[2], value, 'EX', ARGV[1])
+            return {value}
+            """, List.class);
+
+    // 버전 조회, 없으면 seed 값으로 시작하고 TTL 설정
+    private static final RedisScript<String> GET_OR_INIT_VERSION_SCRIPT = new DefaultRedisScript<>("""
+            local version = redis.call('GET', KEYS[1])
+            if not version then
+                version = ARGV[1]
+                redis.call('SET', KEYS[1], version, 'EX', ARGV[2])
+            end
+            return version
+            """, String.class);
+
+    // 버전 증가, 없으면 seed 값에서 시작하고 TTL 갱신
+    private static final RedisScript<Long> INCREMENT_VERSION_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                redis.call('SET', KEYS[1], ARGV[1])
+            end
+            local version = redis.call('INCR', KEYS[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return version
+            """, Long.class);
+
     private final StringRedisTemplate stringRedisTemplate;
 
     public void setValue(String key, String value, Duration duration) {
         stringRedisTemplate.opsForValue().set(key, value, duration);
     }
 
+    // SET key value EX ttl 을 pipeline으로 한 번에 전송
+    public void setValues(Map<String, String> values, Duration duration) {
+        if (values.isEmpty()) return;
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            values.forEach((key, value) -> stringConnection.setEx(key, duration.getSeconds(), value));
+            return null;
+        });
+    }
+
+    // 바이너리 값을 그대로 저장 (문자열 직렬화 없이)
+    public void setBytes(String key, byte[] value, Duration duration) {
+        byte[] rawKey = key.getBytes(StandardCharsets.UTF_8);
+        stringRedisTemplate.execute((RedisCallback<Boolean>) connection ->
+                connection.stringCommands().set(rawKey, value, Expiration.from(duration), SetOption.upsert()));
+    }
+
+    /**
+     * oldKey의 바이너리 값을 newKey로 옮기고 만료 시간을 duration으로 다시 설정 (한 번의 왕복, 원자적)
+     * oldKey는 grace 동안 남겨 두고, 그 사이 같은 oldKey로 들어온 요청에는 새로 옮기지 않고 처음 저장한 successor를 돌려준다.
+     * @return 옮긴 값, oldKey가 없거나 유예 시간 안에 교체된 newKey가 이미 삭제되었으면 null
+     */
+    // 스크립트가 돌려주는 리스트의 각 원소를 바이트 배열로 역직렬화
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public RotatedBytesDto rotateBytes(String oldKey, String newKey, String successorKey, String successor,
+                                       Duration duration, Duration grace) {
+        List<byte[]> result = stringRedisTemplate.execute(ROTATE_SCRIPT, RedisSerializer.string(), (RedisSerializer) RedisSerializer.byteArray(),
+                List.of(oldKey, newKey, successorKey), String.valueOf(duration.getSeconds()),
+                String.valueOf(grace.getSeconds()), successor);
+        if (result == null || result.isEmpty()) return null;
+        String issued = result.size() > 1 ? new String(result.get(1), StandardCharsets.UTF_8) : null;
+        return RotatedBytesDto.of(result.get(0), issued);
+    }
+
     public String getValue(String key) {
         return stringRedisTemplate.opsForValue().get(key);
     }
@@ -24,4 +143,89 @@ public class RedisService {
     public void expire(String key, Duration duration) {
         stringRedisTemplate.expire(key, duration.getSeconds(), TimeUnit.SECONDS);
     }
+
+    public Long increment(String key) {
+        return stringRedisTemplate.opsForValue().increment(key);
+    }
+
+    /**
+     * 캐시 버전 조회 (한 번의 왕복), 키가 없으면 seed로 시작해 TTL 동안 유지
+     * seed를 현재 시각처럼 계속 커지는 값으로 주면 키가 사라진 뒤에도 이전 버전이 다시 나오지 않는다.
+     */
+    public String getOrInitVersion(String key, long seed, Duration duration) {
+        return stringRedisTemplate.execute(GET_OR_INIT_VERSION_SCRIPT, List.of(key),
+                String.valueOf(seed), String.valueOf(duration.getSeconds()));
+    }
+
+    /**
+     * 캐시 버전 증가 (한 번의 왕복), 키가 없으면 seed에서 시작하고 TTL을 다시 설정
+     */
+    public Long incrementVersion(String key, long seed, Duration duration) {
+        return stringRedisTemplate.execute(INCREMENT_VERSION_SCRIPT, List.of(key),
+                String.valueOf(seed), String.valueOf(duration.getSeconds()));
+    }
+
+    public void deleteValue(String key) {
+        stringRedisTemplate.delete(key);
+    }
+
+    public void deleteValues(Collection<String> keys) {
+        if (keys.isEmpty()) return;
+        stringRedisTemplate.delete(keys);
+    }
+
+    public void addAllToSortedSet(String key, Collection<ZSetOperations.TypedTuple<String>> tuples, Duration duration) {
+        if (tuples.isEmpty()) return;
+        stringRedisTemplate.opsForZSet().add(key, Set.copyOf(tuples));
+        expire(key, duration);
+    }
+
+    public void addToExistingSortedSets(List<String> keys, String value, double score, long maxSize) {
+        if (keys.isEmpty()) return;
+        stringRedisTemplate.execute(ZADD_TO_EXISTING_SCRIPT, keys, value, String.valueOf(score), String.valueOf(maxSize));
+    }
+
+    public void removeFromSortedSets(List<String> keys, Collection<String> values) {
+        if (keys.isEmpty() || values.isEmpty()) return;
+        String[] members = values.toArray(new String[0]);
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            keys.forEach(key -> stringConnection.zRem(key, members));
+            return null;
+        });
+    }
+
+    // ZREVRANGE key start end: 점수 내림차순 조회
+    public List<String> getReverseRange(String key, long start, long end) {
+        Set<String> values = stringRedisTemplate.opsForZSet().reverseRange(key, start, end);
+        return values == null ? List.of() : List.copyOf(values);
+    }
+
+    // ZRANDMEMBER key count: 중복 없이 최대 count개 무작위 조회
+    public Set<String> getRandomSortedSetMembers(String key, long count) {
+        return stringRedisTemplate.opsForZSet().distinctRandomMembers(key, count);
+    }
+
+    // RPUSH key values...: 리스트 끝에 추가하고 추가 후 길이를 반환
+    public long pushAllToList(String key, Collection<String> values, Duration duration) {
+        if (values.isEmpty()) return 0;
+        Long size = stringRedisTemplate.opsForList().rightPushAll(key, values);
+        expire(key, duration);
+        return size == null ? 0 : size;
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<String> drainList(String key) {
+        List<String> values = stringRedisTemplate.execute(DRAIN_LIST_SCRIPT, List.of(key));
+        return values == null ? List.of() : values;
+    }
+
+    // PUBLISH channel message
+    public void publish(String channel, String message) {
+        stringRedisTemplate.convertAndSend(channel, message);
+    }
+
+    public boolean hasKey(String key) {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(key));
+    }
 }
@@ -0,0 +1,23 @@
+package com.ssafy.keepick.external.redis.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 키 교체 결과
+ * successor는 유예 시간 안에 이미 교체된 키를 다시 교체한 경우 처음 교체할 때 저장한 값이고, 이번에 교체했다면 null
+ */
+@Getter
+@AllArgsConstructor
+public class RotatedBytesDto {
+    private final byte[] value;
+    private final String successor;
+
+    public static RotatedBytesDto of(byte[] value, String successor) {
+        return new RotatedBytesDto(value, successor);
+    }
+
+    public boolean isReplayed() {
+        return successor != null;
+    }
+}
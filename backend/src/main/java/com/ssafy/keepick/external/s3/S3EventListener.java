@@ -4,10 +4,15 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.ssafy.keepick.global.exception.BaseException;
 import com.ssafy.keepick.global.exception.ErrorCode;
 import io.awspring.cloud.sqs.annotation.SqsListener;
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
 import java.util.List;
 
 
@@ -19,9 +24,12 @@ public class S3EventListener {
 
     private final S3EventParser s3EventParser;
     private final S3EventProcessor s3EventProcessor;
+    private final MeterRegistry meterRegistry;
 
     @SqsListener("${app.aws.sqs.queue-name}")
-    public void receiveS3Event(String message) {
+    public void receiveS3Event(String message,
+                               @Header(name = SqsHeaders.MessageSystemAttributes.SQS_SENT_TIMESTAMP, required = false) String sentTimestamp) {
+        recordLag(sentTimestamp);
         try {
             log.info("SQS 메세지 수신: {}", message);
 
@@ -37,4 +45,22 @@ public class S3EventListener {
             throw new BaseException(ErrorCode.INTERNAL_S3_ERROR);
         }
     }
+
+    /**
+     * SQS 전송 시각부터 수신까지의 지연 시간 기록
+     */
+    private void recordLag(String sentTimestamp) {
+        if (sentTimestamp == null) {
+            return;
+        }
+        try {
+            long lagMillis = System.currentTimeMillis() - Long.parseLong(sentTimestamp);
+            Timer.builder("sqs.message.lag")
+                    .description("SQS 메시지 전송부터 수신까지의 지연 시간")
+                    .register(meterRegistry)
+                    .record(Duration.ofMillis(Math.max(lagMillis, 0)));
+        } catch (NumberFormatException e) {
+            log.debug("SQS SentTimestamp 파싱 실패: {}", sentTimestamp);
+        }
+    }
 }
\ No newline at end of file
@@ -3,7 +3,11 @@ package com.ssafy.keepick.external.s3;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.ssafy.keepick.external.redis.RedisService;
 import com.ssafy.keepick.global.utils.FileUtils;
+import com.ssafy.keepick.global.tracing.TraceContextSupport;
+import com.ssafy.keepick.photo.application.PhotoTraceContextStore;
 import com.ssafy.keepick.photo.application.ThumbnailService;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -21,6 +25,8 @@ import java.util.concurrent.CompletableFuture;
 class S3EventProcessor {
     private final RedisService  redisService;
     private final ThumbnailService thumbnailService;
+    private final PhotoTraceContextStore photoTraceContextStore;
+    private final TraceContextSupport traceContextSupport;
 
     @Value("${app.aws.s3.bucket-name}")
     private String bucketName;
@@ -46,17 +52,29 @@ class S3EventProcessor {
         String messageId = String.format("%s:%s:%s", eventName, eventBucket, objectKey);
         if (isDuplicate(messageId)) return;
 
-        CompletableFuture<Void> future = thumbnailService.processImageIfSupported(
-                objectKey,
-                FileUtils.guessContentType(objectKey)
-        );
+        // 업로드 요청 trace에 이어서 썸네일 처리 span 시작 (비동기 쓰레드로 전파됨)
+        Span span = photoTraceContextStore.startSpan("photo.thumbnail", FileUtils.extractImageNumber(objectKey));
+        CompletableFuture<Void> future;
+        try (Tracer.SpanInScope ignored = traceContextSupport.withSpan(span)) {
+            future = thumbnailService.processImageIfSupported(
+                    objectKey,
+                    FileUtils.guessContentType(objectKey)
+            );
+        } catch (RuntimeException e) {
+            // 비동기 작업이 시작되기 전에 실패하면 whenComplete가 호출되지 않으므로 여기서 span 종료
+            span.error(e);
+            span.end();
+            throw e;
+        }
 
         future.whenComplete((res, ex) -> {
             if (ex != null) {
+                span.error(ex);
                 log.error("썸네일 생성 실패: {}", ex.getMessage());
             } else {
                 log.info("썸네일 생성 성공: {}", objectKey);
             }
+            span.end();
         });
     }
 
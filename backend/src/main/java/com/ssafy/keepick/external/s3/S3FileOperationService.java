@@ -1,5 +1,6 @@
 package com.ssafy.keepick.external.s3;
 
+import com.ssafy.keepick.external.s3.dto.S3ObjectStreamDto;
 import com.ssafy.keepick.global.exception.BaseException;
 import com.ssafy.keepick.global.exception.ErrorCode;
 import com.ssafy.keepick.global.utils.FileUtils;
@@ -53,6 +54,38 @@ public class S3FileOperationService {
         }
     }
 
+    /**
+     * S3 파일을 메모리에 적재하지 않고 스트림으로 조회
+     * range, ifNoneMatch는 S3에 그대로 전달하여 한 번의 요청으로 부분 조회와 조건부 조회를 처리한다.
+     */
+    public S3ObjectStreamDto openFileStream(String objectKey, String range, String ifNoneMatch) {
+        try {
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .range(range)
+                    .ifNoneMatch(ifNoneMatch)
+                    .build();
+
+            return S3ObjectStreamDto.from(s3Client.getObject(getObjectRequest));
+
+        } catch (NoSuchKeyException e) {
+            throw new BaseException(ErrorCode.PHOTO_NOT_FOUND);
+        } catch (S3Exception e) {
+            if (e.statusCode() == 304) {
+                return S3ObjectStreamDto.notModified(ifNoneMatch);
+            }
+            if (e.statusCode() == 416) {
+                throw new BaseException(ErrorCode.INVALID_RANGE);
+            }
+            log.error("S3 파일 스트림 조회 실패: {}", objectKey, e);
+            throw new BaseException(ErrorCode.INTERNAL_S3_ERROR);
+        } catch (Exception e) {
+            log.error("S3 파일 스트림 조회 실패: {}", objectKey, e);
+            throw new BaseException(ErrorCode.INTERNAL_S3_ERROR);
+        }
+    }
+
     /**
      * S3에 파일 업로드
      */
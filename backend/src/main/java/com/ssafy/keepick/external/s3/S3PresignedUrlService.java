@@ -1,16 +1,21 @@
 package com.ssafy.keepick.external.s3;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.ssafy.keepick.external.s3.dto.S3ImagePathDto;
 import com.ssafy.keepick.global.exception.BaseException;
 import com.ssafy.keepick.global.exception.ErrorCode;
 import com.ssafy.keepick.global.utils.FileUtils;
 import com.ssafy.keepick.photo.application.dto.GroupPhotoCommandDto;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
@@ -36,6 +41,26 @@ public class S3PresignedUrlService {
     @Value("${app.aws.s3.presigned-url-expiration}")
     private long presignedUrlExpiration;
 
+    @Value("${app.aws.s3.read-url.private-bucket}")
+    private boolean privateBucket;
+
+    @Value("${app.aws.s3.read-url.signature-window}")
+    private long signatureWindow;
+
+    @Value("${app.aws.s3.read-url.cache-size}")
+    private long readUrlCacheSize;
+
+    // key: objectKey@구간번호, value: presigned GET url
+    private Cache<String, String> readUrlCache;
+
+    @PostConstruct
+    void init() {
+        this.readUrlCache = Caffeine.newBuilder()
+                .maximumSize(readUrlCacheSize)
+                .expireAfterWrite(Duration.ofSeconds(signatureWindow))
+                .build();
+    }
+
     /**
      * Presigned URL 생성 (PUT 방식)
      */
@@ -76,4 +101,42 @@ public class S3PresignedUrlService {
                 .map(info -> generatePresignedUrl(info.getFileName(), info.getContentType()))
                 .toList();
     }
-}
\ No newline at end of file
+
+    /**
+     * 조회용 URL 반환
+     * public 버킷이면 저장된 public url을 그대로 사용하고, private 버킷이면 presigned GET url을 발급한다.
+     * 같은 서명 구간 안에서는 같은 객체에 같은 URL을 재사용하여 서명 비용을 줄이고 클라이언트/CDN 캐시가 유지되도록 한다.
+     */
+    public String toReadUrl(String publicUrl) {
+        if (!privateBucket || publicUrl == null) {
+            return publicUrl;
+        }
+        String objectKey = FileUtils.extractObjectKey(publicUrl);
+        long window = System.currentTimeMillis() / 1000 / signatureWindow;
+        return readUrlCache.get(objectKey + "@" + window, key -> generatePresignedGetUrl(objectKey));
+    }
+
+    /**
+     * Presigned URL 생성 (GET 방식)
+     * 구간 끝에 발급된 URL도 최소 한 구간 이상 유효하도록 만료 시간을 구간의 2배로 설정한다.
+     */
+    private String generatePresignedGetUrl(String objectKey) {
+        try {
+            GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(objectKey)
+                    .build();
+
+            GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                    .signatureDuration(Duration.ofSeconds(signatureWindow * 2))
+                    .getObjectRequest(getObjectRequest)
+                    .build();
+
+            return s3Presigner.presignGetObject(presignRequest).url().toString();
+
+        } catch (Exception e) {
+            log.error("Presigned GET URL 생성 실패: {}", objectKey, e);
+            throw new BaseException(ErrorCode.PRESIGNED_URL_GENERATION_FAILED);
+        }
+    }
+}
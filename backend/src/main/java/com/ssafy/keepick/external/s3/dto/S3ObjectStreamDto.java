@@ -0,0 +1,47 @@
+package com.ssafy.keepick.external.s3.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.InputStream;
+import java.time.Instant;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class S3ObjectStreamDto {
+    private final boolean notModified;
+    private final InputStream inputStream;
+    private final String eTag;
+    private final String contentType;
+    private final Long contentLength;
+    private final String contentRange;
+    private final Instant lastModified;
+
+    public static S3ObjectStreamDto from(ResponseInputStream<GetObjectResponse> response) {
+        GetObjectResponse metadata = response.response();
+        return S3ObjectStreamDto.builder()
+                .notModified(false)
+                .inputStream(response)
+                .eTag(metadata.eTag())
+                .contentType(metadata.contentType())
+                .contentLength(metadata.contentLength())
+                .contentRange(metadata.contentRange())
+                .lastModified(metadata.lastModified())
+                .build();
+    }
+
+    public static S3ObjectStreamDto notModified(String eTag) {
+        return S3ObjectStreamDto.builder()
+                .notModified(true)
+                .eTag(eTag)
+                .build();
+    }
+
+    public boolean isPartial() {
+        return contentRange != null;
+    }
+}
@@ -1,11 +1,17 @@
 package com.ssafy.keepick.external.visionai;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.ssafy.keepick.external.visionai.request.CompositeAnalysisRequest;
 import com.ssafy.keepick.external.visionai.request.ProfileValidateRequest;
 import com.ssafy.keepick.external.visionai.request.SimilarGroupingRequest;
 import com.ssafy.keepick.external.visionai.response.CompositeAnalysisResponse;
 import com.ssafy.keepick.external.visionai.response.ProfileValidateResponse;
 import com.ssafy.keepick.external.visionai.response.SimilarGroupingResponse;
+import com.ssafy.keepick.global.exception.BaseException;
+import com.ssafy.keepick.global.exception.ErrorCode;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -18,6 +24,8 @@ import reactor.core.publisher.Mono;
 @RequiredArgsConstructor
 public class VisionAIService {
     private final WebClient webClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     @Value("${app.vision-ai.url}")
     private String url;
@@ -25,7 +33,7 @@ public class VisionAIService {
     public Mono<SimilarGroupingResponse> postSimilarityRequest(SimilarGroupingRequest request) {
         return webClient.post()
                 .uri(url + "/api/similar_grouping")
-                .bodyValue(request)
+                .bodyValue(serialize("/api/similar_grouping", request))
                 .retrieve()
                 .bodyToMono(SimilarGroupingResponse.class);
     }
@@ -33,7 +41,7 @@ public class VisionAIService {
     public Mono<CompositeAnalysisResponse> postFaceTaggingRequest(CompositeAnalysisRequest request) {
         return webClient.post()
                 .uri(url + "/api/tag_and_detect")
-                .bodyValue(request)
+                .bodyValue(serialize("/api/tag_and_detect", request))
                 .retrieve()
                 .bodyToMono(CompositeAnalysisResponse.class);
     }
@@ -41,9 +49,28 @@ public class VisionAIService {
     public ProfileValidateResponse  postProfileValidateRequest(ProfileValidateRequest request) {
         return webClient.post()
                 .uri(url + "/api/face/validate")
-                .bodyValue(request)
+                .bodyValue(serialize("/api/face/validate", request))
                 .retrieve()
                 .bodyToMono(ProfileValidateResponse.class)
                 .block();
     }
+
+    /**
+     * 요청 본문을 한 번만 직렬화하고 엔드포인트별 payload 크기 기록
+     * (요청 지연 시간은 WebClient의 http.client.requests 메트릭으로 수집)
+     */
+    private byte[] serialize(String endpoint, Object request) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(request);
+            DistributionSummary.builder("vision.ai.request.payload")
+                    .description("Vision AI 요청 본문 크기")
+                    .baseUnit("bytes")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry)
+                    .record(body.length);
+            return body;
+        } catch (JsonProcessingException e) {
+            throw new BaseException(ErrorCode.INTERNAL_VISION_PARSE_ERROR);
+        }
+    }
 }
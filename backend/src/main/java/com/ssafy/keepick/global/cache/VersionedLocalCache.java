@@ -0,0 +1,58 @@
+package com.ssafy.keepick.global.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.keepick.external.redis.RedisService;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * Redis의 버전 키로 모든 서버의 로컬 캐시를 함께 무효화하는 캐시
+ * 캐시 키에 버전을 포함하므로, 데이터를 수정한 서버가 버전만 올리면 다른 서버에 남은 이전 값은 더 이상 조회되지 않는다.
+ * 버전 키가 없으면(첫 조회, TTL 만료, Redis 초기화) 현재 시각(ms)에서 시작하므로 이전에 캐시된 버전과 겹치지 않는다.
+ *
+ * @param <K> 버전 단위가 되는 식별자 (예: 그룹 ID, 앨범 ID)
+ * @param <V> 캐시할 값, 여러 요청이 같은 인스턴스를 공유하므로 불변이어야 한다
+ */
+public class VersionedLocalCache<K, V> {
+    private final RedisService redisService;
+    private final String versionKeyPrefix;
+    private final Duration versionTtl;
+
+    // key: 식별자[:구분값]@버전, cacheSize가 0 이하면 캐시하지 않음 (null)
+    private final Cache<String, V> cache;
+
+    VersionedLocalCache(RedisService redisService, String versionKeyPrefix, Duration versionTtl, long cacheSize) {
+        this.redisService = redisService;
+        this.versionKeyPrefix = versionKeyPrefix;
+        this.versionTtl = versionTtl;
+        this.cache = cacheSize > 0 ? Caffeine.newBuilder().maximumSize(cacheSize).build() : null;
+    }
+
+    public V get(K key, Supplier<V> loader) {
+        return get(key, null, loader);
+    }
+
+    /**
+     * 같은 버전을 공유하는 여러 값(예: 페이지별 목록)을 variant로 구분해 조회
+     */
+    public V get(K key, String variant, Supplier<V> loader) {
+        if (cache == null) {
+            return loader.get();
+        }
+        String version = redisService.getOrInitVersion(versionKeyPrefix + key, System.currentTimeMillis(), versionTtl);
+        String cacheKey = (variant != null ? key + ":" + variant : String.valueOf(key)) + "@" + version;
+        return cache.get(cacheKey, k -> loader.get());
+    }
+
+    /**
+     * 버전을 올려 모든 서버의 캐시된 값을 무효화
+     */
+    public void invalidate(K key) {
+        if (cache == null || key == null) {
+            return;
+        }
+        redisService.incrementVersion(versionKeyPrefix + key, System.currentTimeMillis(), versionTtl);
+    }
+}
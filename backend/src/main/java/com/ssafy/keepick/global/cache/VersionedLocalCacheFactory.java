@@ -0,0 +1,24 @@
+package com.ssafy.keepick.global.cache;
+
+import com.ssafy.keepick.external.redis.RedisService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 버전 키 TTL을 공통으로 적용해 {@link VersionedLocalCache}를 생성
+ */
+@Component
+@RequiredArgsConstructor
+public class VersionedLocalCacheFactory {
+    private final RedisService redisService;
+
+    @Value("${app.cache.version-ttl-days}")
+    private long versionTtlDays;
+
+    public <K, V> VersionedLocalCache<K, V> create(String versionKeyPrefix, long cacheSize) {
+        return new VersionedLocalCache<>(redisService, versionKeyPrefix, Duration.ofDays(versionTtlDays), cacheSize);
+    }
+}
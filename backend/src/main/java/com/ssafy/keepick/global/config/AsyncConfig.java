@@ -1,9 +1,13 @@
 package com.ssafy.keepick.global.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.security.task.DelegatingSecurityContextAsyncTaskExecutor;
@@ -35,19 +39,50 @@ public class AsyncConfig {
         executor.setQueueCapacity(queueCapacity);
         executor.setThreadNamePrefix(threadNamePrefix);
         executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        // 호출한 쓰레드의 trace(observation)를 비동기 쓰레드로 전파
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
         executor.initialize();
         return executor;
     }
 
+    /**
+     * 모바일 로그인의 회원 조회/생성, 토큰 발급 처리
+     * 제공자 API 응답을 받은 뒤의 DB 작업만 맡으므로 요청 쓰레드 대신 이 풀의 크기로 DB 부하를 제한
+     */
+    @Bean("loginExecutor")
+    public Executor loginExecutor(MeterRegistry meterRegistry,
+                                  @Value("${app.auth.mobile-login.executor.core-pool-size}") int loginCorePoolSize,
+                                  @Value("${app.auth.mobile-login.executor.max-pool-size}") int loginMaxPoolSize,
+                                  @Value("${app.auth.mobile-login.executor.queue-capacity}") int loginQueueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(loginCorePoolSize);
+        executor.setMaxPoolSize(loginMaxPoolSize);
+        executor.setQueueCapacity(loginQueueCapacity);
+        executor.setThreadNamePrefix("login-");
+        // 풀과 큐가 가득 차면 제공자 응답을 받은 쓰레드에서 실행하지 않고 바로 거절 (503 응답)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
+        executor.initialize();
+
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "loginExecutor", Tags.empty())
+                .bindTo(meterRegistry);
+        return executor;
+    }
+
     @Bean("asyncExecutor")
-    public TaskExecutor taskExecutor() {
+    public TaskExecutor taskExecutor(MeterRegistry meterRegistry) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(5);
         executor.setMaxPoolSize(10);
         executor.setQueueCapacity(25);
         executor.setThreadNamePrefix("async-task-");
+        executor.setTaskDecorator(new ContextPropagatingTaskDecorator());
         executor.initialize();
 
+        // 래핑된 Executor는 자동 수집 대상이 아니므로 큐 깊이, 활성 쓰레드 메트릭을 직접 등록
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "asyncExecutor", Tags.empty())
+                .bindTo(meterRegistry);
+
         // SecurityContext를 비동기 쓰레드로 전파하는 Executor로 래핑
         return new DelegatingSecurityContextAsyncTaskExecutor(executor);
     }
@@ -1,5 +1,6 @@
 package com.ssafy.keepick.global.config;
 
+import com.ssafy.keepick.global.metrics.AwsSdkMetricsInterceptor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,11 +8,15 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.awscore.client.builder.AwsClientBuilder;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.sqs.SqsClient;
 
+import java.net.URI;
+
 @Configuration
 public class AwsConfig {
 
@@ -24,6 +29,10 @@ public class AwsConfig {
     @Value("${spring.cloud.aws.credentials.secret-key:}")
     private String secretKey;
 
+    // 로컬 대역(LocalStack 등) 주소, 비어 있으면 실제 AWS 사용
+    @Value("${spring.cloud.aws.endpoint:}")
+    private String endpoint;
+
     @Bean
     public AwsCredentialsProvider awsCredentialsProvider() {
         // AWS 자격 증명이 설정되어 있으면 사용, 없으면 기본 프로바이더 사용
@@ -37,26 +46,41 @@ public class AwsConfig {
     }
 
     @Bean
-    public S3Client s3Client(AwsCredentialsProvider credentialsProvider) {
-        return S3Client.builder()
+    public S3Client s3Client(AwsCredentialsProvider credentialsProvider, AwsSdkMetricsInterceptor metricsInterceptor) {
+        return withEndpoint(S3Client.builder())
                 .region(Region.of(region))
                 .credentialsProvider(credentialsProvider)
+                .overrideConfiguration(config -> config.addExecutionInterceptor(metricsInterceptor))
+                .forcePathStyle(hasEndpoint())
                 .build();
     }
 
     @Bean
     public S3Presigner s3Presigner(AwsCredentialsProvider credentialsProvider) {
-        return S3Presigner.builder()
+        S3Presigner.Builder builder = S3Presigner.builder()
                 .region(Region.of(region))
                 .credentialsProvider(credentialsProvider)
-                .build();
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(hasEndpoint()).build());
+        if (hasEndpoint()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
     }
 
     @Bean
-    public SqsClient sqsClient(AwsCredentialsProvider credentialsProvider) {
-        return SqsClient.builder()
+    public SqsClient sqsClient(AwsCredentialsProvider credentialsProvider, AwsSdkMetricsInterceptor metricsInterceptor) {
+        return withEndpoint(SqsClient.builder())
                 .region(Region.of(region))
                 .credentialsProvider(credentialsProvider)
+                .overrideConfiguration(config -> config.addExecutionInterceptor(metricsInterceptor))
                 .build();
     }
-}
\ No newline at end of file
+
+    private boolean hasEndpoint() {
+        return endpoint != null && !endpoint.isEmpty();
+    }
+
+    private <B extends AwsClientBuilder<B, ?>> B withEndpoint(B builder) {
+        return hasEndpoint() ? builder.endpointOverride(URI.create(endpoint)) : builder;
+    }
+}
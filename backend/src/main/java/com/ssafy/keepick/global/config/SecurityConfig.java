@@ -80,12 +80,18 @@ public class SecurityConfig {
                         "/api/login/oauth2/**",
                         // 모바일 인증 관련 경로
                         "/api/auth/login",
+                        // 토큰 재발급, 로그아웃 (리프레시 토큰으로 인증)
+                        "/api/auth/refresh",
+                        "/api/auth/logout",
                         // Swagger 문서 관련 경로
                         "/swagger-ui/**",
                         "/v3/api-docs/**",
                         "/api-docs",
                         "/.well-known/assetlinks.json",
-                        "/api/groups/*/photos/analysis/status/*")
+                        "/api/groups/*/photos/analysis/status/*",
+                        // 헬스 체크, 메트릭 수집 (management 포트로 분리)
+                        "/actuator/health",
+                        "/actuator/prometheus")
                 .permitAll()
                 .anyRequest().authenticated());
 
@@ -19,9 +19,12 @@ public class WebClientConfig {
     HttpClient httpClient = HttpClient.create()
             .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, DEFAULT_TIMEOUT);
 
+    /**
+     * 자동 구성된 Builder를 사용해 요청 지연 시간 메트릭(http.client.requests)을 수집
+     */
     @Bean
-    public WebClient webClient(){
-        return WebClient.builder()
+    public WebClient webClient(WebClient.Builder builder){
+        return builder
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .codecs(config -> config.defaultCodecs().maxInMemorySize(DEFAULT_MEMORY_SIZE))
                 .clientConnector(new ReactorClientHttpConnector(httpClient))
@@ -1,8 +1,8 @@
 package com.ssafy.keepick.global.config;
 
+import com.ssafy.keepick.album.common.domain.AlbumType;
 import com.ssafy.keepick.global.interceptor.GroupAlbumInterceptor;
 import com.ssafy.keepick.global.interceptor.GroupMemberInterceptor;
-import com.ssafy.keepick.global.interceptor.LoggingInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
@@ -14,15 +14,9 @@ public class WebMvcConfig implements WebMvcConfigurer {
 
     private final GroupMemberInterceptor groupMemberInterceptor;
     private final GroupAlbumInterceptor groupAlbumInterceptor;
-    private final LoggingInterceptor loggingInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        // 로깅
-        registry.addInterceptor(loggingInterceptor)
-                .addPathPatterns("/**")
-                .excludePathPatterns("/swagger-ui/**", "/v3/api-docs/**");
-
         // 그룹 멤버 검사 (그룹 초대 제외)
         registry.addInterceptor(groupMemberInterceptor)
                 .addPathPatterns("/api/groups/**")
@@ -33,11 +27,11 @@ public class WebMvcConfig implements WebMvcConfigurer {
                 );
 
         // 그룹 앨범 검사 (그룹 멤버 검사 이후에 실행)
-        registry.addInterceptor(groupAlbumInterceptor)
-                .addPathPatterns(
-                        "/api/groups/*/timeline-albums/**",
-                        "/api/groups/*/tier-albums/**",
-                        "/api/groups/*/highlight-albums/**"
-                );
+        registry.addInterceptor(groupAlbumInterceptor.forType(AlbumType.TIMELINE))
+                .addPathPatterns("/api/groups/*/timeline-albums/**");
+        registry.addInterceptor(groupAlbumInterceptor.forType(AlbumType.TIER))
+                .addPathPatterns("/api/groups/*/tier-albums/**");
+        registry.addInterceptor(groupAlbumInterceptor.forType(AlbumType.HIGHLIGHT))
+                .addPathPatterns("/api/groups/*/highlight-albums/**");
     }
 }
@@ -31,6 +31,7 @@ public enum ErrorCode {
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "잘못된 입력값입니다.", "A001"),
     OAUTH2_AUTHENTICATION_FAILED(HttpStatus.UNAUTHORIZED, "OAuth2 인증에 실패했습니다.", "A002"),
     UNSUPPORTED_OAUTH2_PROVIDER(HttpStatus.BAD_REQUEST, "지원하지 않는 OAuth2 제공자입니다.", "A003"),
+    INVALID_REFRESH_TOKEN(HttpStatus.UNAUTHORIZED, "유효하지 않거나 만료된 리프레시 토큰입니다. 다시 로그인해주세요.", "A004"),
 
     // Friend
     FRIENDSHIP_FORBIDDEN(HttpStatus.FORBIDDEN, "친구 요청을 처리할 권한이 없습니다", "F001"),
@@ -42,6 +43,7 @@ public enum ErrorCode {
     INVALID_FILE(HttpStatus.BAD_REQUEST, "처리할 수 없는 이미지 파일입니다.", "P001"),
     PRESIGNED_URL_GENERATION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "presigned url 생성에 실패했습니다.", "P002"),
     PHOTO_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 사진입니다.", "P003"),
+    INVALID_RANGE(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE, "요청한 범위를 처리할 수 없습니다.", "P004"),
 
     // Album
     ALBUM_NOT_FOUND(HttpStatus.NOT_FOUND, "존재하지 않는 앨범입니다.", "AB001"),
@@ -56,7 +58,8 @@ public enum ErrorCode {
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류입니다.", "S001"),
     INTERNAL_S3_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "S3 서버에서 발생한 오류입니다.", "S002"),
     INTERNAL_THUMBNAIL_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "썸네일 생성에 실패했습니다.", "S003"),
-    INTERNAL_VISION_PARSE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 분석 값을 파싱하는데 실패했습니다.", "S004");
+    INTERNAL_VISION_PARSE_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "이미지 분석 값을 파싱하는데 실패했습니다.", "S004"),
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", "S005");
 
     private final HttpStatus status;
     private final String message;
@@ -1,96 +1,104 @@
 package com.ssafy.keepick.global.interceptor;
 
-import com.ssafy.keepick.album.tier.persistence.TierAlbumRepository;
+import com.ssafy.keepick.album.common.application.AlbumOwnershipCache;
+import com.ssafy.keepick.album.common.domain.AlbumType;
 import com.ssafy.keepick.global.exception.BaseException;
 import com.ssafy.keepick.global.exception.ErrorCode;
-import com.ssafy.keepick.highlight.presistence.HighlightAlbumRepository;
-import com.ssafy.keepick.timeline.persistence.TimelineAlbumRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
+/**
+ * 경로의 앨범이 경로의 그룹에 속하는지 검사
+ * 앨범 종류는 경로(timeline-albums, tier-albums, highlight-albums)별로 등록할 때 정하고,
+ * 그룹 ID와 앨범 ID는 핸들러 매핑 단계에서 이미 파싱된 경로 변수에서 읽는다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class GroupAlbumInterceptor implements HandlerInterceptor {
+public class GroupAlbumInterceptor {
 
-    private final Pattern pattern = Pattern.compile("^/api/groups/(\\d+)/(\\w+)-albums(?:/(\\d+)(?:/([^/]+))?)?$");
+    // 앨범 컨트롤러에서 앨범 ID로 쓰는 경로 변수 이름
+    private static final List<String> ALBUM_ID_VARIABLES = List.of("albumId", "tierAlbumId");
 
-    private final TimelineAlbumRepository timelineAlbumRepository;
-    private final TierAlbumRepository tierAlbumRepository;
-    private final HighlightAlbumRepository highlightAlbumRepository;
+    private final AlbumOwnershipCache albumOwnershipCache;
 
-    @Override
-    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        String requestURI = request.getRequestURI();
-        String method = request.getMethod();
-        
-        log.info("[GroupAlbumInterceptor] 요청 처리 시작 - URI: {}, Method: {}", requestURI, method);
-        
-        Matcher matcher = pattern.matcher(requestURI);
-        if (!matcher.find()) {
-            log.warn("[GroupAlbumInterceptor] URI 패턴이 일치하지 않음 - URI: {}", requestURI);
-            throw new BaseException(ErrorCode.INVALID_PARAMETER);
+    /**
+     * 앨범 종류별 경로에 등록할 인터셉터
+     */
+    public HandlerInterceptor forType(AlbumType type) {
+        return new HandlerInterceptor() {
+            @Override
+            public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+                return validate(type, request, handler);
+            }
+        };
+    }
+
+    private boolean validate(AlbumType type, HttpServletRequest request, Object handler) {
+        log.debug("[GroupAlbumInterceptor] 요청 처리 시작 - URI: {}, Method: {}", request.getRequestURI(), request.getMethod());
+
+        // 매핑된 컨트롤러가 없는 요청은 404로 처리되도록 통과
+        if (!(handler instanceof HandlerMethod)) {
+            return true;
         }
 
-        Long groupId = Long.parseLong(matcher.group(1));
-        String albumType = matcher.group(2);
-        String albumIdStr = matcher.group(3);
-        
-        log.info("[GroupAlbumInterceptor] 파싱된 정보 - GroupId: {}, AlbumType: {}, AlbumId: {}", groupId, albumType, albumIdStr);
+        Map<String, String> pathVariables = getPathVariables(request);
+        Long groupId = parseId(pathVariables.get("groupId"));
+        if (groupId == null) {
+            log.warn("[GroupAlbumInterceptor] 경로 변수에서 그룹 ID를 찾을 수 없음 - URI: {}", request.getRequestURI());
+            throw new BaseException(ErrorCode.INVALID_PARAMETER);
+        }
 
-        // 앨범 목록 조회인 경우 (albumId가 없는 경우) 검증 생략
-        if (albumIdStr == null) {
-            log.info("[GroupAlbumInterceptor] 앨범 목록 조회 요청 - 검증 생략");
+        // 앨범 목록 조회 등 앨범 ID가 없는 경로는 검증 생략
+        String albumIdValue = ALBUM_ID_VARIABLES.stream()
+                .map(pathVariables::get)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+        if (albumIdValue == null) {
+            log.debug("[GroupAlbumInterceptor] 앨범 ID가 없는 요청 - 검증 생략");
             return true;
         }
 
-        Long albumId = Long.parseLong(albumIdStr);
-        boolean isGroupAlbum = switch (albumType) {
-            case "timeline" -> validateTimelineAlbumBelongsToGroup(albumId, groupId);
-            case "tier" -> validateTierAlbumBelongsToGroup(albumId, groupId);
-            case "highlight" -> validateHighlightAlbumBelongsToGroup(albumId, groupId);
-            default -> {
-                log.warn("[GroupAlbumInterceptor] 지원하지 않는 앨범 타입: {}", albumType);
-                throw new BaseException(ErrorCode.INVALID_PARAMETER);
-            }
-        };
+        Long albumId = parseId(albumIdValue);
+        if (albumId == null) {
+            throw new BaseException(ErrorCode.INVALID_PARAMETER);
+        }
 
-        // 그룹에 앨범이 없는 경우 예외 발생
-        if (!isGroupAlbum) {
-            log.warn("[GroupAlbumInterceptor] 앨범이 그룹에 속하지 않음 - GroupId: {}, AlbumType: {}, AlbumId: {}", groupId, albumType, albumId);
+        // 캐시된 앨범 → 그룹 정보로 확인하고, 캐시에 없을 때만 그룹 ID를 조회
+        if (!albumOwnershipCache.belongsToGroup(type, albumId, groupId)) {
+            log.warn("[GroupAlbumInterceptor] 앨범이 그룹에 속하지 않음 - GroupId: {}, AlbumType: {}, AlbumId: {}", groupId, type, albumId);
             throw new BaseException(ErrorCode.FORBIDDEN);
         }
-        
-        log.info("[GroupAlbumInterceptor] 앨범 검증 성공 - GroupId: {}, AlbumType: {}, AlbumId: {}", groupId, albumType, albumId);
-        return true;
-    }
 
-    private boolean validateTimelineAlbumBelongsToGroup(Long albumId, Long groupId) {
-        log.debug("[GroupAlbumInterceptor] Timeline 앨범 검증 - AlbumId: {}, GroupId: {}", albumId, groupId);
-        boolean exists = timelineAlbumRepository.existsByIdAndGroupIdAndDeletedAtIsNull(albumId, groupId);
-        log.debug("[GroupAlbumInterceptor] Timeline 앨범 검증 결과: {}", exists);
-        return exists;
+        log.debug("[GroupAlbumInterceptor] 앨범 검증 성공 - GroupId: {}, AlbumType: {}, AlbumId: {}", groupId, type, albumId);
+        return true;
     }
 
-    private boolean validateTierAlbumBelongsToGroup(Long albumId, Long groupId) {
-        log.debug("[GroupAlbumInterceptor] Tier 앨범 검증 - AlbumId: {}, GroupId: {}", albumId, groupId);
-        boolean exists = tierAlbumRepository.existsByIdAndGroupIdAndDeletedAtIsNull(albumId, groupId);
-        log.debug("[GroupAlbumInterceptor] Tier 앨범 검증 결과: {}", exists);
-        return exists;
+    @SuppressWarnings("unchecked")
+    private Map<String, String> getPathVariables(HttpServletRequest request) {
+        Map<String, String> pathVariables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        return pathVariables != null ? pathVariables : Map.of();
     }
 
-    private boolean validateHighlightAlbumBelongsToGroup(Long albumId, Long groupId) {
-        log.debug("[GroupAlbumInterceptor] Highlight 앨범 검증 - AlbumId: {}, GroupId: {}", albumId, groupId);
-        boolean exists = highlightAlbumRepository.existsByIdAndGroupIdAndDeletedAtIsNull(albumId, groupId);
-        log.debug("[GroupAlbumInterceptor] Highlight 앨범 검증 결과: {}", exists);
-        return exists;
+    private Long parseId(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            return null;
+        }
     }
-
 }
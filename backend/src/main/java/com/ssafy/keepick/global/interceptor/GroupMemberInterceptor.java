@@ -1,16 +1,16 @@
 package com.ssafy.keepick.global.interceptor;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.Map;
 
 import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
 
 import com.ssafy.keepick.global.exception.BaseException;
 import com.ssafy.keepick.global.exception.ErrorCode;
 import com.ssafy.keepick.global.security.util.AuthenticationUtil;
-import com.ssafy.keepick.group.domain.GroupMemberStatus;
-import com.ssafy.keepick.group.persistence.GroupMemberRepository;
+import com.ssafy.keepick.group.application.GroupMembershipCache;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -22,35 +22,40 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class GroupMemberInterceptor implements HandlerInterceptor {
 
-    private final GroupMemberRepository groupMemberRepository;
+    private final GroupMembershipCache groupMembershipCache;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
         String requestURI = request.getRequestURI();
         String method = request.getMethod();
         
-        log.info("[GroupMemberInterceptor] 요청 처리 시작 - URI: {}, Method: {}", requestURI, method);
+        log.debug("[GroupMemberInterceptor] 요청 처리 시작 - URI: {}, Method: {}", requestURI, method);
 
         // analysis가 포함된 URI는 바로 통과
         if (requestURI.contains("analysis")) {
-            log.info("[GroupMemberInterceptor] analysis 요청이므로 그룹 멤버 검증 생략 - URI: {}", requestURI);
+            log.debug("[GroupMemberInterceptor] analysis 요청이므로 그룹 멤버 검증 생략 - URI: {}", requestURI);
+            return true;
+        }
+
+        // 매핑된 컨트롤러가 없는 요청은 404로 처리되도록 통과
+        if (!(handler instanceof HandlerMethod)) {
             return true;
         }
         
         // 로그인 유저와 그룹 ID 조회
         Long currentUserId = AuthenticationUtil.getCurrentUserId();
-        log.info("[GroupMemberInterceptor] 현재 인증된 사용자 ID: {}", currentUserId);
+        log.debug("[GroupMemberInterceptor] 현재 인증된 사용자 ID: {}", currentUserId);
         
-        Long groupId = extractGroupIdFromPath(requestURI);
+        Long groupId = extractGroupIdFromPathVariables(request);
         if (groupId == null) {
             log.warn("[GroupMemberInterceptor] URI에서 그룹 ID를 추출할 수 없음 - URI: {}", requestURI);
             throw new BaseException(ErrorCode.INVALID_PARAMETER);
         }
-        log.info("[GroupMemberInterceptor] 추출된 그룹 ID: {}", groupId);
+        log.debug("[GroupMemberInterceptor] 추출된 그룹 ID: {}", groupId);
 
         // 유저가 그룹에 가입한 회원인지 확인
         log.debug("[GroupMemberInterceptor] 그룹 멤버십 확인 - GroupId: {}, UserId: {}", groupId, currentUserId);
-        boolean isGroupMember = groupMemberRepository.existsByGroupIdAndMemberIdAndStatus(groupId, currentUserId, GroupMemberStatus.ACCEPTED);
+        boolean isGroupMember = groupMembershipCache.isAcceptedMember(groupId, currentUserId);
         log.debug("[GroupMemberInterceptor] 그룹 멤버십 확인 결과: {}", isGroupMember);
         
         if(!isGroupMember) {
@@ -58,21 +63,24 @@ public class GroupMemberInterceptor implements HandlerInterceptor {
             throw new BaseException(ErrorCode.FORBIDDEN);
         }
         
-        log.info("[GroupMemberInterceptor] 그룹 멤버 검증 성공 - GroupId: {}, UserId: {}", groupId, currentUserId);
+        log.debug("[GroupMemberInterceptor] 그룹 멤버 검증 성공 - GroupId: {}, UserId: {}", groupId, currentUserId);
         return true;
     }
 
-    private Long extractGroupIdFromPath(String path) {
-        log.debug("[GroupMemberInterceptor] 경로에서 그룹 ID 추출 - Path: {}", path);
-        Pattern pattern = Pattern.compile("/api/groups/(\\d+)(/.*)?");
-        Matcher matcher = pattern.matcher(path);
-        if (matcher.find()) {
-            Long groupId = Long.parseLong(matcher.group(1));
-            log.debug("[GroupMemberInterceptor] 그룹 ID 추출 성공: {}", groupId);
-            return groupId;
+    /**
+     * 핸들러 매핑 단계에서 이미 파싱된 경로 변수에서 그룹 ID 조회
+     */
+    @SuppressWarnings("unchecked")
+    private Long extractGroupIdFromPathVariables(HttpServletRequest request) {
+        Map<String, String> pathVariables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (pathVariables == null || pathVariables.get("groupId") == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(pathVariables.get("groupId"));
+        } catch (NumberFormatException e) {
+            return null;
         }
-        log.debug("[GroupMemberInterceptor] 그룹 ID 추출 실패");
-        return null;
     }
 
 }
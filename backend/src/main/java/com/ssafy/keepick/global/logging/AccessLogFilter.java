@@ -0,0 +1,256 @@
+package com.ssafy.keepick.global.logging;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 요청마다 JSON 한 줄의 접근 로그를 남기는 필터
+ * 요청 ID를 MDC(requestId)에 넣어 요청 처리 중의 다른 로그와 연결하고, 응답 헤더(X-Request-Id)로도 돌려준다.
+ * 정상 응답은 경로별 수준과 sample-rate에 따라 일부만 기록하고, 에러와 느린 요청은 항상 기록한다.
+ * 비동기로 처리되는 요청은 첫 디스패치가 끝나도 응답이 정해지지 않으므로, 요청 ID와 시작 시각을 요청 속성에 남겨 두고
+ * 마지막 비동기 디스패치에서 최종 상태와 전체 처리 시간을 기록한다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccessLogFilter extends OncePerRequestFilter {
+    public static final String REQUEST_ID_HEADER = "X-Request-Id";
+    public static final String MDC_REQUEST_ID = "requestId";
+    public static final String MDC_MEMBER_ID = "memberId";
+
+    private static final Logger accessLog = LoggerFactory.getLogger("ACCESS_LOG");
+    private static final String REDACTED = "[REDACTED]";
+    private static final int MAX_REQUEST_ID_LENGTH = 64;
+    private static final String REQUEST_ID_ATTRIBUTE = AccessLogFilter.class.getName() + ".requestId";
+    private static final String START_NANOS_ATTRIBUTE = AccessLogFilter.class.getName() + ".startNanos";
+    private static final String MEMBER_ID_ATTRIBUTE = AccessLogFilter.class.getName() + ".memberId";
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    @Value("${app.access-log.sample-rate}")
+    private double sampleRate;
+
+    @Value("${app.access-log.slow-threshold-ms}")
+    private long slowThresholdMs;
+
+    // 예: /api/images/**=OFF,/api/auth/**=ALWAYS (앞에서부터 처음 일치하는 규칙 적용)
+    @Value("#{'${app.access-log.route-levels}'.split('\\s*,\\s*')}")
+    private List<String> routeLevelRules;
+
+    @Value("#{'${app.access-log.headers}'.split('\\s*,\\s*')}")
+    private List<String> loggedHeaders;
+
+    @Value("#{'${app.access-log.redacted-headers}'.split('\\s*,\\s*')}")
+    private List<String> redactedHeaderNames;
+
+    private List<RouteLevel> routeLevels;
+    private Set<String> redactedHeaders;
+
+    @PostConstruct
+    void init() {
+        List<RouteLevel> levels = new ArrayList<>();
+        for (String rule : routeLevelRules) {
+            int separator = rule.lastIndexOf('=');
+            if (separator <= 0) {
+                continue;
+            }
+            levels.add(new RouteLevel(rule.substring(0, separator).trim(),
+                    AccessLogLevel.valueOf(rule.substring(separator + 1).trim().toUpperCase(Locale.ROOT))));
+        }
+        this.routeLevels = List.copyOf(levels);
+        this.loggedHeaders = loggedHeaders.stream().filter(header -> !header.isBlank()).toList();
+        this.redactedHeaders = redactedHeaderNames.stream()
+                .map(header -> header.toLowerCase(Locale.ROOT))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    // 비동기 디스패치에서도 실행해 최종 응답을 기록
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String requestId = (String) request.getAttribute(REQUEST_ID_ATTRIBUTE);
+        Long startNanos = (Long) request.getAttribute(START_NANOS_ATTRIBUTE);
+        if (isAsyncDispatch(request) && requestId != null && startNanos != null) {
+            // 첫 디스패치에서 남긴 요청 ID와 회원 ID를 이어서 사용 (JWT 필터는 비동기 디스패치에서 다시 실행되지 않음)
+            String memberId = (String) request.getAttribute(MEMBER_ID_ATTRIBUTE);
+            if (memberId != null) {
+                MDC.put(MDC_MEMBER_ID, memberId);
+            }
+        } else {
+            requestId = resolveRequestId(request.getHeader(REQUEST_ID_HEADER));
+            startNanos = System.nanoTime();
+            response.setHeader(REQUEST_ID_HEADER, requestId);
+        }
+        MDC.put(MDC_REQUEST_ID, requestId);
+
+        Throwable failure = null;
+        try {
+            filterChain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            if (failure == null && request.isAsyncStarted()) {
+                // 응답은 비동기 처리가 끝난 뒤 디스패치에서 기록
+                request.setAttribute(REQUEST_ID_ATTRIBUTE, requestId);
+                request.setAttribute(START_NANOS_ATTRIBUTE, startNanos);
+                request.setAttribute(MEMBER_ID_ATTRIBUTE, MDC.get(MDC_MEMBER_ID));
+            } else {
+                writeLog(request, requestId, response.getStatus(), startNanos, failure);
+            }
+            MDC.remove(MDC_REQUEST_ID);
+            MDC.remove(MDC_MEMBER_ID);
+        }
+    }
+
+    private void writeLog(HttpServletRequest request, String requestId, int responseStatus, long startNanos, Throwable failure) {
+        long durationMs = (System.nanoTime() - startNanos) / 1_000_000;
+        int status = failure != null ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : responseStatus;
+        if (!shouldLog(request.getRequestURI(), status, durationMs)) {
+            return;
+        }
+        String line = buildLine(request, requestId, status, durationMs, failure);
+        if (status >= 500) {
+            accessLog.error(line);
+        } else if (durationMs >= slowThresholdMs) {
+            accessLog.warn(line);
+        } else {
+            accessLog.info(line);
+        }
+    }
+
+    boolean shouldLog(String path, int status, long durationMs) {
+        AccessLogLevel level = levelOf(path);
+        if (level == AccessLogLevel.OFF) {
+            return false;
+        }
+        if (level == AccessLogLevel.ALWAYS || status >= 500 || durationMs >= slowThresholdMs) {
+            return true;
+        }
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    AccessLogLevel levelOf(String path) {
+        for (RouteLevel routeLevel : routeLevels) {
+            if (pathMatcher.match(routeLevel.getPattern(), path)) {
+                return routeLevel.getLevel();
+            }
+        }
+        return AccessLogLevel.SAMPLED;
+    }
+
+    /**
+     * 로그 한 줄을 StringBuilder 하나로 직접 조립 (쿼리 스트링과 바디는 토큰이 포함될 수 있어 기록하지 않음)
+     */
+    String buildLine(HttpServletRequest request, String requestId, int status, long durationMs, Throwable failure) {
+        StringBuilder sb = new StringBuilder(256);
+        sb.append("{\"ts\":").append(System.currentTimeMillis());
+        appendField(sb, "requestId", requestId);
+        appendField(sb, "method", request.getMethod());
+        appendField(sb, "path", request.getRequestURI());
+        sb.append(",\"status\":").append(status);
+        sb.append(",\"durationMs\":").append(durationMs);
+        String memberId = MDC.get(MDC_MEMBER_ID);
+        if (memberId != null) {
+            sb.append(",\"memberId\":").append(memberId);
+        }
+        appendField(sb, "ip", request.getRemoteAddr());
+        for (String header : loggedHeaders) {
+            String value = request.getHeader(header);
+            if (value != null) {
+                appendField(sb, header, redactedHeaders.contains(header.toLowerCase(Locale.ROOT)) ? REDACTED : value);
+            }
+        }
+        if (failure != null) {
+            appendField(sb, "error", failure.getClass().getSimpleName());
+        }
+        return sb.append('}').toString();
+    }
+
+    private static void appendField(StringBuilder sb, String name, String value) {
+        sb.append(",\"");
+        appendEscaped(sb, name);
+        sb.append("\":");
+        if (value == null) {
+            sb.append("null");
+            return;
+        }
+        sb.append('"');
+        appendEscaped(sb, value);
+        sb.append('"');
+    }
+
+    private static void appendEscaped(StringBuilder sb, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 프록시가 넘겨준 요청 ID가 안전한 형식이면 그대로 쓰고, 아니면 새로 생성 (UUID보다 가벼운 64비트 난수)
+     */
+    private static String resolveRequestId(String incoming) {
+        if (incoming != null && !incoming.isEmpty() && incoming.length() <= MAX_REQUEST_ID_LENGTH && isSafe(incoming)) {
+            return incoming;
+        }
+        return Long.toHexString(ThreadLocalRandom.current().nextLong());
+    }
+
+    private static boolean isSafe(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean alphanumeric = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9');
+            if (!(alphanumeric || c == '-' || c == '_' || c == '.')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class RouteLevel {
+        private final String pattern;
+        private final AccessLogLevel level;
+    }
+}
@@ -0,0 +1,14 @@
+package com.ssafy.keepick.global.logging;
+
+/**
+ * 경로별 접근 로그 기록 수준
+ * 에러 응답(5xx)과 느린 요청은 OFF를 제외하고 수준과 관계없이 항상 기록한다.
+ */
+public enum AccessLogLevel {
+    // 기록하지 않음
+    OFF,
+    // sample-rate 비율만큼만 기록
+    SAMPLED,
+    // 모두 기록
+    ALWAYS
+}
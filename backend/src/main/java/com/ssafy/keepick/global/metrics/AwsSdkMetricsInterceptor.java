@@ -0,0 +1,51 @@
+package com.ssafy.keepick.global.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+
+/**
+ * AWS SDK 클라이언트(S3, SQS) 호출 지연 시간을 서비스, 오퍼레이션별로 기록하는 인터셉터
+ */
+@Component
+@RequiredArgsConstructor
+public class AwsSdkMetricsInterceptor implements ExecutionInterceptor {
+    static final String METRIC_NAME = "aws.client.requests";
+    private static final ExecutionAttribute<Timer.Sample> SAMPLE = new ExecutionAttribute<>("KeepickMetricsSample");
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        executionAttributes.putAttribute(SAMPLE, Timer.start(meterRegistry));
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        record(executionAttributes, "SUCCESS");
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        record(executionAttributes, "ERROR");
+    }
+
+    private void record(ExecutionAttributes executionAttributes, String outcome) {
+        Timer.Sample sample = executionAttributes.getAttribute(SAMPLE);
+        if (sample == null) {
+            return;
+        }
+        sample.stop(Timer.builder(METRIC_NAME)
+                .description("AWS SDK 요청 소요 시간")
+                .tag("service", String.valueOf(executionAttributes.getAttribute(SdkExecutionAttribute.SERVICE_NAME)))
+                .tag("operation", String.valueOf(executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME)))
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+}
@@ -2,6 +2,7 @@ package com.ssafy.keepick.global.security.filter;
 
 import java.io.IOException;
 
+import org.slf4j.MDC;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -9,8 +10,12 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.ssafy.keepick.auth.application.dto.CustomOAuth2Member;
 import com.ssafy.keepick.auth.application.dto.MemberDto;
+import com.ssafy.keepick.global.logging.AccessLogFilter;
+import com.ssafy.keepick.global.security.util.JWTClaims;
 import com.ssafy.keepick.global.security.util.JWTUtil;
 
+import io.jsonwebtoken.ExpiredJwtException;
+
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -42,7 +47,7 @@ public class JWTFilter extends OncePerRequestFilter {
         String userAgent = request.getHeader("User-Agent");
 
         // 요청 시작 로그
-        log.info("🔐 JWT Filter - 요청 시작: {} {} | User-Agent: {}", method, requestURI, userAgent);
+        log.debug("🔐 JWT Filter - 요청 시작: {} {} | User-Agent: {}", method, requestURI, userAgent);
 
         // Authorization 헤더 가져오기
         String authorization = request.getHeader("Authorization");
@@ -66,27 +71,20 @@ public class JWTFilter extends OncePerRequestFilter {
         String token = authorization.split(" ")[1];
         log.debug("🔑 JWT 토큰 검증 시작: {} {}", method, requestURI);
 
-        Long memberId;
-        String username;
-        String role;
+        JWTClaims claims;
 
         try {
-            // 토큰 소멸 시간 검증
-            if (jwtUtil.isExpired(token)) {
-                log.warn("⏰ 토큰 만료: {} {} | 토큰: {}", method, requestURI,
-                        token.substring(0, Math.min(20, token.length())) + "...");
-                log.debug("🔄 JWT Filter - 토큰 만료로 다음 필터로 요청 전달: {} {}", method, requestURI);
-                filterChain.doFilter(request, response);
-                log.debug("🏁 JWT Filter - 토큰 만료 후 다음 필터 처리 완료: {} {}", method, requestURI);
-                return;
-            }
-
-            memberId = jwtUtil.getMemberId(token);
-            username = jwtUtil.getUsername(token);
-            role = jwtUtil.getRole(token);
-
-            log.debug("✅ 토큰 검증 성공: {} {} | 사용자: {} (ID: {})", method, requestURI, username, memberId);
-
+            // 서명/만료 검증과 클레임 추출을 한 번에 수행 (최근 검증한 토큰은 캐시에서 조회)
+            claims = jwtUtil.verify(token);
+            log.debug("✅ 토큰 검증 성공: {} {} | 사용자: {} (ID: {})", method, requestURI, claims.getUsername(), claims.getMemberId());
+
+        } catch (ExpiredJwtException e) {
+            log.warn("⏰ 토큰 만료: {} {} | 토큰: {}", method, requestURI,
+                    token.substring(0, Math.min(20, token.length())) + "...");
+            log.debug("🔄 JWT Filter - 토큰 만료로 다음 필터로 요청 전달: {} {}", method, requestURI);
+            filterChain.doFilter(request, response);
+            log.debug("🏁 JWT Filter - 토큰 만료 후 다음 필터 처리 완료: {} {}", method, requestURI);
+            return;
         } catch (Exception e) {
             log.warn("❌ 토큰 검증 실패: {} {} | 에러: {}", method, requestURI, e.getMessage());
             log.debug("🔄 JWT Filter - 토큰 검증 실패로 다음 필터로 요청 전달: {} {}", method, requestURI);
@@ -96,7 +94,7 @@ public class JWTFilter extends OncePerRequestFilter {
         }
 
         // userDTO를 생성하여 값 set
-        MemberDto memberDto = MemberDto.of(memberId, username, role);
+        MemberDto memberDto = MemberDto.of(claims.getMemberId(), claims.getUsername(), claims.getRole());
 
         // UserDetails에 회원 정보 객체 담기
         CustomOAuth2Member customOAuth2User = CustomOAuth2Member.from(memberDto);
@@ -107,7 +105,9 @@ public class JWTFilter extends OncePerRequestFilter {
         // 세션에 사용자 등록
         SecurityContextHolder.getContext().setAuthentication(authToken);
 
-        log.info("🎉 인증 완료: {} {} | 사용자: {} (ID: {})", method, requestURI, username, memberId);
+        // 접근 로그에 회원 ID를 남기기 위해 MDC에 저장 (AccessLogFilter에서 제거)
+        MDC.put(AccessLogFilter.MDC_MEMBER_ID, String.valueOf(claims.getMemberId()));
+        log.debug("🎉 인증 완료: {} {} | 사용자: {} (ID: {})", method, requestURI, claims.getUsername(), claims.getMemberId());
 
         log.debug("🔄 JWT Filter - 인증 완료 후 다음 필터로 요청 전달: {} {}", method, requestURI);
         filterChain.doFilter(request, response);
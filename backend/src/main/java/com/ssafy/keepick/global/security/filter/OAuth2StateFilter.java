@@ -26,6 +26,16 @@ public class OAuth2StateFilter extends OncePerRequestFilter {
     @Value("#{'${app.redirect.allowed}'.split('\\s*,\\s*')}")
     private List<String> allowedOrigins;
 
+    /**
+     * 서블릿 필터로 모든 요청에 등록되므로 OAuth2 경로가 아니면 바로 건너뜀
+     */
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        return !(uri.startsWith("/api/oauth2/authorization/") || uri.startsWith("/oauth2/authorization/")
+                || uri.startsWith("/login/oauth2/code/") || uri.startsWith("/api/login/oauth2/code/"));
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest req, HttpServletResponse res, FilterChain chain)
             throws IOException, ServletException {
@@ -34,8 +44,7 @@ public class OAuth2StateFilter extends OncePerRequestFilter {
         String method = req.getMethod();
         String clientIp = getClientIp(req);
 
-        log.info("🔍 OAuth2StateFilter 요청 감지 - 누가: 시스템 | 언제: {} | 어디서: {} | 무엇을: {} {} | 어떻게: 필터 체크 | 왜: OAuth2 인증 요청 확인",
-                java.time.LocalDateTime.now(), clientIp, method, uri);
+        log.debug("🔍 OAuth2StateFilter 요청 감지 - 어디서: {} | 무엇을: {} {}", clientIp, method, uri);
 
         // 시작 경로만 대상
         boolean isAuthStart = "GET".equals(method) && 
@@ -43,7 +52,7 @@ public class OAuth2StateFilter extends OncePerRequestFilter {
 
         // 콜백 경로면 패스
         if (uri.startsWith("/login/oauth2/code/") || uri.startsWith("/api/login/oauth2/code/")) {
-            log.info("🔄 OAuth2 콜백 경로 감지 - 패스: {}", uri);
+            log.debug("🔄 OAuth2 콜백 경로 감지 - 패스: {}", uri);
             chain.doFilter(req, res);
             return;
         }
@@ -51,19 +60,18 @@ public class OAuth2StateFilter extends OncePerRequestFilter {
         // 시작이 아니거나 state 이미 있으면 패스(루프 방지)
         if (!isAuthStart || req.getParameter("state") != null) {
             if (!isAuthStart) {
-                log.info("ℹ️ OAuth2 인증 시작 경로 아님 - 패스: {}", uri);
+                log.debug("ℹ️ OAuth2 인증 시작 경로 아님 - 패스: {}", uri);
             } else {
-                log.info("ℹ️ state 파라미터 이미 존재 - 패스: {}", uri);
+                log.debug("ℹ️ state 파라미터 이미 존재 - 패스: {}", uri);
             }
             chain.doFilter(req, res);
             return;
         }
 
-        log.info("✅ OAuth2 인증 시작 요청 확인 - 누가: 시스템 | 언제: {} | 어디서: {} | 무엇을: {} | 어떻게: 경로 매칭 | 왜: state 파라미터 추가 준비",
-                java.time.LocalDateTime.now(), clientIp, uri);
+        log.debug("✅ OAuth2 인증 시작 요청 확인 - 어디서: {} | 무엇을: {}", clientIp, uri);
 
         // 모든 헤더 로깅
-        log.info("📋 요청 헤더 정보 - Origin: {}, Referer: {}, X-Forwarded-Proto: {}, X-Forwarded-Host: {}, User-Agent: {}",
+        log.debug("📋 요청 헤더 정보 - Origin: {}, Referer: {}, X-Forwarded-Proto: {}, X-Forwarded-Host: {}, User-Agent: {}",
                 req.getHeader("Origin"),
                 req.getHeader("Referer"),
                 req.getHeader("X-Forwarded-Proto"),
@@ -89,8 +97,7 @@ public class OAuth2StateFilter extends OncePerRequestFilter {
         // 프록시 안전하게 "상대 경로"로 리다이렉트
         String newUrl = UriComponentsBuilder.fromPath(uri).query(newQs).build().toUriString();
 
-        log.info("🔧 OAuth2 state 파라미터 추가 - 누가: 시스템 | 언제: {} | 어디서: {} | 무엇을: {} → {} | 어떻게: Origin을 state에 포함 | 왜: 콜백에서 원본 Origin 복원",
-                java.time.LocalDateTime.now(), norm != null ? norm : "허용되지 않은 Origin", uri, newUrl);
+        log.debug("🔧 OAuth2 state 파라미터 추가 - Origin: {} | {} → {}", norm != null ? norm : "허용되지 않은 Origin", uri, newUrl);
 
         res.sendRedirect(newUrl);
     }
@@ -100,7 +107,7 @@ public class OAuth2StateFilter extends OncePerRequestFilter {
         // Origin 헤더 우선 확인
         String origin = request.getHeader("Origin");
         if (origin != null && !origin.isBlank()) {
-            log.info("🔍 Origin 헤더에서 추출: {}", origin);
+            log.debug("🔍 Origin 헤더에서 추출: {}", origin);
             return origin.trim();
         }
 
@@ -111,7 +118,7 @@ public class OAuth2StateFilter extends OncePerRequestFilter {
                 java.net.URI uri = java.net.URI.create(referer);
                 if (uri.getScheme() != null && uri.getHost() != null) {
                     String base = uri.getScheme() + "://" + uri.getHost() + (uri.getPort() == -1 ? "" : ":" + uri.getPort());
-                    log.info("🔍 Referer에서 Origin 추출: {} → {}", referer, base);
+                    log.debug("🔍 Referer에서 Origin 추출: {} → {}", referer, base);
                     return base;
                 }
             } catch (Exception e) {
@@ -124,7 +131,7 @@ public class OAuth2StateFilter extends OncePerRequestFilter {
         String xfHost = request.getHeader("X-Forwarded-Host");
         if (xfProto != null && xfHost != null) {
             String base = xfProto + "://" + xfHost;
-            log.info("🔍 X-Forwarded 헤더에서 Origin 추출: {}://{}", xfProto, xfHost);
+            log.debug("🔍 X-Forwarded 헤더에서 Origin 추출: {}://{}", xfProto, xfHost);
             return base;
         }
 
@@ -141,7 +148,7 @@ public class OAuth2StateFilter extends OncePerRequestFilter {
                 .anyMatch(allow -> allow.equalsIgnoreCase(origin));
         
         if (allowed) {
-            log.info("✅ 허용된 Origin 확인: {}", origin);
+            log.debug("✅ 허용된 Origin 확인: {}", origin);
         } else {
             log.warn("🚫 차단된 Origin 감지: {}", origin);
         }
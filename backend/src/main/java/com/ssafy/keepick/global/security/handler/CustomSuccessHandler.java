@@ -11,8 +11,10 @@ import javax.crypto.spec.SecretKeySpec;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import com.ssafy.keepick.auth.application.RefreshTokenService;
 import com.ssafy.keepick.auth.application.dto.CustomOAuth2Member;
 import com.ssafy.keepick.global.security.util.JWTUtil;
+import com.ssafy.keepick.global.security.util.RefreshTokenCookieUtil;
 
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -21,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.SimpleUrlAuthenticationSuccessHandler;
 import org.springframework.stereotype.Component;
@@ -32,6 +35,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler {
 
     private final JWTUtil jwtUtil;
+    private final RefreshTokenService refreshTokenService;
 
     @Value("${app.redirect.defaultBase}")
     private String defaultBase;
@@ -61,6 +65,10 @@ public class CustomSuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
         String token = jwtUtil.createToken(memberId, username);
 
+        // 리프레시 토큰은 URL에 노출하지 않고 HttpOnly 쿠키로 전달
+        String refreshToken = refreshTokenService.issue(memberId, username);
+        response.addHeader(HttpHeaders.SET_COOKIE, RefreshTokenCookieUtil.create(refreshToken, refreshTokenService.getTtl()));
+
         // state 파라미터에서 원본 Origin 추출 시도 (우선)
         String rawState = request.getParameter("state");
         String baseRedirect;
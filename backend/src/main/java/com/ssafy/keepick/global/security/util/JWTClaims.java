@@ -0,0 +1,31 @@
+package com.ssafy.keepick.global.security.util;
+
+import java.util.Date;
+
+import io.jsonwebtoken.Claims;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 서명 검증을 마친 토큰의 클레임
+ */
+@Getter
+@AllArgsConstructor
+public class JWTClaims {
+    private final Long memberId;
+    private final String username;
+    private final String role;
+    private final Date expiration;
+
+    public static JWTClaims from(Claims claims) {
+        return new JWTClaims(
+                claims.get("memberId", Long.class),
+                claims.get("username", String.class),
+                claims.get("role", String.class),
+                claims.getExpiration());
+    }
+
+    public boolean isExpired() {
+        return expiration.before(new Date());
+    }
+}
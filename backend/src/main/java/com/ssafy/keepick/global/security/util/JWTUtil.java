@@ -1,44 +1,84 @@
 package com.ssafy.keepick.global.security.util;
 
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
 import java.util.Date;
 
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 
 @Component
 public class JWTUtil {
+    private static final long DEFAULT_VERIFIED_CACHE_SIZE = 10_000;
 
     private SecretKey key;
     private final long expiredMs;
+    // 서명 키가 고정이므로 파서는 한 번만 만들어 재사용 (thread-safe)
+    private final JwtParser parser;
+    // 최근 검증한 토큰의 클레임, 토큰 원문 대신 해시를 키로 쓰고 토큰 만료 시각에 맞춰 제거
+    private final Cache<String, JWTClaims> verifiedTokens;
+
+    public JWTUtil(String secret, long expiredMs) {
+        this(secret, expiredMs, DEFAULT_VERIFIED_CACHE_SIZE);
+    }
 
-    public JWTUtil(@Value("${jwt.secret}") String secret, @Value("${jwt.expiredMs}") long expiredMs) {
+    @Autowired
+    public JWTUtil(@Value("${jwt.secret}") String secret, @Value("${jwt.expiredMs}") long expiredMs,
+            @Value("${jwt.verified-cache-size}") long verifiedCacheSize) {
         // 키 생성, 키 알고리즘은 HS256
         this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), Jwts.SIG.HS256.key().build().getAlgorithm());
         this.expiredMs = expiredMs;
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(Expiry.<String, JWTClaims>writing((tokenHash, claims) ->
+                        Duration.ofMillis(Math.max(0, claims.getExpiration().getTime() - System.currentTimeMillis()))))
+                .build();
+    }
+
+    /**
+     * 토큰을 한 번만 파싱/검증하고 클레임을 반환
+     * 최근 검증한 토큰은 캐시에서 바로 반환하며, 만료되었거나 서명이 잘못된 토큰은 JwtException 발생
+     */
+    public JWTClaims verify(String token) {
+        String tokenHash = hash(token);
+        JWTClaims cached = verifiedTokens.getIfPresent(tokenHash);
+        if (cached != null && !cached.isExpired()) {
+            return cached;
+        }
+        JWTClaims claims = JWTClaims.from(parser.parseSignedClaims(token).getPayload());
+        verifiedTokens.put(tokenHash, claims);
+        return claims;
     }
 
     public String getUsername(String token) {
-        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().get("username",
-                String.class);
+        return verify(token).getUsername();
     }
 
     public Long getMemberId(String token) {
-        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().get("memberId", Long.class);
+        return verify(token).getMemberId();
     }
 
     public String getRole(String token) {
-        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().get("role", String.class);
+        return verify(token).getRole();
     }
 
     public Boolean isExpired(String token) {
-        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload().getExpiration()
-                .before(new Date());
+        return verify(token).isExpired();
     }
 
     public String createToken(Long memberId, String username) {
@@ -51,4 +91,16 @@ public class JWTUtil {
                 .signWith(key)
                 .compact();
     }
+
+    private static String hash(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("토큰이 비어 있습니다.");
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
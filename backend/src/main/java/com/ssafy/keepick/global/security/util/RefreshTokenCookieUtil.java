@@ -0,0 +1,32 @@
+package com.ssafy.keepick.global.security.util;
+
+import java.time.Duration;
+
+import org.springframework.http.ResponseCookie;
+
+/**
+ * 웹 클라이언트용 리프레시 토큰 쿠키
+ * 스크립트에서 읽을 수 없도록 HttpOnly로 발급하고, 토큰 재발급/로그아웃 경로에만 전송되도록 path를 제한한다.
+ */
+public class RefreshTokenCookieUtil {
+    public static final String COOKIE_NAME = "refresh_token";
+    private static final String COOKIE_PATH = "/api/auth";
+
+    public static String create(String refreshToken, Duration maxAge) {
+        return build(refreshToken, maxAge).toString();
+    }
+
+    public static String expire() {
+        return build("", Duration.ZERO).toString();
+    }
+
+    private static ResponseCookie build(String value, Duration maxAge) {
+        return ResponseCookie.from(COOKIE_NAME, value)
+                .httpOnly(true)
+                .secure(true)
+                .sameSite("None")  // 프론트엔드와 API 도메인이 달라 cross-site 요청에도 전송
+                .path(COOKIE_PATH)
+                .maxAge(maxAge)
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.ssafy.keepick.global.tracing;
+
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * HTTP 헤더로 전달할 수 없는 구간(S3 이벤트, Vision AI 작업 상태)에
+ * W3C traceparent 문자열로 trace를 이어 붙이기 위한 도우미
+ */
+@Component
+@RequiredArgsConstructor
+public class TraceContextSupport {
+    private static final Pattern TRACE_PARENT = Pattern.compile("^00-([0-9a-f]{32})-([0-9a-f]{16})-([0-9a-f]{2})$");
+
+    private final Tracer tracer;
+
+    /**
+     * 현재 span의 traceparent (활성 span이 없으면 null)
+     */
+    public String currentTraceParent() {
+        Span span = tracer.currentSpan();
+        if (span == null) {
+            return null;
+        }
+        TraceContext context = span.context();
+        if (context.traceId().isEmpty() || context.spanId().isEmpty()) {
+            return null;
+        }
+        return String.format("00-%s-%s-%s", context.traceId(), context.spanId(),
+                Boolean.TRUE.equals(context.sampled()) ? "01" : "00");
+    }
+
+    /**
+     * traceparent를 부모로 하는 span 생성 (값이 없거나 형식이 잘못되면 새 trace로 시작)
+     */
+    public Span.Builder spanBuilder(String traceParent) {
+        Span.Builder builder = tracer.spanBuilder();
+        if (traceParent == null) {
+            return builder;
+        }
+        Matcher matcher = TRACE_PARENT.matcher(traceParent);
+        if (!matcher.matches()) {
+            return builder;
+        }
+        TraceContext parent = tracer.traceContextBuilder()
+                .traceId(matcher.group(1))
+                .spanId(matcher.group(2))
+                .sampled("01".equals(matcher.group(3)))
+                .build();
+        return builder.setParent(parent);
+    }
+
+    public Tracer.SpanInScope withSpan(Span span) {
+        return tracer.withSpan(span);
+    }
+}
@@ -7,6 +7,7 @@ import lombok.extern.slf4j.Slf4j;
 
 import java.util.Set;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
 @Slf4j
 public class FileUtils {
@@ -21,6 +22,8 @@ public class FileUtils {
 
     private static final long MAX_FILE_SIZE = 10 * 1024 * 1024;
 
+    private static final Pattern SINGLE_BYTE_RANGE = Pattern.compile("^bytes=(\\d+-\\d*|-\\d+)$");
+
     public static String guessContentType(String objectKey) {
         String key = objectKey.toLowerCase();
         if (key.endsWith(".jpg") || key.endsWith(".jpeg")) return "image/jpeg";
@@ -34,6 +37,20 @@ public class FileUtils {
         return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, objectKey);
     }
 
+    public static boolean isSingleByteRange(String range) {
+        return range != null && SINGLE_BYTE_RANGE.matcher(range).matches();
+    }
+
+    public static String extractObjectKey(String publicUrl) {
+        int hostStart = publicUrl.indexOf("://");
+        int keyStart = publicUrl.indexOf('/', hostStart < 0 ? 0 : hostStart + 3);
+        if (keyStart < 0) {
+            log.error("public url 형식이 잘못되었습니다: {}", publicUrl);
+            throw new BaseException(ErrorCode.INVALID_FILE);
+        }
+        return publicUrl.substring(keyStart + 1);
+    }
+
     public static String generateUniqueFileName(String originalFileName) {
         String uuid = UUID.randomUUID().toString();
         String fileExtension = getFileExtension(originalFileName);
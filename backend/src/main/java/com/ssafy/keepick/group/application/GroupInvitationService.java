@@ -10,10 +10,12 @@ import com.ssafy.keepick.group.persistence.GroupMemberRepository;
 import com.ssafy.keepick.group.persistence.GroupRepository;
 import com.ssafy.keepick.external.redis.RedisService;
 import com.ssafy.keepick.group.application.dto.GroupMemberDto;
+import com.ssafy.keepick.group.application.event.GroupMemberChangedEvent;
 import com.ssafy.keepick.member.domain.Member;
 import com.ssafy.keepick.member.persistence.MemberRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +34,7 @@ public class GroupInvitationService {
     private final GroupMemberRepository groupMemberRepository;
     private final MemberRepository memberRepository;
     private final RedisService redisService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Value("${app.redirect.defaultBase}")
     private String defaultBase;
@@ -46,6 +49,7 @@ public class GroupInvitationService {
     public GroupMemberDto acceptInvitation(Long groupMemberId, Long loginMemberId) {
         GroupMember groupMember = findAndValidateGroupInvitation(groupMemberId, loginMemberId);
         groupMember.accept();
+        eventPublisher.publishEvent(GroupMemberChangedEvent.of(groupMember.getGroup().getId(), loginMemberId));
         GroupMemberDto dto = GroupMemberDto.from(groupMember);
         return dto;
     }
@@ -53,6 +57,7 @@ public class GroupInvitationService {
     public GroupMemberDto rejectInvitation(Long groupMemberId, Long loginMemberId) {
         GroupMember groupMember = findAndValidateGroupInvitation(groupMemberId, loginMemberId);
         groupMember.reject();
+        eventPublisher.publishEvent(GroupMemberChangedEvent.of(groupMember.getGroup().getId(), loginMemberId));
         GroupMemberDto dto = GroupMemberDto.from(groupMember);
         return dto;
     }
@@ -88,6 +93,7 @@ public class GroupInvitationService {
         Group group = groupRepository.findById(groupId).orElseThrow(() -> new BaseException(GROUP_NOT_FOUND));
         GroupMember groupMember = processInvitationToGroup(group, loginMemberId);
         groupMember.accept();
+        eventPublisher.publishEvent(GroupMemberChangedEvent.of(groupId, loginMemberId));
         return GroupMemberDto.from(groupMember);
     }
 
@@ -0,0 +1,90 @@
+package com.ssafy.keepick.group.application;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ssafy.keepick.external.redis.RedisService;
+import com.ssafy.keepick.group.application.event.GroupMemberChangedEvent;
+import com.ssafy.keepick.group.domain.GroupMemberStatus;
+import com.ssafy.keepick.group.persistence.GroupMemberRepository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 그룹 멤버 검증 결과 캐시
+ * 가입된(ACCEPTED) 멤버십만 서버별 로컬 캐시에 보관하고, 가입/탈퇴/거절이 일어나면 Redis pub/sub으로
+ * 모든 서버에 무효화 메시지를 보낸다. 메시지가 유실되더라도 TTL이 지나면 다시 DB에서 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupMembershipCache implements MessageListener {
+    private static final String CHANNEL = "group:membership:changed";
+
+    private final GroupMemberRepository groupMemberRepository;
+    private final RedisService redisService;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Value("${app.group.membership.cache-size}")
+    private long cacheSize;
+
+    @Value("${app.group.membership.cache-ttl-seconds}")
+    private long cacheTtlSeconds;
+
+    // key: memberId:groupId, value: 가입 여부 (가입된 경우만 저장)
+    private Cache<String, Boolean> membershipCache;
+
+    @PostConstruct
+    void init() {
+        this.membershipCache = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfterWrite(Duration.ofSeconds(cacheTtlSeconds))
+                .build();
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    public boolean isAcceptedMember(Long groupId, Long memberId) {
+        String cacheKey = key(groupId, memberId);
+        if (membershipCache.getIfPresent(cacheKey) != null) {
+            return true;
+        }
+        boolean accepted = groupMemberRepository.existsByGroupIdAndMemberIdAndStatus(groupId, memberId, GroupMemberStatus.ACCEPTED);
+        if (accepted) {
+            membershipCache.put(cacheKey, Boolean.TRUE);
+        }
+        return accepted;
+    }
+
+    /**
+     * 커밋 후 현재 서버의 캐시를 바로 비우고 다른 서버에도 무효화 메시지 발행
+     */
+    @TransactionalEventListener
+    public void handleGroupMemberChanged(GroupMemberChangedEvent event) {
+        String cacheKey = key(event.getGroupId(), event.getMemberId());
+        membershipCache.invalidate(cacheKey);
+        redisService.publish(CHANNEL, cacheKey);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String cacheKey = new String(message.getBody(), StandardCharsets.UTF_8);
+        membershipCache.invalidate(cacheKey);
+        log.debug("그룹 멤버십 캐시 무효화: {}", cacheKey);
+    }
+
+    private String key(Long groupId, Long memberId) {
+        return memberId + ":" + groupId;
+    }
+}
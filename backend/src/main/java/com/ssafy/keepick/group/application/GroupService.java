@@ -9,11 +9,13 @@ import com.ssafy.keepick.group.domain.GroupMemberStatus;
 import com.ssafy.keepick.group.application.dto.GroupDto;
 import com.ssafy.keepick.group.application.dto.GroupMemberDto;
 import com.ssafy.keepick.group.application.dto.MemberDto;
+import com.ssafy.keepick.group.application.event.GroupMemberChangedEvent;
 import com.ssafy.keepick.member.domain.Member;
 import com.ssafy.keepick.group.persistence.GroupMemberRepository;
 import com.ssafy.keepick.group.persistence.GroupRepository;
 import com.ssafy.keepick.member.persistence.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +31,7 @@ public class GroupService {
     private final GroupRepository groupRepository;
     private final GroupMemberRepository groupMemberRepository;
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public GroupDto createGroup(GroupCreateRequest request, Long loginMemberId) {
@@ -73,6 +76,7 @@ public class GroupService {
     public void leaveGroup(Long groupId, Long loginMemberId) {
         GroupMember groupMember = groupMemberRepository.findByGroupIdAndMemberIdAndStatus(groupId, loginMemberId, GroupMemberStatus.ACCEPTED).orElseThrow(() -> new BaseException(NOT_FOUND));
         groupMember.leave();
+        eventPublisher.publishEvent(GroupMemberChangedEvent.of(groupId, loginMemberId));
     }
 
     private void joinCreatorToGroup(Group group, Member creator) {
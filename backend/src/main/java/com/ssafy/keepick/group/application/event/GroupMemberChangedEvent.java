@@ -0,0 +1,14 @@
+package com.ssafy.keepick.group.application.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 그룹 가입/탈퇴 등 회원의 그룹 멤버십이 바뀌었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class GroupMemberChangedEvent {
+    private final Long groupId;
+    private final Long memberId;
+}
@@ -37,6 +37,13 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
             "WHERE gm.group.id = :groupId " +
             "AND gm.status = GroupMemberStatus.ACCEPTED")
     List<GroupMember> findJoinedMembersById(Long groupId);
+
+    // 그룹에 가입한 회원 ID 목록 조회
+    @Query("SELECT gm.member.id " +
+            "FROM GroupMember gm " +
+            "WHERE gm.group.id = :groupId " +
+            "AND gm.status = GroupMemberStatus.ACCEPTED")
+    List<Long> findJoinedMemberIdsById(Long groupId);
     
     // 사용자가 특정 그룹의 멤버인지 확인 (ACCEPTED 상태만)
     boolean existsByGroupIdAndMemberIdAndStatus(Long groupId, Long memberId, GroupMemberStatus status);
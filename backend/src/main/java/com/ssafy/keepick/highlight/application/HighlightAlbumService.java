@@ -3,13 +3,15 @@ package com.ssafy.keepick.highlight.application;
 import com.ssafy.keepick.global.exception.BaseException;
 import com.ssafy.keepick.global.exception.ErrorCode;
 import com.ssafy.keepick.global.security.util.AuthenticationUtil;
-import com.ssafy.keepick.group.domain.Group;
 import com.ssafy.keepick.group.persistence.GroupRepository;
 import com.ssafy.keepick.highlight.application.dto.HighlightAlbumDto;
 import com.ssafy.keepick.highlight.application.dto.HighlightAlbumPhotoDto;
+import com.ssafy.keepick.highlight.application.dto.HighlightScreenshotBufferDto;
+import com.ssafy.keepick.highlight.application.event.HighlightAlbumChangedEvent;
 import com.ssafy.keepick.highlight.controller.request.HighlightAlbumCreateRequest;
 import com.ssafy.keepick.highlight.controller.request.HighlightAlbumUpdateDeleteRequest;
 import com.ssafy.keepick.highlight.controller.request.HighlightAlbumUpdateRequest;
+import com.ssafy.keepick.highlight.controller.request.HighlightScreenshotBatchSaveRequest;
 import com.ssafy.keepick.highlight.controller.request.HighlightScreenshotSaveRequest;
 import com.ssafy.keepick.highlight.domain.HighlightAlbum;
 import com.ssafy.keepick.highlight.domain.HighlightAlbumPhoto;
@@ -18,12 +20,14 @@ import com.ssafy.keepick.highlight.presistence.HighlightAlbumRepository;
 import com.ssafy.keepick.member.domain.Member;
 import com.ssafy.keepick.member.persistence.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -33,53 +37,65 @@ public class HighlightAlbumService {
     private final GroupRepository groupRepository;
     private final HighlightAlbumPhotoRepository highlightAlbumPhotoRepository;
     private final HighlightAlbumRepository highlightAlbumRepository;
+    private final HighlightScreenshotBuffer highlightScreenshotBuffer;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public HighlightAlbumPhotoDto saveHighlightScreenshot(Long groupId, HighlightScreenshotSaveRequest request) {
-        Group group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new BaseException(ErrorCode.GROUP_NOT_FOUND));
-
-        Long memberId = AuthenticationUtil.getCurrentUserId();
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(() -> new BaseException(ErrorCode.MEMBER_NOT_FOUND));
+        // 그룹 소속은 GroupMemberInterceptor에서 검증되므로 조회 없이 참조만 사용
+        Member member = memberRepository.getReferenceById(AuthenticationUtil.getCurrentUserId());
 
         HighlightAlbumPhoto highlightAlbumPhoto = request.toEntity(member);
         highlightAlbumPhotoRepository.save(highlightAlbumPhoto);
         return HighlightAlbumPhotoDto.from(highlightAlbumPhoto);
     }
 
+    /**
+     * 여러 스크린샷을 세션별 버퍼에 접수하고, 버퍼가 가득 찬 세션은 한 번에 저장
+     */
+    public int bufferHighlightScreenshots(Long groupId, HighlightScreenshotBatchSaveRequest request) {
+        Long memberId = AuthenticationUtil.getCurrentUserId();
+        Map<String, List<HighlightScreenshotBufferDto>> screenshotsBySession = request.getScreenshots().stream()
+                .map(screenshot -> HighlightScreenshotBufferDto.of(memberId, screenshot))
+                .collect(Collectors.groupingBy(HighlightScreenshotBufferDto::getChatSessionId));
+
+        screenshotsBySession.forEach(highlightScreenshotBuffer::append);
+        return request.getScreenshots().size();
+    }
+
     @Transactional
     public HighlightAlbumDto createHighlightAlbum(Long groupId, HighlightAlbumCreateRequest request) {
-        // 1. 그룹 확인
-        Group group = groupRepository.findById(groupId)
-                .orElseThrow(() -> new BaseException(ErrorCode.GROUP_NOT_FOUND));
-        // 2. 해당 화상 채팅의 스크린샷 가져오기
-        List<HighlightAlbumPhoto> photoList = highlightAlbumPhotoRepository.findAllByChatSessionId(request.getChatSessionId());
+        String chatSessionId = request.getChatSessionId();
+
+        // 1. 해당 화상회의에서 앨범 생성 요청이 이미 들어온 경우
+        if (highlightAlbumRepository.existsByChatSessionId(chatSessionId)) {
+            throw new BaseException(ErrorCode.ALBUM_ALREADY_EXISTS);
+        }
+
+        // 2. 버퍼에 남은 스크린샷을 별도 트랜잭션으로 저장한 뒤 앨범에 속하지 않은 스크린샷 조회
+        highlightScreenshotBuffer.flush(chatSessionId);
+        List<HighlightAlbumPhoto> photoList = highlightAlbumPhotoRepository.findAllByChatSessionIdAndAlbumIsNullOrderByIdAsc(chatSessionId);
 
         // 3. 사진 개수가 0이면 앨범을 만들지 않음
         if (photoList.isEmpty()) {
             throw new BaseException(ErrorCode.NO_SCREENSHOTS_FOUND);
         }
 
-        // 4. 해당 화상회의에서 앨범 생성 요청이 이미 들어온 경우
-        String chatSessionId = request.getChatSessionId();
-        if (highlightAlbumRepository.existsByChatSessionId(chatSessionId)) {
-            throw new BaseException(ErrorCode.ALBUM_ALREADY_EXISTS);
-        }
-
-        // 5. 앨범을 만듦
+        // 4. 앨범을 만듦
         HighlightAlbum album = HighlightAlbum.builder()
                 .chatSessionId(chatSessionId)
-                .group(group)
+                .group(groupRepository.getReferenceById(groupId))
                 .name(LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))
                 .photoCount(photoList.size())
                 .thumbnailUrl(photoList.getFirst().getPhotoUrl())  // 첫번째 사진을 대표사진으로 저장
                 .build();
-        // 6. 스크린샷을 앨범에 포함해서 저장
-        album.addPhotos(photoList);
         highlightAlbumRepository.save(album);
 
-        return HighlightAlbumDto.from(album);
+        // 5. 스크린샷을 사진마다 수정하지 않고 UPDATE 한 번으로 앨범에 포함
+        highlightAlbumPhotoRepository.assignAlbumByChatSessionId(album, chatSessionId);
+        eventPublisher.publishEvent(HighlightAlbumChangedEvent.of(groupId, album.getId()));
+
+        return HighlightAlbumDto.of(album, photoList);
     }
 
     @Transactional
@@ -94,6 +110,7 @@ public class HighlightAlbumService {
                     .orElseThrow(() -> new BaseException(ErrorCode.PHOTO_NOT_FOUND));
             album.changeThumbnail(photo.getPhotoUrl());
         }
+        eventPublisher.publishEvent(HighlightAlbumChangedEvent.of(album.getGroup().getId(), albumId));
 
         return HighlightAlbumDto.from(album);
     }
@@ -106,6 +123,7 @@ public class HighlightAlbumService {
         List<Long> deletePhotoIds = request.getDeletePhotoIds();
         if (deletePhotoIds != null && !deletePhotoIds.isEmpty()) {
             deletePhotosInAlbum(deletePhotoIds, albumId);
+            eventPublisher.publishEvent(HighlightAlbumChangedEvent.of(album.getGroup().getId(), albumId));
         }
 
         return HighlightAlbumDto.from(album);
@@ -137,6 +155,7 @@ public class HighlightAlbumService {
         album.delete();
         // 3. 앨범에 연관된 사진 삭제 (물리 삭제)
         highlightAlbumPhotoRepository.deleteAll(album.getPhotos());
+        eventPublisher.publishEvent(HighlightAlbumChangedEvent.of(groupId, albumId));
 
         return HighlightAlbumDto.from(album);
     }
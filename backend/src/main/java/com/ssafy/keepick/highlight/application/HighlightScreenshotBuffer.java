@@ -0,0 +1,88 @@
+package com.ssafy.keepick.highlight.application;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.keepick.external.redis.RedisService;
+import com.ssafy.keepick.global.exception.BaseException;
+import com.ssafy.keepick.global.exception.ErrorCode;
+import com.ssafy.keepick.highlight.application.dto.HighlightScreenshotBufferDto;
+import com.ssafy.keepick.highlight.presistence.HighlightAlbumPhotoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 화상채팅 세션별 스크린샷을 Redis 리스트에 모아 두었다가 한 번에 저장하는 버퍼
+ * 리스트가 flush-size 이상 쌓이거나 앨범 생성 요청이 오면 비우면서 bulk insert
+ * 버퍼 TTL은 마지막 append 시점부터 다시 계산되므로, 마지막 스크린샷 이후 ttl-hours 안에 앨범이 생성되지 않으면
+ * 아직 저장되지 않은 스크린샷(최대 flush-size - 1장)은 버려진다. 앨범에 포함되지 않은 스크린샷은 조회되지 않으므로
+ * 앨범 생성 요청이 TTL 안에 들어오는 한 유실되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HighlightScreenshotBuffer {
+    private static final String KEY_PREFIX = "highlight:screenshot:buffer:";
+
+    private final RedisService redisService;
+    private final HighlightAlbumPhotoRepository highlightAlbumPhotoRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.highlight.screenshot-buffer.flush-size}")
+    private int flushSize;
+
+    @Value("${app.highlight.screenshot-buffer.ttl-hours}")
+    private long ttlHours;
+
+    @Transactional
+    public void append(String chatSessionId, List<HighlightScreenshotBufferDto> screenshots) {
+        List<String> values = screenshots.stream().map(this::serialize).toList();
+        long size = redisService.pushAllToList(KEY_PREFIX + chatSessionId, values, Duration.ofHours(ttlHours));
+        if (size >= flushSize) {
+            flush(chatSessionId);
+        }
+    }
+
+    /**
+     * 버퍼를 원자적으로 비우고 DB에 저장, 저장에 실패하면 다시 버퍼에 넣고 예외를 전파
+     * Redis에서 비운 스크린샷은 되돌릴 수 없으므로 호출한 쪽 트랜잭션이 롤백되더라도 남도록 별도 트랜잭션으로 커밋한다.
+     * (커밋된 스크린샷은 앨범이 없는 상태로 남아 다음 앨범 생성 요청에서 다시 조회된다)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int flush(String chatSessionId) {
+        List<String> values = redisService.drainList(KEY_PREFIX + chatSessionId);
+        if (values.isEmpty()) {
+            return 0;
+        }
+        try {
+            highlightAlbumPhotoRepository.bulkInsert(values.stream().map(this::deserialize).toList());
+        } catch (RuntimeException e) {
+            log.warn("하이라이트 스크린샷 버퍼 저장 실패, 버퍼 복구 - chatSessionId: {}, count: {}", chatSessionId, values.size());
+            redisService.pushAllToList(KEY_PREFIX + chatSessionId, values, Duration.ofHours(ttlHours));
+            throw e;
+        }
+        return values.size();
+    }
+
+    private String serialize(HighlightScreenshotBufferDto screenshot) {
+        try {
+            return objectMapper.writeValueAsString(screenshot);
+        } catch (JsonProcessingException e) {
+            throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private HighlightScreenshotBufferDto deserialize(String value) {
+        try {
+            return objectMapper.readValue(value, HighlightScreenshotBufferDto.class);
+        } catch (JsonProcessingException e) {
+            throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
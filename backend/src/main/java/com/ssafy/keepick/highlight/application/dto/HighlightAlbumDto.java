@@ -24,6 +24,10 @@ public class HighlightAlbumDto {
     private Map<HighlightType, List<HighlightAlbumPhotoDto>> photos;
 
     public static HighlightAlbumDto from(HighlightAlbum album) {
+        return of(album, album.getPhotos());
+    }
+
+    public static HighlightAlbumDto of(HighlightAlbum album, List<HighlightAlbumPhoto> photos) {
         return HighlightAlbumDto.builder()
                 .albumId(album.getId())
                 .groupId(album.getGroup().getId())
@@ -31,7 +35,7 @@ public class HighlightAlbumDto {
                 .description(album.getDescription())
                 .photoCount(album.getPhotoCount())
                 .thumbnailUrl(album.getThumbnailUrl())
-                .photos(groupingByType(album.getPhotos()))
+                .photos(groupingByType(photos))
                 .build();
     }
 
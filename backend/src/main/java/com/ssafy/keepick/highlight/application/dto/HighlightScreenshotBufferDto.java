@@ -0,0 +1,32 @@
+package com.ssafy.keepick.highlight.application.dto;
+
+import com.ssafy.keepick.highlight.controller.request.HighlightScreenshotSaveRequest;
+import com.ssafy.keepick.highlight.domain.HighlightType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HighlightScreenshotBufferDto {
+    private Long memberId;
+    private String chatSessionId;
+    private HighlightType type;
+    private String photoUrl;
+    private LocalDateTime takenAt;
+
+    public static HighlightScreenshotBufferDto of(Long memberId, HighlightScreenshotSaveRequest request) {
+        return HighlightScreenshotBufferDto.builder()
+                .memberId(memberId)
+                .chatSessionId(request.getChatSessionId())
+                .type(request.getType())
+                .photoUrl(request.getImageUrl())
+                .takenAt(request.getTakenAt())
+                .build();
+    }
+}
@@ -0,0 +1,14 @@
+package com.ssafy.keepick.highlight.application.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 하이라이트 앨범이 생성/수정/삭제되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class HighlightAlbumChangedEvent {
+    private final Long groupId;
+    private final Long albumId;
+}
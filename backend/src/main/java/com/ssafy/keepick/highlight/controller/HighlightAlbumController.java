@@ -7,10 +7,13 @@ import com.ssafy.keepick.highlight.application.dto.HighlightAlbumPhotoDto;
 import com.ssafy.keepick.highlight.controller.request.HighlightAlbumCreateRequest;
 import com.ssafy.keepick.highlight.controller.request.HighlightAlbumUpdateDeleteRequest;
 import com.ssafy.keepick.highlight.controller.request.HighlightAlbumUpdateRequest;
+import com.ssafy.keepick.highlight.controller.request.HighlightScreenshotBatchSaveRequest;
 import com.ssafy.keepick.highlight.controller.request.HighlightScreenshotSaveRequest;
 import com.ssafy.keepick.highlight.controller.response.HighlightAlbumResponse;
 import com.ssafy.keepick.highlight.controller.response.HighlightAlbumSummaryResponse;
+import com.ssafy.keepick.highlight.controller.response.HighlightScreenshotBatchSaveResponse;
 import com.ssafy.keepick.highlight.controller.response.HighlightScreenshotSaveResponse;
+import com.ssafy.keepick.photo.application.ImageService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -25,13 +28,25 @@ import java.util.List;
 @Tag(name="Highlight Album", description = "하이라이트 앨범 관련 API")
 public class HighlightAlbumController {
     private final HighlightAlbumService highlightAlbumService;
+    private final ImageService imageService;
 
     @PostMapping("/photos")
     @Operation(summary = "하이라이트 스크린샷 업로드", description = "화상채팅 중 감정이 감지되어 캡처된 사진의 S3 URL을 전달받아 저장합니다.")
     public ApiResponse<HighlightScreenshotSaveResponse> saveHighlightScreenshot(@PathVariable Long groupId,
                                                                                 @Valid @RequestBody HighlightScreenshotSaveRequest request) {
         HighlightAlbumPhotoDto result = highlightAlbumService.saveHighlightScreenshot(groupId, request);
-        return ApiResponse.created(HighlightScreenshotSaveResponse.from(result));
+        return ApiResponse.created(HighlightScreenshotSaveResponse.from(result, imageService::toReadUrl));
+    }
+
+    @PostMapping("/photos/batch")
+    @Operation(summary = "하이라이트 스크린샷 일괄 업로드", description = """
+            화상채팅 중 캡처된 여러 스크린샷의 S3 URL을 한 번에 전달받아 세션별 버퍼에 접수합니다.
+            버퍼에 일정 개수 이상 쌓이거나 하이라이트 앨범 생성 요청이 오면 한 번에 저장됩니다.
+            """)
+    public ApiResponse<HighlightScreenshotBatchSaveResponse> saveHighlightScreenshots(@PathVariable Long groupId,
+                                                                                      @Valid @RequestBody HighlightScreenshotBatchSaveRequest request) {
+        int result = highlightAlbumService.bufferHighlightScreenshots(groupId, request);
+        return ApiResponse.created(HighlightScreenshotBatchSaveResponse.from(result));
     }
 
     @PostMapping()
@@ -42,7 +57,7 @@ public class HighlightAlbumController {
     public ApiResponse<HighlightAlbumResponse> createHighlightAlbum(@PathVariable Long groupId,
                                                                     @Valid @RequestBody HighlightAlbumCreateRequest request) {
         HighlightAlbumDto result = highlightAlbumService.createHighlightAlbum(groupId, request);
-        return ApiResponse.created(HighlightAlbumResponse.from(result));
+        return ApiResponse.created(HighlightAlbumResponse.from(result, imageService::toReadUrl));
     }
 
     @PutMapping("{albumId}")
@@ -53,7 +68,7 @@ public class HighlightAlbumController {
                                                                     @PathVariable Long albumId,
                                                                     @Valid @RequestBody HighlightAlbumUpdateRequest request) {
         HighlightAlbumDto result = highlightAlbumService.updateHighlightAlbum(albumId, request);
-        return ApiResponse.ok(HighlightAlbumResponse.from(result));
+        return ApiResponse.ok(HighlightAlbumResponse.from(result, imageService::toReadUrl));
     }
 
     @DeleteMapping("{albumId}/photos")
@@ -65,7 +80,7 @@ public class HighlightAlbumController {
                                                                     @PathVariable Long albumId,
                                                                     @Valid @RequestBody HighlightAlbumUpdateDeleteRequest request) {
         HighlightAlbumDto result = highlightAlbumService.deleteHighlightAlbumPhoto(albumId, request);
-        return ApiResponse.ok(HighlightAlbumResponse.from(result));
+        return ApiResponse.ok(HighlightAlbumResponse.from(result, imageService::toReadUrl));
     }
 
     @DeleteMapping("{albumId}")
@@ -75,20 +90,20 @@ public class HighlightAlbumController {
             """)
     public ApiResponse<HighlightAlbumResponse> deleteHighlightAlbum(@PathVariable Long groupId, @PathVariable Long albumId) {
         HighlightAlbumDto result = highlightAlbumService.deleteHighlightAlbum(groupId, albumId);
-        return ApiResponse.ok(HighlightAlbumResponse.from(result));
+        return ApiResponse.ok(HighlightAlbumResponse.from(result, imageService::toReadUrl));
     }
 
     @GetMapping()
     @Operation(summary = "하이라이트 앨범 목록 조회")
     public ApiResponse<HighlightAlbumSummaryResponse> getHighlightAlbums(@PathVariable Long groupId) {
         List<HighlightAlbumDto>  result = highlightAlbumService.getHighlightAlbumList(groupId);
-        return ApiResponse.ok(HighlightAlbumSummaryResponse.from(result));
+        return ApiResponse.ok(HighlightAlbumSummaryResponse.from(result, imageService::toReadUrl));
     }
 
     @GetMapping("{albumId}")
     @Operation(summary = "하이라이트 앨범 상세 조회")
     public ApiResponse<HighlightAlbumResponse> getHighlightAlbumDetail(@PathVariable Long groupId, @PathVariable Long albumId) {
         HighlightAlbumDto result = highlightAlbumService.getHighlightAlbum(groupId, albumId);
-        return ApiResponse.ok(HighlightAlbumResponse.from(result));
+        return ApiResponse.ok(HighlightAlbumResponse.from(result, imageService::toReadUrl));
     }
 }
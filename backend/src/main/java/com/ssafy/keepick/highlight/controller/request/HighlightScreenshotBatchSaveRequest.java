@@ -0,0 +1,22 @@
+package com.ssafy.keepick.highlight.controller.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HighlightScreenshotBatchSaveRequest {
+    @Valid
+    @NotEmpty(message = "스크린샷 목록은 필수입니다.")
+    @Size(max = 500, message = "스크린샷은 한 번에 최대 500개까지 전송할 수 있습니다.")
+    private List<HighlightScreenshotSaveRequest> screenshots;
+}
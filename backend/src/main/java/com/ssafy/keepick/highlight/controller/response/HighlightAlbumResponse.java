@@ -10,6 +10,7 @@ import lombok.Getter;
 
 import java.util.List;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 @Getter
@@ -36,22 +37,27 @@ public class HighlightAlbumResponse {
     private Map<HighlightType, List<HighlightScreenshotSaveResponse>> photos;
 
     public static HighlightAlbumResponse from(HighlightAlbumDto album) {
+        return from(album, UnaryOperator.identity());
+    }
+
+    public static HighlightAlbumResponse from(HighlightAlbumDto album, UnaryOperator<String> urlResolver) {
         return HighlightAlbumResponse.builder()
                 .albumId(album.getAlbumId())
                 .groupId(album.getGroupId())
                 .name(album.getName())
                 .description(album.getDescription())
                 .photoCount(album.getPhotoCount())
-                .photos(groupingByType(album.getPhotos()))
+                .photos(groupingByType(album.getPhotos(), urlResolver))
                 .build();
     }
 
-    private static Map<HighlightType, List<HighlightScreenshotSaveResponse>> groupingByType(Map<HighlightType, List<HighlightAlbumPhotoDto>> photoList) {
+    private static Map<HighlightType, List<HighlightScreenshotSaveResponse>> groupingByType(Map<HighlightType, List<HighlightAlbumPhotoDto>> photoList,
+                                                                                           UnaryOperator<String> urlResolver) {
         return photoList.entrySet().stream()
                 .collect(Collectors.toMap(
                     Map.Entry::getKey,
                     entry -> entry.getValue().stream()
-                            .map(HighlightScreenshotSaveResponse::from)
+                            .map(photo -> HighlightScreenshotSaveResponse.from(photo, urlResolver))
                             .collect(Collectors.toList())
                 ));
     }
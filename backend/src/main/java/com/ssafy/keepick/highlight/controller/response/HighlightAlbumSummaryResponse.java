@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 @Getter
 @Builder
@@ -32,18 +33,26 @@ public class HighlightAlbumSummaryResponse {
         private String thumbnailUrl;
 
         public static Info from(HighlightAlbumDto dto) {
+            return from(dto, UnaryOperator.identity());
+        }
+
+        public static Info from(HighlightAlbumDto dto, UnaryOperator<String> urlResolver) {
             return Info.builder()
                     .id(dto.getAlbumId())
                     .name(dto.getName())
                     .description(dto.getDescription())
-                    .thumbnailUrl(dto.getThumbnailUrl())
+                    .thumbnailUrl(urlResolver.apply(dto.getThumbnailUrl()))
                     .build();
         }
     }
 
     public static HighlightAlbumSummaryResponse from(List<HighlightAlbumDto> dto) {
+        return from(dto, UnaryOperator.identity());
+    }
+
+    public static HighlightAlbumSummaryResponse from(List<HighlightAlbumDto> dto, UnaryOperator<String> urlResolver) {
         return HighlightAlbumSummaryResponse.builder()
-                .highlightAlbums(dto.stream().map(Info::from).toList())
+                .highlightAlbums(dto.stream().map(info -> Info.from(info, urlResolver)).toList())
                 .build();
     }
 }
@@ -0,0 +1,19 @@
+package com.ssafy.keepick.highlight.controller.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class HighlightScreenshotBatchSaveResponse {
+
+    @Schema(description = "버퍼에 접수된 스크린샷 수", example = "12")
+    private int acceptedCount;
+
+    public static HighlightScreenshotBatchSaveResponse from(int acceptedCount) {
+        return HighlightScreenshotBatchSaveResponse.builder()
+                .acceptedCount(acceptedCount)
+                .build();
+    }
+}
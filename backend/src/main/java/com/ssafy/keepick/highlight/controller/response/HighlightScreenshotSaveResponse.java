@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.format.DateTimeFormatter;
+import java.util.function.UnaryOperator;
 
 @Getter
 @Builder
@@ -32,11 +33,15 @@ public class HighlightScreenshotSaveResponse {
     private String takenAt;
 
     public static HighlightScreenshotSaveResponse from(HighlightAlbumPhotoDto photo) {
+        return from(photo, UnaryOperator.identity());
+    }
+
+    public static HighlightScreenshotSaveResponse from(HighlightAlbumPhotoDto photo, UnaryOperator<String> urlResolver) {
         return HighlightScreenshotSaveResponse.builder()
                 .photoId(photo.getPhotoId())
                 .memberId(photo.getMemberId())
                 .chatSessionId(photo.getChatSessionId())
-                .photoUrl(photo.getPhotoUrl())
+                .photoUrl(urlResolver.apply(photo.getPhotoUrl()))
                 .takenAt(photo.getTakenAt().format(DateTimeFormatter.ofPattern("yyyy-MM-dd")))
                 .type(photo.getType().name())
                 .build();
@@ -11,7 +11,7 @@ import java.time.LocalDateTime;
 
 @Getter
 @Entity
-@Table(name = "`highlight_album_photo`")
+@Table(name = "`highlight_album_photo`", indexes = @Index(name = "idx_highlight_album_photo_chat_session", columnList = "chat_session_id, album_id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class HighlightAlbumPhoto {
     @Id
@@ -35,7 +35,6 @@ public class HighlightAlbumPhoto {
 
     private HighlightType type;
 
-    // TODO: 인덱스 설정
     private String chatSessionId;
 
     @Builder
@@ -0,0 +1,11 @@
+package com.ssafy.keepick.highlight.presistence;
+
+import com.ssafy.keepick.highlight.application.dto.HighlightScreenshotBufferDto;
+
+import java.util.List;
+
+public interface HighlightAlbumPhotoJdbcRepository {
+
+    // 버퍼에 모인 스크린샷들을 앨범 미지정 상태로 한 번에 저장
+    void bulkInsert(List<HighlightScreenshotBufferDto> screenshots);
+}
@@ -0,0 +1,47 @@
+package com.ssafy.keepick.highlight.presistence;
+
+import com.ssafy.keepick.highlight.application.dto.HighlightScreenshotBufferDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class HighlightAlbumPhotoJdbcRepositoryImpl implements HighlightAlbumPhotoJdbcRepository {
+    private static final String INSERT_SQL = """
+        INSERT INTO highlight_album_photo (member_id, chat_session_id, type, photo_url, taken_at)
+        VALUES (?, ?, ?, ?, ?)
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * IDENTITY 전략에서는 Hibernate가 insert를 batch로 묶지 못하므로 JDBC batch로 직접 저장
+     * (type 컬럼은 엔티티와 같이 ordinal로 저장)
+     */
+    @Override
+    public void bulkInsert(List<HighlightScreenshotBufferDto> screenshots) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                HighlightScreenshotBufferDto screenshot = screenshots.get(i);
+                ps.setLong(1, screenshot.getMemberId());
+                ps.setString(2, screenshot.getChatSessionId());
+                ps.setInt(3, screenshot.getType().ordinal());
+                ps.setString(4, screenshot.getPhotoUrl());
+                ps.setTimestamp(5, Timestamp.valueOf(screenshot.getTakenAt()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return screenshots.size();
+            }
+        });
+    }
+}
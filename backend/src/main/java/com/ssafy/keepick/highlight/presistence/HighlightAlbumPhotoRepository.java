@@ -1,12 +1,24 @@
 package com.ssafy.keepick.highlight.presistence;
 
+import com.ssafy.keepick.highlight.domain.HighlightAlbum;
 import com.ssafy.keepick.highlight.domain.HighlightAlbumPhoto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 
 @Repository
-public interface HighlightAlbumPhotoRepository extends JpaRepository<HighlightAlbumPhoto, Long> {
+public interface HighlightAlbumPhotoRepository extends JpaRepository<HighlightAlbumPhoto, Long>, HighlightAlbumPhotoJdbcRepository {
     List<HighlightAlbumPhoto> findAllByChatSessionId(String chatSessionId);
+
+    List<HighlightAlbumPhoto> findAllByChatSessionIdAndAlbumIsNullOrderByIdAsc(String chatSessionId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE HighlightAlbumPhoto p " +
+            "SET p.album = :album " +
+            "WHERE p.chatSessionId = :chatSessionId " +
+            "AND p.album IS NULL")
+    int assignAlbumByChatSessionId(HighlightAlbum album, String chatSessionId);
 }
@@ -28,5 +28,6 @@ public interface HighlightAlbumRepository extends JpaRepository<HighlightAlbum,
 
     List<HighlightAlbum> findAllByGroupIdAndDeletedAtIsNullOrderByCreatedAtDesc(Long groupId);
 
-    boolean existsByIdAndGroupIdAndDeletedAtIsNull(Long albumId, Long groupId);
+    @Query("SELECT ha.group.id FROM HighlightAlbum ha WHERE ha.id = :albumId AND ha.deletedAt IS NULL")
+    Optional<Long> findGroupIdByIdAndDeletedAtIsNull(Long albumId);
 }
@@ -3,7 +3,8 @@ package com.ssafy.keepick.member.application;
 import com.ssafy.keepick.external.visionai.VisionAIService;
 import com.ssafy.keepick.external.visionai.request.ProfileValidateRequest;
 import com.ssafy.keepick.external.visionai.response.ProfileValidateResponse;
-import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -24,6 +25,10 @@ public class MemberService {
     
     private final MemberRepository memberRepository;
     private final VisionAIService  visionAIService;
+
+    // 자동 생성 닉네임의 숫자 접미사는 9자리까지, 다 쓰면 남은 번호 중 무작위로 선택
+    private static final long MAX_NICKNAME_SUFFIX = 999_999_999L;
+    private static final int RANDOM_NICKNAME_ATTEMPTS = 10;
     
     /**
      * 현재 로그인된 사용자의 정보를 조회합니다.
@@ -106,11 +111,11 @@ public class MemberService {
     
     /**
      * 이메일에서 고유한 닉네임을 생성합니다.
-     * 기존 닉네임이 있으면 뒤에 순차적으로 증가하는 숫자를 붙여서 고유성을 보장합니다.
+     * 기존 닉네임이 있으면 사용 중인 가장 큰 숫자 다음 숫자를 붙여서 고유성을 보장합니다.
+     * 닉네임 후보를 하나씩 확인하지 않고 접두사 범위 조회 한 번으로 다음 숫자를 찾습니다.
      * @param email 이메일 주소
      * @return 고유한 닉네임
      */
-    @Transactional
     public String generateUniqueNicknameFromEmail(String email) {
         if (email == null || !email.contains("@")) {
             throw new BaseException(ErrorCode.INVALID_PARAMETER);
@@ -122,47 +127,34 @@ public class MemberService {
             throw new BaseException(ErrorCode.INVALID_PARAMETER);
         }
 
-        // 기본 닉네임이 사용 가능한지 확인
-        if (checkNicknameAvailability(baseNickname)) {
+        // 기본 닉네임과 숫자 접미사 닉네임 중 가장 큰 닉네임 한 건만 조회 (없으면 기본 닉네임 사용 가능)
+        Optional<String> maxNickname = memberRepository.findMaxNumberedNickname(
+                escapeLike(baseNickname), baseNickname.codePointCount(0, baseNickname.length()));
+        if (maxNickname.isEmpty()) {
             return baseNickname;
         }
 
-        // 기본 닉네임이 이미 사용 중이면 순차적으로 증가하는 숫자를 붙여서 고유한 닉네임 생성
-        List<Member> existingMembers = memberRepository.findByNicknameStartingWith(baseNickname);
-        
-        // 이미 존재하는 닉네임들에서 숫자 부분을 추출하여 사용 가능한 최소 숫자 찾기
-        int nextNumber = 1;
-        for (Member member : existingMembers) {
-            String existingNickname = member.getNickname();
-            if (existingNickname.startsWith(baseNickname)) {
-                String suffix = existingNickname.substring(baseNickname.length());
-                if (suffix.matches("\\d+")) {
-                    int existingNumber = Integer.parseInt(suffix);
-                    nextNumber = Math.max(nextNumber, existingNumber + 1);
-                }
-            }
+        // 사용 중인 가장 큰 숫자 다음 숫자를 붙여서 고유한 닉네임 생성
+        String suffix = maxNickname.get().substring(baseNickname.length());
+        long nextSuffix = suffix.isEmpty() ? 1 : Long.parseLong(suffix) + 1;
+        if (nextSuffix <= MAX_NICKNAME_SUFFIX) {
+            return baseNickname + nextSuffix;
         }
+        return generateRandomNickname(baseNickname);
+    }
 
-        // 최대 9999까지 시도 (4자리 숫자)
-        int maxNumber = 9999;
-        String uniqueNickname;
-        
-        for (int i = nextNumber; i <= maxNumber; i++) {
-            uniqueNickname = baseNickname + i;
-            if (checkNicknameAvailability(uniqueNickname)) {
-                return uniqueNickname;
+    // 9자리 숫자를 모두 쓴 경우 무작위 숫자를 붙여 사용되지 않은 닉네임을 찾음
+    private String generateRandomNickname(String baseNickname) {
+        for (int attempt = 0; attempt < RANDOM_NICKNAME_ATTEMPTS; attempt++) {
+            String nickname = baseNickname + ThreadLocalRandom.current().nextLong(1, MAX_NICKNAME_SUFFIX + 1);
+            if (memberRepository.findByNickname(nickname).isEmpty()) {
+                return nickname;
             }
         }
+        throw new BaseException(ErrorCode.DUPLICATE_RESOURCE, "사용 가능한 닉네임을 생성하지 못했습니다.");
+    }
 
-        // 모든 숫자를 시도했는데도 사용할 수 없는 경우 타임스탬프 사용
-        long timestamp = System.currentTimeMillis() % 10000;
-        uniqueNickname = baseNickname + timestamp;
-        
-        // 타임스탬프도 중복될 수 있으므로 추가 확인
-        if (!checkNicknameAvailability(uniqueNickname)) {
-            uniqueNickname = baseNickname + (timestamp + 1) % 10000;
-        }
-        
-        return uniqueNickname;
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
     }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package com.ssafy.keepick.member.persistence;
 
-import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -18,11 +17,20 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     Optional<Member> findByNickname(String nickname);
     
     /**
-     * 특정 닉네임으로 시작하는 회원들을 찾습니다.
-     * @param nicknamePrefix 검색할 닉네임 접두사
-     * @return 해당 접두사로 시작하는 회원 목록
+     * 접두사 그대로이거나 접두사 뒤에 숫자(0으로 시작하지 않는 9자리 이하)만 붙은 닉네임 중 숫자가 가장 큰 닉네임 한 건을 조회합니다.
+     * 접두사 범위는 nickname 유니크 인덱스로 조회하고, 숫자 비교는 길이, 문자열 순으로 DB에서 정렬합니다.
+     * @param escapedPrefix LIKE 특수문자(%, _, !)를 '!'로 이스케이프한 접두사
+     * @param prefixLength 이스케이프하기 전 접두사의 문자 수
+     * @return 숫자가 가장 큰 닉네임, 접두사 그대로인 닉네임만 있으면 접두사, 없으면 empty
      */
-    @Query("SELECT m FROM Member m WHERE m.nickname LIKE :nicknamePrefix%")
-    List<Member> findByNicknameStartingWith(@Param("nicknamePrefix") String nicknamePrefix);
+    @Query(value = """
+            SELECT m.nickname FROM member m
+            WHERE m.nickname LIKE CONCAT(:escapedPrefix, '%') ESCAPE '!'
+              AND REGEXP_LIKE(SUBSTRING(m.nickname, :prefixLength + 1), '^([1-9][0-9]{0,8})?$')
+            ORDER BY CHAR_LENGTH(m.nickname) DESC, m.nickname DESC
+            LIMIT 1
+            """, nativeQuery = true)
+    Optional<String> findMaxNumberedNickname(@Param("escapedPrefix") String escapedPrefix,
+                                             @Param("prefixLength") int prefixLength);
 
 }
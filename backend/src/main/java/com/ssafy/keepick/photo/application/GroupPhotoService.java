@@ -7,6 +7,7 @@ import com.ssafy.keepick.group.domain.Group;
 import com.ssafy.keepick.group.persistence.GroupRepository;
 import com.ssafy.keepick.member.domain.Member;
 import com.ssafy.keepick.photo.application.dto.*;
+import com.ssafy.keepick.photo.application.event.GroupPhotoChangedEvent;
 import com.ssafy.keepick.photo.controller.request.GroupPhotoDeleteRequest;
 import com.ssafy.keepick.photo.controller.request.GroupPhotoSearchRequest;
 import com.ssafy.keepick.photo.controller.request.GroupPhotoUploadRequest;
@@ -18,6 +19,7 @@ import com.ssafy.keepick.photo.persistence.PhotoRepository;
 import com.ssafy.keepick.photo.persistence.PhotoTagRepository;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -39,7 +41,11 @@ public class GroupPhotoService {
     private final ImageService imageService;
     private final PhotoTagRepository photoTagRepository;
     private final PhotoMemberRepository photoMemberRepository;
+    private final MemberPhotoFeedService memberPhotoFeedService;
+    private final TagDictionary tagDictionary;
     private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PhotoTraceContextStore photoTraceContextStore;
 
     @Transactional
     public List<GroupPhotoUploadDto> uploadGroupPhoto(Long groupId, GroupPhotoUploadRequest request) {
@@ -70,6 +76,8 @@ public class GroupPhotoService {
         } catch (Exception e) {
             throw new BaseException(ErrorCode.PRESIGNED_URL_GENERATION_FAILED, e.getMessage());
         }
+        // 업로드 완료 후 S3 이벤트로 시작되는 처리를 이 요청의 trace에 연결
+        photoTraceContextStore.save(photos.stream().map(Photo::getId).toList());
 
         // 5. originalUrl 세팅 및 상태 변경 (status: UPLOAD)
         IntStream.range(0, photos.size())
@@ -91,6 +99,8 @@ public class GroupPhotoService {
         List<Long> ids = request.getPhotoIds();
         List<Long> deleteIds = photoRepository.findPhotoIdNotInAnyAlbum(ids);
         photoRepository.softDeleteAllById(deleteIds);
+        memberPhotoFeedService.remove(groupId, deleteIds);
+        eventPublisher.publishEvent(GroupPhotoChangedEvent.of(groupId));
 
         entityManager.flush();
         entityManager.clear();
@@ -103,27 +113,39 @@ public class GroupPhotoService {
 
     @Transactional(readOnly = true)
     public Page<GroupPhotoDto> getGroupPhotos(Long groupId, GroupPhotoSearchRequest request) {
-        Page<Photo> photoPage = photoRepository.findAllPhotosByGroupIdAndOption(PageRequest.of(request.getPage(), request.getSize()),
+        PageRequest pageRequest = PageRequest.of(request.getPage(), request.getSize());
+
+        // 태그 이름 → 태그 ID (존재하지 않는 태그만 선택한 경우 조건에 맞는 사진이 없음)
+        List<Integer> tagIds = tagDictionary.findIds(request.getTags());
+        if (request.getTags() != null && !request.getTags().isEmpty() && tagIds.isEmpty()) {
+            return Page.empty(pageRequest);
+        }
+
+        Page<Photo> photoPage = photoRepository.findAllPhotosByGroupIdAndOption(pageRequest,
                 groupId,
                 request.getMemberIds(),
-                request.getTags(),
+                tagIds,
                 request.getStartDate(),
                 request.getEndDate());
-        return photoPage.map(GroupPhotoDto::from);
+        return photoPage.map(this::toGroupPhotoDto);
     }
 
     @Transactional(readOnly = true)
     public List<GroupPhotoDto> getRandomPhotos(Long memberId, int size) {
-        int total = photoRepository.countByMemberId(memberId);
-        int offset = (int) (Math.random() * Math.max(1, total - size));
-        List<Photo> photoList = photoRepository.findRandomByMemberId(memberId, size, offset);
-        return photoList.stream().map(GroupPhotoDto::from).collect(Collectors.toList());
+        List<Long> photoIds = memberPhotoFeedService.sample(memberId, size);
+        return findFeedPhotos(photoIds);
+    }
+
+    @Transactional(readOnly = true)
+    public List<GroupPhotoDto> getRecentPhotos(Long memberId, int page, int size) {
+        List<Long> photoIds = memberPhotoFeedService.getRecent(memberId, page, size);
+        return findFeedPhotos(photoIds);
     }
 
     @Transactional(readOnly = true)
     public Page<GroupPhotoDto> getBlurredPhotos(Long groupId, int page, int size) {
         Page<Photo> photoPage = photoRepository.findBlurredPhotosByGroupId(groupId, PageRequest.of(page, size, Sort.by("id").descending()));
-        return photoPage.map(GroupPhotoDto::from);
+        return photoPage.map(this::toGroupPhotoDto);
     }
 
     @Transactional(readOnly = true)
@@ -136,7 +158,7 @@ public class GroupPhotoService {
         Page<Photo> allPhotoPage = photoRepository.findByGroupIdAndDeletedAtIsNull(groupId, PageRequest.of(0, size, Sort.by("id").descending()));
         Page<Photo> blurredPhotoPage = photoRepository.findBlurredPhotosByGroupId(groupId, PageRequest.of(0, size, Sort.by("id").descending()));
         Page<PhotoClusterDto> clusterPhotoPage = getSimilarPhotoClusters(groupId, 0, size);
-        return GroupPhotoOverviewDto.from(allPhotoPage, blurredPhotoPage, clusterPhotoPage);
+        return GroupPhotoOverviewDto.from(allPhotoPage, blurredPhotoPage, clusterPhotoPage, imageService::toReadUrl);
     }
 
     @Transactional(readOnly = true)
@@ -147,7 +169,10 @@ public class GroupPhotoService {
         }
 
         // 사진 태그, 인식된 회원 조회
-        List<PhotoTag> tags = photoTagRepository.findAllByPhotoId(photoId);
+        List<Integer> tagIds = photoTagRepository.findAllByPhotoId(photoId).stream()
+                .map(PhotoTag::getTagId)
+                .toList();
+        List<String> tags = tagDictionary.getNames(tagIds);
         List<PhotoMember> members = photoMemberRepository.findAllByPhotoId(groupId, photoId);
         return PhotoTagDto.from(tags, members);
     }
@@ -162,26 +187,42 @@ public class GroupPhotoService {
                 .filter(Objects::nonNull)
                 .collect(Collectors.toList());
 
-        if (clusterIds.isEmpty()) {
-            return clusterPage; // 유사한 사진 클러스터가 없으면 바로 반환
-        }
-
-        // 3. clusterId 리스트로 해당 그룹 내 모든 사진 조회
-        List<Photo> photoList = photoRepository.findAllByGroupIdAndClusterIdInAndDeletedAtIsNull(groupId, clusterIds);
+        // 3. clusterId 리스트로 해당 그룹 내 모든 사진 조회 (유사한 사진 클러스터가 없으면 조회하지 않음)
+        List<Photo> photoList = clusterIds.isEmpty()
+                ? Collections.emptyList()
+                : photoRepository.findAllByGroupIdAndClusterIdInAndDeletedAtIsNull(groupId, clusterIds);
 
         // 4. clusterId 기준으로 사진 그룹핑
         Map<Long, List<Photo>> photoListByCluster = photoList.stream().collect(Collectors.groupingBy(Photo::getClusterId));
 
-        // 5. 각 클러스터 DTO에 사진 리스트 매칭
-        clusterPage.forEach(cluster -> {
-            cluster.setPhotos(photoListByCluster.get(cluster.getClusterId()));
-        });
+        // 5. 각 클러스터 DTO에 사진 리스트 매칭 (사진이 없는 클러스터도 대표 썸네일 URL은 조회용 URL로 변환)
+        clusterPage.forEach(cluster -> cluster.setPhotos(
+                photoListByCluster.getOrDefault(cluster.getClusterId(), Collections.emptyList()), imageService::toReadUrl));
 
         return clusterPage;
     }
 
+    private List<GroupPhotoDto> findFeedPhotos(List<Long> photoIds) {
+        if (photoIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // 피드 ID로 사진 조회 (피드 반영 전에 삭제된 사진 제외) 후 피드 순서 유지
+        Map<Long, Photo> photoMap = photoRepository.findAllByIdInAndDeletedAtIsNull(photoIds).stream()
+                .collect(Collectors.toMap(Photo::getId, p -> p));
+        return photoIds.stream()
+                .map(photoMap::get)
+                .filter(Objects::nonNull)
+                .map(this::toGroupPhotoDto)
+                .collect(Collectors.toList());
+    }
+
+    private GroupPhotoDto toGroupPhotoDto(Photo photo) {
+        return GroupPhotoDto.from(photo, imageService::toReadUrl);
+    }
+
     public GroupPhotoTagDto getGroupPhotoAllTags(Long groupId) {
-        List<String> tagList = photoTagRepository.findTagsByGroupId(groupId);
+        List<String> tagList = tagDictionary.getNames(photoTagRepository.findTagIdsByGroupId(groupId));
         List<Member> memberList = photoMemberRepository.findMembersByGroupId(groupId);
         return GroupPhotoTagDto.of(tagList, memberList);
     }
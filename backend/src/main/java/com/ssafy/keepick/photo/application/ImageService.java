@@ -2,8 +2,15 @@ package com.ssafy.keepick.photo.application;
 import com.ssafy.keepick.external.s3.S3FileOperationService;
 import com.ssafy.keepick.external.s3.S3PresignedUrlService;
 import com.ssafy.keepick.external.s3.dto.S3ImagePathDto;
+import com.ssafy.keepick.external.s3.dto.S3ObjectStreamDto;
+import com.ssafy.keepick.global.exception.BaseException;
+import com.ssafy.keepick.global.exception.ErrorCode;
+import com.ssafy.keepick.global.utils.FileUtils;
+import com.ssafy.keepick.group.application.GroupMembershipCache;
 import com.ssafy.keepick.photo.application.dto.GroupPhotoCommandDto;
+import com.ssafy.keepick.photo.persistence.PhotoRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,6 +21,14 @@ public class ImageService {
 
     private final S3PresignedUrlService presignedUrlService;
     private final S3FileOperationService fileOperationService;
+    private final PhotoRepository photoRepository;
+    private final GroupMembershipCache groupMembershipCache;
+
+    @Value("${app.aws.s3.originals-prefix}")
+    private String originalsPrefix;
+
+    @Value("${app.aws.s3.thumbnails-prefix}")
+    private String thumbnailsPrefix;
 
     // Presigned URL 관련 메서드들
     public S3ImagePathDto generatePresignedUrl(String fileName, String contentType) {
@@ -25,6 +40,10 @@ public class ImageService {
         return presignedUrlService.generatePresignedUrls(groupPhotoCommandDtoList);
     }
 
+    public String toReadUrl(String publicUrl) {
+        return presignedUrlService.toReadUrl(publicUrl);
+    }
+
     // 파일 작업 관련 메서드들
     public byte[] downloadFile(String objectKey) {
         return fileOperationService.downloadFile(objectKey);
@@ -41,4 +60,27 @@ public class ImageService {
     public boolean fileExists(String objectKey) {
         return fileOperationService.fileExists(objectKey);
     }
-}
\ No newline at end of file
+
+    // 이미지 서빙 관련 메서드들
+    public S3ObjectStreamDto openImageStream(Long memberId, String type, Long photoId, String fileName, String range, String ifNoneMatch) {
+        String prefix = type + "/";
+        if (!prefix.equals(originalsPrefix) && !prefix.equals(thumbnailsPrefix)) {
+            throw new BaseException(ErrorCode.INVALID_PARAMETER, "지원하지 않는 이미지 타입입니다.: " + type);
+        }
+        FileUtils.validateFileName(fileName);
+        validateGroupMember(memberId, photoId);
+
+        // 다중 범위 요청은 S3가 지원하지 않으므로 무시하고 전체를 응답한다 (RFC 9110)
+        String singleRange = FileUtils.isSingleByteRange(range) ? range : null;
+        return fileOperationService.openFileStream(prefix + photoId + "/" + fileName, singleRange, ifNoneMatch);
+    }
+
+    // 사진이 속한 그룹의 멤버만 이미지를 조회할 수 있다
+    private void validateGroupMember(Long memberId, Long photoId) {
+        Long groupId = photoRepository.findGroupIdByIdAndDeletedAtIsNull(photoId)
+                .orElseThrow(() -> new BaseException(ErrorCode.PHOTO_NOT_FOUND));
+        if (!groupMembershipCache.isAcceptedMember(groupId, memberId)) {
+            throw new BaseException(ErrorCode.FORBIDDEN);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.ssafy.keepick.photo.application;
+
+import com.ssafy.keepick.external.redis.RedisService;
+import com.ssafy.keepick.group.application.event.GroupMemberChangedEvent;
+import com.ssafy.keepick.group.persistence.GroupMemberRepository;
+import com.ssafy.keepick.photo.domain.Photo;
+import com.ssafy.keepick.photo.persistence.PhotoRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 회원별 홈 피드(Redis sorted set, member: 사진 ID, score: 사진 ID)
+ * 썸네일 생성이 끝난 사진을 그룹 회원들의 피드에 fan-out하고, 사진 삭제 시 제거한다.
+ * 피드가 없으면(만료, 그룹 가입/탈퇴) 최근 사진 ID를 한 번 조회해 다시 적재한다.
+ *
+ * 피드에는 회원이 속한 그룹의 최근 사진 최대 {@value #MAX_FEED_SIZE}장만 보관한다.
+ * 따라서 랜덤 사진은 이 범위 안에서만 추출하고, 최근 사진 페이징도 이 범위를 넘으면 빈 목록을 반환한다.
+ * 보여줄 사진이 없는 회원은 피드 대신 빈 피드 표시를 짧게 남겨, 조회할 때마다 DB를 다시 조회하지 않도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class MemberPhotoFeedService {
+    private static final String KEY_PREFIX = "photo:feed:member:";
+    private static final Duration FEED_TTL = Duration.ofDays(1);
+    private static final int MAX_FEED_SIZE = 5000;  // 홈 화면의 랜덤/최근 사진에 충분한 크기, 넘치면 오래된 사진부터 제외
+    private static final String EMPTY_KEY_PREFIX = "photo:feed:empty:member:";
+    private static final Duration EMPTY_TTL = Duration.ofMinutes(1);
+
+    private final RedisService redisService;
+    private final PhotoRepository photoRepository;
+    private final GroupMemberRepository groupMemberRepository;
+
+    /**
+     * 피드에서 중복 없이 무작위로 size개의 사진 ID 추출
+     */
+    public List<Long> sample(Long memberId, int size) {
+        if (size <= 0) {
+            return Collections.emptyList();
+        }
+
+        Set<String> sampled = redisService.getRandomSortedSetMembers(key(memberId), size);
+        if (sampled != null && !sampled.isEmpty()) {
+            List<Long> photoIds = new ArrayList<>(sampled.stream().map(Long::valueOf).toList());
+            Collections.shuffle(photoIds);
+            return photoIds;
+        }
+
+        // 피드가 없으면 적재 후 이번 요청은 조회한 목록에서 바로 추출
+        List<Long> photoIds = new ArrayList<>(rebuildUnlessEmpty(memberId));
+        Collections.shuffle(photoIds);
+        return photoIds.subList(0, Math.min(size, photoIds.size()));
+    }
+
+    /**
+     * 피드에서 최신순으로 page번째 size개의 사진 ID 조회
+     * 범위를 벗어난 page, size나 피드 크기를 넘는 페이지는 Redis를 조회하지 않고 빈 목록을 반환한다.
+     */
+    public List<Long> getRecent(Long memberId, int page, int size) {
+        if (page < 0 || size <= 0) {
+            return Collections.emptyList();
+        }
+
+        long start = (long) page * size;
+        if (start >= MAX_FEED_SIZE) {
+            return Collections.emptyList();
+        }
+        List<String> photoIds = redisService.getReverseRange(key(memberId), start, start + size - 1);
+        if (!photoIds.isEmpty() || redisService.hasKey(key(memberId))) {
+            return photoIds.stream().map(Long::valueOf).toList();
+        }
+
+        // 피드가 없으면 적재 후 이번 요청은 조회한 목록에서 바로 페이징
+        List<Long> rebuilt = rebuildUnlessEmpty(memberId);
+        if (start >= rebuilt.size()) {
+            return Collections.emptyList();
+        }
+        return rebuilt.subList((int) start, (int) Math.min(start + size, rebuilt.size()));
+    }
+
+    /**
+     * 썸네일 생성이 끝난 사진을 그룹 회원들의 피드에 추가 (적재되지 않은 피드는 건너뜀)
+     * 빈 피드 표시는 지워 첫 사진이 다음 조회부터 바로 보이도록 한다.
+     */
+    public void fanOut(Photo photo) {
+        List<Long> memberIds = groupMemberRepository.findJoinedMemberIdsById(photo.getGroup().getId());
+        List<String> keys = memberIds.stream()
+                .map(this::key)
+                .toList();
+        redisService.addToExistingSortedSets(keys, String.valueOf(photo.getId()), photo.getId(), MAX_FEED_SIZE);
+        redisService.deleteValues(memberIds.stream().map(this::emptyKey).toList());
+    }
+
+    /**
+     * 삭제된 사진을 그룹 회원들의 피드에서 제거
+     */
+    public void remove(Long groupId, List<Long> photoIds) {
+        if (photoIds.isEmpty()) return;
+        List<String> keys = groupMemberRepository.findJoinedMemberIdsById(groupId).stream()
+                .map(this::key)
+                .toList();
+        redisService.removeFromSortedSets(keys, photoIds.stream().map(String::valueOf).toList());
+    }
+
+    /**
+     * 그룹 가입/탈퇴 시 피드를 비워 다음 조회 때 다시 적재
+     */
+    @TransactionalEventListener
+    public void handleGroupMemberChanged(GroupMemberChangedEvent event) {
+        redisService.deleteValues(List.of(key(event.getMemberId()), emptyKey(event.getMemberId())));
+    }
+
+    // 최근에 빈 피드로 확인된 회원은 DB를 다시 조회하지 않음
+    private List<Long> rebuildUnlessEmpty(Long memberId) {
+        if (redisService.hasKey(emptyKey(memberId))) {
+            return Collections.emptyList();
+        }
+        return rebuild(memberId);
+    }
+
+    private List<Long> rebuild(Long memberId) {
+        List<Long> photoIds = photoRepository.findFeedIdsByMemberId(memberId, PageRequest.of(0, MAX_FEED_SIZE));
+        if (photoIds.isEmpty()) {
+            // sorted set은 비어 있으면 저장되지 않으므로 별도 키로 빈 피드를 표시
+            redisService.setValue(emptyKey(memberId), "1", EMPTY_TTL);
+            return photoIds;
+        }
+        List<ZSetOperations.TypedTuple<String>> tuples = photoIds.stream()
+                .map(id -> ZSetOperations.TypedTuple.of(String.valueOf(id), id.doubleValue()))
+                .toList();
+        redisService.addAllToSortedSet(key(memberId), tuples, FEED_TTL);
+        log.debug("회원 피드 적재: memberId={}, size={}", memberId, photoIds.size());
+        return photoIds;
+    }
+
+    private String key(Long memberId) {
+        return KEY_PREFIX + memberId;
+    }
+
+    private String emptyKey(Long memberId) {
+        return EMPTY_KEY_PREFIX + memberId;
+    }
+}
@@ -6,6 +6,7 @@ import com.ssafy.keepick.global.exception.BaseException;
 import com.ssafy.keepick.global.exception.ErrorCode;
 import com.ssafy.keepick.member.domain.Member;
 import com.ssafy.keepick.member.persistence.MemberRepository;
+import com.ssafy.keepick.photo.application.event.GroupPhotoChangedEvent;
 import com.ssafy.keepick.photo.domain.Photo;
 import com.ssafy.keepick.photo.domain.PhotoMember;
 import com.ssafy.keepick.photo.domain.PhotoTag;
@@ -14,6 +15,7 @@ import com.ssafy.keepick.photo.persistence.PhotoRepository;
 import com.ssafy.keepick.photo.persistence.PhotoTagRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,6 +33,8 @@ public class PhotoAnalysisResultService {
     private final PhotoTagRepository photoTagRepository;
     private final MemberRepository memberRepository;
     private final PhotoMemberRepository photoMemberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TagDictionary tagDictionary;
 
     @Transactional
     public void saveGroupingResult(SimilarGroupingResponse response) {
@@ -60,6 +64,7 @@ public class PhotoAnalysisResultService {
     public void saveAnalysisResult(CompositeAnalysisResponse response) {
         Map<Long, Photo> photoMap = loadPhotos(response);
         Map<Long, Member> memberMap = loadMembers(response);
+        Map<String, Integer> tagIdMap = loadTagIds(response);
 
         List<PhotoMember> photoMembers = new ArrayList<>();
         List<PhotoTag> photoTags = new ArrayList<>();
@@ -70,7 +75,7 @@ public class PhotoAnalysisResultService {
 
             handleBlur(photo, result);
             handleFaces(photo, result, memberMap, photoMembers);
-            handleObjects(photo, result, photoTags);
+            handleObjects(photo, result, tagIdMap, photoTags);
         }
 
         if (!photoMembers.isEmpty()) {
@@ -99,6 +104,12 @@ public class PhotoAnalysisResultService {
             photoTagRepository.saveAll(photoTags);
         }
 
+        // 분석된 사진이 속한 그룹의 facet 인덱스 갱신
+        photoMap.values().stream()
+                .map(photo -> photo.getGroup().getId())
+                .distinct()
+                .forEach(groupId -> eventPublisher.publishEvent(GroupPhotoChangedEvent.of(groupId)));
+
         log.info("종합 이미지 분석 내용 데이터베이스 저장 완료");
     }
 
@@ -122,6 +133,16 @@ public class PhotoAnalysisResultService {
                 .collect(Collectors.toMap(Member::getId, m -> m));
     }
 
+    private Map<String, Integer> loadTagIds(CompositeAnalysisResponse response) {
+        Set<String> labels = response.getResults().stream()
+                .filter(r -> r.getObjects() != null)
+                .flatMap(r -> r.getObjects().stream())
+                .map(CompositeAnalysisResponse.ObjectInfo::getLabel)
+                .collect(Collectors.toSet());
+
+        return labels.isEmpty() ? Map.of() : tagDictionary.getOrCreateIds(labels);
+    }
+
     private void handleBlur(Photo photo, CompositeAnalysisResponse.Result result) {
         if (result.isBlur()) {
             photo.updateBlurred();
@@ -144,7 +165,7 @@ public class PhotoAnalysisResultService {
     }
 
     private void handleObjects(Photo photo, CompositeAnalysisResponse.Result result,
-                               List<PhotoTag> photoTags) {
+                               Map<String, Integer> tagIdMap, List<PhotoTag> photoTags) {
         if (result.getObjects() == null || result.getObjects().isEmpty()) {
             return;
         }
@@ -153,7 +174,7 @@ public class PhotoAnalysisResultService {
                 .collect(Collectors.toSet());
 
         for (String label : uniqueLabels) {
-            photoTags.add(PhotoTag.of(photo, label));
+            photoTags.add(PhotoTag.of(photo, tagIdMap.get(label)));
         }
     }
 }
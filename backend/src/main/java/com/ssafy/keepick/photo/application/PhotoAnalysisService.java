@@ -8,6 +8,7 @@ import com.ssafy.keepick.external.visionai.request.CompositeAnalysisRequest;
 import com.ssafy.keepick.external.visionai.request.SimilarGroupingRequest;
 import com.ssafy.keepick.global.exception.BaseException;
 import com.ssafy.keepick.global.exception.ErrorCode;
+import com.ssafy.keepick.global.tracing.TraceContextSupport;
 import com.ssafy.keepick.group.domain.GroupMember;
 import com.ssafy.keepick.group.persistence.GroupMemberRepository;
 import com.ssafy.keepick.member.domain.Member;
@@ -17,6 +18,8 @@ import com.ssafy.keepick.photo.controller.request.PhotoAnalysisRequest;
 import com.ssafy.keepick.photo.domain.Photo;
 import com.ssafy.keepick.photo.domain.PhotoAnalysisJob;
 import com.ssafy.keepick.photo.persistence.PhotoRepository;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Async;
@@ -38,6 +41,8 @@ public class PhotoAnalysisService {
     private final RedisService redisService;
     private final PhotoAnalysisResultService photoAnalysisResultService;
     private final ObjectMapper objectMapper;
+    private final ObservationRegistry observationRegistry;
+    private final TraceContextSupport traceContextSupport;
 
 
     @Async("asyncExecutor")
@@ -61,6 +66,7 @@ public class PhotoAnalysisService {
                 .jobType("similar_grouping")
                 .totalImages(photos.size())
                 .processedImages(0)
+                .traceParent(traceContextSupport.currentTraceParent())
                 .build();
         try {
             String jobJson = objectMapper.writeValueAsString(job);
@@ -69,12 +75,14 @@ public class PhotoAnalysisService {
             throw new BaseException(ErrorCode.INTERNAL_VISION_PARSE_ERROR);
         }
 
-        // 5. vision ai 에 분석 요청
+        // 5. vision ai 에 분석 요청 (응답 콜백에서도 현재 trace 유지)
+        tagJobId(jobId);
         visionAIService.postSimilarityRequest(request)
+                .contextCapture()
                 .subscribe(
                         response -> {
                             log.info("작업 완료 {}", response);
-                            photoAnalysisResultService.saveGroupingResult(response);
+                            persistObservation("similar_grouping", jobId).observe(() -> photoAnalysisResultService.saveGroupingResult(response));
                         },
                         error -> log.error("작업 실패", error)
                 );
@@ -107,6 +115,7 @@ public class PhotoAnalysisService {
                 .jobType("integration")
                 .totalImages(photos.size())
                 .processedImages(0)
+                .traceParent(traceContextSupport.currentTraceParent())
                 .build();
         try {
             String jobJson = objectMapper.writeValueAsString(job);
@@ -115,16 +124,37 @@ public class PhotoAnalysisService {
             throw new BaseException(ErrorCode.INTERNAL_VISION_PARSE_ERROR);
         }
 
-        // 5. vision ai 에 분석 요청
+        // 5. vision ai 에 분석 요청 (응답 콜백에서도 현재 trace 유지)
+        tagJobId(jobId);
         visionAIService.postFaceTaggingRequest(compositeAnalysisRequest)
+                .contextCapture()
                 .subscribe(
                         response -> {
                             log.info("작업 완료 {}", response.toString());
-                            photoAnalysisResultService.saveAnalysisResult(response);
+                            persistObservation("integration", jobId).observe(() -> photoAnalysisResultService.saveAnalysisResult(response));
                         },
                         error -> log.error("작업 실패", error)
                 );
 
         return CompletableFuture.completedFuture(PhotoAnalysisDto.of(jobId, JobStatus.STARTED));
     }
+
+    /**
+     * Vision AI 작업 ID로 trace를 검색할 수 있도록 현재 요청에 기록
+     */
+    private void tagJobId(String jobId) {
+        Observation current = observationRegistry.getCurrentObservation();
+        if (current != null) {
+            current.highCardinalityKeyValue("vision.job.id", jobId);
+        }
+    }
+
+    /**
+     * 분석 결과 저장(트랜잭션 커밋 포함) 소요 시간
+     */
+    private Observation persistObservation(String jobType, String jobId) {
+        return Observation.createNotStarted("vision.result.persist", observationRegistry)
+                .lowCardinalityKeyValue("jobType", jobType)
+                .highCardinalityKeyValue("vision.job.id", jobId);
+    }
 }
@@ -0,0 +1,125 @@
+package com.ssafy.keepick.photo.application;
+
+import com.ssafy.keepick.photo.application.dto.GroupPhotoFacetDto;
+import com.ssafy.keepick.photo.application.dto.PhotoFacetRowDto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * 그룹 하나의 태그/회원 facet 인덱스 (불변)
+ * 태그 또는 인식된 회원이 있는 사진에 0부터 순번을 매기고, 태그별/회원별로 해당 사진 순번의 BitSet을 보관한다.
+ * 필터 조건의 교집합 개수를 BitSet 연산으로 구하므로 조회마다 GROUP BY 쿼리를 실행하지 않는다.
+ */
+public class PhotoFacetIndex {
+    private final LocalDateTime[] takenAts;
+    private final Map<Integer, BitSet> tagBits;
+    private final Map<Integer, String> tagNames;
+    private final Map<Long, BitSet> memberBits;
+    private final Map<Long, String> nicknames;
+
+    private PhotoFacetIndex(LocalDateTime[] takenAts, Map<Integer, BitSet> tagBits, Map<Integer, String> tagNames,
+                            Map<Long, BitSet> memberBits, Map<Long, String> nicknames) {
+        this.takenAts = takenAts;
+        this.tagBits = tagBits;
+        this.tagNames = tagNames;
+        this.memberBits = memberBits;
+        this.nicknames = nicknames;
+    }
+
+    public static PhotoFacetIndex from(List<PhotoFacetRowDto> tagRows, List<PhotoFacetRowDto> memberRows,
+                                       Map<Integer, String> tagNames) {
+        Map<Long, Integer> positions = new HashMap<>();
+        List<LocalDateTime> takenAts = new ArrayList<>();
+        Map<Integer, BitSet> tagBits = new HashMap<>();
+        Map<Long, BitSet> memberBits = new HashMap<>();
+        Map<Long, String> nicknames = new HashMap<>();
+
+        for (PhotoFacetRowDto row : tagRows) {
+            int position = positionOf(row, positions, takenAts);
+            tagBits.computeIfAbsent(row.getTagId(), k -> new BitSet()).set(position);
+        }
+        for (PhotoFacetRowDto row : memberRows) {
+            int position = positionOf(row, positions, takenAts);
+            memberBits.computeIfAbsent(row.getMemberId(), k -> new BitSet()).set(position);
+            nicknames.put(row.getMemberId(), row.getNickname());
+        }
+
+        return new PhotoFacetIndex(takenAts.toArray(LocalDateTime[]::new), tagBits, tagNames, memberBits, nicknames);
+    }
+
+    /**
+     * 현재 필터 조건의 태그별/회원별 사진 수 계산
+     * 각 facet은 자기 자신의 조건을 제외한 나머지 조건으로 계산한다. (태그 목록은 회원+기간 조건, 회원 목록은 태그+기간 조건)
+     */
+    public GroupPhotoFacetDto count(List<Long> memberIds, List<Integer> tagIds, LocalDate startDate, LocalDate endDate) {
+        BitSet dateFilter = dateFilter(startDate, endDate);
+        BitSet memberFilter = union(memberBits, memberIds);
+        BitSet tagFilter = union(tagBits, tagIds);
+
+        List<GroupPhotoFacetDto.TagCountDto> tagCounts = new ArrayList<>();
+        tagBits.forEach((tagId, bits) -> {
+            int count = intersectionCount(bits, dateFilter, memberFilter);
+            if (count > 0) tagCounts.add(GroupPhotoFacetDto.TagCountDto.of(tagNames.get(tagId), count));
+        });
+        tagCounts.sort(Comparator.comparingInt(GroupPhotoFacetDto.TagCountDto::getCount).reversed()
+                .thenComparing(GroupPhotoFacetDto.TagCountDto::getTag));
+
+        List<GroupPhotoFacetDto.MemberCountDto> memberCounts = new ArrayList<>();
+        memberBits.forEach((memberId, bits) -> {
+            int count = intersectionCount(bits, dateFilter, tagFilter);
+            if (count > 0) memberCounts.add(GroupPhotoFacetDto.MemberCountDto.of(memberId, nicknames.get(memberId), count));
+        });
+        memberCounts.sort(Comparator.comparingInt(GroupPhotoFacetDto.MemberCountDto::getCount).reversed()
+                .thenComparing(GroupPhotoFacetDto.MemberCountDto::getMemberId));
+
+        return GroupPhotoFacetDto.of(tagCounts, memberCounts);
+    }
+
+    private static int positionOf(PhotoFacetRowDto row, Map<Long, Integer> positions, List<LocalDateTime> takenAts) {
+        return positions.computeIfAbsent(row.getPhotoId(), id -> {
+            takenAts.add(row.getTakenAt());
+            return takenAts.size() - 1;
+        });
+    }
+
+    // 조건이 없으면 null (전체)
+    private BitSet dateFilter(LocalDate startDate, LocalDate endDate) {
+        if (startDate == null && endDate == null) return null;
+
+        LocalDateTime start = startDate != null ? startDate.atStartOfDay() : null;
+        LocalDateTime end = endDate != null ? endDate.atTime(LocalTime.MAX) : null;
+        BitSet bits = new BitSet(takenAts.length);
+        for (int i = 0; i < takenAts.length; i++) {
+            LocalDateTime takenAt = takenAts[i];
+            if (takenAt == null) continue;
+            if (start != null && takenAt.isBefore(start)) continue;
+            if (end != null && takenAt.isAfter(end)) continue;
+            bits.set(i);
+        }
+        return bits;
+    }
+
+    // 조건이 없으면 null (전체)
+    private static <K> BitSet union(Map<K, BitSet> bitsByKey, List<K> keys) {
+        if (keys == null || keys.isEmpty()) return null;
+
+        BitSet bits = new BitSet();
+        for (K key : keys) {
+            BitSet keyBits = bitsByKey.get(key);
+            if (keyBits != null) bits.or(keyBits);
+        }
+        return bits;
+    }
+
+    private static int intersectionCount(BitSet bits, BitSet filter1, BitSet filter2) {
+        if (filter1 == null && filter2 == null) return bits.cardinality();
+
+        BitSet result = (BitSet) bits.clone();
+        if (filter1 != null) result.and(filter1);
+        if (filter2 != null) result.and(filter2);
+        return result.cardinality();
+    }
+}
@@ -0,0 +1,86 @@
+package com.ssafy.keepick.photo.application;
+
+import com.ssafy.keepick.global.cache.VersionedLocalCache;
+import com.ssafy.keepick.global.cache.VersionedLocalCacheFactory;
+import com.ssafy.keepick.group.application.event.GroupMemberChangedEvent;
+import com.ssafy.keepick.photo.application.dto.GroupPhotoFacetDto;
+import com.ssafy.keepick.photo.application.dto.PhotoFacetRowDto;
+import com.ssafy.keepick.photo.application.event.GroupPhotoChangedEvent;
+import com.ssafy.keepick.photo.controller.request.GroupPhotoSearchRequest;
+import com.ssafy.keepick.photo.persistence.PhotoRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 그룹 갤러리 필터 패널의 태그/회원 facet 개수 조회
+ * 그룹별 facet 인덱스를 로컬 캐시에 보관하고, 그룹의 사진 태그/회원이 바뀌면 Redis의 그룹 버전을 올려
+ * 모든 서버가 다음 조회 때 인덱스를 다시 적재하도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PhotoFacetService {
+    private static final String VERSION_KEY_PREFIX = "photo:facet:version:group:";
+    private static final int UNKNOWN_TAG_ID = -1;
+
+    private final VersionedLocalCacheFactory versionedLocalCacheFactory;
+    private final PhotoRepository photoRepository;
+    private final TagDictionary tagDictionary;
+
+    @Value("${app.photo.facet.cache-size}")
+    private long cacheSize;
+
+    // key: groupId, value: facet 인덱스
+    private VersionedLocalCache<Long, PhotoFacetIndex> indexCache;
+
+    @PostConstruct
+    void init() {
+        this.indexCache = versionedLocalCacheFactory.create(VERSION_KEY_PREFIX, cacheSize);
+    }
+
+    @Transactional(readOnly = true)
+    public GroupPhotoFacetDto getGroupPhotoFacets(Long groupId, GroupPhotoSearchRequest request) {
+        List<String> tags = request.getTags();
+        List<Integer> tagIds = tagDictionary.findIds(tags);
+        if (tags != null && !tags.isEmpty() && tagIds.isEmpty()) {
+            // 존재하지 않는 태그만 선택한 경우 조건에 맞는 사진이 없음
+            tagIds = List.of(UNKNOWN_TAG_ID);
+        }
+        return getIndex(groupId).count(request.getMemberIds(), tagIds, request.getStartDate(), request.getEndDate());
+    }
+
+    @TransactionalEventListener
+    public void handleGroupPhotoChanged(GroupPhotoChangedEvent event) {
+        indexCache.invalidate(event.getGroupId());
+    }
+
+    @TransactionalEventListener
+    public void handleGroupMemberChanged(GroupMemberChangedEvent event) {
+        indexCache.invalidate(event.getGroupId());
+    }
+
+    private PhotoFacetIndex getIndex(Long groupId) {
+        return indexCache.get(groupId, () -> loadIndex(groupId));
+    }
+
+    private PhotoFacetIndex loadIndex(Long groupId) {
+        List<PhotoFacetRowDto> tagRows = photoRepository.findTagFacetRowsByGroupId(groupId);
+        List<PhotoFacetRowDto> memberRows = photoRepository.findMemberFacetRowsByGroupId(groupId);
+
+        Map<Integer, String> tagNames = tagDictionary.getNameMap(
+                tagRows.stream().map(PhotoFacetRowDto::getTagId).collect(Collectors.toSet()));
+
+        PhotoFacetIndex index = PhotoFacetIndex.from(tagRows, memberRows, tagNames);
+        log.debug("그룹 facet 인덱스 적재: groupId={}", groupId);
+        return index;
+    }
+}
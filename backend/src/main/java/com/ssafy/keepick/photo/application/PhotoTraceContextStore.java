@@ -0,0 +1,66 @@
+package com.ssafy.keepick.photo.application;
+
+import com.ssafy.keepick.external.redis.RedisService;
+import com.ssafy.keepick.global.tracing.TraceContextSupport;
+import io.micrometer.tracing.Span;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * presigned URL 발급 요청의 trace를 사진별로 저장해 두고,
+ * S3 이벤트(SQS)로 시작되는 썸네일 처리를 같은 trace로 이어 붙인다.
+ * (S3 이벤트 알림에는 업로드 요청의 헤더나 메타데이터가 전달되지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PhotoTraceContextStore {
+    private static final String KEY_PREFIX = "photo:trace:";
+
+    private final RedisService redisService;
+    private final TraceContextSupport traceContextSupport;
+
+    @Value("${app.tracing.photo-context-ttl-minutes}")
+    private long ttlMinutes;
+
+    /**
+     * 현재 trace를 사진별로 저장 (Redis 저장에 실패하면 썸네일 처리가 새 trace로 시작될 뿐이므로 업로드 요청은 계속 진행)
+     */
+    public void save(Collection<Long> photoIds) {
+        String traceParent = traceContextSupport.currentTraceParent();
+        if (traceParent == null || photoIds.isEmpty()) {
+            return;
+        }
+        Map<String, String> values = photoIds.stream()
+                .collect(Collectors.toMap(id -> KEY_PREFIX + id, id -> traceParent));
+        try {
+            redisService.setValues(values, Duration.ofMinutes(ttlMinutes));
+        } catch (RuntimeException e) {
+            log.warn("사진 trace 저장 실패 - photoIds: {}", photoIds, e);
+        }
+    }
+
+    /**
+     * 업로드 요청 trace의 하위 span 시작 (저장된 trace가 없거나 Redis 조회에 실패하면 새 trace)
+     * 중복 처리 여부가 이미 기록된 뒤에 호출되므로 trace 조회 실패가 썸네일 처리를 막지 않도록 한다.
+     */
+    public Span startSpan(String name, String photoId) {
+        String traceParent = null;
+        try {
+            traceParent = redisService.getValue(KEY_PREFIX + photoId);
+        } catch (RuntimeException e) {
+            log.warn("사진 trace 조회 실패, 새 trace로 시작 - photoId: {}", photoId, e);
+        }
+        return traceContextSupport.spanBuilder(traceParent)
+                .name(name)
+                .tag("photo.id", photoId)
+                .start();
+    }
+}
@@ -0,0 +1,141 @@
+package com.ssafy.keepick.photo.application;
+
+import com.ssafy.keepick.photo.domain.Tag;
+import com.ssafy.keepick.photo.persistence.TagRepository;
+import com.ssafy.keepick.global.exception.BaseException;
+import com.ssafy.keepick.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 태그 이름 ↔ 태그 ID 사전의 로컬 캐시
+ * 태그 사전은 추가만 되고 변경/삭제되지 않으므로 한 번 조회한 값은 만료 없이 보관한다.
+ * 태그 종류는 비전 AI의 객체 라벨 수(수백 개) 수준이라 전체를 메모리에 두어도 작다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TagDictionary {
+    private final TagRepository tagRepository;
+
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+
+    /**
+     * 태그 이름 목록을 ID로 변환 (사전에 없는 이름은 새로 등록)
+     * 등록은 호출한 쪽과 별도 트랜잭션으로 커밋한 뒤 캐시에 넣는다.
+     * 호출한 쪽 트랜잭션이 롤백되어도 캐시에 존재하지 않는 태그 ID가 남지 않으며,
+     * 태그는 추가만 되므로 사용되지 않는 태그가 남는 것은 문제가 되지 않는다.
+     * 다른 서버가 같은 태그를 동시에 등록하면 INSERT IGNORE가 무시되고, 첫 조회에서 열린 스냅샷으로는
+     * 그 태그가 보이지 않으므로 등록 후에는 잠금 읽기로 다시 조회한다.
+     * @throws BaseException 등록 후에도 ID를 찾지 못한 태그가 있는 경우 (태그 없이 저장되지 않도록)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Map<String, Integer> getOrCreateIds(Collection<String> names) {
+        Map<String, Integer> result = findIdMap(names);
+        List<String> missing = names.stream()
+                .filter(name -> !result.containsKey(name))
+                .distinct()
+                .toList();
+        if (missing.isEmpty()) {
+            return result;
+        }
+
+        missing.forEach(tagRepository::insertIgnore);
+        List<Tag> created = tagRepository.findAllByNameInForShare(missing);
+        created.forEach(tag -> result.put(tag.getName(), tag.getId()));
+        if (created.size() < missing.size()) {
+            List<String> notFound = missing.stream().filter(name -> !result.containsKey(name)).toList();
+            log.error("태그 등록 후 ID 조회 실패: {}", notFound);
+            throw new BaseException(ErrorCode.INTERNAL_SERVER_ERROR, "태그 등록에 실패했습니다.");
+        }
+        cacheAfterCommit(created);
+        return result;
+    }
+
+    /**
+     * 태그 이름 목록을 ID로 변환 (사전에 없는 이름은 제외)
+     */
+    @Transactional(readOnly = true)
+    public List<Integer> findIds(Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return new ArrayList<>(findIdMap(names).values());
+    }
+
+    /**
+     * 태그 ID 목록을 이름으로 변환 (순서 유지)
+     */
+    @Transactional(readOnly = true)
+    public List<String> getNames(Collection<Integer> ids) {
+        Map<Integer, String> nameMap = getNameMap(ids);
+        return ids.stream()
+                .map(nameMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 태그 ID 목록을 (ID, 이름) Map으로 변환
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, String> getNameMap(Collection<Integer> ids) {
+        List<Integer> missing = ids.stream()
+                .filter(id -> !namesById.containsKey(id))
+                .distinct()
+                .toList();
+        if (!missing.isEmpty()) {
+            tagRepository.findAllById(missing).forEach(this::cache);
+        }
+
+        Map<Integer, String> result = new HashMap<>();
+        for (Integer id : ids) {
+            String name = namesById.get(id);
+            if (name != null) result.put(id, name);
+        }
+        return result;
+    }
+
+    private Map<String, Integer> findIdMap(Collection<String> names) {
+        Map<String, Integer> result = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String name : names) {
+            Integer id = idsByName.get(name);
+            if (id != null) result.put(name, id);
+            else missing.add(name);
+        }
+        if (!missing.isEmpty()) {
+            tagRepository.findAllByNameIn(missing).forEach(tag -> result.put(tag.getName(), cache(tag)));
+        }
+        return result;
+    }
+
+    private void cacheAfterCommit(List<Tag> tags) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tags.forEach(this::cache);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tags.forEach(TagDictionary.this::cache);
+            }
+        });
+    }
+
+    private Integer cache(Tag tag) {
+        String name = tag.getName().intern();
+        idsByName.put(name, tag.getId());
+        namesById.put(tag.getId(), name);
+        return tag.getId();
+    }
+}
@@ -5,6 +5,8 @@ import com.ssafy.keepick.global.exception.ErrorCode;
 import com.ssafy.keepick.global.utils.FileUtils;
 import com.ssafy.keepick.photo.domain.Photo;
 import com.ssafy.keepick.photo.persistence.PhotoRepository;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import net.coobird.thumbnailator.Thumbnails;
@@ -16,6 +18,7 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 @Slf4j
 @Service
@@ -23,6 +26,8 @@ import java.util.concurrent.CompletableFuture;
 public class ThumbnailService {
     private final ImageService imageService;
     private final PhotoRepository photoRepository;
+    private final MemberPhotoFeedService memberPhotoFeedService;
+    private final ObservationRegistry observationRegistry;
 
     @Value("${spring.cloud.aws.region.static}")
     private String region;
@@ -46,14 +51,17 @@ public class ThumbnailService {
     public CompletableFuture<Void> generateAndUploadThumbnail(String objectKey) {
         try {
             // S3에서 원본 이미지 다운로드
-            byte[] originalImageData = imageService.downloadFile(objectKey);
+            byte[] originalImageData = recordPhase("download", () -> imageService.downloadFile(objectKey));
 
-            // 썸네일 생성
-            byte[] thumbnailData = generateThumbnail(originalImageData);
+            // 썸네일 생성 (디코딩, 리사이즈, 인코딩)
+            byte[] thumbnailData = recordPhase("resize", () -> generateThumbnail(originalImageData));
 
             // S3에 썸네일 업로드
-            String thumbnailKey = imageService.uploadThumbnail(objectKey, thumbnailData);
-            updatePhotoAddThumbnail(thumbnailKey);
+            String thumbnailKey = recordPhase("upload", () -> imageService.uploadThumbnail(objectKey, thumbnailData));
+            recordPhase("persist", () -> {
+                updatePhotoAddThumbnail(thumbnailKey);
+                return null;
+            });
 
             log.info("썸네일 이미지 생성 성공: {} -> {}", objectKey, thumbnailKey);
             return CompletableFuture.completedFuture(null);
@@ -70,6 +78,7 @@ public class ThumbnailService {
         String thumbnailUrl = FileUtils.generatePublicUrl(bucketName, region, objectKey);
         photo.uploadThumbnail(thumbnailUrl);
         photoRepository.save(photo);
+        memberPhotoFeedService.fanOut(photo);
     }
 
     /**
@@ -109,6 +118,16 @@ public class ThumbnailService {
         }
     }
 
+    /**
+     * 썸네일 처리 단계별 소요 시간을 메트릭과 span으로 기록 (실패한 경우도 포함)
+     */
+    private <T> T recordPhase(String phase, Supplier<T> task) {
+        return Observation.createNotStarted("thumbnail.phase", observationRegistry)
+                .contextualName("thumbnail " + phase)
+                .lowCardinalityKeyValue("phase", phase)
+                .observe(task);
+    }
+
     private boolean validateOriginImage(String objectKey, String contentType) {
         // Content-Type이 없으면 파일 확장자로 추정
         String actualContentType = contentType != null ? contentType : FileUtils.guessContentType(objectKey);
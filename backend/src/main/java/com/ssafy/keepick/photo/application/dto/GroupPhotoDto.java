@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.function.UnaryOperator;
 
 @Getter
 @Builder
@@ -17,10 +18,17 @@ public class GroupPhotoDto {
     private Integer height;
 
     public static GroupPhotoDto from(Photo Photo) {
+        return from(Photo, UnaryOperator.identity());
+    }
+
+    /**
+     * urlResolver: 저장된 url을 조회 가능한 url(private 버킷의 경우 presigned url)로 변환
+     */
+    public static GroupPhotoDto from(Photo Photo, UnaryOperator<String> urlResolver) {
         return GroupPhotoDto.builder()
                 .photoId(Photo.getId())
-                .originalUrl(Photo.getOriginalUrl())
-                .thumbnailUrl(Photo.getThumbnailUrl())
+                .originalUrl(urlResolver.apply(Photo.getOriginalUrl()))
+                .thumbnailUrl(urlResolver.apply(Photo.getThumbnailUrl()))
                 .takenAt(Photo.getTakenAt())
                 .width(Photo.getWidth())
                 .height(Photo.getHeight())
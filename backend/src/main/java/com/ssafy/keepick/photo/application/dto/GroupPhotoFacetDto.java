@@ -0,0 +1,37 @@
+package com.ssafy.keepick.photo.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class GroupPhotoFacetDto {
+    private List<TagCountDto> tags;
+    private List<MemberCountDto> members;
+
+    @Getter
+    @AllArgsConstructor(staticName = "of")
+    public static class TagCountDto {
+        private String tag;
+        private int count;
+    }
+
+    @Getter
+    @AllArgsConstructor(staticName = "of")
+    public static class MemberCountDto {
+        private Long memberId;
+        private String nickname;
+        private int count;
+    }
+
+    public static GroupPhotoFacetDto of(List<TagCountDto> tags, List<MemberCountDto> members) {
+        return GroupPhotoFacetDto.builder()
+                .tags(tags)
+                .members(members)
+                .build();
+    }
+}
@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Getter;
 import org.springframework.data.domain.Page;
 
+import java.util.function.UnaryOperator;
+
 @Getter
 @Builder
 @AllArgsConstructor
@@ -16,9 +18,13 @@ public class GroupPhotoOverviewDto {
     private Page<PhotoClusterDto> similarPhotos;
 
     public static GroupPhotoOverviewDto from(Page<Photo> allPhotos, Page<Photo> blurredPhotos, Page<PhotoClusterDto> similarPhotos) {
+        return from(allPhotos, blurredPhotos, similarPhotos, UnaryOperator.identity());
+    }
+
+    public static GroupPhotoOverviewDto from(Page<Photo> allPhotos, Page<Photo> blurredPhotos, Page<PhotoClusterDto> similarPhotos, UnaryOperator<String> urlResolver) {
         return GroupPhotoOverviewDto.builder()
-                .allPhotos(allPhotos.map(GroupPhotoDto::from))
-                .blurredPhotos(blurredPhotos.map(GroupPhotoDto::from))
+                .allPhotos(allPhotos.map(photo -> GroupPhotoDto.from(photo, urlResolver)))
+                .blurredPhotos(blurredPhotos.map(photo -> GroupPhotoDto.from(photo, urlResolver)))
                 .similarPhotos(similarPhotos)
                 .build();
     }
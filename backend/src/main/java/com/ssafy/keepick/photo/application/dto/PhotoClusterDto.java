@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
 
 @Getter
@@ -27,7 +28,12 @@ public class PhotoClusterDto {
     }
 
     public void setPhotos(List<Photo> photos) {
-        this.photos = photos.stream().map(GroupPhotoDto::from).collect(Collectors.toList());
+        setPhotos(photos, UnaryOperator.identity());
+    }
+
+    public void setPhotos(List<Photo> photos, UnaryOperator<String> urlResolver) {
+        this.thumbnailUrl = urlResolver.apply(this.thumbnailUrl);
+        this.photos = photos.stream().map(photo -> GroupPhotoDto.from(photo, urlResolver)).collect(Collectors.toList());
     }
 
 }
@@ -0,0 +1,33 @@
+package com.ssafy.keepick.photo.application.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * facet 인덱스 적재용 (사진, 태그) 또는 (사진, 인식된 회원) 한 행
+ */
+@Getter
+public class PhotoFacetRowDto {
+    private final Long photoId;
+    private final LocalDateTime takenAt;
+    private final Integer tagId;
+    private final Long memberId;
+    private final String nickname;
+
+    public PhotoFacetRowDto(Long photoId, LocalDateTime takenAt, Integer tagId) {
+        this(photoId, takenAt, tagId, null, null);
+    }
+
+    public PhotoFacetRowDto(Long photoId, LocalDateTime takenAt, Long memberId, String nickname) {
+        this(photoId, takenAt, null, memberId, nickname);
+    }
+
+    private PhotoFacetRowDto(Long photoId, LocalDateTime takenAt, Integer tagId, Long memberId, String nickname) {
+        this.photoId = photoId;
+        this.takenAt = takenAt;
+        this.tagId = tagId;
+        this.memberId = memberId;
+        this.nickname = nickname;
+    }
+}
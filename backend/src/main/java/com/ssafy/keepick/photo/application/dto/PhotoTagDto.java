@@ -1,7 +1,6 @@
 package com.ssafy.keepick.photo.application.dto;
 
 import com.ssafy.keepick.photo.domain.PhotoMember;
-import com.ssafy.keepick.photo.domain.PhotoTag;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -17,9 +16,9 @@ public class PhotoTagDto {
     private List<String> tags;
     private List<String> memberNicknames;
 
-    public static PhotoTagDto from(List<PhotoTag> photoTags, List<PhotoMember> members) {
+    public static PhotoTagDto from(List<String> tags, List<PhotoMember> members) {
         return PhotoTagDto.builder()
-                .tags(photoTags.stream().map(PhotoTag::getTag).collect(Collectors.toList()))
+                .tags(tags)
                 .memberNicknames(members.stream().map(member -> member.getMember().getNickname()).collect(Collectors.toList()))
                 .build();
     }
@@ -0,0 +1,13 @@
+package com.ssafy.keepick.photo.application.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 그룹 사진의 태그/인식 회원이 바뀌거나 사진이 삭제되었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class GroupPhotoChangedEvent {
+    private final Long groupId;
+}
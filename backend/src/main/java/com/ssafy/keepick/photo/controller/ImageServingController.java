@@ -0,0 +1,82 @@
+package com.ssafy.keepick.photo.controller;
+
+import com.ssafy.keepick.external.s3.dto.S3ObjectStreamDto;
+import com.ssafy.keepick.global.security.util.AuthenticationUtil;
+import com.ssafy.keepick.global.utils.FileUtils;
+import com.ssafy.keepick.photo.application.ImageService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.InputStream;
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/images")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "app.image-serving.enabled", havingValue = "true")
+@Tag(name="Image", description = "이미지 관련 API")
+public class ImageServingController {
+    private final ImageService imageService;
+
+    @Value("${app.image-serving.cache-max-age}")
+    private long cacheMaxAge;
+
+    @GetMapping("/{type}/{photoId}/{fileName}")
+    @Operation(summary = "원본/썸네일 이미지 조회 API", description = """
+            S3에 저장된 원본(originals) 또는 썸네일(thumbnails) 이미지를 스트리밍으로 반환합니다.
+
+            사진이 속한 그룹의 멤버만 조회할 수 있습니다.
+
+            Range 요청(단일 범위)과 If-None-Match 조건부 요청을 지원하며, 객체 키가 불변이므로 장기 캐시 헤더를 설정합니다.
+            인증이 필요한 응답이므로 공유 캐시(CDN, 프록시)에는 저장되지 않도록 private으로 응답합니다.
+            """)
+    public ResponseEntity<StreamingResponseBody> getImage(
+            @PathVariable String type,
+            @PathVariable Long photoId,
+            @PathVariable String fileName,
+            @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        Long memberId = AuthenticationUtil.getCurrentUserId();
+        S3ObjectStreamDto image = imageService.openImageStream(memberId, type, photoId, fileName, range, ifNoneMatch);
+        CacheControl cacheControl = CacheControl.maxAge(Duration.ofSeconds(cacheMaxAge)).cachePrivate().immutable();
+
+        if (image.isNotModified()) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(image.getETag())
+                    .cacheControl(cacheControl)
+                    .build();
+        }
+
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(image.isPartial() ? HttpStatus.PARTIAL_CONTENT : HttpStatus.OK)
+                .eTag(image.getETag())
+                .cacheControl(cacheControl)
+                .header(HttpHeaders.ACCEPT_RANGES, "bytes")
+                .contentType(MediaType.parseMediaType(image.getContentType() != null
+                        ? image.getContentType()
+                        : FileUtils.guessContentType(fileName)))
+                .contentLength(image.getContentLength());
+        if (image.isPartial()) {
+            builder.header(HttpHeaders.CONTENT_RANGE, image.getContentRange());
+        }
+        if (image.getLastModified() != null) {
+            builder.lastModified(image.getLastModified());
+        }
+
+        // S3 응답 스트림을 버퍼링 없이 그대로 응답 스트림으로 전달
+        return builder.body(outputStream -> {
+            try (InputStream inputStream = image.getInputStream()) {
+                inputStream.transferTo(outputStream);
+            }
+        });
+    }
+}
@@ -4,6 +4,7 @@ import com.ssafy.keepick.global.response.ApiResponse;
 import com.ssafy.keepick.global.response.PagingResponse;
 import com.ssafy.keepick.global.security.util.AuthenticationUtil;
 import com.ssafy.keepick.photo.application.GroupPhotoService;
+import com.ssafy.keepick.photo.application.PhotoFacetService;
 import com.ssafy.keepick.photo.application.dto.*;
 import com.ssafy.keepick.photo.controller.request.GroupPhotoDeleteRequest;
 import com.ssafy.keepick.photo.controller.request.GroupPhotoSearchRequest;
@@ -12,6 +13,9 @@ import com.ssafy.keepick.photo.controller.response.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.web.bind.annotation.*;
@@ -25,15 +29,29 @@ import java.util.stream.Collectors;
 @Tag(name="Photo", description = "그룹 사진 관련 API")
 public class PhotoController {
     private final GroupPhotoService groupPhotoService;
+    private final PhotoFacetService photoFacetService;
 
-    @Operation(summary = "랜덤 사진 조회 API", description = "사용자가 속한 그룹에 있는 사진 중 랜덤으로 n개를 반환합니다.")
+    @Operation(summary = "랜덤 사진 조회 API", description = "사용자가 속한 그룹의 최근 사진 5000장 중 랜덤으로 n개를 반환합니다.")
     @GetMapping("/photos/random")
-    public ApiResponse<List<GroupPhotoDetailResponse>> getRandomPhotos(@RequestParam(defaultValue = "10") int size) {
+    public ApiResponse<List<GroupPhotoDetailResponse>> getRandomPhotos(
+            @RequestParam(defaultValue = "10") @Positive(message = "사진 개수는 양수여야 합니다.") @Max(value = 100, message = "사진 개수는 100 이하여야 합니다.") int size
+    ) {
         Long memberId = AuthenticationUtil.getCurrentUserId();
         List<GroupPhotoDto> result = groupPhotoService.getRandomPhotos(memberId, size);
         return ApiResponse.ok(GroupPhotoDetailResponse.from(result));
     }
 
+    @Operation(summary = "최근 사진 조회 API", description = "사용자가 속한 모든 그룹의 사진을 최신순으로 페이징하여 반환합니다. 최근 사진 5000장까지만 조회할 수 있습니다.")
+    @GetMapping("/photos/recent")
+    public ApiResponse<List<GroupPhotoDetailResponse>> getRecentPhotos(
+            @RequestParam(defaultValue = "0") @Min(value = 0, message = "페이지 번호는 0 이상이어야 합니다.") int page,
+            @RequestParam(defaultValue = "20") @Positive(message = "페이지 크기는 양수여야 합니다.") @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다.") int size
+    ) {
+        Long memberId = AuthenticationUtil.getCurrentUserId();
+        List<GroupPhotoDto> result = groupPhotoService.getRecentPhotos(memberId, page, size);
+        return ApiResponse.ok(GroupPhotoDetailResponse.from(result));
+    }
+
     @Operation(summary = "다수 이미지 업로드 요청 API", description = """
         이미지를 업로드할 수 있는 presigned URL을 반환하는 API입니다.
         URL에 photo ID를 포함시키기 위해, 먼저 메타데이터와 함께 비어 있는 photo 객체를 생성해 저장한 후 presigned URL을 발급합니다.
@@ -104,4 +122,16 @@ public class PhotoController {
         return ApiResponse.ok(GroupPhotoAllTagResponse.from(result));
     }
 
+    @Operation(summary = "그룹 갤러리 필터 facet 조회 API", description = """
+            현재 필터링 조건에서 태그별, 인식된 회원별 사진 수를 조회합니다.
+            각 목록은 자기 자신의 조건을 제외한 나머지 조건으로 계산합니다. (태그 목록은 회원+기간, 회원 목록은 태그+기간)
+            """)
+    @GetMapping("/groups/{groupId}/photos/facets")
+    public ApiResponse<GroupPhotoFacetResponse> getGroupPhotoFacets(
+            @PathVariable Long groupId,
+            @ModelAttribute GroupPhotoSearchRequest request) {
+        GroupPhotoFacetDto result = photoFacetService.getGroupPhotoFacets(groupId, request);
+        return ApiResponse.ok(GroupPhotoFacetResponse.from(result));
+    }
+
 }
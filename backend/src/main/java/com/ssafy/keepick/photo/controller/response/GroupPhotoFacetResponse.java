@@ -0,0 +1,53 @@
+package com.ssafy.keepick.photo.controller.response;
+
+import com.ssafy.keepick.photo.application.dto.GroupPhotoFacetDto;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class GroupPhotoFacetResponse {
+    private List<Tag> tags;
+    private List<Member> members;
+
+    @Getter
+    @Builder
+    public static class Tag {
+        private String tag;
+        private int count;
+
+        public static Tag from(GroupPhotoFacetDto.TagCountDto dto) {
+            return Tag.builder()
+                    .tag(dto.getTag())
+                    .count(dto.getCount())
+                    .build();
+        }
+    }
+
+    @Getter
+    @Builder
+    public static class Member {
+        private Long memberId;
+        private String nickname;
+        private int count;
+
+        public static Member from(GroupPhotoFacetDto.MemberCountDto dto) {
+            return Member.builder()
+                    .memberId(dto.getMemberId())
+                    .nickname(dto.getNickname())
+                    .count(dto.getCount())
+                    .build();
+        }
+    }
+
+    public static GroupPhotoFacetResponse from(GroupPhotoFacetDto dto) {
+        return GroupPhotoFacetResponse.builder()
+                .tags(dto.getTags().stream().map(Tag::from).toList())
+                .members(dto.getMembers().stream().map(Member::from).toList())
+                .build();
+    }
+}
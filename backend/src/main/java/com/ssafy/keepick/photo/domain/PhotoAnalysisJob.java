@@ -29,4 +29,7 @@ public class PhotoAnalysisJob {
     private Integer totalImages;
     @JsonProperty("processed_images")
     private Integer processedImages;
+    // Vision AI 서버가 작업 처리 span을 요청 trace에 연결할 때 사용 (W3C traceparent)
+    @JsonProperty("traceparent")
+    private String traceParent;
 }
@@ -14,17 +14,18 @@ public class PhotoTag {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    private String tag;
+    // 태그 사전(Tag) ID, 태그 이름은 TagDictionary로 조회
+    private Integer tagId;
 
     @ManyToOne(fetch = FetchType.LAZY)
     private Photo photo;
 
-    private PhotoTag(Photo photo, String tag) {
+    private PhotoTag(Photo photo, Integer tagId) {
         this.photo = photo;
-        this.tag = tag;
+        this.tagId = tagId;
     }
 
-    public static PhotoTag of(Photo photo, String tag) {
-        return new PhotoTag(photo, tag);
+    public static PhotoTag of(Photo photo, Integer tagId) {
+        return new PhotoTag(photo, tagId);
     }
 }
@@ -0,0 +1,22 @@
+package com.ssafy.keepick.photo.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사진 태그 사전 (태그 이름 ↔ 정수 ID)
+ */
+@Getter
+@Entity
+@Table(name = "`tag`")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class Tag {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, unique = true, length = 100)
+    private String name;
+}
@@ -1,6 +1,7 @@
 package com.ssafy.keepick.photo.persistence;
 
 import com.ssafy.keepick.photo.application.dto.PhotoClusterDto;
+import com.ssafy.keepick.photo.application.dto.PhotoFacetRowDto;
 import com.ssafy.keepick.photo.domain.Photo;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,7 +13,7 @@ public interface PhotoQueryFactory {
     Page<Photo> findAllPhotosByGroupIdAndOption(Pageable pageable,
                                                 Long groupId,
                                                 List<Long> memberIds,
-                                                List<String> tags,
+                                                List<Integer> tagIds,
                                                 LocalDate startDate,
                                                 LocalDate endDate);
 
@@ -20,4 +21,8 @@ public interface PhotoQueryFactory {
 
     long clearSinglePhotoClusters(Long groupId);
 
+    List<PhotoFacetRowDto> findTagFacetRowsByGroupId(Long groupId);
+
+    List<PhotoFacetRowDto> findMemberFacetRowsByGroupId(Long groupId);
+
 }
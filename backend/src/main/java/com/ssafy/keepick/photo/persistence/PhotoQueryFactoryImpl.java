@@ -5,10 +5,15 @@ import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.JPQLQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.ssafy.keepick.group.domain.GroupMemberStatus;
 import com.ssafy.keepick.photo.application.dto.PhotoClusterDto;
+import com.ssafy.keepick.photo.application.dto.PhotoFacetRowDto;
 import com.ssafy.keepick.photo.domain.Photo;
 
+import static com.ssafy.keepick.group.domain.QGroupMember.*;
 import static com.ssafy.keepick.photo.domain.QPhoto.*;
+import static com.ssafy.keepick.photo.domain.QPhotoMember.*;
+import static com.ssafy.keepick.photo.domain.QPhotoTag.*;
 
 import com.ssafy.keepick.photo.domain.QPhoto;
 import lombok.RequiredArgsConstructor;
@@ -27,13 +32,13 @@ public class PhotoQueryFactoryImpl implements PhotoQueryFactory {
     private final JPAQueryFactory jpaQueryFactory;
 
     @Override
-    public Page<Photo> findAllPhotosByGroupIdAndOption(Pageable pageable, Long groupId, List<Long> memberIds, List<String> tags, LocalDate startDate, LocalDate endDate) {
+    public Page<Photo> findAllPhotosByGroupIdAndOption(Pageable pageable, Long groupId, List<Long> memberIds, List<Integer> tagIds, LocalDate startDate, LocalDate endDate) {
         List<Photo> photos = jpaQueryFactory
                 .selectFrom(photo)
                 .where(
                         groupIdEq(groupId),
                         memberIdIn(memberIds),
-                        tagIn(tags),
+                        tagIdIn(tagIds),
                         takenAtGoe(startDate),
                         takenAtLoe(endDate),
                         notDeleted()
@@ -50,7 +55,7 @@ public class PhotoQueryFactoryImpl implements PhotoQueryFactory {
                 .where(
                         groupIdEq(groupId),
                         memberIdIn(memberIds),
-                        tagIn(tags),
+                        tagIdIn(tagIds),
                         takenAtGoe(startDate),
                         takenAtLoe(endDate),
                         notDeleted()
@@ -142,6 +147,48 @@ public class PhotoQueryFactoryImpl implements PhotoQueryFactory {
         return updatedCount;
     }
 
+    @Override
+    public List<PhotoFacetRowDto> findTagFacetRowsByGroupId(Long groupId) {
+        return jpaQueryFactory
+                .select(Projections.constructor(
+                        PhotoFacetRowDto.class,
+                        photo.id,
+                        photo.takenAt,
+                        photoTag.tagId
+                ))
+                .from(photoTag)
+                .join(photoTag.photo, photo)
+                .where(
+                        groupIdEq(groupId),
+                        notDeleted()
+                )
+                .fetch();
+    }
+
+    @Override
+    public List<PhotoFacetRowDto> findMemberFacetRowsByGroupId(Long groupId) {
+        // 현재 그룹에 가입한 회원만 facet에 포함
+        return jpaQueryFactory
+                .select(Projections.constructor(
+                        PhotoFacetRowDto.class,
+                        photo.id,
+                        photo.takenAt,
+                        photoMember.member.id,
+                        photoMember.member.nickname
+                ))
+                .from(photoMember)
+                .join(photoMember.photo, photo)
+                .join(groupMember).on(
+                        groupMember.group.id.eq(groupId),
+                        groupMember.member.id.eq(photoMember.member.id),
+                        groupMember.status.eq(GroupMemberStatus.ACCEPTED)
+                )
+                .where(
+                        groupIdEq(groupId),
+                        notDeleted()
+                )
+                .fetch();
+    }
 
     private BooleanExpression groupIdEq(Long groupId) {
         return photo.group.id.eq(groupId);
@@ -153,9 +200,9 @@ public class PhotoQueryFactoryImpl implements PhotoQueryFactory {
                 : null;
     }
 
-    private BooleanExpression tagIn(List<String> tags) {
-        return tags != null && !tags.isEmpty()
-                ? photo.tags.any().tag.in(tags)
+    private BooleanExpression tagIdIn(List<Integer> tagIds) {
+        return tagIds != null && !tagIds.isEmpty()
+                ? photo.tags.any().tagId.in(tagIds)
                 : null;
     }
 
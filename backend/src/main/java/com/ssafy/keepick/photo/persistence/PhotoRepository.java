@@ -10,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PhotoRepository extends JpaRepository<Photo,Long>, PhotoQueryFactory {
@@ -20,21 +21,17 @@ public interface PhotoRepository extends JpaRepository<Photo,Long>, PhotoQueryFa
             "WHERE p.id IN :ids")
     void softDeleteAllById(@Param("ids") List<Long> ids);
 
-    @Query(value = "SELECT p.* " +
-            "FROM photo p " +
-            "JOIN group_member gm ON p.group_id = gm.group_id " +
-            "WHERE gm.member_id = :memberId " +
-            "AND p.deleted_at IS NULL " +
-            "ORDER BY p.created_at DESC " +
-            "LIMIT :size OFFSET :offset", nativeQuery = true)
-    List<Photo> findRandomByMemberId(@Param("memberId") Long memberId, @Param("size")  int size, @Param("offset") int offset);
-
-    @Query("SELECT COUNT(*) " +
+    @Query("SELECT p.id " +
             "FROM Photo p " +
             "JOIN GroupMember gm ON p.group = gm.group " +
             "WHERE gm.member.id = :memberId " +
-            "  AND p.deletedAt IS NULL")
-    Integer countByMemberId(@Param("memberId") Long memberId);
+            "AND gm.status = GroupMemberStatus.ACCEPTED " +
+            "AND p.status = PhotoStatus.THUMBNAIL_READY " +
+            "AND p.deletedAt IS NULL " +
+            "ORDER BY p.id DESC")
+    List<Long> findFeedIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    List<Photo> findAllByIdInAndDeletedAtIsNull(List<Long> ids);
 
     List<Photo> findByGroupIdAndDeletedAtIsNull(Long groupId);
 
@@ -51,6 +48,12 @@ public interface PhotoRepository extends JpaRepository<Photo,Long>, PhotoQueryFa
 
     boolean existsByGroupIdAndIdAndDeletedAtIsNull(Long groupId, Long id);
 
+    @Query("SELECT p.group.id " +
+            "FROM Photo p " +
+            "WHERE p.id = :photoId " +
+            "AND p.deletedAt IS NULL")
+    Optional<Long> findGroupIdByIdAndDeletedAtIsNull(@Param("photoId") Long photoId);
+
     @Query("""
         SELECT p.id
         FROM Photo p
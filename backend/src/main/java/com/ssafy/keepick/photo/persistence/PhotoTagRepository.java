@@ -11,11 +11,11 @@ public interface PhotoTagRepository extends JpaRepository<PhotoTag, Long> {
 
     List<PhotoTag> findAllByPhotoId(Long photoId);
 
-    @Query("SELECT DISTINCT pt.tag " +
+    @Query("SELECT DISTINCT pt.tagId " +
             "FROM PhotoTag pt JOIN pt.photo p " +
             "WHERE p.deletedAt IS NULL " +
             "AND p.group.id = :groupId")
-    List<String> findTagsByGroupId(Long groupId);
+    List<Integer> findTagIdsByGroupId(Long groupId);
 
     void deleteAllByPhoto(Photo photo);
 }
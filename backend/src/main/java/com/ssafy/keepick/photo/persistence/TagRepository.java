@@ -0,0 +1,27 @@
+package com.ssafy.keepick.photo.persistence;
+
+import com.ssafy.keepick.photo.domain.Tag;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TagRepository extends JpaRepository<Tag, Integer> {
+
+    List<Tag> findAllByNameIn(Collection<String> names);
+
+    // 잠금 읽기는 트랜잭션 스냅샷이 아닌 최신 커밋 값을 읽으므로 다른 서버가 방금 등록한 태그도 조회된다
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT t FROM Tag t WHERE t.name IN :names")
+    List<Tag> findAllByNameInForShare(@Param("names") Collection<String> names);
+
+    // 다른 서버가 먼저 등록한 태그는 무시
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO `tag` (`name`) VALUES (:name)", nativeQuery = true)
+    void insertIgnore(String name);
+}
@@ -0,0 +1,46 @@
+package com.ssafy.keepick.timeline.application;
+
+import com.ssafy.keepick.global.cache.VersionedLocalCache;
+import com.ssafy.keepick.global.cache.VersionedLocalCacheFactory;
+import com.ssafy.keepick.timeline.application.dto.TimelineAlbumDto;
+import com.ssafy.keepick.timeline.application.event.TimelineAlbumChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.function.Supplier;
+
+/**
+ * 타임라인 앨범 상세 캐시
+ * 캐시 키에 Redis에 저장된 앨범 버전을 포함하므로, 앨범을 수정한 서버가 버전만 올리면 다른 서버의 이전 상세는 더 이상 조회되지 않는다.
+ * 캐시된 상세는 여러 요청이 함께 사용하므로 섹션/사진 목록까지 불변으로 만든다. ({@link TimelineAlbumDto#fromDetail})
+ */
+@Component
+@RequiredArgsConstructor
+public class TimelineAlbumDetailCache {
+    private static final String VERSION_KEY_PREFIX = "album:timeline:version:";
+
+    private final VersionedLocalCacheFactory versionedLocalCacheFactory;
+
+    @Value("${app.album.timeline.detail-cache-size}")
+    private long cacheSize;
+
+    // key: albumId, value: 앨범 상세
+    private VersionedLocalCache<Long, TimelineAlbumDto> detailCache;
+
+    @PostConstruct
+    void init() {
+        this.detailCache = versionedLocalCacheFactory.create(VERSION_KEY_PREFIX, cacheSize);
+    }
+
+    public TimelineAlbumDto get(Long albumId, Supplier<TimelineAlbumDto> loader) {
+        return detailCache.get(albumId, loader);
+    }
+
+    @TransactionalEventListener
+    public void handleTimelineAlbumChanged(TimelineAlbumChangedEvent event) {
+        detailCache.invalidate(event.getAlbumId());
+    }
+}
@@ -8,6 +8,7 @@ import com.ssafy.keepick.photo.domain.Photo;
 import com.ssafy.keepick.photo.persistence.PhotoRepository;
 import com.ssafy.keepick.timeline.application.dto.TimelineAlbumDto;
 import com.ssafy.keepick.timeline.application.dto.TimelineAlbumPhotoDto;
+import com.ssafy.keepick.timeline.application.event.TimelineAlbumChangedEvent;
 import com.ssafy.keepick.timeline.controller.request.TimelineCreateRequest;
 import com.ssafy.keepick.timeline.controller.request.TimelinePhotoRequest;
 import com.ssafy.keepick.timeline.controller.request.TimelineUpdateRequest;
@@ -19,16 +20,19 @@ import com.ssafy.keepick.timeline.persistence.TimelineAlbumRepository;
 import com.ssafy.keepick.timeline.persistence.TimelineAlbumSectionRepository;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 @Service
 @RequiredArgsConstructor
@@ -40,6 +44,10 @@ public class TimelineInteractionService {
     private final TimelineAlbumPhotoRepository timelineAlbumPhotoRepository;
     private final GroupRepository groupRepository;
     private final PhotoRepository photoRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.album.timeline.section-gap-hours}")
+    private int sectionGapHours;
 
     @Transactional
     public TimelineAlbumDto createTimelineAlbum(Long groupId, TimelineCreateRequest request) {
@@ -49,7 +57,14 @@ public class TimelineInteractionService {
         
         // 타임라인 앨범 생성
         TimelineAlbum album = TimelineAlbum.createTimelineAlbum(group, photos);
+
+        // 촬영 시각 간격으로 섹션 자동 생성 (클라이언트가 섹션 구성을 다시 보내지 않아도 됨)
+        if (request.isAutoSection()) {
+            int gapHours = request.getSectionGapHours() != null ? request.getSectionGapHours() : sectionGapHours;
+            album.generateSections(Duration.ofHours(gapHours));
+        }
         timelineAlbumRepository.save(album);
+        eventPublisher.publishEvent(TimelineAlbumChangedEvent.of(groupId, album.getId()));
 
         TimelineAlbumDto albumDto = TimelineAlbumDto.from(album);
         return albumDto;
@@ -62,6 +77,7 @@ public class TimelineInteractionService {
             throw new BaseException(ErrorCode.ALBUM_FORBIDDEN);
         }
         album.delete();
+        eventPublisher.publishEvent(TimelineAlbumChangedEvent.of(groupId, albumId));
     }
 
     @Transactional
@@ -71,11 +87,16 @@ public class TimelineInteractionService {
 
         // 앨범 수정
         updateTimelineAlbumInfo(album, request);
+        eventPublisher.publishEvent(TimelineAlbumChangedEvent.of(groupId, albumId));
 
         TimelineAlbumDto albumDto = TimelineAlbumDto.from(album);
         return albumDto;
     }
 
+    /**
+     * 요청한 앨범 상태와 현재 상태의 차이만 반영
+     * 앨범 사진은 한 번에 조회하고, 바뀐 섹션/사진만 변경 감지로 모아서 수정하므로 섹션 수와 관계없이 쿼리 수가 일정하다.
+     */
     private void updateTimelineAlbumInfo(TimelineAlbum album, TimelineUpdateRequest request) {
         Photo thumbnail = null;
         if (request.getThumbnailId() != null) {
@@ -85,88 +106,71 @@ public class TimelineInteractionService {
         // 앨범 기본 정보 수정
         album.update(request.getName(), request.getDescription(), thumbnail, request.getStartDate(), request.getEndDate());
 
-        // 사용하지 않은 사진 처리
-        updateUnusedPhotos(album, request.getSections());
-
-        // 요청에 없는 섹션은 삭제
-        updateRemovedSections(album, request.getSections());
-
-        // 앨범 섹션 수정
-        IntStream.range(0, request.getSections().size())
-                .forEach(i -> updateTimelineSection(album, request.getSections().get(i), i));
-
-    }
-
-
-    private void updateTimelineSection(TimelineAlbum album, TimelineUpdateRequest.SectionUpdateRequest request, int sequence) {
-
-        TimelineAlbumSection section = null;
-
-        if (request.getId() != null) { // 기존 섹션 조회
-            section = album.getSections().stream().filter(albumSection -> Objects.equals(albumSection.getId(), request.getId())).findFirst().orElseThrow(() -> new BaseException(ErrorCode.INVALID_PARAMETER));
-        } else { // 새로운 섹션 생성
-            section = album.createTimelineAlbumSection();
+        // 기존 섹션과 앨범 사진을 한 번씩만 조회해서 Map으로 보관
+        List<TimelineUpdateRequest.SectionUpdateRequest> sectionRequests = request.getSections();
+        Map<Long, TimelineAlbumSection> sectionMap = album.getSections().stream()
+                .collect(Collectors.toMap(TimelineAlbumSection::getId, Function.identity()));
+        Map<Long, TimelineAlbumPhoto> albumPhotoMap = timelineAlbumPhotoRepository.findAllByAlbumId(album.getId()).stream()
+                .collect(Collectors.toMap(albumPhoto -> albumPhoto.getPhoto().getId(), Function.identity()));
+        validateSectionRequests(sectionRequests, sectionMap, albumPhotoMap);
+
+        // 요청에 없는 섹션은 앨범에서 제거
+        List<TimelineAlbumSection> removedSections = findRemovedSections(album, sectionRequests);
+        album.removeSections(removedSections);
+
+        // 섹션 수정 및 사진 배치 (값이 바뀐 섹션/사진만 UPDATE 대상)
+        Set<Long> usedPhotoIds = new HashSet<>();
+        for (int i = 0; i < sectionRequests.size(); i++) {
+            TimelineUpdateRequest.SectionUpdateRequest sectionRequest = sectionRequests.get(i);
+            TimelineAlbumSection section = sectionRequest.getId() != null
+                    ? sectionMap.get(sectionRequest.getId())
+                    : album.createTimelineAlbumSection();
+
+            section.update(sectionRequest.getName(), sectionRequest.getDescription(), sectionRequest.getStartDate(), sectionRequest.getEndDate());
+            section.updateSequence(i);
+
+            List<Long> photoIds = sectionRequest.getPhotoIds();
+            for (int j = 0; j < photoIds.size(); j++) {
+                albumPhotoMap.get(photoIds.get(j)).placeInSection(section, j);
+                usedPhotoIds.add(photoIds.get(j));
+            }
         }
 
-        // 섹션 기본 정보 수정
-        section.update(request.getName(), request.getDescription(), request.getStartDate(), request.getEndDate());
-        section.updateSequence(sequence);
+        // 사용하지 않는 사진을 따로 받지 않고 완성된 앨범만 받아서 사용되지 않은 사진은 자동 처리
+        albumPhotoMap.forEach((photoId, albumPhoto) -> {
+            if (!usedPhotoIds.contains(photoId)) {
+                albumPhoto.leaveSection();
+            }
+        });
+        album.updatePhotoCount(usedPhotoIds.size());
 
-        // 섹션 내 사진 수정
-        updateTimelineSectionPhotos(album.getId(), section, request.getPhotoIds());
+        // 섹션 삭제는 사진의 섹션 변경 UPDATE 이후에 실행됨
+        timelineAlbumSectionRepository.deleteAll(removedSections);
     }
 
-    private void updateTimelineSectionPhotos(Long albumId, TimelineAlbumSection section, List<Long> photoIds) {
-        // 앨범에서 섹션에 포함된 사진 조회
-        List<TimelineAlbumPhoto> photos = timelineAlbumPhotoRepository.findAllByAlbumIdAndPhotoIdIn(albumId, photoIds);
-        Map<Long, TimelineAlbumPhoto> photoMap = photos.stream()
-                .collect(Collectors.toMap(photo -> photo.getPhoto().getId(), Function.identity()));
-
-        for (int i = 0; i < photoIds.size(); i++) {
-            Long photoId = photoIds.get(i);
-            TimelineAlbumPhoto photo = photoMap.get(photoId);
-            if (photo == null) {
-                throw new BaseException(ErrorCode.ALBUM_PHOTO_NOT_FOUND);
+    /**
+     * 요청한 섹션과 사진이 모두 앨범에 포함되어 있는지, 사진이 여러 섹션에 중복되지 않았는지 검증
+     */
+    private void validateSectionRequests(List<TimelineUpdateRequest.SectionUpdateRequest> sectionRequests,
+                                         Map<Long, TimelineAlbumSection> sectionMap,
+                                         Map<Long, TimelineAlbumPhoto> albumPhotoMap) {
+        Set<Long> requestedPhotoIds = new HashSet<>();
+        for (TimelineUpdateRequest.SectionUpdateRequest sectionRequest : sectionRequests) {
+            if (sectionRequest.getId() != null && !sectionMap.containsKey(sectionRequest.getId())) {
+                throw new BaseException(ErrorCode.INVALID_PARAMETER);
             }
-
-            // 기존에 다른 섹션에 속해 있던 경우는 photo를 기존 섹션에서 제거하고 해당 섹션에 추가
-            TimelineAlbumSection oldSection = photo.getSection();
-            if (oldSection != section) {
-                if (oldSection != null) {
-                    oldSection.removePhoto(photo);
+            for (Long photoId : sectionRequest.getPhotoIds()) {
+                if (!albumPhotoMap.containsKey(photoId)) {
+                    throw new BaseException(ErrorCode.ALBUM_PHOTO_NOT_FOUND);
+                }
+                if (!requestedPhotoIds.add(photoId)) {
+                    throw new BaseException(ErrorCode.INVALID_PARAMETER);
                 }
-                section.addPhoto(photo);
             }
-
-            // 섹션 내 사진 순서 변경
-            photo.updateSequence(i);
         }
     }
 
-    private void updateUnusedPhotos(TimelineAlbum album, List<TimelineUpdateRequest.SectionUpdateRequest> request) {
-        // 사용하지 않는 사진을 따로 받지 않고 완성된 앨범만 받아서 사용되지 않은 사진은 자동 처리
-        Set<Long> requestedPhotoIds = request.stream()
-                .flatMap(section -> section.getPhotoIds().stream())
-                .collect(Collectors.toSet());
-
-        // 기존 albumPhotos 전부 조회
-        List<TimelineAlbumPhoto> photos = timelineAlbumPhotoRepository.findAllByAlbumId(album.getId());
-
-        // 제거 대상 필터링
-        List<TimelineAlbumPhoto> removedPhotos = photos.stream()
-                .filter(albumPhoto -> !requestedPhotoIds.contains(albumPhoto.getPhoto().getId()))
-                .collect(Collectors.toList());
-
-        removedPhotos.forEach(albumPhoto -> {
-            TimelineAlbumSection section = albumPhoto.getSection();
-            if(section != null) {
-                section.removePhoto(albumPhoto); // 섹션에서 사진 제거하면 앨범에만 포함된 상태
-            }
-        });
-
-    }
-
-    private void updateRemovedSections(TimelineAlbum album, List<TimelineUpdateRequest.SectionUpdateRequest> requests) {
+    private List<TimelineAlbumSection> findRemovedSections(TimelineAlbum album, List<TimelineUpdateRequest.SectionUpdateRequest> requests) {
         // 요청에 포함된 섹션
         Set<Long> requestedIds = requests.stream()
                 .map(TimelineUpdateRequest.SectionUpdateRequest::getId)
@@ -174,12 +178,9 @@ public class TimelineInteractionService {
                 .collect(Collectors.toSet());
 
         // 요청에 포함되지 않은 섹션
-        List<TimelineAlbumSection> removedSections = album.getSections().stream()
+        return album.getSections().stream()
                 .filter(section -> !requestedIds.contains(section.getId()))
                 .collect(Collectors.toList());
-
-        removedSections.forEach(album::removeSection); // 앨범에서 섹션 제거
-        timelineAlbumSectionRepository.deleteAll(removedSections); // DB에서 섹션 삭제
     }
 
     @Transactional
@@ -191,6 +192,7 @@ public class TimelineInteractionService {
 
         // 타임라인 앨범에 사진 추가
         List<TimelineAlbumPhoto> timelineAlbumPhotos = photos.stream().map(album::addPhoto).toList();
+        eventPublisher.publishEvent(TimelineAlbumChangedEvent.of(groupId, albumId));
 
         List<TimelineAlbumPhotoDto> timelineAlbumPhotoDtos = timelineAlbumPhotos.stream().map(TimelineAlbumPhotoDto::from).toList();
         return timelineAlbumPhotoDtos;
@@ -207,6 +209,7 @@ public class TimelineInteractionService {
                 .filter(photo -> photo.getSection() != null)
                 .forEach(photo -> photo.getSection().removePhoto(photo));
         timelineAlbumPhotoRepository.deleteAll(photos); // DB에서 사진 삭제
+        eventPublisher.publishEvent(TimelineAlbumChangedEvent.of(groupId, albumId));
     }
 
 }
@@ -3,12 +3,9 @@ package com.ssafy.keepick.timeline.application;
 import com.ssafy.keepick.global.exception.BaseException;
 import com.ssafy.keepick.global.exception.ErrorCode;
 import com.ssafy.keepick.timeline.application.dto.TimelineAlbumDto;
+import com.ssafy.keepick.timeline.application.dto.TimelineAlbumDetailRowDto;
 import com.ssafy.keepick.timeline.domain.TimelineAlbum;
-import com.ssafy.keepick.timeline.domain.TimelineAlbumPhoto;
-import com.ssafy.keepick.timeline.domain.TimelineAlbumSection;
-import com.ssafy.keepick.timeline.persistence.TimelineAlbumPhotoRepository;
 import com.ssafy.keepick.timeline.persistence.TimelineAlbumRepository;
-import com.ssafy.keepick.timeline.persistence.TimelineAlbumSectionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -24,8 +21,7 @@ import java.util.List;
 public class TimelineService {
 
     private final TimelineAlbumRepository timelineAlbumRepository;
-    private final TimelineAlbumSectionRepository timelineAlbumSectionRepository;
-    private final TimelineAlbumPhotoRepository timelineAlbumPhotoRepository;
+    private final TimelineAlbumDetailCache timelineAlbumDetailCache;
 
     public Page<TimelineAlbumDto> getTimelineAlbumList(Long groupId, Integer page, Integer size) {
         Page<TimelineAlbum> albumPage = timelineAlbumRepository.findAllByGroupIdAndDeletedAtIsNull(groupId, PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt")));
@@ -34,20 +30,14 @@ public class TimelineService {
     }
 
     public TimelineAlbumDto getTimelineAlbum(Long groupId, Long albumId) {
-        // 앨범 조회
-        TimelineAlbum album = timelineAlbumRepository.findAlbumByIdAndDeletedAtIsNull(albumId).orElseThrow(() -> new BaseException(ErrorCode.ALBUM_NOT_FOUND));
-
-        // 앨범 섹션 조회
-        List<TimelineAlbumSection> sections = timelineAlbumSectionRepository.findAllByAlbumId(albumId);
-        album.loadSections(sections);
-
-        // 섹션에 포함되지 않은 사진
-        List<TimelineAlbumPhoto> photos = timelineAlbumPhotoRepository.findUnusedPhotosByAlbumIdAndSectionIsNull(albumId);
-        album.loadPhotos(photos);
-
-        // DTO 변환
-        TimelineAlbumDto albumDto = TimelineAlbumDto.fromDetail(album);
-        return albumDto;
+        return timelineAlbumDetailCache.get(albumId, () -> {
+            // 앨범 조회
+            TimelineAlbum album = timelineAlbumRepository.findAlbumByIdAndDeletedAtIsNull(albumId).orElseThrow(() -> new BaseException(ErrorCode.ALBUM_NOT_FOUND));
+
+            // 섹션, 섹션 사진, 사용하지 않는 사진을 한 번에 조회해서 DTO 변환
+            List<TimelineAlbumDetailRowDto> rows = timelineAlbumRepository.findDetailRowsByAlbumId(albumId);
+            return TimelineAlbumDto.fromDetail(album, rows);
+        });
     }
 
 }
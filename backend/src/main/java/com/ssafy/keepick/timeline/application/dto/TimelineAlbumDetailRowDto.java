@@ -0,0 +1,26 @@
+package com.ssafy.keepick.timeline.application.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * 타임라인 앨범 상세 조회용 한 행
+ * 섹션 행은 섹션 정보만, 사진 행은 사진 정보와 속한 섹션 ID(사용하지 않는 사진이면 null)만 채워진다.
+ */
+@Getter
+@Builder
+public class TimelineAlbumDetailRowDto {
+    private final boolean photoRow;
+    private final Long sectionId;
+    private final String name;
+    private final String description;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Integer sequence;
+    private final Long albumPhotoId;
+    private final Long photoId;
+    private final String originalUrl;
+    private final String thumbnailUrl;
+}
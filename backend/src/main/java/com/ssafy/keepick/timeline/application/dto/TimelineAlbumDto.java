@@ -6,7 +6,11 @@ import lombok.Getter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Builder
@@ -40,7 +44,37 @@ public class TimelineAlbumDto {
                 .build();
     }
 
-    public static TimelineAlbumDto fromDetail(TimelineAlbum album) {
+    /**
+     * 상세 조회 행을 한 번 순회하며 섹션별 사진과 사용하지 않는 사진으로 나눈다.
+     * 결과는 캐시되어 여러 요청이 함께 사용하므로 섹션/사진 목록은 모두 불변 목록으로 만든다.
+     *
+     * @param album 앨범 엔티티 (섹션/사진 컬렉션은 사용하지 않음)
+     * @param rows 섹션 행이 먼저 오고 각각 sequence 순으로 정렬된 상세 조회 행
+     */
+    public static TimelineAlbumDto fromDetail(TimelineAlbum album, List<TimelineAlbumDetailRowDto> rows) {
+        Map<Long, TimelineAlbumDetailRowDto> sectionRows = new LinkedHashMap<>();
+        Map<Long, List<TimelineAlbumPhotoDto>> sectionPhotos = new HashMap<>();
+        List<TimelineAlbumPhotoDto> unusedPhotos = new ArrayList<>();
+        for (TimelineAlbumDetailRowDto row : rows) {
+            if (!row.isPhotoRow()) {
+                sectionRows.put(row.getSectionId(), row);
+                sectionPhotos.put(row.getSectionId(), new ArrayList<>());
+                continue;
+            }
+
+            TimelineAlbumPhotoDto photoDto = TimelineAlbumPhotoDto.of(album.getId(), row);
+            List<TimelineAlbumPhotoDto> photos = row.getSectionId() != null ? sectionPhotos.get(row.getSectionId()) : null;
+            if (photos != null) {
+                photos.add(photoDto);
+            } else {
+                unusedPhotos.add(photoDto);
+            }
+        }
+
+        List<TimelineAlbumSectionDto> sections = sectionRows.values().stream()
+                .map(row -> TimelineAlbumSectionDto.of(album.getId(), row, sectionPhotos.get(row.getSectionId())))
+                .toList();
+
         return TimelineAlbumDto.builder()
                 .albumId(album.getId())
                 .name(album.getName())
@@ -52,8 +86,8 @@ public class TimelineAlbumDto {
                 .photoCount(album.getPhotoCount())
                 .createdAt(album.getCreatedAt())
                 .updatedAt(album.getUpdatedAt())
-                .sections(album.getSections().stream().map(TimelineAlbumSectionDto::fromDetail).toList())
-                .unusedPhotos(album.getPhotos().stream().map(TimelineAlbumPhotoDto::from).toList())
+                .sections(sections)
+                .unusedPhotos(List.copyOf(unusedPhotos))
                 .build();
     }
 
@@ -31,4 +31,18 @@ public class TimelineAlbumPhotoDto {
                 .build();
     }
 
+    // 상세 조회 사진 행으로 생성
+    public static TimelineAlbumPhotoDto of(Long albumId, TimelineAlbumDetailRowDto row) {
+        return TimelineAlbumPhotoDto
+                .builder()
+                .albumPhotoId(row.getAlbumPhotoId())
+                .sectionId(row.getSectionId())
+                .albumId(albumId)
+                .photoId(row.getPhotoId())
+                .sequence(row.getSequence())
+                .originalUrl(row.getOriginalUrl())
+                .thumbnailUrl(row.getThumbnailUrl())
+                .build();
+    }
+
 }
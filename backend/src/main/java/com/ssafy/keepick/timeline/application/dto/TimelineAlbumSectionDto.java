@@ -32,16 +32,17 @@ public class TimelineAlbumSectionDto {
                 .build();
     }
 
-    public static TimelineAlbumSectionDto fromDetail(TimelineAlbumSection timelineSection) {
+    // 상세 조회 섹션 행과 섹션에 속한 사진 행으로 생성
+    public static TimelineAlbumSectionDto of(Long albumId, TimelineAlbumDetailRowDto row, List<TimelineAlbumPhotoDto> photos) {
         return TimelineAlbumSectionDto.builder()
-                .sectionId(timelineSection.getId())
-                .albumId(timelineSection.getAlbum().getId())
-                .name(timelineSection.getName())
-                .startDate(timelineSection.getStartDate())
-                .endDate(timelineSection.getEndDate())
-                .description(timelineSection.getDescription())
-                .sequence(timelineSection.getSequence())
-                .photos(timelineSection.getPhotos().stream().map(TimelineAlbumPhotoDto::from).toList())
+                .sectionId(row.getSectionId())
+                .albumId(albumId)
+                .name(row.getName())
+                .startDate(row.getStartDate())
+                .endDate(row.getEndDate())
+                .description(row.getDescription())
+                .sequence(row.getSequence())
+                .photos(List.copyOf(photos))
                 .build();
     }
 
@@ -0,0 +1,14 @@
+package com.ssafy.keepick.timeline.application.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 타임라인 앨범 정보, 섹션 구성, 앨범 사진이 바뀌었을 때 발행되는 이벤트
+ */
+@Getter
+@AllArgsConstructor(staticName = "of")
+public class TimelineAlbumChangedEvent {
+    private final Long groupId;
+    private final Long albumId;
+}
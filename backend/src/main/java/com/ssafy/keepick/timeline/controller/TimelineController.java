@@ -3,6 +3,7 @@ package com.ssafy.keepick.timeline.controller;
 import com.ssafy.keepick.global.response.ApiResponse;
 import com.ssafy.keepick.global.response.PagingResponse;
 import com.ssafy.keepick.global.response.ResponseCode;
+import com.ssafy.keepick.photo.application.ImageService;
 import com.ssafy.keepick.timeline.application.TimelineInteractionService;
 import com.ssafy.keepick.timeline.application.TimelineService;
 import com.ssafy.keepick.timeline.application.dto.TimelineAlbumDto;
@@ -31,6 +32,7 @@ public class TimelineController {
 
     private final TimelineService timelineService;
     private final TimelineInteractionService timelineInteractionService;
+    private final ImageService imageService;
 
     @Operation(summary = "타임라인 앨범 목록 조회", description = "특정 그룹에 속한 타임라인 앨범 목록을 조회합니다.")
     @GetMapping("")
@@ -40,15 +42,15 @@ public class TimelineController {
             @RequestParam(defaultValue = "10") int size
     ) {
         Page<TimelineAlbumDto> albumDtoPage = timelineService.getTimelineAlbumList(groupId, page, size);
-        PagingResponse<TimelineInfoResponse> response = PagingResponse.from(albumDtoPage, TimelineInfoResponse::toResponse);
+        PagingResponse<TimelineInfoResponse> response = PagingResponse.from(albumDtoPage, dto -> TimelineInfoResponse.toResponse(dto, imageService::toReadUrl));
         return ApiResponse.ok(response);
     }
 
-    @Operation(summary = "타임라인 앨범 생성", description = "앨범에 사용할 사진 목록을 받아서 빈 타임라인 앨범을 생성합니다.")
+    @Operation(summary = "타임라인 앨범 생성", description = "앨범에 사용할 사진 목록을 받아서 타임라인 앨범을 생성합니다. autoSection이 true이면 촬영 시각 간격으로 섹션을 자동 생성합니다.")
     @PostMapping("")
     public ApiResponse<TimelineCreateResponse> createTimelineAlbum(@PathVariable Long groupId, @Valid @RequestBody TimelineCreateRequest request) {
         TimelineAlbumDto albumDto = timelineInteractionService.createTimelineAlbum(groupId, request);
-        TimelineCreateResponse response = TimelineCreateResponse.toResponse(albumDto);
+        TimelineCreateResponse response = TimelineCreateResponse.toResponse(albumDto, imageService::toReadUrl);
         return ApiResponse.created(response);
     }
 
@@ -56,7 +58,7 @@ public class TimelineController {
     @GetMapping("/{albumId}")
     public ApiResponse<TimelineDetailResponse> getTimelineAlbum(@PathVariable Long groupId, @PathVariable Long albumId) {
         TimelineAlbumDto timelineAlbumDto = timelineService.getTimelineAlbum(groupId, albumId);
-        TimelineDetailResponse response = TimelineDetailResponse.toResponse(timelineAlbumDto);
+        TimelineDetailResponse response = TimelineDetailResponse.toResponse(timelineAlbumDto, imageService::toReadUrl);
         return ApiResponse.ok(response);
     }
 
@@ -79,7 +81,7 @@ public class TimelineController {
     @PostMapping("/{albumId}/photos")
     public ApiResponse<List<TimelineUploadResponse>> uploadPhotoToTimelineAlbum(@PathVariable Long groupId, @PathVariable Long albumId, @Valid @RequestBody TimelinePhotoRequest request) {
         List<TimelineAlbumPhotoDto> timelineAlbumPhotoDtos = timelineInteractionService.addPhotoToTimelineAlbum(groupId, albumId, request);
-        List<TimelineUploadResponse> response = timelineAlbumPhotoDtos.stream().map(TimelineUploadResponse::toResponse).toList();
+        List<TimelineUploadResponse> response = timelineAlbumPhotoDtos.stream().map(dto -> TimelineUploadResponse.toResponse(dto, imageService::toReadUrl)).toList();
         return ApiResponse.ok(response);
     }
 
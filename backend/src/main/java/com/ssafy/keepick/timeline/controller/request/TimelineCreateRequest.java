@@ -2,6 +2,7 @@ package com.ssafy.keepick.timeline.controller.request;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -15,4 +16,11 @@ public class TimelineCreateRequest {
     @NotNull(message = "사진이 1개 이상 필요합니다.")
     private List<Long> photoIds;
 
+    @Schema(description = "촬영 시각 간격으로 섹션 자동 생성 여부", example = "true")
+    private boolean autoSection;
+
+    @Schema(description = "섹션을 나눌 촬영 시각 간격(시간), null이면 서버 기본값", example = "6")
+    @Positive
+    private Integer sectionGapHours;
+
 }
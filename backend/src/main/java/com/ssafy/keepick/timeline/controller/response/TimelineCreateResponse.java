@@ -8,6 +8,7 @@ import lombok.ToString;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.function.UnaryOperator;
 
 @Getter
 @Builder
@@ -27,10 +28,14 @@ public class TimelineCreateResponse {
     private Integer photoCount;
 
     public static TimelineCreateResponse toResponse(TimelineAlbumDto dto) {
+        return toResponse(dto, UnaryOperator.identity());
+    }
+
+    public static TimelineCreateResponse toResponse(TimelineAlbumDto dto, UnaryOperator<String> urlResolver) {
         return TimelineCreateResponse
                 .builder()
                 .albumId(dto.getAlbumId())
-                .thumbnailUrl(dto.getThumbnailUrl())
+                .thumbnailUrl(urlResolver.apply(dto.getThumbnailUrl()))
                 .createdAt(dto.getCreatedAt())
                 .photoCount(dto.getPhotoCount())
                 .build();
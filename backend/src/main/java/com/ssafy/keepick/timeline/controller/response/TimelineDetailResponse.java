@@ -11,6 +11,7 @@ import lombok.ToString;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.UnaryOperator;
 
 @Getter
 @Builder
@@ -76,14 +77,14 @@ public class TimelineDetailResponse {
         @Schema(description = "섹션 내 사진 목록")
         private List<Photo> photos;
 
-        static Section from(TimelineAlbumSectionDto dto) {
+        static Section from(TimelineAlbumSectionDto dto, UnaryOperator<String> urlResolver) {
             return Section.builder()
                     .sectionId(dto.getSectionId())
                     .name(dto.getName())
                     .description(dto.getDescription())
                     .startDate(dto.getStartDate())
                     .endDate(dto.getEndDate())
-                    .photos(dto.getPhotos().stream().map(Photo::from).toList())
+                    .photos(dto.getPhotos().stream().map(photo -> Photo.from(photo, urlResolver)).toList())
                     .build();
         }
     }
@@ -102,30 +103,34 @@ public class TimelineDetailResponse {
         @Schema(description = "사진 썸네일 URL", example = "https://example.com/photo/thumbnail.jpg")
         private String thumbnailUrl;
 
-        static Photo from(TimelineAlbumPhotoDto dto) {
+        static Photo from(TimelineAlbumPhotoDto dto, UnaryOperator<String> urlResolver) {
             return Photo.builder()
                     .photoId(dto.getPhotoId())
-                    .originalUrl(dto.getOriginalUrl())
-                    .thumbnailUrl(dto.getThumbnailUrl())
+                    .originalUrl(urlResolver.apply(dto.getOriginalUrl()))
+                    .thumbnailUrl(urlResolver.apply(dto.getThumbnailUrl()))
                     .build();
         }
     }
 
     public static TimelineDetailResponse toResponse(TimelineAlbumDto dto) {
+        return toResponse(dto, UnaryOperator.identity());
+    }
+
+    public static TimelineDetailResponse toResponse(TimelineAlbumDto dto, UnaryOperator<String> urlResolver) {
         return TimelineDetailResponse
                 .builder()
                 .albumId(dto.getAlbumId())
                 .name(dto.getName())
                 .description(dto.getDescription())
-                .thumbnailUrl(dto.getThumbnailUrl())
-                .originalUrl(dto.getOriginalUrl())
+                .thumbnailUrl(urlResolver.apply(dto.getThumbnailUrl()))
+                .originalUrl(urlResolver.apply(dto.getOriginalUrl()))
                 .startDate(dto.getStartDate())
                 .endDate(dto.getEndDate())
                 .photoCount(dto.getPhotoCount())
                 .createdAt(dto.getCreatedAt())
                 .updatedAt(dto.getUpdatedAt())
-                .sections(dto.getSections().stream().map(Section::from).toList())
-                .unusedPhotos(dto.getUnusedPhotos().stream().map(Photo::from).toList())
+                .sections(dto.getSections().stream().map(section -> Section.from(section, urlResolver)).toList())
+                .unusedPhotos(dto.getUnusedPhotos().stream().map(photo -> Photo.from(photo, urlResolver)).toList())
                 .build();
     }
 
@@ -8,6 +8,7 @@ import lombok.ToString;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.function.UnaryOperator;
 
 
 @Getter
@@ -46,13 +47,17 @@ public class TimelineInfoResponse {
     private LocalDateTime updatedAt;
 
     public static TimelineInfoResponse toResponse(TimelineAlbumDto dto) {
+        return toResponse(dto, UnaryOperator.identity());
+    }
+
+    public static TimelineInfoResponse toResponse(TimelineAlbumDto dto, UnaryOperator<String> urlResolver) {
         return TimelineInfoResponse
                 .builder()
                 .albumId(dto.getAlbumId())
                 .name(dto.getName())
                 .description(dto.getDescription())
-                .thumbnailUrl(dto.getThumbnailUrl())
-                .originalUrl(dto.getOriginalUrl())
+                .thumbnailUrl(urlResolver.apply(dto.getThumbnailUrl()))
+                .originalUrl(urlResolver.apply(dto.getOriginalUrl()))
                 .startDate(dto.getStartDate())
                 .endDate(dto.getEndDate())
                 .photoCount(dto.getPhotoCount())
@@ -5,6 +5,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.function.UnaryOperator;
+
 @Getter
 @Builder
 public class TimelineUploadResponse {
@@ -19,11 +21,15 @@ public class TimelineUploadResponse {
     private String thumbnailUrl;
 
     public static TimelineUploadResponse toResponse(TimelineAlbumPhotoDto dto) {
+        return toResponse(dto, UnaryOperator.identity());
+    }
+
+    public static TimelineUploadResponse toResponse(TimelineAlbumPhotoDto dto, UnaryOperator<String> urlResolver) {
         return TimelineUploadResponse
                 .builder()
                 .photoId(dto.getPhotoId())
-                .originalUrl(dto.getOriginalUrl())
-                .thumbnailUrl(dto.getThumbnailUrl())
+                .originalUrl(urlResolver.apply(dto.getOriginalUrl()))
+                .thumbnailUrl(urlResolver.apply(dto.getThumbnailUrl()))
                 .build();
     }
 
@@ -9,9 +9,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.ToString;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 
@@ -21,6 +25,8 @@ import java.util.Objects;
 @Entity
 public class TimelineAlbum extends BaseTimeEntity {
 
+    private static final DateTimeFormatter SECTION_NAME_FORMAT = DateTimeFormatter.ofPattern("yyyy.MM.dd");
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -78,22 +84,62 @@ public class TimelineAlbum extends BaseTimeEntity {
         section.removeFromAlbum();
     }
 
-    public TimelineAlbumPhoto addPhoto(Photo photo) {
-        TimelineAlbumPhoto albumPhoto = TimelineAlbumPhoto.createTimelineAlbumPhoto(this, photo);
-        this.photos.add(albumPhoto);
-        return albumPhoto;
+    /**
+     * 촬영 시각 순으로 정렬한 뒤 한 번 순회하며, 이전 사진과의 간격이 gap보다 크면 새 섹션을 시작한다.
+     * 섹션과 앨범의 시작/종료 날짜는 포함된 사진의 촬영 날짜로 채우고, 촬영 시각이 없는 사진은 사용하지 않는 사진으로 둔다.
+     */
+    public void generateSections(Duration gap) {
+        List<TimelineAlbumPhoto> datedPhotos = this.photos.stream()
+                .filter(albumPhoto -> albumPhoto.getPhoto().getTakenAt() != null)
+                .sorted(Comparator.comparing(albumPhoto -> albumPhoto.getPhoto().getTakenAt()))
+                .toList();
+
+        TimelineAlbumSection section = null;
+        LocalDateTime sectionStart = null;
+        LocalDateTime previous = null;
+        int photoSequence = 0;
+        for (TimelineAlbumPhoto albumPhoto : datedPhotos) {
+            LocalDateTime takenAt = albumPhoto.getPhoto().getTakenAt();
+            if (section == null || Duration.between(previous, takenAt).compareTo(gap) > 0) {
+                if (section != null) {
+                    closeGeneratedSection(section, sectionStart, previous);
+                }
+                section = createTimelineAlbumSection();
+                section.updateSequence(this.sections.size() - 1);
+                sectionStart = takenAt;
+                photoSequence = 0;
+            }
+            albumPhoto.placeInSection(section, photoSequence++);
+            previous = takenAt;
+        }
+        if (section == null) {
+            return;
+        }
+        closeGeneratedSection(section, sectionStart, previous);
+
+        this.startDate = datedPhotos.getFirst().getPhoto().getTakenAt().toLocalDate();
+        this.endDate = previous.toLocalDate();
+        this.photoCount = datedPhotos.size();
     }
 
-    public void loadSections(List<TimelineAlbumSection> sections) {
-        if (sections != null) {
-            this.sections = sections;
-        }
+    private void closeGeneratedSection(TimelineAlbumSection section, LocalDateTime start, LocalDateTime end) {
+        LocalDate startDate = start.toLocalDate();
+        LocalDate endDate = end.toLocalDate();
+        String name = startDate.equals(endDate)
+                ? startDate.format(SECTION_NAME_FORMAT)
+                : startDate.format(SECTION_NAME_FORMAT) + " ~ " + endDate.format(SECTION_NAME_FORMAT);
+        section.update(name, null, startDate, endDate);
     }
 
-    public void loadPhotos(List<TimelineAlbumPhoto> photos) {
-        if (photos != null) {
-            this.photos = photos;
-        }
+    // 섹션 사진 정리 없이 앨범에서 섹션만 제거 (사진의 섹션 해제는 호출하는 쪽에서 처리)
+    public void removeSections(Collection<TimelineAlbumSection> sections) {
+        this.sections.removeAll(sections);
+    }
+
+    public TimelineAlbumPhoto addPhoto(Photo photo) {
+        TimelineAlbumPhoto albumPhoto = TimelineAlbumPhoto.createTimelineAlbumPhoto(this, photo);
+        this.photos.add(albumPhoto);
+        return albumPhoto;
     }
 
     public void update(String name, String description, Photo thumbnail, LocalDate startDate, LocalDate endDate) {
@@ -126,6 +172,10 @@ public class TimelineAlbum extends BaseTimeEntity {
         this.photoCount--;
     }
 
+    public void updatePhotoCount(int photoCount) {
+        this.photoCount = photoCount;
+    }
+
     public void delete() {
         this.deletedAt = LocalDateTime.now();
     }
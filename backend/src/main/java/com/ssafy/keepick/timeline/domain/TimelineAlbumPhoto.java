@@ -42,6 +42,29 @@ public class TimelineAlbumPhoto {
         this.sequence = null;
     }
 
+    /**
+     * 사진을 섹션의 sequence 위치에 배치
+     * 섹션 쪽 사진 목록은 이미 로딩된 경우에만 함께 맞추므로 섹션별 사진 목록을 추가로 조회하지 않는다.
+     */
+    public void placeInSection(TimelineAlbumSection section, Integer sequence) {
+        if (this.section != section) {
+            if (this.section != null) {
+                this.section.detachLoadedPhoto(this);
+            }
+            section.attachLoadedPhoto(this);
+            this.section = section;
+        }
+        updateSequence(sequence);
+    }
+
+    // 섹션에서 빼서 앨범에만 포함된(사용하지 않는) 사진으로 변경
+    public void leaveSection() {
+        if (this.section != null) {
+            this.section.detachLoadedPhoto(this);
+            removeFromSection();
+        }
+    }
+
     public void updateSection(TimelineAlbumSection section) {
         if (!Objects.equals(this.section, section)) {
             this.section = section;
@@ -2,6 +2,7 @@ package com.ssafy.keepick.timeline.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.Hibernate;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -80,6 +81,18 @@ public class TimelineAlbumSection {
         }
     }
 
+    void attachLoadedPhoto(TimelineAlbumPhoto photo) {
+        if (Hibernate.isInitialized(this.photos)) {
+            this.photos.add(photo);
+        }
+    }
+
+    void detachLoadedPhoto(TimelineAlbumPhoto photo) {
+        if (Hibernate.isInitialized(this.photos)) {
+            this.photos.remove(photo);
+        }
+    }
+
     public void removeFromAlbum() {
         // 섹션에 포함된 사진을 사용하지 않는 상태로 바꿈
         for (var photo : new ArrayList<>(this.photos)) {
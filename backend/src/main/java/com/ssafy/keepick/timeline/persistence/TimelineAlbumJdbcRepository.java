@@ -0,0 +1,11 @@
+package com.ssafy.keepick.timeline.persistence;
+
+import com.ssafy.keepick.timeline.application.dto.TimelineAlbumDetailRowDto;
+
+import java.util.List;
+
+public interface TimelineAlbumJdbcRepository {
+
+    // 앨범의 섹션 행과 사진 행을 한 번에 조회 (섹션 행이 먼저, 각각 sequence 순)
+    List<TimelineAlbumDetailRowDto> findDetailRowsByAlbumId(Long albumId);
+}
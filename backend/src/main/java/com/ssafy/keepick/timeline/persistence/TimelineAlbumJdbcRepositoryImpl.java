@@ -0,0 +1,55 @@
+package com.ssafy.keepick.timeline.persistence;
+
+import com.ssafy.keepick.timeline.application.dto.TimelineAlbumDetailRowDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class TimelineAlbumJdbcRepositoryImpl implements TimelineAlbumJdbcRepository {
+    // 섹션 행과 사진 행을 한 번의 왕복으로 읽기 위해 UNION ALL 사용 (JPQL/QueryDSL은 UNION을 지원하지 않음)
+    private static final String DETAIL_ROWS_SQL = """
+        SELECT 0 AS row_type, s.id AS section_id, s.name, s.description, s.start_date, s.end_date, s.sequence,
+               NULL AS album_photo_id, NULL AS photo_id, NULL AS original_url, NULL AS thumbnail_url
+        FROM timeline_album_section s
+        WHERE s.album_id = ?
+        UNION ALL
+        SELECT 1, tap.section_id, NULL, NULL, NULL, NULL, tap.sequence,
+               tap.id, p.id, p.original_url, p.thumbnail_url
+        FROM timeline_album_photo tap
+        JOIN photo p ON p.id = tap.photo_id
+        WHERE tap.album_id = ?
+        ORDER BY row_type, sequence, section_id, album_photo_id
+    """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 섹션, 섹션 사진, 사용하지 않는 사진을 엔티티 로딩 없이 평평한 행으로 조회
+     */
+    @Override
+    public List<TimelineAlbumDetailRowDto> findDetailRowsByAlbumId(Long albumId) {
+        return jdbcTemplate.query(DETAIL_ROWS_SQL, (rs, rowNum) -> TimelineAlbumDetailRowDto.builder()
+                .photoRow(rs.getInt("row_type") == 1)
+                .sectionId(rs.getObject("section_id", Long.class))
+                .name(rs.getString("name"))
+                .description(rs.getString("description"))
+                .startDate(toLocalDate(rs.getDate("start_date")))
+                .endDate(toLocalDate(rs.getDate("end_date")))
+                .sequence(rs.getObject("sequence", Integer.class))
+                .albumPhotoId(rs.getObject("album_photo_id", Long.class))
+                .photoId(rs.getObject("photo_id", Long.class))
+                .originalUrl(rs.getString("original_url"))
+                .thumbnailUrl(rs.getString("thumbnail_url"))
+                .build(), albumId, albumId);
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+}
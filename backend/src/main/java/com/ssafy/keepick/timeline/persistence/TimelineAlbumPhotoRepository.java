@@ -11,9 +11,6 @@ import java.util.List;
 
 public interface TimelineAlbumPhotoRepository extends JpaRepository<TimelineAlbumPhoto, Long> {
 
-    @EntityGraph(attributePaths = "photo")
-    List<TimelineAlbumPhoto> findUnusedPhotosByAlbumIdAndSectionIsNull(Long albumId);
-
     // 주어진 사진 목록 중 타임라인 앨범에 없는 사진 조회
     @Query("""
         SELECT p
@@ -10,7 +10,7 @@ import org.springframework.data.repository.query.Param;
 import java.util.List;
 import java.util.Optional;
 
-public interface TimelineAlbumRepository extends JpaRepository<TimelineAlbum, Long> {
+public interface TimelineAlbumRepository extends JpaRepository<TimelineAlbum, Long>, TimelineAlbumJdbcRepository {
 
     Optional<TimelineAlbum> findAlbumByIdAndDeletedAtIsNull(Long id);
 
@@ -25,7 +25,8 @@ public interface TimelineAlbumRepository extends JpaRepository<TimelineAlbum, Lo
 
     Page<TimelineAlbum> findAllByGroupIdAndDeletedAtIsNull(Long groupId, Pageable pageable);
 
-    boolean existsByIdAndGroupIdAndDeletedAtIsNull(Long id, Long groupId);
+    @Query("SELECT a.group.id FROM TimelineAlbum a WHERE a.id = :id AND a.deletedAt IS NULL")
+    Optional<Long> findGroupIdByIdAndDeletedAtIsNull(@Param("id") Long id);
 
     List<TimelineAlbum> findAllByGroupIdAndDeletedAtIsNullOrderByCreatedAtDesc(Long groupId);
 }
@@ -0,0 +1,101 @@
+package com.ssafy.keepick.album.common.application;
+
+import com.ssafy.keepick.album.common.domain.AlbumType;
+import com.ssafy.keepick.album.tier.persistence.TierAlbumRepository;
+import com.ssafy.keepick.highlight.application.event.HighlightAlbumChangedEvent;
+import com.ssafy.keepick.highlight.presistence.HighlightAlbumRepository;
+import com.ssafy.keepick.support.BaseTest;
+import com.ssafy.keepick.timeline.persistence.TimelineAlbumRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AlbumOwnershipCacheTest extends BaseTest {
+
+    @Mock
+    private TimelineAlbumRepository timelineAlbumRepository;
+
+    @Mock
+    private TierAlbumRepository tierAlbumRepository;
+
+    @Mock
+    private HighlightAlbumRepository highlightAlbumRepository;
+
+    @InjectMocks
+    private AlbumOwnershipCache albumOwnershipCache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(albumOwnershipCache, "cacheSize", 100L);
+        ReflectionTestUtils.setField(albumOwnershipCache, "cacheTtlSeconds", 600L);
+        albumOwnershipCache.init();
+    }
+
+    @Test
+    @DisplayName("앨범의 그룹은 한 번만 조회하고 이후에는 캐시로 확인")
+    void belongsToGroup_CachesOwner() {
+        // given
+        when(tierAlbumRepository.findGroupIdByIdAndDeletedAtIsNull(200L)).thenReturn(Optional.of(100L));
+
+        // when
+        boolean first = albumOwnershipCache.belongsToGroup(AlbumType.TIER, 200L, 100L);
+        boolean otherGroup = albumOwnershipCache.belongsToGroup(AlbumType.TIER, 200L, 101L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(otherGroup).isFalse();
+        verify(tierAlbumRepository, times(1)).findGroupIdByIdAndDeletedAtIsNull(200L);
+    }
+
+    @Test
+    @DisplayName("앨범 타입이 다르면 같은 ID라도 따로 조회")
+    void belongsToGroup_SeparatesAlbumTypes() {
+        // given
+        when(timelineAlbumRepository.findGroupIdByIdAndDeletedAtIsNull(200L)).thenReturn(Optional.of(100L));
+        when(tierAlbumRepository.findGroupIdByIdAndDeletedAtIsNull(200L)).thenReturn(Optional.of(300L));
+
+        // when & then
+        assertThat(albumOwnershipCache.belongsToGroup(AlbumType.TIMELINE, 200L, 100L)).isTrue();
+        assertThat(albumOwnershipCache.belongsToGroup(AlbumType.TIER, 200L, 100L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("없거나 삭제된 앨범은 캐시하지 않음")
+    void belongsToGroup_MissingAlbum_NotCached() {
+        // given
+        when(highlightAlbumRepository.findGroupIdByIdAndDeletedAtIsNull(200L))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(100L));
+
+        // when & then
+        assertThat(albumOwnershipCache.belongsToGroup(AlbumType.HIGHLIGHT, 200L, 100L)).isFalse();
+        assertThat(albumOwnershipCache.belongsToGroup(AlbumType.HIGHLIGHT, 200L, 100L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("앨범 변경 이벤트 수신 시 캐시에서 제거되어 삭제 여부를 다시 확인")
+    void handleHighlightAlbumChanged_Invalidates() {
+        // given
+        when(highlightAlbumRepository.findGroupIdByIdAndDeletedAtIsNull(200L))
+                .thenReturn(Optional.of(100L))
+                .thenReturn(Optional.empty());
+        albumOwnershipCache.belongsToGroup(AlbumType.HIGHLIGHT, 200L, 100L);
+
+        // when
+        albumOwnershipCache.handleHighlightAlbumChanged(HighlightAlbumChangedEvent.of(100L, 200L));
+
+        // then
+        assertThat(albumOwnershipCache.belongsToGroup(AlbumType.HIGHLIGHT, 200L, 100L)).isFalse();
+    }
+}
@@ -1,27 +1,29 @@
 package com.ssafy.keepick.album.common.application;
 
 import com.ssafy.keepick.album.common.application.dto.AlbumDto;
-import com.ssafy.keepick.album.tier.domain.TierAlbum;
-import com.ssafy.keepick.album.tier.persistence.TierAlbumRepository;
-import com.ssafy.keepick.group.domain.Group;
-import com.ssafy.keepick.highlight.domain.HighlightAlbum;
-import com.ssafy.keepick.highlight.presistence.HighlightAlbumRepository;
-import com.ssafy.keepick.photo.domain.Photo;
+import com.ssafy.keepick.album.common.application.dto.AlbumSummaryDto;
+import com.ssafy.keepick.album.common.domain.AlbumType;
+import com.ssafy.keepick.album.common.persistence.AlbumSummaryJdbcRepository;
 import com.ssafy.keepick.support.BaseTest;
-import com.ssafy.keepick.timeline.domain.TimelineAlbum;
-import com.ssafy.keepick.timeline.persistence.TimelineAlbumRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.never;
 
 @ExtendWith(MockitoExtension.class)
 class AlbumServiceTest extends BaseTest {
@@ -30,46 +32,76 @@ class AlbumServiceTest extends BaseTest {
     AlbumService albumService;
 
     @Mock
-    TimelineAlbumRepository timelineAlbumRepository;
+    AlbumSummaryJdbcRepository albumSummaryJdbcRepository;
 
     @Mock
-    TierAlbumRepository tierAlbumRepository;
-
-    @Mock
-    HighlightAlbumRepository highlightAlbumRepository;
+    AlbumListCache albumListCache;
 
     Long groupId = 1L;
-    Long currentUserId = 1L;
 
     @DisplayName("타임라인, 티어, 하이라이트 앨범을 조회한다.")
     @Test
+    @SuppressWarnings("unchecked")
     void getAllAlbumList() {
-        // given
-        Group group = Group.createGroup("TEST", null);
-
-        TimelineAlbum timelineAlbum = TimelineAlbum.createTimelineAlbum(group, List.of(createPhoto()));
-        TierAlbum tierAlbum = TierAlbum.createTierAlbum(groupId);
-        HighlightAlbum highlightAlbum = HighlightAlbum.builder().group(group).build();
-
-        given(timelineAlbumRepository.findAllByGroupIdAndDeletedAtIsNullOrderByCreatedAtDesc(groupId)).willReturn(List.of(timelineAlbum));
-        given(tierAlbumRepository.findByGroupId(groupId)).willReturn(List.of(tierAlbum));
-        given(highlightAlbumRepository.findAllByGroupIdAndDeletedAtIsNullOrderByCreatedAtDesc(groupId)).willReturn(List.of(highlightAlbum));
+        // given: 캐시 미스로 DB에서 조회
+        given(albumListCache.get(eq(groupId), any()))
+                .willAnswer(invocation -> ((Supplier<List<AlbumSummaryDto>>) invocation.getArgument(1)).get());
+        given(albumSummaryJdbcRepository.findAllByGroupId(groupId)).willReturn(List.of(
+                createSummary(AlbumType.HIGHLIGHT, 5L),
+                createSummary(AlbumType.TIMELINE, 4L),
+                createSummary(AlbumType.TIER, 3L),
+                createSummary(AlbumType.TIMELINE, 2L)));
 
         // when
         AlbumDto albumDto = albumService.getAllAlbumList(groupId);
 
         // then
-        assertThat(albumDto.getTimelineAlbumDtoList()).hasSize(1);
-        assertThat(albumDto.getTierAlbumDtoList()).hasSize(1);
-        assertThat(albumDto.getHighlightAlbumDtoList()).hasSize(1);
+        assertThat(albumDto.getTimelineAlbumDtoList()).extracting("albumId").containsExactly(4L, 2L);
+        assertThat(albumDto.getTierAlbumDtoList()).extracting("id").containsExactly(3L);
+        assertThat(albumDto.getHighlightAlbumDtoList()).extracting("albumId").containsExactly(5L);
+
+        verify(albumSummaryJdbcRepository).findAllByGroupId(groupId);
+    }
 
-        verify(timelineAlbumRepository).findAllByGroupIdAndDeletedAtIsNullOrderByCreatedAtDesc(groupId);
-        verify(tierAlbumRepository).findByGroupId(groupId);
-        verify(highlightAlbumRepository).findAllByGroupIdAndDeletedAtIsNullOrderByCreatedAtDesc(groupId);
+    @DisplayName("앨범 카드 목록은 요청한 페이지만 DB에서 조회한다.")
+    @Test
+    @SuppressWarnings("unchecked")
+    void getAlbumSummaryPage() {
+        // given: 캐시 미스로 DB에서 조회
+        given(albumListCache.getPage(eq(groupId), any(), anyInt(), anyInt(), any()))
+                .willAnswer(invocation -> ((Supplier<Page<AlbumSummaryDto>>) invocation.getArgument(4)).get());
+        given(albumSummaryJdbcRepository.findPageByGroupId(groupId, null, PageRequest.of(0, 3))).willReturn(List.of(
+                createSummary(AlbumType.HIGHLIGHT, 5L),
+                createSummary(AlbumType.TIMELINE, 4L),
+                createSummary(AlbumType.TIER, 3L)));
+        given(albumSummaryJdbcRepository.countByGroupId(groupId, null)).willReturn(4L);
+        given(albumSummaryJdbcRepository.findPageByGroupId(groupId, AlbumType.TIMELINE, PageRequest.of(0, 3))).willReturn(List.of(
+                createSummary(AlbumType.TIMELINE, 4L),
+                createSummary(AlbumType.TIMELINE, 2L)));
+
+        // when
+        Page<AlbumSummaryDto> firstPage = albumService.getAlbumSummaryPage(groupId, null, 0, 3);
+        Page<AlbumSummaryDto> timelinePage = albumService.getAlbumSummaryPage(groupId, AlbumType.TIMELINE, 0, 3);
+
+        // then
+        assertThat(firstPage.getContent()).extracting("albumId").containsExactly(5L, 4L, 3L);
+        assertThat(firstPage.getTotalElements()).isEqualTo(4);
+        assertThat(firstPage.hasNext()).isTrue();
+
+        // 마지막 페이지면 개수 쿼리 없이 전체 개수를 계산
+        assertThat(timelinePage.getContent()).extracting("type").containsOnly(AlbumType.TIMELINE);
+        assertThat(timelinePage.getTotalElements()).isEqualTo(2);
+        verify(albumSummaryJdbcRepository, never()).countByGroupId(groupId, AlbumType.TIMELINE);
+        verify(albumSummaryJdbcRepository, never()).findAllByGroupId(groupId);
     }
 
-    private Photo createPhoto() {
-        return Photo.createPhoto(null, null, null, null);
+    private AlbumSummaryDto createSummary(AlbumType type, Long albumId) {
+        return AlbumSummaryDto.builder()
+                .type(type)
+                .albumId(albumId)
+                .name("ALBUM" + albumId)
+                .photoCount(1)
+                .build();
     }
 
-}
\ No newline at end of file
+}
@@ -7,6 +7,7 @@ import com.ssafy.keepick.album.common.application.dto.AlbumDto;
 import com.ssafy.keepick.album.tier.application.dto.TierAlbumDto;
 import com.ssafy.keepick.global.exception.GlobalExceptionHandler;
 import com.ssafy.keepick.highlight.application.dto.HighlightAlbumDto;
+import com.ssafy.keepick.photo.application.ImageService;
 import com.ssafy.keepick.support.BaseTest;
 import com.ssafy.keepick.timeline.application.dto.TimelineAlbumDto;
 import org.junit.jupiter.api.BeforeEach;
@@ -23,6 +24,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import java.util.List;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -35,6 +37,9 @@ class AlbumControllerTest extends BaseTest  {
     @Mock
     private AlbumService albumService;
 
+    @Mock
+    private ImageService imageService;
+
     @InjectMocks
     private AlbumController albumController;
 
@@ -55,7 +60,7 @@ class AlbumControllerTest extends BaseTest  {
         // given
         Long groupId = 1L;
 
-        TimelineAlbumDto timelineAlbumDto = TimelineAlbumDto.builder().albumId(1L).name("TLA").build();
+        TimelineAlbumDto timelineAlbumDto = TimelineAlbumDto.builder().albumId(1L).name("TLA").thumbnailUrl("https://bucket/a.jpg").build();
         TierAlbumDto tierAlbumDto = TierAlbumDto.builder().id(2L).name("TA").build();
         HighlightAlbumDto highlightAlbumDto = HighlightAlbumDto.builder().albumId(3L).name("HA").build();
 
@@ -66,13 +71,30 @@ class AlbumControllerTest extends BaseTest  {
                 .build();
 
         given(albumService.getAllAlbumList(groupId)).willReturn(albumDto);
+        given(imageService.toReadUrl("https://bucket/a.jpg")).willReturn("https://bucket/a.jpg?X-Amz-Signature=abc");
 
         // when & then
         mockMvc.perform(get("/api/groups/{groupId}/albums", groupId)
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.data.timelineAlbumList").isArray())
+                .andExpect(jsonPath("$.data.timelineAlbumList[0].thumbnailUrl").value("https://bucket/a.jpg?X-Amz-Signature=abc"))
                 .andExpect(jsonPath("$.data.tierAlbumList").isArray())
                 .andExpect(jsonPath("$.data.highlightAlbumList").isArray());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("앨범 카드 목록 조회 시 page, size 범위를 벗어나면 400을 반환한다")
+    void getAlbumCards_InvalidPaging() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/groups/{groupId}/albums/cards", 1L).param("page", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("B004"));
+        mockMvc.perform(get("/api/groups/{groupId}/albums/cards", 1L).param("size", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/groups/{groupId}/albums/cards", 1L).param("size", "101"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(albumService);
+    }
+}
@@ -0,0 +1,106 @@
+package com.ssafy.keepick.album.common.persistence;
+
+import com.ssafy.keepick.album.common.application.dto.AlbumSummaryDto;
+import com.ssafy.keepick.album.common.domain.AlbumType;
+import com.ssafy.keepick.group.domain.Group;
+import com.ssafy.keepick.group.persistence.GroupRepository;
+import com.ssafy.keepick.member.domain.Member;
+import com.ssafy.keepick.member.persistence.MemberRepository;
+import com.ssafy.keepick.support.BaseRepositoryTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@Import(AlbumSummaryJdbcRepository.class)
+class AlbumSummaryJdbcRepositoryTest extends BaseRepositoryTest {
+
+    @Autowired AlbumSummaryJdbcRepository albumSummaryJdbcRepository;
+    @Autowired GroupRepository groupRepository;
+    @Autowired MemberRepository memberRepository;
+    @Autowired JdbcTemplate jdbcTemplate;
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    Long groupId;
+    Long otherGroupId;
+
+    @BeforeEach
+    void setUp() {
+        Member member = memberRepository.save(createMember());
+        groupId = groupRepository.save(Group.createGroup("그룹", member)).getId();
+        otherGroupId = groupRepository.save(Group.createGroup("다른 그룹", member)).getId();
+
+        insertAlbum("timeline_album", groupId, "타임라인1", 1, false);
+        insertAlbum("tier_album", groupId, "티어1", 2, false);
+        insertAlbum("highlight_album", groupId, "하이라이트1", 3, false);
+        insertAlbum("timeline_album", groupId, "타임라인2", 4, false);
+        insertAlbum("tier_album", groupId, "삭제된 티어", 5, true);
+        insertAlbum("timeline_album", otherGroupId, "다른 그룹 타임라인", 6, false);
+    }
+
+    @DisplayName("그룹의 삭제되지 않은 세 종류 앨범을 종류와 함께 최신순으로 조회합니다.")
+    @Test
+    void findAllByGroupIdTest() {
+        // when
+        List<AlbumSummaryDto> albums = albumSummaryJdbcRepository.findAllByGroupId(groupId);
+
+        // then
+        assertThat(albums).extracting("type", "name").containsExactly(
+                tuple(AlbumType.TIMELINE, "타임라인2"),
+                tuple(AlbumType.HIGHLIGHT, "하이라이트1"),
+                tuple(AlbumType.TIER, "티어1"),
+                tuple(AlbumType.TIMELINE, "타임라인1"));
+    }
+
+    @DisplayName("앨범 카드를 최신순으로 한 페이지만 조회합니다.")
+    @Test
+    void findPageByGroupIdTest() {
+        // when
+        List<AlbumSummaryDto> firstPage = albumSummaryJdbcRepository.findPageByGroupId(groupId, null, PageRequest.of(0, 3));
+        List<AlbumSummaryDto> secondPage = albumSummaryJdbcRepository.findPageByGroupId(groupId, null, PageRequest.of(1, 3));
+        List<AlbumSummaryDto> timelinePage = albumSummaryJdbcRepository.findPageByGroupId(groupId, AlbumType.TIMELINE, PageRequest.of(0, 3));
+
+        // then
+        assertThat(firstPage).extracting("name").containsExactly("타임라인2", "하이라이트1", "티어1");
+        assertThat(secondPage).extracting("name").containsExactly("타임라인1");
+        assertThat(timelinePage).extracting("name").containsExactly("타임라인2", "타임라인1");
+    }
+
+    @DisplayName("그룹의 삭제되지 않은 앨범 개수를 종류별로 조회합니다.")
+    @Test
+    void countByGroupIdTest() {
+        // when & then
+        assertThat(albumSummaryJdbcRepository.countByGroupId(groupId, null)).isEqualTo(4);
+        assertThat(albumSummaryJdbcRepository.countByGroupId(groupId, AlbumType.TIER)).isEqualTo(1);
+        assertThat(albumSummaryJdbcRepository.countByGroupId(otherGroupId, AlbumType.HIGHLIGHT)).isZero();
+    }
+
+    private void insertAlbum(String table, Long groupId, String name, int minutes, boolean deleted) {
+        LocalDateTime createdAt = BASE_TIME.plusMinutes(minutes);
+        jdbcTemplate.update("INSERT INTO " + table + " (group_id, name, photo_count, created_at, deleted_at) VALUES (?, ?, ?, ?, ?)",
+                groupId, name, 1, Timestamp.valueOf(createdAt), deleted ? Timestamp.valueOf(createdAt) : null);
+    }
+
+    Member createMember() {
+        return Member.builder()
+                .name("이름")
+                .email("unique@email.com")
+                .nickname("닉네임")
+                .provider("google")
+                .providerId("123456789")
+                .identificationUrl("http://example.png")
+                .build();
+    }
+
+}
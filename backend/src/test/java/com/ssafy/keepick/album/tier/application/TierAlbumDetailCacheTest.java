@@ -0,0 +1,87 @@
+package com.ssafy.keepick.album.tier.application;
+
+import com.ssafy.keepick.album.tier.application.dto.TierAlbumDetailDto;
+import com.ssafy.keepick.album.tier.application.event.TierAlbumChangedEvent;
+import com.ssafy.keepick.external.redis.RedisService;
+import com.ssafy.keepick.global.cache.VersionedLocalCacheFactory;
+import com.ssafy.keepick.support.BaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TierAlbumDetailCacheTest extends BaseTest {
+
+    @Mock
+    private RedisService redisService;
+
+    private TierAlbumDetailCache tierAlbumDetailCache;
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        VersionedLocalCacheFactory versionedLocalCacheFactory = new VersionedLocalCacheFactory(redisService);
+        ReflectionTestUtils.setField(versionedLocalCacheFactory, "versionTtlDays", 7L);
+        tierAlbumDetailCache = new TierAlbumDetailCache(versionedLocalCacheFactory);
+        ReflectionTestUtils.setField(tierAlbumDetailCache, "cacheSize", 10L);
+        tierAlbumDetailCache.init();
+    }
+
+    @Test
+    @DisplayName("같은 버전이면 캐시된 상세를 반환")
+    void get_SameVersion_ReturnsCached() {
+        // given
+        when(redisService.getOrInitVersion(eq("album:tier:version:1"), anyLong(), any())).thenReturn("100");
+
+        // when
+        TierAlbumDetailDto first = tierAlbumDetailCache.get(1L, this::load);
+        TierAlbumDetailDto second = tierAlbumDetailCache.get(1L, this::load);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("앨범 버전이 바뀌면 다시 적재")
+    void get_VersionChanged_Reloads() {
+        // given
+        when(redisService.getOrInitVersion(eq("album:tier:version:1"), anyLong(), any())).thenReturn("100", "101");
+
+        // when
+        tierAlbumDetailCache.get(1L, this::load);
+        tierAlbumDetailCache.get(1L, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("앨범 변경 이벤트 수신 시 앨범 버전 증가")
+    void handleTierAlbumChanged_IncreasesVersion() {
+        // when
+        tierAlbumDetailCache.handleTierAlbumChanged(TierAlbumChangedEvent.of(2L, 1L));
+
+        // then: 그룹이 아닌 앨범 버전이 증가
+        verify(redisService).incrementVersion(eq("album:tier:version:1"), anyLong(), any());
+        verify(redisService, never()).incrementVersion(eq("album:tier:version:2"), anyLong(), any());
+    }
+
+    private TierAlbumDetailDto load() {
+        loadCount.incrementAndGet();
+        return TierAlbumDetailDto.builder().title("앨범").build();
+    }
+}
@@ -2,6 +2,8 @@ package com.ssafy.keepick.album.tier.application;
 
 import com.ssafy.keepick.album.tier.application.dto.TierAlbumDetailDto;
 import com.ssafy.keepick.album.tier.application.dto.TierAlbumDto;
+import com.ssafy.keepick.album.tier.application.dto.TierAlbumPhotoRowDto;
+import com.ssafy.keepick.album.tier.application.event.TierAlbumChangedEvent;
 import com.ssafy.keepick.album.tier.controller.request.UpdateTierAlbumRequest;
 import com.ssafy.keepick.album.tier.domain.Tier;
 import com.ssafy.keepick.album.tier.domain.TierAlbum;
@@ -12,6 +14,7 @@ import com.ssafy.keepick.global.entity.BaseTimeEntity;
 import com.ssafy.keepick.global.exception.BaseException;
 import com.ssafy.keepick.global.exception.ErrorCode;
 import com.ssafy.keepick.global.response.PagingResponse;
+import com.ssafy.keepick.photo.application.ImageService;
 import com.ssafy.keepick.photo.domain.Photo;
 import com.ssafy.keepick.photo.persistence.PhotoRepository;
 import com.ssafy.keepick.support.BaseTest;
@@ -22,17 +25,21 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Supplier;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -48,6 +55,15 @@ class TierAlbumServiceTest extends BaseTest {
     @Mock
     private PhotoRepository photoRepository;
 
+    @Mock
+    private TierAlbumDetailCache tierAlbumDetailCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ImageService imageService;
+
     @InjectMocks
     private TierAlbumService tierAlbumService;
 
@@ -126,9 +142,7 @@ class TierAlbumServiceTest extends BaseTest {
         List<Long> photoIds = Arrays.asList(1L, 2L);
 
         when(tierAlbumRepository.save(any(TierAlbum.class))).thenReturn(tierAlbum);
-        when(photoRepository.findById(1L)).thenReturn(Optional.of(photo1));
-        when(photoRepository.findById(2L)).thenReturn(Optional.of(photo2));
-        when(tierAlbumPhotoRepository.save(any(TierAlbumPhoto.class))).thenReturn(tierAlbumPhoto1);
+        when(photoRepository.findAllById(photoIds)).thenReturn(Arrays.asList(photo1, photo2));
 
         // when
         TierAlbumDto result = tierAlbumService.createTierAlbum(groupId, photoIds);
@@ -137,8 +151,8 @@ class TierAlbumServiceTest extends BaseTest {
         assertThat(result).isNotNull();
         assertThat(result.getId()).isEqualTo(tierAlbum.getId());
         verify(tierAlbumRepository).save(any(TierAlbum.class));
-        verify(photoRepository, times(2)).findById(anyLong());
-        verify(tierAlbumPhotoRepository, times(2)).save(any(TierAlbumPhoto.class));
+        verify(photoRepository).findAllById(photoIds);
+        verify(tierAlbumPhotoRepository).bulkInsert(tierAlbum.getId(), photoIds, 0);
     }
 
     @Test
@@ -150,13 +164,13 @@ class TierAlbumServiceTest extends BaseTest {
         List<Long> photoIds = Arrays.asList(1L, 2L);
 
 
-        when(tierAlbumRepository.save(any(TierAlbum.class))).thenReturn(tierAlbum);
-        when(photoRepository.findById(1L)).thenReturn(Optional.empty());
+        when(photoRepository.findAllById(photoIds)).thenReturn(Arrays.asList(photo2));
 
         // when & then
         assertThatThrownBy(() -> tierAlbumService.createTierAlbum(groupId, photoIds))
             .isInstanceOf(BaseException.class)
             .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND);
+        verify(tierAlbumPhotoRepository, never()).bulkInsert(any(), any(), anyInt());
     }
 
     @Test
@@ -245,8 +259,13 @@ class TierAlbumServiceTest extends BaseTest {
         Long groupId = 1L;
         Long tierAlbumId = 1L;
 
-        when(tierAlbumRepository.findAlbumWithPhotosById(tierAlbumId))
+        givenDetailCacheMiss(tierAlbumId);
+        when(tierAlbumRepository.findAlbumById(tierAlbumId))
             .thenReturn(Optional.of(tierAlbum));
+        when(tierAlbumPhotoRepository.findPhotoRowsByAlbumId(tierAlbumId)).thenReturn(Arrays.asList(
+            new TierAlbumPhotoRowDto(1L, "https://test.com/thumb1.jpg", "https://test.com/original1.jpg", Tier.S, 0),
+            new TierAlbumPhotoRowDto(3L, "https://test.com/thumb3.jpg", "https://test.com/original3.jpg", Tier.S, 1024),
+            new TierAlbumPhotoRowDto(2L, "https://test.com/thumb2.jpg", "https://test.com/original2.jpg", null, 2048)));
 
         // when
         TierAlbumDetailDto result = tierAlbumService.getTierAlbumDetail(groupId, tierAlbumId);
@@ -254,7 +273,12 @@ class TierAlbumServiceTest extends BaseTest {
         // then
         assertThat(result).isNotNull();
         assertThat(result.getTitle()).isEqualTo(tierAlbum.getName());
-        verify(tierAlbumRepository).findAlbumWithPhotosById(tierAlbumId);
+        assertThat(result.getPhotos().get("S")).extracting(TierAlbumDetailDto.TierAlbumPhotoDto::getPhotoId)
+            .containsExactly(1L, 3L);
+        assertThat(result.getPhotos().get("A")).isEmpty();
+        assertThat(result.getPhotos().get("UNASSIGNED")).extracting(TierAlbumDetailDto.TierAlbumPhotoDto::getPhotoId)
+            .containsExactly(2L);
+        verify(tierAlbumRepository, never()).findAlbumWithPhotosById(anyLong());
     }
 
     @Test
@@ -264,7 +288,8 @@ class TierAlbumServiceTest extends BaseTest {
         Long groupId = 1L;
         Long tierAlbumId = 1L;
 
-        when(tierAlbumRepository.findAlbumWithPhotosById(tierAlbumId))
+        givenDetailCacheMiss(tierAlbumId);
+        when(tierAlbumRepository.findAlbumById(tierAlbumId))
             .thenReturn(Optional.empty());
 
         // when & then
@@ -280,23 +305,7 @@ class TierAlbumServiceTest extends BaseTest {
         Long groupId = 1L;
         Long tierAlbumId = 1L;
 
-        when(tierAlbumRepository.findAlbumWithPhotosById(tierAlbumId))
-            .thenReturn(Optional.of(tierAlbum))
-            .thenReturn(Optional.of(tierAlbum)); // 두 번째 호출을 위한 모킹
-
-        // TierAlbum을 Mock으로 생성하여 getAllPhotos() 메서드를 모킹
-        TierAlbum mockTierAlbum = mock(TierAlbum.class);
-        when(mockTierAlbum.getId()).thenReturn(tierAlbumId);
-        when(mockTierAlbum.getName()).thenReturn("테스트 앨범");
-        when(mockTierAlbum.getDescription()).thenReturn("테스트 설명");
-        when(mockTierAlbum.getThumbnailUrl()).thenReturn("https://test.com/thumb.jpg");
-        when(mockTierAlbum.getOriginalUrl()).thenReturn("https://test.com/original.jpg");
-        when(mockTierAlbum.getPhotoCount()).thenReturn(2);
-        when(mockTierAlbum.getAllPhotos()).thenReturn(Arrays.asList(tierAlbumPhoto1, tierAlbumPhoto2));
-
-        when(tierAlbumRepository.findAlbumWithPhotosById(tierAlbumId))
-            .thenReturn(Optional.of(mockTierAlbum))
-            .thenReturn(Optional.of(mockTierAlbum)); // 두 번째 호출을 위한 모킹
+        when(tierAlbumRepository.findAlbumById(tierAlbumId)).thenReturn(Optional.of(tierAlbum));
         when(photoRepository.findById(1L)).thenReturn(Optional.of(photo1));
         when(tierAlbumPhotoRepository.findByAlbumId(tierAlbumId)).thenReturn(Arrays.asList(tierAlbumPhoto1, tierAlbumPhoto2));
 
@@ -305,9 +314,13 @@ class TierAlbumServiceTest extends BaseTest {
 
         // then
         assertThat(result).isNotNull();
-        verify(tierAlbumRepository).findAlbumWithPhotosById(tierAlbumId);
+        assertThat(tierAlbumPhoto1.getTier()).isEqualTo(Tier.S);
+        assertThat(tierAlbumPhoto2.getTier()).isEqualTo(Tier.A);
+        assertThat(tierAlbum.getPhotoCount()).isEqualTo(2);
+        verify(eventPublisher).publishEvent(any(TierAlbumChangedEvent.class));
+        verify(tierAlbumRepository).findAlbumById(tierAlbumId);
         verify(photoRepository).findById(1L);
-        verify(tierAlbumPhotoRepository).findByAlbumId(tierAlbumId);
+        verify(tierAlbumPhotoRepository, times(1)).findByAlbumId(tierAlbumId);
     }
 
     @Test
@@ -317,7 +330,7 @@ class TierAlbumServiceTest extends BaseTest {
         Long groupId = 1L;
         Long tierAlbumId = 1L;
 
-        when(tierAlbumRepository.findAlbumWithPhotosById(tierAlbumId))
+        when(tierAlbumRepository.findAlbumById(tierAlbumId))
             .thenReturn(Optional.empty());
 
         // when & then
@@ -371,11 +384,13 @@ class TierAlbumServiceTest extends BaseTest {
         Photo newPhoto2 = Photo.builder().originalUrl("https://test.com/photo4.jpg").build();
         newPhoto1.uploadThumbnail("https://test.com/thumb3.jpg");
         newPhoto2.uploadThumbnail("https://test.com/thumb4.jpg");
+        ReflectionTestUtils.setField(newPhoto1, "id", 3L);
+        ReflectionTestUtils.setField(newPhoto2, "id", 4L);
 
-        when(tierAlbumRepository.findAlbumWithPhotosById(tierAlbumId)).thenReturn(Optional.of(tierAlbum));
-        when(photoRepository.findById(3L)).thenReturn(Optional.of(newPhoto1));
-        when(photoRepository.findById(4L)).thenReturn(Optional.of(newPhoto2));
-        when(tierAlbumPhotoRepository.save(any(TierAlbumPhoto.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(tierAlbumRepository.existsById(tierAlbumId)).thenReturn(true);
+        when(tierAlbumPhotoRepository.findPhotoIdsByAlbumId(tierAlbumId)).thenReturn(Arrays.asList(1L, 2L));
+        when(tierAlbumPhotoRepository.findMaxSequenceByAlbumId(tierAlbumId)).thenReturn(1);
+        when(photoRepository.findAllById(photoIds)).thenReturn(Arrays.asList(newPhoto2, newPhoto1));
 
         // when
         var result = tierAlbumService.uploadPhotoToTierAlbum(groupId, tierAlbumId, photoIds);
@@ -383,8 +398,10 @@ class TierAlbumServiceTest extends BaseTest {
         // then
         assertThat(result).hasSize(2);
         assertThat(result.get(0).getOriginalUrl()).isEqualTo("https://test.com/photo3.jpg");
+        assertThat(result.get(0).getSequence()).isEqualTo(1 + TierAlbumPhoto.SEQUENCE_GAP);
         assertThat(result.get(1).getOriginalUrl()).isEqualTo("https://test.com/photo4.jpg");
-        verify(tierAlbumPhotoRepository, times(2)).save(any(TierAlbumPhoto.class));
+        assertThat(result.get(1).getSequence()).isEqualTo(1 + 2 * TierAlbumPhoto.SEQUENCE_GAP);
+        verify(tierAlbumPhotoRepository).bulkInsert(tierAlbumId, photoIds, 1 + TierAlbumPhoto.SEQUENCE_GAP);
     }
 
     @Test
@@ -395,17 +412,14 @@ class TierAlbumServiceTest extends BaseTest {
         Long tierAlbumId = 1L;
         List<Long> photoIds = Arrays.asList(1L); // 이미 앨범에 있는 사진
 
-        // Mock TierAlbum 생성
-        TierAlbum mockTierAlbum = mock(TierAlbum.class);
-        when(mockTierAlbum.getAllPhotos()).thenReturn(Arrays.asList(tierAlbumPhoto1, tierAlbumPhoto2));
-        
-        when(tierAlbumRepository.findAlbumWithPhotosById(tierAlbumId)).thenReturn(Optional.of(mockTierAlbum));
-        when(photoRepository.findById(1L)).thenReturn(Optional.of(photo1));
+        when(tierAlbumRepository.existsById(tierAlbumId)).thenReturn(true);
+        when(tierAlbumPhotoRepository.findPhotoIdsByAlbumId(tierAlbumId)).thenReturn(Arrays.asList(1L, 2L));
 
         // when & then
         assertThatThrownBy(() -> tierAlbumService.uploadPhotoToTierAlbum(groupId, tierAlbumId, photoIds))
             .isInstanceOf(BaseException.class)
             .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PARAMETER);
+        verify(tierAlbumPhotoRepository, never()).bulkInsert(any(), any(), anyInt());
     }
 
     @Test
@@ -414,22 +428,20 @@ class TierAlbumServiceTest extends BaseTest {
         // given
         Long groupId = 1L;
         Long tierAlbumId = 1L;
-        List<Long> photoIds = Arrays.asList(1L);
-        List<TierAlbumPhoto> remainingPhotos = Arrays.asList(tierAlbumPhoto2);
+        List<Long> photoIds = Arrays.asList(1L, 2L, 1L);
+        tierAlbum.updatePhotoCount(2);
 
-        // Mock TierAlbum 생성
-        TierAlbum mockTierAlbum = mock(TierAlbum.class);
-        when(mockTierAlbum.getAllPhotos()).thenReturn(Arrays.asList(tierAlbumPhoto1, tierAlbumPhoto2));
-        
-        when(tierAlbumRepository.findAlbumWithPhotosById(tierAlbumId)).thenReturn(Optional.of(mockTierAlbum));
-        when(tierAlbumPhotoRepository.findByAlbumId(tierAlbumId)).thenReturn(remainingPhotos);
+        when(tierAlbumRepository.findAlbumById(tierAlbumId)).thenReturn(Optional.of(tierAlbum));
+        when(tierAlbumPhotoRepository.findTiersByAlbumIdAndPhotoIds(tierAlbumId, Set.of(1L, 2L)))
+            .thenReturn(Arrays.asList(Tier.S, null));
 
         // when
         tierAlbumService.deletePhotoFromTierAlbum(groupId, tierAlbumId, photoIds);
 
         // then
-        verify(tierAlbumPhotoRepository).delete(tierAlbumPhoto1);
-        verify(tierAlbumPhotoRepository).findByAlbumId(tierAlbumId);
+        verify(tierAlbumPhotoRepository).deleteByAlbumIdAndPhotoIds(tierAlbumId, Set.of(1L, 2L));
+        verify(tierAlbumPhotoRepository, never()).findByAlbumId(anyLong());
+        assertThat(tierAlbum.getPhotoCount()).isEqualTo(1);
     }
 
     @Test
@@ -440,11 +452,92 @@ class TierAlbumServiceTest extends BaseTest {
         Long tierAlbumId = 1L;
         List<Long> photoIds = Arrays.asList(999L); // 앨범에 없는 사진
 
-        when(tierAlbumRepository.findAlbumWithPhotosById(tierAlbumId)).thenReturn(Optional.of(tierAlbum));
+        when(tierAlbumRepository.findAlbumById(tierAlbumId)).thenReturn(Optional.of(tierAlbum));
+        when(tierAlbumPhotoRepository.findTiersByAlbumIdAndPhotoIds(tierAlbumId, Set.of(999L))).thenReturn(List.of());
 
         // when & then
         assertThatThrownBy(() -> tierAlbumService.deletePhotoFromTierAlbum(groupId, tierAlbumId, photoIds))
             .isInstanceOf(BaseException.class)
             .hasFieldOrPropertyWithValue("errorCode", ErrorCode.NOT_FOUND);
+        verify(tierAlbumPhotoRepository, never()).deleteByAlbumIdAndPhotoIds(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("티어 앨범 사진 이동 성공 - 두 사진 사이로 이동")
+    void movePhotoInTierAlbum_Success_BetweenPhotos() {
+        // given
+        Long groupId = 1L;
+        Long tierAlbumId = 1L;
+        when(tierAlbumRepository.findAlbumById(tierAlbumId)).thenReturn(Optional.of(tierAlbum));
+        when(tierAlbumPhotoRepository.findByAlbumIdAndPhotoId(tierAlbumId, 2L)).thenReturn(Optional.of(tierAlbumPhoto2));
+        when(tierAlbumPhotoRepository.findTierSequences(tierAlbumId, Tier.S, 2L, 0, 2)).thenReturn(Arrays.asList(0, 1024));
+
+        // when
+        tierAlbumService.movePhotoInTierAlbum(groupId, tierAlbumId, 2L, "S", 1);
+
+        // then
+        assertThat(tierAlbumPhoto2.getTier()).isEqualTo(Tier.S);
+        assertThat(tierAlbumPhoto2.getSequence()).isEqualTo(512);
+        assertThat(tierAlbum.getPhotoCount()).isEqualTo(2);
+        verify(tierAlbumPhotoRepository, never()).findByAlbumId(anyLong());
+    }
+
+    @Test
+    @DisplayName("티어 앨범 사진 이동 성공 - 미지정으로 이동하면 photoCount 감소")
+    void movePhotoInTierAlbum_Success_Unassigned() {
+        // given
+        Long groupId = 1L;
+        Long tierAlbumId = 1L;
+        when(tierAlbumRepository.findAlbumById(tierAlbumId)).thenReturn(Optional.of(tierAlbum));
+        when(tierAlbumPhotoRepository.findByAlbumIdAndPhotoId(tierAlbumId, 1L)).thenReturn(Optional.of(tierAlbumPhoto1));
+        when(tierAlbumPhotoRepository.findTierSequences(tierAlbumId, null, 1L, 0, 1)).thenReturn(List.of());
+
+        // when
+        tierAlbumService.movePhotoInTierAlbum(groupId, tierAlbumId, 1L, "UNASSIGNED", 0);
+
+        // then
+        assertThat(tierAlbumPhoto1.getTier()).isNull();
+        assertThat(tierAlbum.getPhotoCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("티어 앨범 사진 이동 - 사이 간격이 없으면 sequence 재배치 후 이동")
+    void movePhotoInTierAlbum_Success_Rebalance() {
+        // given
+        Long groupId = 1L;
+        Long tierAlbumId = 1L;
+        when(tierAlbumRepository.findAlbumById(tierAlbumId)).thenReturn(Optional.of(tierAlbum));
+        when(tierAlbumPhotoRepository.findByAlbumIdAndPhotoId(tierAlbumId, 2L)).thenReturn(Optional.of(tierAlbumPhoto2));
+        when(tierAlbumPhotoRepository.findTierSequences(tierAlbumId, Tier.S, 2L, 0, 2))
+            .thenReturn(Arrays.asList(0, 1))
+            .thenReturn(Arrays.asList(0, 1024));
+        when(tierAlbumPhotoRepository.findByAlbumId(tierAlbumId)).thenReturn(Arrays.asList(tierAlbumPhoto1, tierAlbumPhoto2));
+
+        // when
+        tierAlbumService.movePhotoInTierAlbum(groupId, tierAlbumId, 2L, "S", 1);
+
+        // then
+        assertThat(tierAlbumPhoto2.getSequence()).isEqualTo(512);
+        verify(tierAlbumPhotoRepository).flush();
+    }
+
+    @Test
+    @DisplayName("티어 앨범 사진 이동 실패 - 존재하지 않는 티어")
+    void movePhotoInTierAlbum_Fail_InvalidTier() {
+        // given
+        Long tierAlbumId = 1L;
+        when(tierAlbumRepository.findAlbumById(tierAlbumId)).thenReturn(Optional.of(tierAlbum));
+        when(tierAlbumPhotoRepository.findByAlbumIdAndPhotoId(tierAlbumId, 1L)).thenReturn(Optional.of(tierAlbumPhoto1));
+
+        // when & then
+        assertThatThrownBy(() -> tierAlbumService.movePhotoInTierAlbum(1L, tierAlbumId, 1L, "X", 0))
+            .isInstanceOf(BaseException.class)
+            .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PARAMETER);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenDetailCacheMiss(Long tierAlbumId) {
+        when(tierAlbumDetailCache.get(eq(tierAlbumId), any()))
+            .thenAnswer(invocation -> ((Supplier<TierAlbumDetailDto>) invocation.getArgument(1)).get());
     }
 }
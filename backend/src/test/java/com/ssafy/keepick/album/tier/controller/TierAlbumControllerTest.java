@@ -2,6 +2,7 @@ package com.ssafy.keepick.album.tier.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.verify;
@@ -41,9 +42,12 @@ import org.springframework.data.domain.Pageable;
 import com.ssafy.keepick.global.response.PagingResponse;
 import com.ssafy.keepick.global.exception.GlobalExceptionHandler;
 import com.ssafy.keepick.album.tier.application.TierAlbumService;
+import com.ssafy.keepick.photo.application.ImageService;
 import com.ssafy.keepick.album.tier.application.dto.TierAlbumDetailDto;
 import com.ssafy.keepick.album.tier.application.dto.TierAlbumDto;
+import com.ssafy.keepick.album.tier.application.dto.TierAlbumPhotoDto;
 import com.ssafy.keepick.album.tier.controller.request.CreateTierAlbumRequest;
+import com.ssafy.keepick.album.tier.controller.request.TierPhotoUploadRequest;
 import com.ssafy.keepick.album.tier.controller.request.UpdateTierAlbumRequest;
 
 @ExtendWith(MockitoExtension.class)
@@ -54,6 +58,9 @@ class TierAlbumControllerTest extends BaseTest {
     @Mock
     private TierAlbumService tierAlbumService;
 
+    @Mock
+    private ImageService imageService;
+
     @InjectMocks
     private TierAlbumController tierAlbumController;
 
@@ -232,6 +239,28 @@ class TierAlbumControllerTest extends BaseTest {
             .andExpect(jsonPath("$.data.pageInfo.totalElement").value(0));
     }
 
+    @Test
+    @DisplayName("티어 앨범 사진 추가 API는 조회용 이미지 URL을 반환한다")
+    void uploadPhotoToTierAlbum_ResolvesImageUrls() throws Exception {
+        // given
+        TierAlbumPhotoDto photoDto = TierAlbumPhotoDto.builder()
+            .photoId(1L)
+            .originalUrl("https://test.com/original1.jpg")
+            .thumbnailUrl("https://test.com/thumb1.jpg")
+            .sequence(1000)
+            .build();
+        when(tierAlbumService.uploadPhotoToTierAlbum(1L, 1L, List.of(1L))).thenReturn(List.of(photoDto));
+        when(imageService.toReadUrl(anyString())).thenAnswer(invocation -> invocation.getArgument(0) + "?X-Amz-Signature=abc");
+
+        // when & then
+        mockMvc.perform(post("/api/groups/{groupId}/tier-albums/{tierAlbumId}/photos", 1L, 1L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(TierPhotoUploadRequest.builder().photoIds(List.of(1L)).build())))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.data.photos[0].originalUrl").value("https://test.com/original1.jpg?X-Amz-Signature=abc"))
+            .andExpect(jsonPath("$.data.photos[0].thumbnailUrl").value("https://test.com/thumb1.jpg?X-Amz-Signature=abc"));
+    }
+
     @Test
     @DisplayName("티어 앨범 상세 조회 API 성공")
     void getTierAlbum_Success() throws Exception {
@@ -241,6 +270,7 @@ class TierAlbumControllerTest extends BaseTest {
 
         when(tierAlbumService.getTierAlbumDetail(eq(groupId), eq(tierAlbumId)))
             .thenReturn(tierAlbumDetailDto);
+        when(imageService.toReadUrl(anyString())).thenAnswer(invocation -> invocation.getArgument(0) + "?X-Amz-Signature=abc");
 
         // when & then
         String response = mockMvc.perform(get("/api/groups/{groupId}/tier-albums/{tierAlbumId}", groupId, tierAlbumId))
@@ -257,6 +287,8 @@ class TierAlbumControllerTest extends BaseTest {
             .andExpect(jsonPath("$.data.photos.UNASSIGNED").isNotEmpty())
             .andExpect(jsonPath("$.data.photos.UNASSIGNED[0].photoId").value(1))
             .andExpect(jsonPath("$.data.photos.UNASSIGNED[1].photoId").value(2))
+            .andExpect(jsonPath("$.data.thumbnailUrl").value("https://test.com/thumb.jpg?X-Amz-Signature=abc"))
+            .andExpect(jsonPath("$.data.photos.UNASSIGNED[0].originalUrl").value("https://test.com/original1.jpg?X-Amz-Signature=abc"))
             .andReturn()
             .getResponse()
             .getContentAsString();
@@ -46,6 +46,7 @@ import com.ssafy.keepick.album.tier.persistence.TierAlbumPhotoRepository;
 import com.ssafy.keepick.album.tier.persistence.TierAlbumRepository;
 import com.ssafy.keepick.global.response.PagingResponse;
 import com.ssafy.keepick.photo.domain.Photo;
+import com.ssafy.keepick.photo.application.ImageService;
 import com.ssafy.keepick.photo.persistence.PhotoRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -65,6 +66,9 @@ class TierAlbumIntegrationTest extends BaseTest {
     @Mock
     private PhotoRepository photoRepository;
 
+    @Mock
+    private ImageService imageService;
+
     @InjectMocks
     private TierAlbumController tierAlbumController;
 
@@ -0,0 +1,54 @@
+package com.ssafy.keepick.album.tier.persistence;
+
+import com.ssafy.keepick.album.tier.domain.Tier;
+import com.ssafy.keepick.album.tier.domain.TierAlbum;
+import com.ssafy.keepick.album.tier.domain.TierAlbumPhoto;
+import com.ssafy.keepick.photo.domain.Photo;
+import com.ssafy.keepick.photo.persistence.PhotoRepository;
+import com.ssafy.keepick.support.BaseRepositoryTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TierAlbumPhotoRepositoryTest extends BaseRepositoryTest {
+
+    @Autowired TierAlbumRepository tierAlbumRepository;
+    @Autowired TierAlbumPhotoRepository tierAlbumPhotoRepository;
+    @Autowired PhotoRepository photoRepository;
+
+    @DisplayName("티어 내 sequence를 이동하는 사진을 제외하고 순서대로 조회합니다.")
+    @Test
+    void findTierSequencesTest() {
+        // given
+        TierAlbum album = tierAlbumRepository.save(TierAlbum.createTierAlbum(1L));
+        TierAlbum otherAlbum = tierAlbumRepository.save(TierAlbum.createTierAlbum(1L));
+
+        Photo moving = savePhoto(album, Tier.S, 2000);
+        savePhoto(album, Tier.S, 3000);
+        savePhoto(album, Tier.S, 1000);
+        savePhoto(album, Tier.A, 1500);
+        savePhoto(album, null, 500);
+        savePhoto(album, null, 4000);
+        savePhoto(otherAlbum, Tier.S, 100);
+
+        // when
+        List<Integer> tierS = tierAlbumPhotoRepository.findTierSequences(album.getId(), Tier.S, moving.getId(), 0, 10);
+        List<Integer> tierSNeighbors = tierAlbumPhotoRepository.findTierSequences(album.getId(), Tier.S, moving.getId(), 1, 2);
+        List<Integer> unassigned = tierAlbumPhotoRepository.findTierSequences(album.getId(), null, moving.getId(), 0, 10);
+
+        // then
+        assertThat(tierS).containsExactly(1000, 3000);
+        assertThat(tierSNeighbors).containsExactly(3000);
+        assertThat(unassigned).containsExactly(500, 4000);
+    }
+
+    private Photo savePhoto(TierAlbum album, Tier tier, int sequence) {
+        Photo photo = photoRepository.save(Photo.builder().build());
+        tierAlbumPhotoRepository.save(TierAlbumPhoto.createTierAlbumPhoto(album, photo, tier, sequence));
+        return photo;
+    }
+}
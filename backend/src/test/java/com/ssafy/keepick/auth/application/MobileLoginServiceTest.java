@@ -7,24 +7,25 @@ import static org.mockito.BDDMockito.*;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import com.ssafy.keepick.support.BaseTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.client.RestTemplate;
+import org.springframework.dao.DataIntegrityViolationException;
 
+import com.ssafy.keepick.auth.application.dto.GoogleProvider;
 import com.ssafy.keepick.auth.controller.request.MobileLoginRequest;
 import com.ssafy.keepick.auth.controller.response.MobileLoginResponse;
 import com.ssafy.keepick.global.exception.BaseException;
 import com.ssafy.keepick.global.exception.ErrorCode;
 import com.ssafy.keepick.global.security.util.JWTUtil;
+import com.ssafy.keepick.member.application.MemberService;
 import com.ssafy.keepick.member.domain.Member;
 import com.ssafy.keepick.member.persistence.MemberRepository;
 
@@ -34,25 +35,34 @@ class MobileLoginServiceTest extends BaseTest {
     @Mock
     private MemberRepository memberRepository;
 
+    @Mock
+    private MemberService memberService;
+
     @Mock
     private JWTUtil jwtUtil;
 
     @Mock
-    private RestTemplate restTemplate;
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private OAuth2ProfileLoader oauth2ProfileLoader;
 
-    @InjectMocks
     private MobileLoginService mobileLoginService;
 
-    private Map<String, Object> googleUserInfo;
+    private GoogleProvider googleProfile;
 
     @BeforeEach
     void setUp() {
+        // 로그인 후처리는 호출한 쓰레드에서 바로 실행
+        mobileLoginService = new MobileLoginService(memberRepository, memberService, jwtUtil, refreshTokenService, oauth2ProfileLoader, Runnable::run);
+
         // Google 사용자 정보 응답 모킹 데이터
-        googleUserInfo = new HashMap<>();
+        Map<String, Object> googleUserInfo = new HashMap<>();
         googleUserInfo.put("sub", "google-123");
         googleUserInfo.put("name", "홍길동");
         googleUserInfo.put("email", "test@gmail.com");
         googleUserInfo.put("picture", "https://profile.jpg");
+        googleProfile = GoogleProvider.from(googleUserInfo);
     }
 
     @Test
@@ -66,34 +76,31 @@ class MobileLoginServiceTest extends BaseTest {
         given(member.getId()).willReturn(1L);
         given(member.getEmail()).willReturn("test@gmail.com");
         
+        given(oauth2ProfileLoader.load("google", "valid-token")).willReturn(CompletableFuture.completedFuture(googleProfile));
         given(memberRepository.findByEmail("test@gmail.com")).willReturn(Optional.of(member));
         given(jwtUtil.createToken(1L, "test@gmail.com")).willReturn("jwt-token");
-        given(restTemplate.exchange(anyString(), any(), any(), eq(Map.class)))
-                .willReturn(new ResponseEntity<>(googleUserInfo, HttpStatus.OK));
+        given(refreshTokenService.issue(1L, "test@gmail.com")).willReturn("refresh-token");
 
         // when
-        MobileLoginResponse response = mobileLoginService.login(request);
+        MobileLoginResponse response = mobileLoginService.login(request).join();
 
         // then
         assertThat(response.getAccessToken()).isEqualTo("jwt-token");
+        assertThat(response.getRefreshToken()).isEqualTo("refresh-token");
         verify(jwtUtil).createToken(1L, "test@gmail.com");
     }
 
     @Test
-    @DisplayName("지원하지 않는 provider로 로그인 시 예외 발생")
+    @DisplayName("지원하지 않는 provider로 로그인 시 외부 호출 없이 예외 발생")
     void login_UnsupportedProvider_ThrowsException() {
         // given
         MobileLoginRequest request = new MobileLoginRequest("facebook", "token");
 
         // when & then
-        // facebook은 지원하지 않는 provider이므로 OAuth2_AUTHENTICATION_FAILED 예외가 발생할 수 있음
         assertThatThrownBy(() -> mobileLoginService.login(request))
                 .isInstanceOf(BaseException.class)
-                .matches(e -> {
-                    BaseException be = (BaseException) e;
-                    return be.getErrorCode() == ErrorCode.UNSUPPORTED_OAUTH2_PROVIDER 
-                        || be.getErrorCode() == ErrorCode.OAUTH2_AUTHENTICATION_FAILED;
-                });
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.UNSUPPORTED_OAUTH2_PROVIDER);
+        verify(oauth2ProfileLoader, never()).load(anyString(), anyString());
     }
 
     @Test
@@ -101,17 +108,19 @@ class MobileLoginServiceTest extends BaseTest {
     void login_OAuth2ApiFailed_ThrowsException() {
         // given
         MobileLoginRequest request = new MobileLoginRequest("google", "invalid-token");
-        given(restTemplate.exchange(anyString(), any(), any(), eq(Map.class)))
-                .willReturn(new ResponseEntity<>(null, HttpStatus.UNAUTHORIZED));
+        given(oauth2ProfileLoader.load("google", "invalid-token"))
+                .willReturn(CompletableFuture.failedFuture(new BaseException(ErrorCode.OAUTH2_AUTHENTICATION_FAILED)));
 
         // when & then
-        assertThatThrownBy(() -> mobileLoginService.login(request))
-                .isInstanceOf(BaseException.class)
+        assertThatThrownBy(() -> mobileLoginService.login(request).join())
+                .isInstanceOf(CompletionException.class)
+                .cause()
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.OAUTH2_AUTHENTICATION_FAILED);
+        verify(memberRepository, never()).findByEmail(anyString());
     }
 
     @Test
-    @DisplayName("신규 회원 생성 시 save 메서드 호출 검증")
+    @DisplayName("신규 회원 생성 시 고유 닉네임으로 save 메서드 호출 검증")
     void login_NewMember_CallsSave() {
         // given
         MobileLoginRequest request = new MobileLoginRequest("google", "valid-token");
@@ -120,17 +129,17 @@ class MobileLoginServiceTest extends BaseTest {
         given(savedMember.getId()).willReturn(1L);
         given(savedMember.getEmail()).willReturn("test@gmail.com");
         
+        given(oauth2ProfileLoader.load("google", "valid-token")).willReturn(CompletableFuture.completedFuture(googleProfile));
         given(memberRepository.findByEmail("test@gmail.com")).willReturn(Optional.empty()); // 신규 회원
+        given(memberService.generateUniqueNicknameFromEmail("test@gmail.com")).willReturn("test1");
         given(memberRepository.save(any(Member.class))).willReturn(savedMember);
         given(jwtUtil.createToken(1L, "test@gmail.com")).willReturn("jwt-token");
-        given(restTemplate.exchange(anyString(), any(), any(), eq(Map.class)))
-                .willReturn(new ResponseEntity<>(googleUserInfo, HttpStatus.OK));
 
         // when
-        mobileLoginService.login(request);
+        mobileLoginService.login(request).join();
 
         // then
-        verify(memberRepository).save(any(Member.class)); // 신규 회원이므로 save 호출
+        verify(memberRepository).save(argThat(member -> member.getNickname().equals("test1"))); // 신규 회원이므로 save 호출
     }
 
     @Test
@@ -143,15 +152,41 @@ class MobileLoginServiceTest extends BaseTest {
         given(existingMember.getId()).willReturn(1L);
         given(existingMember.getEmail()).willReturn("test@gmail.com");
         
+        given(oauth2ProfileLoader.load("google", "valid-token")).willReturn(CompletableFuture.completedFuture(googleProfile));
         given(memberRepository.findByEmail("test@gmail.com")).willReturn(Optional.of(existingMember)); // 기존 회원
         given(jwtUtil.createToken(1L, "test@gmail.com")).willReturn("jwt-token");
-        given(restTemplate.exchange(anyString(), any(), any(), eq(Map.class)))
-                .willReturn(new ResponseEntity<>(googleUserInfo, HttpStatus.OK));
 
         // when
-        mobileLoginService.login(request);
+        mobileLoginService.login(request).join();
 
         // then
         verify(memberRepository, never()).save(any(Member.class)); // 기존 회원이므로 save 호출하지 않음
+        verify(memberService, never()).generateUniqueNicknameFromEmail(anyString());
+    }
+
+    @Test
+    @DisplayName("같은 회원의 동시 가입으로 저장에 실패하면 먼저 생성된 회원으로 로그인")
+    void login_ConcurrentSignUp_UsesExistingMember() {
+        // given
+        MobileLoginRequest request = new MobileLoginRequest("google", "valid-token");
+
+        Member createdMember = mock(Member.class);
+        given(createdMember.getId()).willReturn(1L);
+        given(createdMember.getEmail()).willReturn("test@gmail.com");
+
+        given(oauth2ProfileLoader.load("google", "valid-token")).willReturn(CompletableFuture.completedFuture(googleProfile));
+        given(memberRepository.findByEmail("test@gmail.com"))
+                .willReturn(Optional.empty())
+                .willReturn(Optional.of(createdMember));
+        given(memberService.generateUniqueNicknameFromEmail("test@gmail.com")).willReturn("test");
+        given(memberRepository.save(any(Member.class))).willThrow(new DataIntegrityViolationException("duplicate email"));
+        given(jwtUtil.createToken(1L, "test@gmail.com")).willReturn("jwt-token");
+
+        // when
+        MobileLoginResponse response = mobileLoginService.login(request).join();
+
+        // then
+        assertThat(response.getAccessToken()).isEqualTo("jwt-token");
+        verify(memberRepository).save(any(Member.class));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,83 @@
+package com.ssafy.keepick.auth.application;
+
+import com.ssafy.keepick.auth.application.dto.OAuth2Provider;
+import com.ssafy.keepick.external.oauth2.OAuth2UserInfoClient;
+import com.ssafy.keepick.global.exception.BaseException;
+import com.ssafy.keepick.global.exception.ErrorCode;
+import com.ssafy.keepick.support.BaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class OAuth2ProfileLoaderTest extends BaseTest {
+
+    @Mock
+    private OAuth2UserInfoClient oauth2UserInfoClient;
+
+    @InjectMocks
+    private OAuth2ProfileLoader oauth2ProfileLoader;
+
+    private final Map<String, Object> googleUserInfo = Map.of(
+            "sub", "google-123",
+            "name", "홍길동",
+            "email", "test@gmail.com",
+            "picture", "https://profile.jpg");
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(oauth2ProfileLoader, "cacheSize", 100L);
+        ReflectionTestUtils.setField(oauth2ProfileLoader, "cacheTtlSeconds", 60L);
+        oauth2ProfileLoader.init();
+    }
+
+    @Test
+    @DisplayName("같은 토큰으로 다시 로그인하면 제공자 API를 다시 호출하지 않는다")
+    void load_SameToken_FetchedOnce() {
+        // given
+        given(oauth2UserInfoClient.fetchUserInfo("google", "valid-token")).willReturn(Mono.just(googleUserInfo));
+
+        // when
+        OAuth2Provider first = oauth2ProfileLoader.load("google", "valid-token").join();
+        OAuth2Provider second = oauth2ProfileLoader.load("google", "valid-token").join();
+
+        // then
+        assertThat(first.getEmail()).isEqualTo("test@gmail.com");
+        assertThat(second).isSameAs(first);
+        verify(oauth2UserInfoClient, times(1)).fetchUserInfo("google", "valid-token");
+    }
+
+    @Test
+    @DisplayName("제공자 API 호출이 실패하면 인증 실패로 변환하고 결과를 캐시하지 않는다")
+    void load_Failed_NotCached() {
+        // given
+        given(oauth2UserInfoClient.fetchUserInfo("google", "token"))
+                .willReturn(Mono.error(new IllegalStateException("401 Unauthorized")))
+                .willReturn(Mono.just(googleUserInfo));
+
+        // when & then
+        assertThatThrownBy(() -> oauth2ProfileLoader.load("google", "token").join())
+                .isInstanceOf(CompletionException.class)
+                .cause()
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.OAUTH2_AUTHENTICATION_FAILED);
+
+        assertThat(oauth2ProfileLoader.load("google", "token").join().getEmail()).isEqualTo("test@gmail.com");
+        verify(oauth2UserInfoClient, times(2)).fetchUserInfo("google", "token");
+    }
+}
@@ -0,0 +1,144 @@
+package com.ssafy.keepick.auth.application;
+
+import com.ssafy.keepick.auth.application.dto.AuthTokenDto;
+import com.ssafy.keepick.auth.application.dto.RefreshTokenSession;
+import com.ssafy.keepick.external.redis.RedisService;
+import com.ssafy.keepick.external.redis.dto.RotatedBytesDto;
+import com.ssafy.keepick.global.exception.BaseException;
+import com.ssafy.keepick.global.exception.ErrorCode;
+import com.ssafy.keepick.global.security.util.JWTUtil;
+import com.ssafy.keepick.support.BaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest extends BaseTest {
+
+    @Mock
+    private RedisService redisService;
+
+    private final JWTUtil jwtUtil = new JWTUtil("test-secret-key-for-refresh-token-test-0123456789", 60_000);
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(redisService, jwtUtil);
+        ReflectionTestUtils.setField(refreshTokenService, "ttlDays", 14L);
+        ReflectionTestUtils.setField(refreshTokenService, "graceSeconds", 10L);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰 원문이 아닌 해시를 키로 세션을 저장한다")
+    void issue_StoresSessionUnderHashedKey() {
+        // when
+        String refreshToken = refreshTokenService.issue(1L, "test@gmail.com");
+
+        // then
+        ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<byte[]> value = ArgumentCaptor.forClass(byte[].class);
+        verify(redisService).setBytes(key.capture(), value.capture(), eq(Duration.ofDays(14)));
+        assertThat(key.getValue()).startsWith("auth:refresh:").doesNotContain(refreshToken);
+
+        RefreshTokenSession session = RefreshTokenSession.decode(value.getValue());
+        assertThat(session.getMemberId()).isEqualTo(1L);
+        assertThat(session.getUsername()).isEqualTo("test@gmail.com");
+    }
+
+    @Test
+    @DisplayName("재발급 시 한 번의 교체로 새 리프레시 토큰과 액세스 토큰을 발급한다")
+    void refresh_RotatesToken() {
+        // given
+        byte[] encoded = RefreshTokenSession.of(1L, "test@gmail.com").encode();
+        given(redisService.rotateBytes(anyString(), anyString(), anyString(), anyString(),
+                eq(Duration.ofDays(14)), eq(Duration.ofSeconds(10))))
+                .willReturn(RotatedBytesDto.of(encoded, null));
+
+        // when
+        AuthTokenDto tokens = refreshTokenService.refresh("old-refresh-token");
+
+        // then
+        assertThat(tokens.getRefreshToken()).isNotEqualTo("old-refresh-token");
+        assertThat(jwtUtil.getMemberId(tokens.getAccessToken())).isEqualTo(1L);
+        assertThat(jwtUtil.getUsername(tokens.getAccessToken())).isEqualTo("test@gmail.com");
+    }
+
+    @Test
+    @DisplayName("유예 시간 안에 같은 토큰으로 다시 재발급하면 처음 발급한 후속 토큰을 돌려준다")
+    void refresh_ReplayWithinGrace_ReturnsSameSuccessor() {
+        // given
+        byte[] encoded = RefreshTokenSession.of(1L, "test@gmail.com").encode();
+        given(redisService.rotateBytes(anyString(), anyString(), anyString(), anyString(), any(), any()))
+                .willReturn(RotatedBytesDto.of(encoded, null));
+        AuthTokenDto first = refreshTokenService.refresh("old-refresh-token");
+        ArgumentCaptor<String> successor = ArgumentCaptor.forClass(String.class);
+        verify(redisService).rotateBytes(anyString(), anyString(), anyString(), successor.capture(), any(), any());
+        given(redisService.rotateBytes(anyString(), anyString(), anyString(), anyString(), any(), any()))
+                .willReturn(RotatedBytesDto.of(encoded, successor.getValue()));
+
+        // when
+        AuthTokenDto replayed = refreshTokenService.refresh("old-refresh-token");
+
+        // then
+        assertThat(successor.getValue()).doesNotContain(first.getRefreshToken());
+        assertThat(replayed.getRefreshToken()).isEqualTo(first.getRefreshToken());
+    }
+
+    @Test
+    @DisplayName("다른 토큰으로 암호화된 후속 토큰은 복호화할 수 없어 예외 발생")
+    void refresh_ReplayWithForeignSuccessor_ThrowsException() {
+        // given
+        byte[] encoded = RefreshTokenSession.of(1L, "test@gmail.com").encode();
+        given(redisService.rotateBytes(anyString(), anyString(), anyString(), anyString(), any(), any()))
+                .willReturn(RotatedBytesDto.of(encoded, null));
+        refreshTokenService.refresh("other-refresh-token");
+        ArgumentCaptor<String> successor = ArgumentCaptor.forClass(String.class);
+        verify(redisService).rotateBytes(anyString(), anyString(), anyString(), successor.capture(), any(), any());
+        given(redisService.rotateBytes(anyString(), anyString(), anyString(), anyString(), any(), any()))
+                .willReturn(RotatedBytesDto.of(encoded, successor.getValue()));
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.refresh("old-refresh-token"))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REFRESH_TOKEN);
+    }
+
+    @Test
+    @DisplayName("유예 시간이 지난 사용한 토큰이거나 만료된 리프레시 토큰이면 예외 발생")
+    void refresh_UnknownToken_ThrowsException() {
+        // given
+        given(redisService.rotateBytes(anyString(), anyString(), anyString(), anyString(), any(), any())).willReturn(null);
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.refresh("used-refresh-token"))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_REFRESH_TOKEN);
+    }
+
+    @Test
+    @DisplayName("세션 인코딩은 한글 username도 그대로 복원한다")
+    void session_EncodeDecode() {
+        // when
+        RefreshTokenSession decoded = RefreshTokenSession.decode(RefreshTokenSession.of(42L, "홍길동@keepick.com").encode());
+
+        // then
+        assertThat(decoded.getMemberId()).isEqualTo(42L);
+        assertThat(decoded.getUsername()).isEqualTo("홍길동@keepick.com");
+    }
+}
@@ -16,8 +16,24 @@ import com.ssafy.keepick.auth.controller.response.MobileLoginResponse;
 import com.ssafy.keepick.global.response.ApiResponse;
 import com.ssafy.keepick.global.exception.BaseException;
 import com.ssafy.keepick.global.exception.ErrorCode;
+import com.ssafy.keepick.global.exception.GlobalExceptionHandler;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @ExtendWith(MockitoExtension.class)
 class MobileAuthControllerTest extends BaseTest {
@@ -28,16 +44,39 @@ class MobileAuthControllerTest extends BaseTest {
     @InjectMocks
     private MobileAuthController mobileAuthController;
 
+    @Test
+    void login_ExecutorRejected_ReturnsServiceUnavailable() throws Exception {
+        // given
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(mobileAuthController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        given(mobileLoginService.login(any(MobileLoginRequest.class)))
+                .willReturn(CompletableFuture.failedFuture(new CompletionException(new TaskRejectedException("loginExecutor 포화"))));
+
+        // when
+        MvcResult result = mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"provider\":\"google\",\"accessToken\":\"valid-token\"}"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.errorCode").value("S005"));
+    }
+
     @Test
     void login_Success() {
         // given
         MobileLoginRequest request = new MobileLoginRequest("google", "valid-token");
-        MobileLoginResponse mockResponse = MobileLoginResponse.of("jwt-token");
+        MobileLoginResponse mockResponse = MobileLoginResponse.of("jwt-token", "refresh-token");
         
-        given(mobileLoginService.login(any(MobileLoginRequest.class))).willReturn(mockResponse);
+        given(mobileLoginService.login(any(MobileLoginRequest.class))).willReturn(CompletableFuture.completedFuture(mockResponse));
 
         // when
-        ApiResponse<MobileLoginResponse> response = mobileAuthController.login(request);
+        ApiResponse<MobileLoginResponse> response = mobileAuthController.login(request).join();
 
         // then
         assertThat(response).isNotNull();
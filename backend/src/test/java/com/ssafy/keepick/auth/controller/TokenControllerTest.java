@@ -0,0 +1,128 @@
+package com.ssafy.keepick.auth.controller;
+
+import com.ssafy.keepick.auth.application.RefreshTokenService;
+import com.ssafy.keepick.auth.application.dto.AuthTokenDto;
+import com.ssafy.keepick.global.exception.BaseException;
+import com.ssafy.keepick.global.exception.ErrorCode;
+import com.ssafy.keepick.global.exception.GlobalExceptionHandler;
+import com.ssafy.keepick.global.security.util.RefreshTokenCookieUtil;
+import com.ssafy.keepick.support.BaseTest;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class TokenControllerTest extends BaseTest {
+
+    private static final String ALLOWED_ORIGIN = "https://fe-keepick.vercel.app";
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @InjectMocks
+    private TokenController tokenController;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tokenController, "allowedOrigins", List.of(ALLOWED_ORIGIN));
+        mockMvc = MockMvcBuilders.standaloneSetup(tokenController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("본문으로 재발급하면 새 리프레시 토큰을 본문으로 반환하고 쿠키는 설정하지 않는다")
+    void refresh_Body() throws Exception {
+        // given
+        given(refreshTokenService.refresh("old-token")).willReturn(AuthTokenDto.of("access", "new-token"));
+
+        // when & then
+        mockMvc.perform(post("/api/auth/refresh")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"refreshToken\":\"old-token\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.accessToken").value("access"))
+                .andExpect(jsonPath("$.data.refreshToken").value("new-token"))
+                .andExpect(header().doesNotExist(HttpHeaders.SET_COOKIE));
+    }
+
+    @Test
+    @DisplayName("쿠키로 재발급하면 새 리프레시 토큰을 쿠키로만 반환한다")
+    void refresh_Cookie() throws Exception {
+        // given
+        given(refreshTokenService.refresh("old-token")).willReturn(AuthTokenDto.of("access", "new-token"));
+        given(refreshTokenService.getTtl()).willReturn(Duration.ofDays(14));
+
+        // when & then
+        mockMvc.perform(post("/api/auth/refresh")
+                        .header(HttpHeaders.ORIGIN, ALLOWED_ORIGIN)
+                        .cookie(new Cookie(RefreshTokenCookieUtil.COOKIE_NAME, "old-token")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.accessToken").value("access"))
+                .andExpect(jsonPath("$.data.refreshToken").doesNotExist())
+                .andExpect(header().string(HttpHeaders.SET_COOKIE, containsString(RefreshTokenCookieUtil.COOKIE_NAME + "=new-token")))
+                .andExpect(header().string(HttpHeaders.SET_COOKIE, containsString("HttpOnly")));
+    }
+
+    @Test
+    @DisplayName("허용되지 않은 Origin에서 쿠키로 재발급하면 403을 반환하고 토큰을 교체하지 않는다")
+    void refresh_Cookie_ForbiddenOrigin() throws Exception {
+        // when & then
+        mockMvc.perform(post("/api/auth/refresh")
+                        .header(HttpHeaders.ORIGIN, "https://evil.example.com")
+                        .cookie(new Cookie(RefreshTokenCookieUtil.COOKIE_NAME, "old-token")))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.errorCode").value(ErrorCode.FORBIDDEN.getCode()));
+        verifyNoInteractions(refreshTokenService);
+    }
+
+    @Test
+    @DisplayName("리프레시 토큰이 없으면 401 (A004)을 반환한다")
+    void refresh_MissingToken() throws Exception {
+        // given
+        given(refreshTokenService.refresh(null)).willThrow(new BaseException(ErrorCode.INVALID_REFRESH_TOKEN));
+
+        // when & then
+        mockMvc.perform(post("/api/auth/refresh")
+                        .header(HttpHeaders.ORIGIN, ALLOWED_ORIGIN))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.errorCode").value(ErrorCode.INVALID_REFRESH_TOKEN.getCode()));
+    }
+
+    @Test
+    @DisplayName("쿠키로 로그아웃하면 토큰을 폐기하고 쿠키를 만료시킨다")
+    void logout_Cookie_ExpiresCookie() throws Exception {
+        // when & then
+        mockMvc.perform(post("/api/auth/logout")
+                        .header(HttpHeaders.ORIGIN, ALLOWED_ORIGIN)
+                        .cookie(new Cookie(RefreshTokenCookieUtil.COOKIE_NAME, "old-token")))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.SET_COOKIE, containsString(RefreshTokenCookieUtil.COOKIE_NAME + "=;")))
+                .andExpect(header().string(HttpHeaders.SET_COOKIE, containsString("Max-Age=0")));
+        verify(refreshTokenService).revoke("old-token");
+    }
+}
@@ -1,11 +1,14 @@
 package com.ssafy.keepick.auth.util;
 
+import com.ssafy.keepick.global.security.util.JWTClaims;
 import com.ssafy.keepick.global.security.util.JWTUtil;
 import com.ssafy.keepick.support.BaseTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import io.jsonwebtoken.ExpiredJwtException;
+
 import static org.assertj.core.api.Assertions.*;
 
 class JWTUtilTest extends BaseTest {
@@ -137,6 +140,19 @@ class JWTUtilTest extends BaseTest {
                 .isInstanceOf(Exception.class);
     }
 
+    @Test
+    @DisplayName("검증한 토큰에 ASCII가 아닌 문자를 섞으면 캐시된 클레임을 반환하지 않는다")
+    void shouldNotReturnCachedClaimsForNonAsciiVariant() {
+        // given
+        String token = jwtUtil.createToken(1L, "test@example.com");
+        jwtUtil.verify(token);
+        String variant = token.substring(0, token.length() - 1) + "한";
+
+        // when & then
+        assertThatThrownBy(() -> jwtUtil.verify(variant))
+                .isInstanceOf(Exception.class);
+    }
+
     @Test
     @DisplayName("null 토큰에 대해 예외가 발생한다")
     void shouldThrowExceptionForNullToken() {
@@ -152,4 +168,63 @@ class JWTUtilTest extends BaseTest {
         assertThatThrownBy(() -> jwtUtil.getUsername(""))
                 .isInstanceOf(Exception.class);
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("토큰을 한 번 검증하면 모든 클레임을 함께 반환한다")
+    void shouldVerifyTokenOnceAndReturnClaims() {
+        // given
+        String token = jwtUtil.createToken(7L, "test@example.com");
+
+        // when
+        JWTClaims claims = jwtUtil.verify(token);
+
+        // then
+        assertThat(claims.getMemberId()).isEqualTo(7L);
+        assertThat(claims.getUsername()).isEqualTo("test@example.com");
+        assertThat(claims.getRole()).isEqualTo("ROLE_USER");
+        assertThat(claims.isExpired()).isFalse();
+    }
+
+    @Test
+    @DisplayName("최근 검증한 토큰은 다시 파싱하지 않고 캐시된 클레임을 반환한다")
+    void shouldReturnCachedClaimsForVerifiedToken() {
+        // given
+        String token = jwtUtil.createToken(7L, "test@example.com");
+        JWTClaims first = jwtUtil.verify(token);
+
+        // when
+        JWTClaims second = jwtUtil.verify(token);
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("캐시에 있던 토큰도 만료되면 예외가 발생한다")
+    void shouldRejectCachedTokenAfterExpiration() throws InterruptedException {
+        // given
+        JWTUtil shortLivedJwtUtil = new JWTUtil(secretKey, 1000L);
+        String token = shortLivedJwtUtil.createToken(1L, "test@example.com");
+        shortLivedJwtUtil.verify(token);
+
+        // when
+        Thread.sleep(1100);
+
+        // then
+        assertThatThrownBy(() -> shortLivedJwtUtil.verify(token))
+                .isInstanceOf(ExpiredJwtException.class);
+    }
+
+    @Test
+    @DisplayName("검증에 성공한 토큰과 서명만 다른 토큰은 캐시로 통과되지 않는다")
+    void shouldNotServeTamperedTokenFromCache() {
+        // given
+        String token = jwtUtil.createToken(1L, "test@example.com");
+        jwtUtil.verify(token);
+        String tamperedToken = token.substring(0, token.lastIndexOf('.')) + ".tamperedSignature";
+
+        // when & then
+        assertThatThrownBy(() -> jwtUtil.verify(tamperedToken))
+                .isInstanceOf(Exception.class);
+    }
+}
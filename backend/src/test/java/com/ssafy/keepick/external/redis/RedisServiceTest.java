@@ -0,0 +1,110 @@
+package com.ssafy.keepick.external.redis;
+
+import com.ssafy.keepick.external.redis.dto.RotatedBytesDto;
+import com.ssafy.keepick.support.RedisTestContainer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 교체 스크립트를 실제 Redis에서 실행해 검증
+class RedisServiceTest extends RedisTestContainer {
+
+    private static final Duration TTL = Duration.ofDays(14);
+    private static final Duration GRACE = Duration.ofSeconds(10);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate stringRedisTemplate;
+    private static RedisService redisService;
+
+    @BeforeAll
+    static void setUpRedis() {
+        connectionFactory = new LettuceConnectionFactory(getHost(), getPort());
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        redisService = new RedisService(stringRedisTemplate);
+    }
+
+    @AfterAll
+    static void tearDownRedis() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.delete(stringRedisTemplate.keys("rotate:*"));
+        redisService.setBytes("rotate:old", bytes("session"), TTL);
+    }
+
+    @DisplayName("기존 키의 값을 새 키로 옮기고 기존 키와 후속 값은 유예 시간 동안만 남긴다")
+    @Test
+    void rotateBytes() {
+        // when
+        RotatedBytesDto rotated = redisService.rotateBytes("rotate:old", "rotate:new", "rotate:old:next", "successor-1", TTL, GRACE);
+
+        // then
+        assertThat(rotated.getValue()).isEqualTo(bytes("session"));
+        assertThat(rotated.isReplayed()).isFalse();
+        assertThat(stringRedisTemplate.opsForValue().get("rotate:new")).isEqualTo("session");
+        assertThat(stringRedisTemplate.getExpire("rotate:new")).isGreaterThan(GRACE.getSeconds());
+        assertThat(stringRedisTemplate.getExpire("rotate:old")).isBetween(1L, GRACE.getSeconds());
+        assertThat(stringRedisTemplate.getExpire("rotate:old:next")).isBetween(1L, GRACE.getSeconds());
+    }
+
+    @DisplayName("유예 시간 안에 다시 교체하면 새 키를 만들지 않고 처음 저장한 후속 값을 돌려준다")
+    @Test
+    void rotateBytesReplay() {
+        // given
+        redisService.rotateBytes("rotate:old", "rotate:new", "rotate:old:next", "successor-1", TTL, GRACE);
+
+        // when
+        RotatedBytesDto replayed = redisService.rotateBytes("rotate:old", "rotate:forked", "rotate:old:next", "successor-2", TTL, GRACE);
+
+        // then
+        assertThat(replayed.getValue()).isEqualTo(bytes("session"));
+        assertThat(replayed.getSuccessor()).isEqualTo("successor-1");
+        assertThat(stringRedisTemplate.hasKey("rotate:forked")).isFalse();
+    }
+
+    @DisplayName("유예 시간 안이라도 후속 키가 삭제되었으면 다시 교체할 수 없다")
+    @Test
+    void rotateBytesReplayAfterRevoke() {
+        // given
+        redisService.rotateBytes("rotate:old", "rotate:new", "rotate:old:next", "successor-1", TTL, GRACE);
+        redisService.deleteValue("rotate:new");
+
+        // when
+        RotatedBytesDto replayed = redisService.rotateBytes("rotate:old", "rotate:forked", "rotate:old:next", "successor-2", TTL, GRACE);
+
+        // then
+        assertThat(replayed).isNull();
+        assertThat(stringRedisTemplate.hasKey("rotate:forked")).isFalse();
+    }
+
+    @DisplayName("유예 시간이 0이면 기존 키를 바로 삭제하고, 없는 키는 교체할 수 없다")
+    @Test
+    void rotateBytesWithoutGrace() {
+        // when
+        RotatedBytesDto rotated = redisService.rotateBytes("rotate:old", "rotate:new", "rotate:old:next", "successor-1", TTL, Duration.ZERO);
+        RotatedBytesDto replayed = redisService.rotateBytes("rotate:old", "rotate:forked", "rotate:old:next", "successor-2", TTL, Duration.ZERO);
+
+        // then
+        assertThat(rotated.getValue()).isEqualTo(bytes("session"));
+        assertThat(replayed).isNull();
+        assertThat(stringRedisTemplate.hasKey("rotate:old")).isFalse();
+        assertThat(stringRedisTemplate.hasKey("rotate:old:next")).isFalse();
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
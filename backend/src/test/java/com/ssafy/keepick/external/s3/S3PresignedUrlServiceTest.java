@@ -0,0 +1,74 @@
+package com.ssafy.keepick.external.s3;
+
+import com.ssafy.keepick.support.BaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedGetObjectRequest;
+
+import java.net.URI;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class S3PresignedUrlServiceTest extends BaseTest {
+
+    @InjectMocks
+    S3PresignedUrlService s3PresignedUrlService;
+
+    @Mock
+    S3Presigner s3Presigner;
+
+    String publicUrl = "https://bucket.s3.ap-northeast-2.amazonaws.com/originals/1/photo.jpg";
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(s3PresignedUrlService, "bucketName", "bucket");
+        ReflectionTestUtils.setField(s3PresignedUrlService, "signatureWindow", 3600L);
+        ReflectionTestUtils.setField(s3PresignedUrlService, "readUrlCacheSize", 100L);
+        s3PresignedUrlService.init();
+    }
+
+    @DisplayName("public 버킷이면 저장된 url을 그대로 반환합니다.")
+    @Test
+    void toReadUrlPublicBucket() {
+        // given
+        ReflectionTestUtils.setField(s3PresignedUrlService, "privateBucket", false);
+
+        // when
+        String readUrl = s3PresignedUrlService.toReadUrl(publicUrl);
+
+        // then
+        assertThat(readUrl).isEqualTo(publicUrl);
+        verifyNoInteractions(s3Presigner);
+    }
+
+    @DisplayName("private 버킷이면 같은 서명 구간 안에서 같은 객체의 presigned url을 재사용합니다.")
+    @Test
+    void toReadUrlPrivateBucketReusesSignature() throws Exception {
+        // given
+        ReflectionTestUtils.setField(s3PresignedUrlService, "privateBucket", true);
+        PresignedGetObjectRequest presigned = mock(PresignedGetObjectRequest.class);
+        given(presigned.url()).willReturn(URI.create(publicUrl + "?X-Amz-Signature=abc").toURL());
+        given(s3Presigner.presignGetObject(any(GetObjectPresignRequest.class))).willReturn(presigned);
+
+        // when
+        String first = s3PresignedUrlService.toReadUrl(publicUrl);
+        String second = s3PresignedUrlService.toReadUrl(publicUrl);
+
+        // then
+        assertThat(first).isEqualTo(publicUrl + "?X-Amz-Signature=abc");
+        assertThat(second).isEqualTo(first);
+        verify(s3Presigner, times(1)).presignGetObject(any(GetObjectPresignRequest.class));
+    }
+}
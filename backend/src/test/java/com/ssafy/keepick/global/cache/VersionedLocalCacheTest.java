@@ -0,0 +1,110 @@
+package com.ssafy.keepick.global.cache;
+
+import com.ssafy.keepick.external.redis.RedisService;
+import com.ssafy.keepick.support.BaseTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class VersionedLocalCacheTest extends BaseTest {
+
+    private static final Duration VERSION_TTL = Duration.ofDays(7);
+
+    @Mock
+    private RedisService redisService;
+
+    private final AtomicInteger loadCount = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 버전이면 캐시된 값을 반환")
+    void get_SameVersion_ReturnsCached() {
+        // given
+        VersionedLocalCache<Long, String> cache = new VersionedLocalCache<>(redisService, "test:version:", VERSION_TTL, 10);
+        when(redisService.getOrInitVersion(eq("test:version:1"), anyLong(), eq(VERSION_TTL))).thenReturn("100");
+
+        // when
+        String first = cache.get(1L, this::load);
+        String second = cache.get(1L, this::load);
+
+        // then
+        assertThat(second).isSameAs(first);
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("버전이 바뀌면 다시 적재")
+    void get_VersionChanged_Reloads() {
+        // given
+        VersionedLocalCache<Long, String> cache = new VersionedLocalCache<>(redisService, "test:version:", VERSION_TTL, 10);
+        when(redisService.getOrInitVersion(eq("test:version:1"), anyLong(), eq(VERSION_TTL))).thenReturn("100", "101");
+
+        // when
+        cache.get(1L, this::load);
+        cache.get(1L, this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("같은 버전이라도 variant가 다르면 따로 적재")
+    void get_DifferentVariant_LoadsSeparately() {
+        // given
+        VersionedLocalCache<Long, String> cache = new VersionedLocalCache<>(redisService, "test:version:", VERSION_TTL, 10);
+        when(redisService.getOrInitVersion(eq("test:version:1"), anyLong(), eq(VERSION_TTL))).thenReturn("100");
+
+        // when
+        cache.get(1L, "0:10", this::load);
+        cache.get(1L, "1:10", this::load);
+        cache.get(1L, "0:10", this::load);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("무효화하면 버전 키를 TTL과 함께 증가")
+    void invalidate_IncreasesVersion() {
+        // given
+        VersionedLocalCache<Long, String> cache = new VersionedLocalCache<>(redisService, "test:version:", VERSION_TTL, 10);
+
+        // when
+        cache.invalidate(1L);
+
+        // then
+        verify(redisService).incrementVersion(eq("test:version:1"), anyLong(), eq(VERSION_TTL));
+    }
+
+    @Test
+    @DisplayName("캐시 크기가 0이면 Redis 없이 항상 적재")
+    void get_Disabled_AlwaysLoads() {
+        // given
+        VersionedLocalCache<Long, String> cache = new VersionedLocalCache<>(redisService, "test:version:", VERSION_TTL, 0);
+
+        // when
+        cache.get(1L, this::load);
+        cache.get(1L, this::load);
+        cache.invalidate(1L);
+
+        // then
+        assertThat(loadCount.get()).isEqualTo(2);
+        verifyNoInteractions(redisService);
+    }
+
+    private String load() {
+        return "value" + loadCount.incrementAndGet();
+    }
+}
@@ -1,11 +1,10 @@
 package com.ssafy.keepick.global.interceptor;
 
-import com.ssafy.keepick.album.tier.persistence.TierAlbumRepository;
+import com.ssafy.keepick.album.common.application.AlbumOwnershipCache;
+import com.ssafy.keepick.album.common.domain.AlbumType;
 import com.ssafy.keepick.global.exception.BaseException;
 import com.ssafy.keepick.global.exception.ErrorCode;
-import com.ssafy.keepick.highlight.presistence.HighlightAlbumRepository;
 import com.ssafy.keepick.support.BaseTest;
-import com.ssafy.keepick.timeline.persistence.TimelineAlbumRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,9 +14,14 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -27,35 +31,29 @@ class GroupAlbumInterceptorTest extends BaseTest {
     private GroupAlbumInterceptor interceptor;
 
     @Mock
-    private TimelineAlbumRepository timelineAlbumRepository;
-
-    @Mock
-    private TierAlbumRepository tierAlbumRepository;
-
-    @Mock
-    private HighlightAlbumRepository highlightAlbumRepository;
+    private AlbumOwnershipCache albumOwnershipCache;
 
     private MockHttpServletRequest request;
     private MockHttpServletResponse response;
-    private Object handler;
+    private HandlerMethod handler;
 
     @BeforeEach
-    void setUp() {
+    void setUp() throws Exception {
         request = new MockHttpServletRequest();
         response = new MockHttpServletResponse();
-        handler = new Object();
+        handler = new HandlerMethod(new Object(), Object.class.getMethod("toString"));
     }
 
     @DisplayName("그룹에 앨범이 존재하면 성공한다.")
     @Test
     void success() throws Exception {
         // given
-        request.setRequestURI("/api/groups/100/timeline-albums/200");
-        when(timelineAlbumRepository.existsByIdAndGroupIdAndDeletedAtIsNull(200L, 100L))
+        setPathVariables(Map.of("groupId", "100", "albumId", "200"));
+        when(albumOwnershipCache.belongsToGroup(AlbumType.TIMELINE, 200L, 100L))
                 .thenReturn(true);
 
         // when
-        boolean result = interceptor.preHandle(request, response, handler);
+        boolean result = interceptor.forType(AlbumType.TIMELINE).preHandle(request, response, handler);
 
         // then
         assertThat(result).isTrue();
@@ -65,25 +63,55 @@ class GroupAlbumInterceptorTest extends BaseTest {
     @Test
     void fail() {
         // given
-        request.setRequestURI("/api/groups/100/tier-albums/200");
-        when(tierAlbumRepository.existsByIdAndGroupIdAndDeletedAtIsNull(200L, 100L))
+        setPathVariables(Map.of("groupId", "100", "tierAlbumId", "200"));
+        when(albumOwnershipCache.belongsToGroup(AlbumType.TIER, 200L, 100L))
                 .thenReturn(false);
 
         // when & then
-        assertThatThrownBy(() -> interceptor.preHandle(request, response, handler))
+        assertThatThrownBy(() -> interceptor.forType(AlbumType.TIER).preHandle(request, response, handler))
                 .isInstanceOf(BaseException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.FORBIDDEN);
     }
 
-    @DisplayName("잘못된 URI 경로이면 예외가 발생한다.")
+    @DisplayName("앨범 ID가 숫자가 아니면 예외가 발생한다.")
     @Test
-    void invalidURI() {
+    void invalidAlbumId() {
         // given
-        request.setRequestURI("/api/groups/100/invalid-albums/200");
+        setPathVariables(Map.of("groupId", "100", "albumId", "abc"));
 
         // when & then
-        assertThatThrownBy(() -> interceptor.preHandle(request, response, handler))
+        assertThatThrownBy(() -> interceptor.forType(AlbumType.HIGHLIGHT).preHandle(request, response, handler))
                 .isInstanceOf(BaseException.class)
                 .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PARAMETER);
+        verifyNoInteractions(albumOwnershipCache);
+    }
+
+    @DisplayName("앨범 ID가 없는 경로는 검증 없이 통과한다.")
+    @Test
+    void collectionPath() throws Exception {
+        // given
+        setPathVariables(Map.of("groupId", "100"));
+
+        // when
+        boolean result = interceptor.forType(AlbumType.HIGHLIGHT).preHandle(request, response, handler);
+
+        // then
+        assertThat(result).isTrue();
+        verifyNoInteractions(albumOwnershipCache);
+    }
+
+    @DisplayName("매핑된 컨트롤러가 없으면 검증 없이 통과한다.")
+    @Test
+    void notHandlerMethod() throws Exception {
+        // when
+        boolean result = interceptor.forType(AlbumType.TIMELINE).preHandle(request, response, new Object());
+
+        // then
+        assertThat(result).isTrue();
+        verifyNoInteractions(albumOwnershipCache);
+    }
+
+    private void setPathVariables(Map<String, String> pathVariables) {
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, pathVariables);
     }
 }
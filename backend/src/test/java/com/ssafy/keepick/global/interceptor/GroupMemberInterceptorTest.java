@@ -3,8 +3,7 @@ package com.ssafy.keepick.global.interceptor;
 import com.ssafy.keepick.global.exception.BaseException;
 import com.ssafy.keepick.global.exception.ErrorCode;
 import com.ssafy.keepick.global.security.util.AuthenticationUtil;
-import com.ssafy.keepick.group.domain.GroupMemberStatus;
-import com.ssafy.keepick.group.persistence.GroupMemberRepository;
+import com.ssafy.keepick.group.application.GroupMembershipCache;
 import com.ssafy.keepick.support.BaseTest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +15,10 @@ import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -28,7 +31,7 @@ class GroupMemberInterceptorTest extends BaseTest {
     private GroupMemberInterceptor interceptor;
 
     @Mock
-    private GroupMemberRepository groupMemberRepository;
+    private GroupMembershipCache groupMembershipCache;
 
     @Mock
     private MockHttpServletRequest request;
@@ -43,7 +46,7 @@ class GroupMemberInterceptorTest extends BaseTest {
     void setup() {
         request = new MockHttpServletRequest();
         response = new MockHttpServletResponse();
-        handler = new Object();
+        handler = mock(HandlerMethod.class);
     }
 
     @DisplayName("그룹에 가입한 회원이면 성공한다.")
@@ -57,8 +60,9 @@ class GroupMemberInterceptorTest extends BaseTest {
             mocked.when(AuthenticationUtil::getCurrentUserId).thenReturn(currentUserId);
 
             request.setRequestURI("/api/groups/100");
+            request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("groupId", "100"));
 
-            when(groupMemberRepository.existsByGroupIdAndMemberIdAndStatus(groupId, currentUserId, GroupMemberStatus.ACCEPTED))
+            when(groupMembershipCache.isAcceptedMember(groupId, currentUserId))
                     .thenReturn(true);
 
             // when
@@ -66,7 +70,7 @@ class GroupMemberInterceptorTest extends BaseTest {
 
             // then
             assertThat(result).isTrue();
-            verify(groupMemberRepository).existsByGroupIdAndMemberIdAndStatus(groupId, currentUserId, GroupMemberStatus.ACCEPTED);
+            verify(groupMembershipCache).isAcceptedMember(groupId, currentUserId);
         }
     }
 
@@ -81,8 +85,9 @@ class GroupMemberInterceptorTest extends BaseTest {
             mocked.when(AuthenticationUtil::getCurrentUserId).thenReturn(currentUserId);
 
             request.setRequestURI("/api/groups/100");
+            request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("groupId", "100"));
 
-            when(groupMemberRepository.existsByGroupIdAndMemberIdAndStatus(groupId, currentUserId, GroupMemberStatus.ACCEPTED))
+            when(groupMembershipCache.isAcceptedMember(groupId, currentUserId))
                     .thenReturn(false);
 
             // when & then
@@ -92,4 +97,34 @@ class GroupMemberInterceptorTest extends BaseTest {
         }
     }
 
+    @DisplayName("경로 변수에 그룹 ID가 없으면 예외가 발생한다.")
+    @Test
+    void missingGroupId() {
+        // given
+        try (MockedStatic<AuthenticationUtil> mocked = mockStatic(AuthenticationUtil.class)) {
+            mocked.when(AuthenticationUtil::getCurrentUserId).thenReturn(1L);
+            request.setRequestURI("/api/groups/100");
+
+            // when & then
+            assertThatThrownBy(() -> interceptor.preHandle(request, response, handler))
+                    .isInstanceOf(BaseException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_PARAMETER);
+            verifyNoInteractions(groupMembershipCache);
+        }
+    }
+
+    @DisplayName("매핑된 컨트롤러가 없는 요청은 검증 없이 통과한다.")
+    @Test
+    void notHandlerMethod() throws Exception {
+        // given
+        request.setRequestURI("/api/groups/100/unknown");
+
+        // when
+        boolean result = interceptor.preHandle(request, response, new Object());
+
+        // then
+        assertThat(result).isTrue();
+        verifyNoInteractions(groupMembershipCache);
+    }
+
 }
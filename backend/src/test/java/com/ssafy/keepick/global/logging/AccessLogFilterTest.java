@@ -0,0 +1,152 @@
+package com.ssafy.keepick.global.logging;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.ssafy.keepick.support.BaseTest;
+import jakarta.servlet.DispatcherType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessLogFilterTest extends BaseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private AccessLogFilter accessLogFilter;
+
+    @BeforeEach
+    void setUp() {
+        accessLogFilter = new AccessLogFilter();
+        ReflectionTestUtils.setField(accessLogFilter, "sampleRate", 0.0);
+        ReflectionTestUtils.setField(accessLogFilter, "slowThresholdMs", 1000L);
+        ReflectionTestUtils.setField(accessLogFilter, "routeLevelRules", List.of("/api/images/**=OFF", "/api/auth/**=ALWAYS"));
+        ReflectionTestUtils.setField(accessLogFilter, "loggedHeaders", List.of("User-Agent", "Authorization"));
+        ReflectionTestUtils.setField(accessLogFilter, "redactedHeaderNames", List.of("Authorization", "Cookie"));
+        accessLogFilter.init();
+    }
+
+    @Test
+    @DisplayName("경로별 수준이 없으면 샘플링 대상이고, 규칙이 있으면 그 수준을 따른다")
+    void levelOf_RouteRules() {
+        assertThat(accessLogFilter.levelOf("/api/images/originals/1/a.jpg")).isEqualTo(AccessLogLevel.OFF);
+        assertThat(accessLogFilter.levelOf("/api/auth/login")).isEqualTo(AccessLogLevel.ALWAYS);
+        assertThat(accessLogFilter.levelOf("/api/groups/1/photos")).isEqualTo(AccessLogLevel.SAMPLED);
+    }
+
+    @Test
+    @DisplayName("샘플링에서 빠진 정상 응답도 에러와 느린 요청은 기록한다")
+    void shouldLog_ErrorsAndSlowRequestsAlwaysLogged() {
+        assertThat(accessLogFilter.shouldLog("/api/groups/1/photos", 200, 10)).isFalse();
+        assertThat(accessLogFilter.shouldLog("/api/groups/1/photos", 500, 10)).isTrue();
+        assertThat(accessLogFilter.shouldLog("/api/groups/1/photos", 200, 1500)).isTrue();
+        assertThat(accessLogFilter.shouldLog("/api/auth/login", 200, 10)).isTrue();
+        assertThat(accessLogFilter.shouldLog("/api/images/originals/1/a.jpg", 500, 10)).isFalse();
+    }
+
+    @Test
+    @DisplayName("JSON 한 줄로 기록하고 민감한 헤더 값은 가린다")
+    void buildLine_JsonWithRedactedHeaders() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/groups/1/photos");
+        request.addHeader("User-Agent", "Mozilla \"test\"");
+        request.addHeader("Authorization", "Bearer secret-token");
+
+        // when
+        String line = accessLogFilter.buildLine(request, "abc123", 200, 15, null);
+
+        // then
+        JsonNode json = objectMapper.readTree(line);
+        assertThat(json.get("requestId").asText()).isEqualTo("abc123");
+        assertThat(json.get("method").asText()).isEqualTo("GET");
+        assertThat(json.get("path").asText()).isEqualTo("/api/groups/1/photos");
+        assertThat(json.get("status").asInt()).isEqualTo(200);
+        assertThat(json.get("durationMs").asLong()).isEqualTo(15);
+        assertThat(json.get("User-Agent").asText()).isEqualTo("Mozilla \"test\"");
+        assertThat(json.get("Authorization").asText()).isEqualTo("[REDACTED]");
+        assertThat(line).doesNotContain("secret-token").doesNotContain("\n");
+    }
+
+    @Test
+    @DisplayName("요청 ID를 MDC와 응답 헤더에 넣고 요청이 끝나면 MDC에서 제거한다")
+    void doFilter_PropagatesRequestId() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/groups/1/photos");
+        request.addHeader(AccessLogFilter.REQUEST_ID_HEADER, "req-1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicReference<String> requestIdInChain = new AtomicReference<>();
+
+        // when
+        accessLogFilter.doFilter(request, response, (req, res) -> requestIdInChain.set(MDC.get(AccessLogFilter.MDC_REQUEST_ID)));
+
+        // then
+        assertThat(requestIdInChain.get()).isEqualTo("req-1");
+        assertThat(response.getHeader(AccessLogFilter.REQUEST_ID_HEADER)).isEqualTo("req-1");
+        assertThat(MDC.get(AccessLogFilter.MDC_REQUEST_ID)).isNull();
+    }
+
+    @Test
+    @DisplayName("비동기 요청은 첫 디스패치에서 기록하지 않고 마지막 디스패치에서 같은 요청 ID와 최종 상태로 기록한다")
+    void doFilter_AsyncRequest_LoggedOnFinalDispatch() throws Exception {
+        // given
+        ListAppender<ILoggingEvent> appender = new ListAppender<>();
+        appender.start();
+        Logger logger = (Logger) LoggerFactory.getLogger("ACCESS_LOG");
+        logger.addAppender(appender);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/auth/login");
+        request.setAsyncSupported(true);
+        request.addHeader(AccessLogFilter.REQUEST_ID_HEADER, "req-async");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        try {
+            // when
+            accessLogFilter.doFilter(request, response, (req, res) -> {
+                MDC.put(AccessLogFilter.MDC_MEMBER_ID, "7");
+                req.startAsync();
+            });
+            List<ILoggingEvent> afterFirstDispatch = List.copyOf(appender.list);
+
+            request.setAsyncStarted(false);
+            request.setDispatcherType(DispatcherType.ASYNC);
+            response.setStatus(503);
+            accessLogFilter.doFilter(request, response, (req, res) -> { });
+
+            // then
+            assertThat(afterFirstDispatch).isEmpty();
+            assertThat(appender.list).hasSize(1);
+            JsonNode json = objectMapper.readTree(appender.list.get(0).getFormattedMessage());
+            assertThat(json.get("requestId").asText()).isEqualTo("req-async");
+            assertThat(json.get("status").asInt()).isEqualTo(503);
+            assertThat(json.get("memberId").asLong()).isEqualTo(7L);
+            assertThat(MDC.get(AccessLogFilter.MDC_REQUEST_ID)).isNull();
+        } finally {
+            logger.detachAppender(appender);
+        }
+    }
+
+    @Test
+    @DisplayName("형식이 안전하지 않은 요청 ID는 새로 생성한다")
+    void doFilter_UnsafeRequestId_Regenerated() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/groups/1/photos");
+        request.addHeader(AccessLogFilter.REQUEST_ID_HEADER, "bad\nid");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        accessLogFilter.doFilter(request, response, (req, res) -> { });
+
+        // then
+        assertThat(response.getHeader(AccessLogFilter.REQUEST_ID_HEADER)).isNotEqualTo("bad\nid").matches("[0-9a-f]+");
+    }
+}
@@ -0,0 +1,63 @@
+package com.ssafy.keepick.global.tracing;
+
+import com.ssafy.keepick.support.BaseTest;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TraceContextSupportTest extends BaseTest {
+
+    private Tracer tracer;
+    private TraceContextSupport traceContextSupport;
+
+    @BeforeEach
+    void setUp() {
+        tracer = new OtelTracer(SdkTracerProvider.builder().build().get("test"), new OtelCurrentTraceContext(), event -> {});
+        traceContextSupport = new TraceContextSupport(tracer);
+    }
+
+    @Test
+    @DisplayName("활성 span이 없으면 traceparent를 만들지 않는다")
+    void currentTraceParent_NoSpan() {
+        assertThat(traceContextSupport.currentTraceParent()).isNull();
+    }
+
+    @Test
+    @DisplayName("저장한 traceparent로 시작한 span은 같은 trace의 하위 span이 된다")
+    void spanBuilder_ContinuesStoredTrace() {
+        // given
+        Span parent = tracer.nextSpan().name("upload").start();
+        String traceParent;
+        try (Tracer.SpanInScope ignored = tracer.withSpan(parent)) {
+            traceParent = traceContextSupport.currentTraceParent();
+        } finally {
+            parent.end();
+        }
+
+        // when
+        Span child = traceContextSupport.spanBuilder(traceParent).name("photo.thumbnail").start();
+
+        // then
+        assertThat(traceParent).isEqualTo("00-" + parent.context().traceId() + "-" + parent.context().spanId() + "-01");
+        assertThat(child.context().traceId()).isEqualTo(parent.context().traceId());
+        assertThat(child.context().parentId()).isEqualTo(parent.context().spanId());
+        child.end();
+    }
+
+    @Test
+    @DisplayName("traceparent가 없거나 형식이 잘못되면 새 trace로 시작한다")
+    void spanBuilder_InvalidTraceParent() {
+        Span span = traceContextSupport.spanBuilder("invalid").name("photo.thumbnail").start();
+
+        assertThat(span.context().traceId()).isNotEmpty();
+        assertThat(span.context().parentId()).isNull();
+        span.end();
+    }
+}
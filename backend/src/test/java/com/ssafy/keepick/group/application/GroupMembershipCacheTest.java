@@ -0,0 +1,109 @@
+package com.ssafy.keepick.group.application;
+
+import com.ssafy.keepick.external.redis.RedisService;
+import com.ssafy.keepick.group.application.event.GroupMemberChangedEvent;
+import com.ssafy.keepick.group.domain.GroupMemberStatus;
+import com.ssafy.keepick.group.persistence.GroupMemberRepository;
+import com.ssafy.keepick.support.BaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GroupMembershipCacheTest extends BaseTest {
+
+    @Mock
+    private GroupMemberRepository groupMemberRepository;
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @InjectMocks
+    private GroupMembershipCache groupMembershipCache;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(groupMembershipCache, "cacheSize", 100L);
+        ReflectionTestUtils.setField(groupMembershipCache, "cacheTtlSeconds", 600L);
+        groupMembershipCache.init();
+    }
+
+    @Test
+    @DisplayName("가입된 멤버십은 캐시되어 DB를 다시 조회하지 않음")
+    void isAcceptedMember_Accepted_Cached() {
+        // given
+        when(groupMemberRepository.existsByGroupIdAndMemberIdAndStatus(10L, 1L, GroupMemberStatus.ACCEPTED)).thenReturn(true);
+
+        // when
+        boolean first = groupMembershipCache.isAcceptedMember(10L, 1L);
+        boolean second = groupMembershipCache.isAcceptedMember(10L, 1L);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        verify(groupMemberRepository, times(1)).existsByGroupIdAndMemberIdAndStatus(10L, 1L, GroupMemberStatus.ACCEPTED);
+    }
+
+    @Test
+    @DisplayName("가입되지 않은 결과는 캐시하지 않아 가입 직후 바로 반영")
+    void isAcceptedMember_NotAccepted_NotCached() {
+        // given
+        when(groupMemberRepository.existsByGroupIdAndMemberIdAndStatus(10L, 1L, GroupMemberStatus.ACCEPTED))
+                .thenReturn(false)
+                .thenReturn(true);
+
+        // when & then
+        assertThat(groupMembershipCache.isAcceptedMember(10L, 1L)).isFalse();
+        assertThat(groupMembershipCache.isAcceptedMember(10L, 1L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("멤버십 변경 이벤트 수신 시 로컬 캐시를 비우고 다른 서버에 무효화 메시지 발행")
+    void handleGroupMemberChanged_InvalidatesAndPublishes() {
+        // given
+        when(groupMemberRepository.existsByGroupIdAndMemberIdAndStatus(10L, 1L, GroupMemberStatus.ACCEPTED))
+                .thenReturn(true)
+                .thenReturn(false);
+        groupMembershipCache.isAcceptedMember(10L, 1L);
+
+        // when
+        groupMembershipCache.handleGroupMemberChanged(GroupMemberChangedEvent.of(10L, 1L));
+
+        // then
+        verify(redisService).publish("group:membership:changed", "1:10");
+        assertThat(groupMembershipCache.isAcceptedMember(10L, 1L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 서버의 무효화 메시지를 받으면 로컬 캐시를 비움")
+    void onMessage_InvalidatesLocalCache() {
+        // given
+        when(groupMemberRepository.existsByGroupIdAndMemberIdAndStatus(10L, 1L, GroupMemberStatus.ACCEPTED))
+                .thenReturn(true)
+                .thenReturn(false);
+        groupMembershipCache.isAcceptedMember(10L, 1L);
+
+        // when
+        groupMembershipCache.onMessage(new DefaultMessage(
+                "group:membership:changed".getBytes(StandardCharsets.UTF_8),
+                "1:10".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        assertThat(groupMembershipCache.isAcceptedMember(10L, 1L)).isFalse();
+    }
+}
@@ -0,0 +1,127 @@
+package com.ssafy.keepick.highlight.application;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.keepick.external.redis.RedisService;
+import com.ssafy.keepick.highlight.application.dto.HighlightScreenshotBufferDto;
+import com.ssafy.keepick.highlight.domain.HighlightType;
+import com.ssafy.keepick.highlight.presistence.HighlightAlbumPhotoRepository;
+import com.ssafy.keepick.support.BaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HighlightScreenshotBufferTest extends BaseTest {
+
+    private static final String KEY = "highlight:screenshot:buffer:session-1";
+
+    @Mock
+    private RedisService redisService;
+
+    @Mock
+    private HighlightAlbumPhotoRepository highlightAlbumPhotoRepository;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @InjectMocks
+    private HighlightScreenshotBuffer highlightScreenshotBuffer;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(highlightScreenshotBuffer, "flushSize", 3);
+        ReflectionTestUtils.setField(highlightScreenshotBuffer, "ttlHours", 24L);
+    }
+
+    @Test
+    @DisplayName("버퍼가 flush-size보다 작으면 DB에 저장하지 않음")
+    void append_BelowFlushSize_OnlyBuffers() {
+        // given
+        when(redisService.pushAllToList(eq(KEY), anyCollection(), eq(Duration.ofHours(24)))).thenReturn(2L);
+
+        // when
+        highlightScreenshotBuffer.append("session-1", List.of(screenshot(1L), screenshot(2L)));
+
+        // then
+        verify(redisService, never()).drainList(anyString());
+        verifyNoInteractions(highlightAlbumPhotoRepository);
+    }
+
+    @Test
+    @DisplayName("버퍼가 flush-size에 도달하면 비우면서 한 번에 저장")
+    @SuppressWarnings("unchecked")
+    void append_ReachesFlushSize_BulkInserts() throws Exception {
+        // given
+        List<String> buffered = List.of(
+                objectMapper.writeValueAsString(screenshot(1L)),
+                objectMapper.writeValueAsString(screenshot(2L)),
+                objectMapper.writeValueAsString(screenshot(3L)));
+        when(redisService.pushAllToList(eq(KEY), anyCollection(), any())).thenReturn(3L);
+        when(redisService.drainList(KEY)).thenReturn(buffered);
+
+        // when
+        highlightScreenshotBuffer.append("session-1", List.of(screenshot(3L)));
+
+        // then
+        ArgumentCaptor<List<HighlightScreenshotBufferDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(highlightAlbumPhotoRepository).bulkInsert(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(HighlightScreenshotBufferDto::getMemberId)
+                .containsExactly(1L, 2L, 3L);
+        assertThat(captor.getValue().getFirst().getTakenAt()).isEqualTo(LocalDateTime.of(2025, 8, 11, 14, 15, 32));
+    }
+
+    @Test
+    @DisplayName("비어 있는 버퍼를 비우면 저장하지 않음")
+    void flush_EmptyBuffer_ReturnsZero() {
+        // given
+        when(redisService.drainList(KEY)).thenReturn(List.of());
+
+        // when
+        int flushed = highlightScreenshotBuffer.flush("session-1");
+
+        // then
+        assertThat(flushed).isZero();
+        verifyNoInteractions(highlightAlbumPhotoRepository);
+    }
+
+    @Test
+    @DisplayName("저장에 실패하면 꺼낸 스크린샷을 버퍼에 되돌림")
+    void flush_InsertFails_RestoresBuffer() throws Exception {
+        // given
+        List<String> buffered = List.of(objectMapper.writeValueAsString(screenshot(1L)));
+        when(redisService.drainList(KEY)).thenReturn(buffered);
+        doThrow(new IllegalStateException("db down")).when(highlightAlbumPhotoRepository).bulkInsert(anyList());
+
+        // when & then
+        assertThatThrownBy(() -> highlightScreenshotBuffer.flush("session-1"))
+                .isInstanceOf(IllegalStateException.class);
+        verify(redisService).pushAllToList(KEY, buffered, Duration.ofHours(24));
+    }
+
+    private HighlightScreenshotBufferDto screenshot(Long memberId) {
+        return HighlightScreenshotBufferDto.builder()
+                .memberId(memberId)
+                .chatSessionId("session-1")
+                .type(HighlightType.LAUGH)
+                .photoUrl("https://highlight.com/" + memberId + ".jpg")
+                .takenAt(LocalDateTime.of(2025, 8, 11, 14, 15, 32))
+                .build();
+    }
+}
@@ -9,7 +9,6 @@ import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
-import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -339,14 +338,14 @@ class MemberServiceTest extends BaseTest {
         String email = "test@example.com";
         String expectedNickname = "test";
         
-        given(memberRepository.findByNickname(expectedNickname)).willReturn(Optional.empty());
+        given(memberRepository.findMaxNumberedNickname("test", 4)).willReturn(Optional.empty());
 
         // when
         String result = memberService.generateUniqueNicknameFromEmail(email);
 
         // then
         assertThat(result).isEqualTo(expectedNickname);
-        verify(memberRepository).findByNickname(expectedNickname);
+        verify(memberRepository, never()).findByNickname(any());
     }
 
     @Test
@@ -355,28 +354,15 @@ class MemberServiceTest extends BaseTest {
         // given
         String email = "test@example.com";
         String baseNickname = "test";
-        Member existingMember = Member.builder()
-                .name("Existing User")
-                .email("existing@example.com")
-                .nickname(baseNickname)
-                .provider("google")
-                .providerId("123")
-                .build();
         
-        // 기본 닉네임은 존재하지만 test1은 존재하지 않는다고 가정
-        given(memberRepository.findByNickname(baseNickname)).willReturn(Optional.of(existingMember));
-        given(memberRepository.findByNicknameStartingWith(baseNickname)).willReturn(List.of(existingMember));
-        given(memberRepository.findByNickname("test1")).willReturn(Optional.empty());
+        // 기본 닉네임만 사용 중
+        given(memberRepository.findMaxNumberedNickname(baseNickname, 4)).willReturn(Optional.of(baseNickname));
 
         // when
         String result = memberService.generateUniqueNicknameFromEmail(email);
 
         // then
-        assertThat(result).isNotEqualTo(baseNickname);
-        assertThat(result).startsWith(baseNickname);
         assertThat(result).isEqualTo("test1");
-        verify(memberRepository).findByNicknameStartingWith(baseNickname);
-        verify(memberRepository).findByNickname("test1");
     }
 
     @Test
@@ -384,45 +370,60 @@ class MemberServiceTest extends BaseTest {
     void generateUniqueNicknameFromEmail_WhenMultipleNicknamesExist() {
         // given
         String email = "test@example.com";
-        String baseNickname = "test";
-        
-        Member existingMember1 = Member.builder()
-                .name("User 1")
-                .email("user1@example.com")
-                .nickname("test")
-                .provider("google")
-                .providerId("123")
-                .build();
         
-        Member existingMember2 = Member.builder()
-                .name("User 2")
-                .email("user2@example.com")
-                .nickname("test1")
-                .provider("google")
-                .providerId("456")
-                .build();
-        
-        Member existingMember3 = Member.builder()
-                .name("User 3")
-                .email("user3@example.com")
-                .nickname("test3")
-                .provider("google")
-                .providerId("789")
-                .build();
-        
-        // test, test1, test3은 존재하지만 test4는 존재하지 않는다고 가정 (test3 다음이므로 test4)
-        given(memberRepository.findByNickname(baseNickname)).willReturn(Optional.of(existingMember1));
-        given(memberRepository.findByNicknameStartingWith(baseNickname))
-                .willReturn(List.of(existingMember1, existingMember2, existingMember3));
-        given(memberRepository.findByNickname("test4")).willReturn(Optional.empty());
+        // test, test1, test3이 사용 중이면 가장 큰 숫자 다음인 test4
+        given(memberRepository.findMaxNumberedNickname("test", 4)).willReturn(Optional.of("test3"));
 
         // when
         String result = memberService.generateUniqueNicknameFromEmail(email);
 
         // then
         assertThat(result).isEqualTo("test4");
-        verify(memberRepository).findByNicknameStartingWith(baseNickname);
-        verify(memberRepository).findByNickname("test4");
+        verify(memberRepository, never()).findByNickname(any());
+    }
+
+    @Test
+    @DisplayName("이메일에서 고유한 닉네임 생성 - LIKE 특수문자는 이스케이프해서 조회")
+    void generateUniqueNicknameFromEmail_EscapesLikeWildcards() {
+        // given
+        String email = "my_name%@example.com";
+        given(memberRepository.findMaxNumberedNickname("my!_name!%", 8)).willReturn(Optional.empty());
+
+        // when
+        String result = memberService.generateUniqueNicknameFromEmail(email);
+
+        // then
+        assertThat(result).isEqualTo("my_name%");
+    }
+
+    @Test
+    @DisplayName("이메일에서 고유한 닉네임 생성 - 9자리 숫자를 모두 쓰면 사용되지 않은 무작위 숫자를 붙인다")
+    void generateUniqueNicknameFromEmail_WhenSuffixExhausted() {
+        // given
+        String email = "test@example.com";
+        given(memberRepository.findMaxNumberedNickname("test", 4)).willReturn(Optional.of("test999999999"));
+        given(memberRepository.findByNickname(any())).willReturn(Optional.empty());
+
+        // when
+        String result = memberService.generateUniqueNicknameFromEmail(email);
+
+        // then
+        assertThat(result).matches("test[1-9][0-9]{0,8}");
+    }
+
+    @Test
+    @DisplayName("이메일에서 고유한 닉네임 생성 - 무작위 숫자도 모두 사용 중이면 예외 발생")
+    void generateUniqueNicknameFromEmail_WhenRandomNicknamesTaken() {
+        // given
+        String email = "test@example.com";
+        given(memberRepository.findMaxNumberedNickname("test", 4)).willReturn(Optional.of("test999999999"));
+        given(memberRepository.findByNickname(any())).willReturn(Optional.of(mock(Member.class)));
+
+        // when & then
+        assertThatThrownBy(() -> memberService.generateUniqueNicknameFromEmail(email))
+                .isInstanceOf(BaseException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.DUPLICATE_RESOURCE);
     }
 
     @Test
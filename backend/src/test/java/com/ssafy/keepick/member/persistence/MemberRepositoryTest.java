@@ -231,4 +231,68 @@ class MemberRepositoryTest extends BaseRepositoryTest {
         assertThat(foundMember.getNickname()).isEqualTo("널프로필닉네임");
         assertThat(foundMember.getProfileUrl()).isNull();
     }
-} 
\ No newline at end of file
+
+    @Test
+    @DisplayName("접두사 뒤에 숫자만 붙은 닉네임 중 숫자가 가장 큰 닉네임 한 건을 조회한다")
+    void shouldFindMaxNumberedNickname() {
+        // given
+        persistMemberWithNickname("test");
+        persistMemberWithNickname("test9");
+        persistMemberWithNickname("test10");
+        persistMemberWithNickname("test007");
+        persistMemberWithNickname("tester");
+        persistMemberWithNickname("test1234567890");
+        persistMemberWithNickname("other99");
+
+        // when
+        Optional<String> nickname = memberRepository.findMaxNumberedNickname("test", 4);
+
+        // then
+        assertThat(nickname).contains("test10");
+    }
+
+    @Test
+    @DisplayName("접두사와 같은 닉네임만 있으면 그 닉네임을 조회하고, 없으면 비어 있다")
+    void shouldFindOnlyBaseNickname() {
+        // given
+        persistMemberWithNickname("base");
+        persistMemberWithNickname("basement");
+
+        // when
+        Optional<String> base = memberRepository.findMaxNumberedNickname("base", 4);
+        Optional<String> none = memberRepository.findMaxNumberedNickname("new", 3);
+
+        // then
+        assertThat(base).contains("base");
+        assertThat(none).isEmpty();
+    }
+
+    @Test
+    @DisplayName("이스케이프한 LIKE 특수문자는 문자 그대로 비교한다")
+    void shouldFindMaxNumberedNicknameByEscapedPrefix() {
+        // given
+        persistMemberWithNickname("my_name");
+        persistMemberWithNickname("my_name1");
+        persistMemberWithNickname("myxname2");
+        persistMemberWithNickname("100%");
+        persistMemberWithNickname("1005");
+
+        // when
+        Optional<String> underscore = memberRepository.findMaxNumberedNickname("my!_name", 7);
+        Optional<String> percent = memberRepository.findMaxNumberedNickname("100!%", 4);
+
+        // then
+        assertThat(underscore).contains("my_name1");
+        assertThat(percent).contains("100%");
+    }
+
+    private void persistMemberWithNickname(String nickname) {
+        entityManager.persistAndFlush(Member.builder()
+                .name(nickname)
+                .email(nickname + "@example.com")
+                .nickname(nickname)
+                .provider("kakao")
+                .providerId(nickname)
+                .build());
+    }
+}
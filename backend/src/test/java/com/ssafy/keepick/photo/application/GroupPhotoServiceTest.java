@@ -31,6 +31,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -51,6 +53,12 @@ class GroupPhotoServiceTest extends BaseTest {
     @Mock
     GroupMemberRepository groupMemberRepository;
 
+    @Mock
+    ImageService imageService;
+
+    @Mock
+    TagDictionary tagDictionary;
+
     Long groupId = 1L;
     Group testGroup;
     Photo testPhoto1;
@@ -112,6 +120,26 @@ class GroupPhotoServiceTest extends BaseTest {
 
     }
 
+    @DisplayName("사진이 없는 유사한 사진 그룹도 대표 썸네일은 조회용 URL로 반환합니다.")
+    @Test
+    void getSimilarClustersWithoutPhotos() {
+        // given
+        PhotoClusterDto dto = new PhotoClusterDto(null, 1L, "thumb1", 0L);
+        Page<PhotoClusterDto> page = new PageImpl<>(List.of(dto), PageRequest.of(0, 10), 1);
+
+        given(photoRepository.findSimilarClusters(eq(groupId), any(PageRequest.class))).willReturn(page);
+        given(imageService.toReadUrl("thumb1")).willReturn("thumb1?X-Amz-Signature=abc");
+
+        // when
+        Page<PhotoClusterDto> resultDto = groupPhotoService.getSimilarClusters(groupId, 0, 10);
+
+        // then
+        PhotoClusterDto result = resultDto.getContent().get(0);
+        assertThat(result.getThumbnailUrl()).isEqualTo("thumb1?X-Amz-Signature=abc");
+        assertThat(result.getPhotos()).isEmpty();
+        verify(photoRepository, never()).findAllByGroupIdAndClusterIdInAndDeletedAtIsNull(any(), anyList());
+    }
+
     @DisplayName("그룹 갤러리에서 전체 사진, 흐린 사진, 유사한 사진 그룹을 조회합니다.")
     @Test
     void getGroupPhotoOverview() {
@@ -151,14 +179,15 @@ class GroupPhotoServiceTest extends BaseTest {
         Member testMember1 = createMember(1);
         Member testMember2 = createMember(2);
 
-        PhotoTag tag1 = PhotoTag.of(testPhoto1, "TAG1");
-        PhotoTag tag2 = PhotoTag.of(testPhoto1, "TAG2");
+        PhotoTag tag1 = PhotoTag.of(testPhoto1, 1);
+        PhotoTag tag2 = PhotoTag.of(testPhoto1, 2);
 
         PhotoMember photoMember1 = PhotoMember.of(testPhoto1, testMember1);
         PhotoMember photoMember2 = PhotoMember.of(testPhoto1, testMember2);
 
         given(photoRepository.existsByGroupIdAndIdAndDeletedAtIsNull(eq(groupId), eq(photoId))).willReturn(true);
         given(photoTagRepository.findAllByPhotoId(photoId)).willReturn(List.of(tag1, tag2));
+        given(tagDictionary.getNames(List.of(1, 2))).willReturn(List.of("TAG1", "TAG2"));
         given(photoMemberRepository.findAllByPhotoId(groupId, photoId)).willReturn(List.of(photoMember1, photoMember2));
 
         // when
@@ -175,7 +204,8 @@ class GroupPhotoServiceTest extends BaseTest {
         Long groupId = 1L;
         List<String> mockTags = List.of("tag1", "tag2", "tag3");
         List<Member> mockMembers = List.of(Member.builder().build(), Member.builder().build());
-        when(photoTagRepository.findTagsByGroupId(groupId)).thenReturn(mockTags);
+        when(photoTagRepository.findTagIdsByGroupId(groupId)).thenReturn(List.of(1, 2, 3));
+        when(tagDictionary.getNames(List.of(1, 2, 3))).thenReturn(mockTags);
         when(photoMemberRepository.findMembersByGroupId(groupId)).thenReturn(mockMembers);
 
         // when
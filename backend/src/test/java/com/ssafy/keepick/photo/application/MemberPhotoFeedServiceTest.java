@@ -0,0 +1,186 @@
+package com.ssafy.keepick.photo.application;
+
+import com.ssafy.keepick.external.redis.RedisService;
+import com.ssafy.keepick.group.application.event.GroupMemberChangedEvent;
+import com.ssafy.keepick.group.domain.Group;
+import com.ssafy.keepick.group.persistence.GroupMemberRepository;
+import com.ssafy.keepick.photo.domain.Photo;
+import com.ssafy.keepick.photo.persistence.PhotoRepository;
+import com.ssafy.keepick.support.BaseTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemberPhotoFeedServiceTest extends BaseTest {
+
+    @InjectMocks
+    MemberPhotoFeedService memberPhotoFeedService;
+
+    @Mock
+    RedisService redisService;
+
+    @Mock
+    PhotoRepository photoRepository;
+
+    @Mock
+    GroupMemberRepository groupMemberRepository;
+
+    @DisplayName("피드가 있으면 DB 조회 없이 피드에서 무작위로 추출합니다.")
+    @Test
+    void sampleFromFeed() {
+        // given
+        given(redisService.getRandomSortedSetMembers("photo:feed:member:1", 3)).willReturn(Set.of("1", "2", "3"));
+
+        // when
+        List<Long> result = memberPhotoFeedService.sample(1L, 3);
+
+        // then
+        assertThat(result).containsExactlyInAnyOrder(1L, 2L, 3L);
+        verifyNoInteractions(photoRepository);
+    }
+
+    @DisplayName("피드가 없으면 최근 사진 ID를 적재하고 요청 크기만큼 추출합니다.")
+    @Test
+    void sampleAfterRebuildingFeed() {
+        // given
+        given(redisService.getRandomSortedSetMembers("photo:feed:member:1", 2)).willReturn(Collections.emptySet());
+        given(photoRepository.findFeedIdsByMemberId(eq(1L), any())).willReturn(List.of(4L, 3L, 2L, 1L));
+
+        // when
+        List<Long> result = memberPhotoFeedService.sample(1L, 2);
+
+        // then
+        assertThat(result).hasSize(2).doesNotHaveDuplicates().isSubsetOf(1L, 2L, 3L, 4L);
+        verify(redisService).addAllToSortedSet(eq("photo:feed:member:1"), argThat(tuples -> tuples.size() == 4), any());
+    }
+
+    @DisplayName("보여줄 사진이 없으면 빈 피드를 짧게 표시합니다.")
+    @Test
+    void markEmptyFeed() {
+        // given
+        given(redisService.getRandomSortedSetMembers("photo:feed:member:1", 2)).willReturn(Collections.emptySet());
+        given(photoRepository.findFeedIdsByMemberId(eq(1L), any())).willReturn(List.of());
+
+        // when
+        List<Long> result = memberPhotoFeedService.sample(1L, 2);
+
+        // then
+        assertThat(result).isEmpty();
+        verify(redisService).setValue(eq("photo:feed:empty:member:1"), eq("1"), any());
+        verify(redisService, never()).addAllToSortedSet(any(), any(), any());
+    }
+
+    @DisplayName("빈 피드로 표시된 회원은 DB를 다시 조회하지 않습니다.")
+    @Test
+    void skipRebuildWhenFeedMarkedEmpty() {
+        // given
+        given(redisService.getRandomSortedSetMembers("photo:feed:member:1", 2)).willReturn(Collections.emptySet());
+        given(redisService.hasKey("photo:feed:empty:member:1")).willReturn(true);
+
+        // when
+        List<Long> result = memberPhotoFeedService.sample(1L, 2);
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(photoRepository);
+    }
+
+    @DisplayName("최근 사진은 피드에서 최신순 범위로 조회합니다.")
+    @Test
+    void getRecentFromFeed() {
+        // given
+        given(redisService.getReverseRange("photo:feed:member:1", 20, 39)).willReturn(List.of("30", "29"));
+
+        // when
+        List<Long> result = memberPhotoFeedService.getRecent(1L, 1, 20);
+
+        // then
+        assertThat(result).containsExactly(30L, 29L);
+        verifyNoInteractions(photoRepository);
+    }
+
+    @DisplayName("피드가 없으면 적재한 목록에서 최근 사진을 페이징합니다.")
+    @Test
+    void getRecentAfterRebuildingFeed() {
+        // given
+        given(redisService.getReverseRange("photo:feed:member:1", 0, 1)).willReturn(Collections.emptyList());
+        given(redisService.hasKey("photo:feed:member:1")).willReturn(false);
+        given(photoRepository.findFeedIdsByMemberId(eq(1L), any())).willReturn(List.of(3L, 2L, 1L));
+
+        // when
+        List<Long> result = memberPhotoFeedService.getRecent(1L, 0, 2);
+
+        // then
+        assertThat(result).containsExactly(3L, 2L);
+    }
+
+    @DisplayName("음수 페이지나 피드 크기를 넘는 페이지는 Redis를 조회하지 않고 빈 목록을 반환합니다.")
+    @Test
+    void getRecentOutOfRange() {
+        // when
+        List<Long> negativePage = memberPhotoFeedService.getRecent(1L, -1, 20);
+        List<Long> beyondFeed = memberPhotoFeedService.getRecent(1L, 250, 20);
+
+        // then
+        assertThat(negativePage).isEmpty();
+        assertThat(beyondFeed).isEmpty();
+        verifyNoInteractions(redisService, photoRepository);
+    }
+
+    @DisplayName("새 사진은 그룹 회원들의 피드에 추가하고 빈 피드 표시를 지웁니다.")
+    @Test
+    void fanOutToMemberFeeds() {
+        // given
+        Group group = mock(Group.class);
+        given(group.getId()).willReturn(1L);
+        Photo photo = Photo.createPhoto(null, 100, 100, group);
+        ReflectionTestUtils.setField(photo, "id", 10L);
+        given(groupMemberRepository.findJoinedMemberIdsById(1L)).willReturn(List.of(1L, 2L));
+
+        // when
+        memberPhotoFeedService.fanOut(photo);
+
+        // then
+        verify(redisService).addToExistingSortedSets(
+                List.of("photo:feed:member:1", "photo:feed:member:2"), "10", 10L, 5000);
+        verify(redisService).deleteValues(List.of("photo:feed:empty:member:1", "photo:feed:empty:member:2"));
+    }
+
+    @DisplayName("삭제된 사진은 그룹 회원들의 피드에서 제거합니다.")
+    @Test
+    void removeFromMemberFeeds() {
+        // given
+        given(groupMemberRepository.findJoinedMemberIdsById(1L)).willReturn(List.of(1L, 2L));
+
+        // when
+        memberPhotoFeedService.remove(1L, List.of(10L, 11L));
+
+        // then
+        verify(redisService).removeFromSortedSets(
+                List.of("photo:feed:member:1", "photo:feed:member:2"), List.of("10", "11"));
+    }
+
+    @DisplayName("그룹 가입/탈퇴 시 해당 회원의 피드를 비웁니다.")
+    @Test
+    void evictFeedOnGroupMemberChanged() {
+        // when
+        memberPhotoFeedService.handleGroupMemberChanged(GroupMemberChangedEvent.of(1L, 2L));
+
+        // then
+        verify(redisService).deleteValues(List.of("photo:feed:member:2", "photo:feed:empty:member:2"));
+    }
+}
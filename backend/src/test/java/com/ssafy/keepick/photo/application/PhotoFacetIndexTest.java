@@ -0,0 +1,88 @@
+package com.ssafy.keepick.photo.application;
+
+import com.ssafy.keepick.photo.application.dto.GroupPhotoFacetDto;
+import com.ssafy.keepick.photo.application.dto.PhotoFacetRowDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PhotoFacetIndexTest {
+
+    private PhotoFacetIndex index;
+
+    @BeforeEach
+    void setUp() {
+        LocalDateTime day1 = LocalDateTime.of(2025, 1, 1, 12, 0);
+        LocalDateTime day2 = LocalDateTime.of(2025, 1, 2, 12, 0);
+
+        // 사진 1: 바다, 동물 / 회원 10
+        // 사진 2: 바다 / 회원 10, 20
+        // 사진 3: 동물 / 인식된 회원 없음
+        index = PhotoFacetIndex.from(
+                List.of(
+                        new PhotoFacetRowDto(1L, day1, 1),
+                        new PhotoFacetRowDto(1L, day1, 2),
+                        new PhotoFacetRowDto(2L, day2, 1),
+                        new PhotoFacetRowDto(3L, day2, 2)
+                ),
+                List.of(
+                        new PhotoFacetRowDto(1L, day1, 10L, "회원10"),
+                        new PhotoFacetRowDto(2L, day2, 10L, "회원10"),
+                        new PhotoFacetRowDto(2L, day2, 20L, "회원20")
+                ),
+                Map.of(1, "바다", 2, "동물"));
+    }
+
+    @DisplayName("필터 조건이 없으면 전체 태그/회원별 사진 수를 반환합니다.")
+    @Test
+    void countWithoutFilter() {
+        // when
+        GroupPhotoFacetDto result = index.count(null, null, null, null);
+
+        // then
+        assertThat(result.getTags())
+                .extracting(GroupPhotoFacetDto.TagCountDto::getTag, GroupPhotoFacetDto.TagCountDto::getCount)
+                .containsExactly(tuple("동물", 2), tuple("바다", 2));
+        assertThat(result.getMembers())
+                .extracting(GroupPhotoFacetDto.MemberCountDto::getMemberId, GroupPhotoFacetDto.MemberCountDto::getCount)
+                .containsExactly(tuple(10L, 2), tuple(20L, 1));
+    }
+
+    @DisplayName("회원 조건은 태그 개수에만, 태그 조건은 회원 개수에만 적용합니다.")
+    @Test
+    void countExcludesOwnFacet() {
+        // when
+        GroupPhotoFacetDto result = index.count(List.of(20L), List.of(2), null, null);
+
+        // then
+        assertThat(result.getTags())
+                .extracting(GroupPhotoFacetDto.TagCountDto::getTag, GroupPhotoFacetDto.TagCountDto::getCount)
+                .containsExactly(tuple("바다", 1));
+        assertThat(result.getMembers())
+                .extracting(GroupPhotoFacetDto.MemberCountDto::getMemberId, GroupPhotoFacetDto.MemberCountDto::getCount)
+                .containsExactly(tuple(10L, 1));
+    }
+
+    @DisplayName("기간 조건은 모든 facet에 적용합니다.")
+    @Test
+    void countWithDateFilter() {
+        // when
+        GroupPhotoFacetDto result = index.count(null, null, LocalDate.of(2025, 1, 2), LocalDate.of(2025, 1, 2));
+
+        // then
+        assertThat(result.getTags())
+                .extracting(GroupPhotoFacetDto.TagCountDto::getTag, GroupPhotoFacetDto.TagCountDto::getCount)
+                .containsExactly(tuple("동물", 1), tuple("바다", 1));
+        assertThat(result.getMembers())
+                .extracting(GroupPhotoFacetDto.MemberCountDto::getMemberId, GroupPhotoFacetDto.MemberCountDto::getCount)
+                .containsExactly(tuple(10L, 1), tuple(20L, 1));
+    }
+}
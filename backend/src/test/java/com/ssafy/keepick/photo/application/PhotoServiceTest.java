@@ -19,9 +19,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDate;
 import java.util.Arrays;
@@ -47,6 +49,18 @@ public class PhotoServiceTest extends BaseTest {
     @Mock
     private PhotoRepository photoRepository;
 
+    @Mock
+    private ImageService imageService;
+
+    @Mock
+    private MemberPhotoFeedService memberPhotoFeedService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private TagDictionary tagDictionary;
+
     @InjectMocks
     private GroupPhotoService groupPhotoService;
 
@@ -59,6 +73,9 @@ public class PhotoServiceTest extends BaseTest {
     void setUp() {
         testGroup = Group.createGroup("테스트 그룹", null);
 
+        // public 버킷 기준: 저장된 url을 그대로 조회 url로 사용
+        lenient().when(imageService.toReadUrl(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
         testPhoto = Photo.builder()
                 .group(testGroup)
                 .originalUrl("https://example.com/photo1.jpg")
@@ -168,6 +185,7 @@ public class PhotoServiceTest extends BaseTest {
             List<Photo> photos = Arrays.asList(testPhoto);
             Page<Photo> photoPage = new PageImpl<>(photos, PageRequest.of(0, 10), 1);
 
+            given(tagDictionary.findIds(searchRequest.getTags())).willReturn(List.of(1));
             given(photoRepository.findAllPhotosByGroupIdAndOption(
                     any(PageRequest.class), eq(1L), any(), any(), any(), any()))
                     .willReturn(photoPage);
@@ -185,7 +203,7 @@ public class PhotoServiceTest extends BaseTest {
                     PageRequest.of(0, 10),
                     1L,
                     searchRequest.getMemberIds(),
-                    searchRequest.getTags(),
+                    List.of(1),
                     searchRequest.getStartDate(),
                     searchRequest.getEndDate()
             );
@@ -196,6 +214,7 @@ public class PhotoServiceTest extends BaseTest {
         void getGroupPhotos_Success_EmptyResult() {
             // given
             Page<Photo> emptyPage = new PageImpl<>(Collections.emptyList(), PageRequest.of(0, 10), 0);
+            given(tagDictionary.findIds(searchRequest.getTags())).willReturn(List.of(1));
             given(photoRepository.findAllPhotosByGroupIdAndOption(
                     any(PageRequest.class), eq(1L), any(), any(), any(), any()))
                     .willReturn(emptyPage);
@@ -208,6 +227,20 @@ public class PhotoServiceTest extends BaseTest {
             assertThat(result.getTotalElements()).isEqualTo(0);
         }
 
+        @Test
+        @DisplayName("존재하지 않는 태그만 선택한 경우 쿼리 없이 빈 페이지 반환 테스트")
+        void getGroupPhotos_Success_UnknownTags() {
+            // given
+            given(tagDictionary.findIds(searchRequest.getTags())).willReturn(Collections.emptyList());
+
+            // when
+            Page<GroupPhotoDto> result = groupPhotoService.getGroupPhotos(1L, searchRequest);
+
+            // then
+            assertThat(result.getContent()).isEmpty();
+            verify(photoRepository, never()).findAllPhotosByGroupIdAndOption(any(), any(), any(), any(), any(), any());
+        }
+
         @Test
         @DisplayName("필터링 조건 없이 조회한 경우 테스트")
         void getGroupPhotos_Success_NoSearchConditions() {
@@ -233,7 +266,7 @@ public class PhotoServiceTest extends BaseTest {
                     PageRequest.of(0, 10),
                     1L,
                     null,
-                    null,
+                    Collections.emptyList(),
                     null,
                     null
             );
@@ -250,18 +283,21 @@ public class PhotoServiceTest extends BaseTest {
             // given
             Long memberId = 1L;
             int size = 5;
-            int offset = 0;
-            List<Photo> randomPhotos = Arrays.asList(testPhoto);
+            ReflectionTestUtils.setField(testPhoto, "id", 10L);
 
-            given(photoRepository.findRandomByMemberId(memberId, size, offset))
-                    .willReturn(randomPhotos);
+            given(memberPhotoFeedService.sample(memberId, size))
+                    .willReturn(List.of(10L, 11L));
+            given(photoRepository.findAllByIdInAndDeletedAtIsNull(List.of(10L, 11L)))
+                    .willReturn(List.of(testPhoto));
 
             // when
             List<GroupPhotoDto> result = groupPhotoService.getRandomPhotos(memberId, size);
 
             // then
+            // 피드 반영 전에 삭제된 사진(11L)은 제외
             assertThat(result).hasSize(1);
-            verify(photoRepository).findRandomByMemberId(memberId, size, offset);
+            assertThat(result.get(0).getPhotoId()).isEqualTo(10L);
+            verify(memberPhotoFeedService).sample(memberId, size);
         }
 
         @Test
@@ -270,9 +306,8 @@ public class PhotoServiceTest extends BaseTest {
             // given
             Long memberId = 1L;
             int size = 5;
-            int offset = 0;
 
-            given(photoRepository.findRandomByMemberId(memberId, size, offset))
+            given(memberPhotoFeedService.sample(memberId, size))
                     .willReturn(Collections.emptyList());
 
             // when
@@ -280,7 +315,7 @@ public class PhotoServiceTest extends BaseTest {
 
             // then
             assertThat(result).isEmpty();
-            verify(photoRepository).findRandomByMemberId(memberId, size, offset);
+            verify(photoRepository, never()).findAllByIdInAndDeletedAtIsNull(anyList());
         }
     }
 }
\ No newline at end of file
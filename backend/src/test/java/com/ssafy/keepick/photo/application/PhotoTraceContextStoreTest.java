@@ -0,0 +1,91 @@
+package com.ssafy.keepick.photo.application;
+
+import com.ssafy.keepick.external.redis.RedisService;
+import com.ssafy.keepick.global.tracing.TraceContextSupport;
+import com.ssafy.keepick.support.BaseTest;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class PhotoTraceContextStoreTest extends BaseTest {
+
+    @Mock
+    private RedisService redisService;
+
+    private OtelTracer tracer;
+    private PhotoTraceContextStore photoTraceContextStore;
+
+    @BeforeEach
+    void setUp() {
+        tracer = new OtelTracer(SdkTracerProvider.builder().build().get("test"), new OtelCurrentTraceContext(), event -> {});
+        photoTraceContextStore = new PhotoTraceContextStore(redisService, new TraceContextSupport(tracer));
+    }
+
+    @Test
+    @DisplayName("trace 저장에 실패해도 예외 없이 업로드 요청을 계속 진행한다")
+    void save_RedisFailure_DoesNotThrow() {
+        // given
+        willThrow(new RedisConnectionFailureException("down")).given(redisService).setValues(anyMap(), any());
+        Span span = tracer.nextSpan().name("upload").start();
+
+        // when & then
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            assertThatCode(() -> photoTraceContextStore.save(List.of(1L, 2L))).doesNotThrowAnyException();
+        } finally {
+            span.end();
+        }
+        verify(redisService).setValues(anyMap(), any());
+    }
+
+    @Test
+    @DisplayName("저장된 trace 조회에 실패하면 예외 없이 새 trace로 시작한다")
+    void startSpan_RedisFailure_StartsNewTrace() {
+        // given
+        given(redisService.getValue("photo:trace:1")).willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        Span span = photoTraceContextStore.startSpan("photo.thumbnail", "1");
+
+        // then
+        assertThat(span.context().traceId()).isNotEmpty();
+        assertThat(span.context().parentId()).isNull();
+        span.end();
+    }
+
+    @Test
+    @DisplayName("저장된 trace가 있으면 그 하위 span으로 시작한다")
+    void startSpan_StoredTrace_ContinuesTrace() {
+        // given
+        String traceId = "0af7651916cd43dd8448eb211c80319c";
+        String parentSpanId = "b7ad6b7169203331";
+        given(redisService.getValue("photo:trace:1")).willReturn("00-" + traceId + "-" + parentSpanId + "-01");
+
+        // when
+        Span span = photoTraceContextStore.startSpan("photo.thumbnail", "1");
+
+        // then
+        assertThat(span.context().traceId()).isEqualTo(traceId);
+        assertThat(span.context().parentId()).isEqualTo(parentSpanId);
+        span.end();
+    }
+}
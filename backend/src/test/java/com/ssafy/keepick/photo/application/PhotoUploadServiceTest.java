@@ -47,6 +47,9 @@ class PhotoUploadServiceTest extends BaseTest {
     @Mock
     private ImageService imageService;
 
+    @Mock
+    private PhotoTraceContextStore photoTraceContextStore;
+
     @InjectMocks
     private GroupPhotoService groupService; // Assuming the method is in GroupService
 
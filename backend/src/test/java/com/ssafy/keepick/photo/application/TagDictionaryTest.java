@@ -0,0 +1,87 @@
+package com.ssafy.keepick.photo.application;
+
+import com.ssafy.keepick.global.exception.BaseException;
+import com.ssafy.keepick.global.exception.ErrorCode;
+import com.ssafy.keepick.photo.domain.Tag;
+import com.ssafy.keepick.photo.persistence.TagRepository;
+import com.ssafy.keepick.support.BaseTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TagDictionaryTest extends BaseTest {
+
+    @InjectMocks
+    TagDictionary tagDictionary;
+
+    @Mock
+    TagRepository tagRepository;
+
+    @DisplayName("한 번 조회한 태그는 DB 조회 없이 캐시에서 변환합니다.")
+    @Test
+    void findIdsFromCache() {
+        // given
+        Tag cat = createTag(1, "cat");
+        given(tagRepository.findAllByNameIn(List.of("cat"))).willReturn(List.of(cat));
+        tagDictionary.findIds(List.of("cat"));
+
+        // when
+        List<Integer> result = tagDictionary.findIds(List.of("cat"));
+        List<String> names = tagDictionary.getNames(List.of(1));
+
+        // then
+        assertThat(result).containsExactly(1);
+        assertThat(names).containsExactly("cat");
+        verify(tagRepository, times(1)).findAllByNameIn(anyCollection());
+        verify(tagRepository, never()).findAllById(any());
+    }
+
+    @DisplayName("사전에 없는 태그는 등록한 뒤 ID를 반환합니다.")
+    @Test
+    void getOrCreateIds() {
+        // given
+        Tag dog = createTag(2, "dog");
+        given(tagRepository.findAllByNameIn(List.of("dog"))).willReturn(List.of());
+        given(tagRepository.findAllByNameInForShare(List.of("dog"))).willReturn(List.of(dog));
+
+        // when
+        Map<String, Integer> result = tagDictionary.getOrCreateIds(List.of("dog"));
+
+        // then
+        assertThat(result).containsEntry("dog", 2);
+        verify(tagRepository).insertIgnore("dog");
+    }
+
+    @DisplayName("등록 후에도 ID를 찾지 못한 태그가 있으면 일부만 반환하지 않고 예외가 발생합니다.")
+    @Test
+    void getOrCreateIdsFailsWhenTagMissing() {
+        // given
+        given(tagRepository.findAllByNameIn(List.of("dog"))).willReturn(List.of());
+        given(tagRepository.findAllByNameInForShare(List.of("dog"))).willReturn(List.of());
+
+        // when & then
+        assertThatThrownBy(() -> tagDictionary.getOrCreateIds(List.of("dog")))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INTERNAL_SERVER_ERROR);
+    }
+
+    private Tag createTag(Integer id, String name) {
+        Tag tag = mock(Tag.class);
+        given(tag.getId()).willReturn(id);
+        given(tag.getName()).willReturn(name);
+        return tag;
+    }
+}
@@ -0,0 +1,98 @@
+package com.ssafy.keepick.photo.application;
+
+import com.ssafy.keepick.global.exception.BaseException;
+import com.ssafy.keepick.photo.domain.Photo;
+import com.ssafy.keepick.photo.persistence.PhotoRepository;
+import com.ssafy.keepick.support.BaseTest;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class ThumbnailServiceTest extends BaseTest {
+
+    @InjectMocks
+    private ThumbnailService thumbnailService;
+
+    @Mock
+    private ImageService imageService;
+
+    @Mock
+    private PhotoRepository photoRepository;
+
+    @Mock
+    private MemberPhotoFeedService memberPhotoFeedService;
+
+    @Spy
+    private ObservationRegistry observationRegistry = ObservationRegistry.create();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @BeforeEach
+    void setUp() {
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+        ReflectionTestUtils.setField(thumbnailService, "region", "ap-northeast-2");
+        ReflectionTestUtils.setField(thumbnailService, "bucketName", "keepick-test");
+        ReflectionTestUtils.setField(thumbnailService, "thumbnailWidth", 10);
+        ReflectionTestUtils.setField(thumbnailService, "thumbnailQuality", 0.85);
+        ReflectionTestUtils.setField(thumbnailService, "thumbnailFormat", "jpg");
+    }
+
+    @Test
+    @DisplayName("썸네일 생성 시 다운로드, 리사이즈, 업로드, 저장 단계별 소요 시간을 기록한다")
+    void generateAndUploadThumbnail_RecordsPhaseTimers() throws IOException {
+        // given
+        given(imageService.downloadFile("originals/1/a.jpg")).willReturn(sampleImage());
+        given(imageService.uploadThumbnail(anyString(), any())).willReturn("thumbnails/1/a.jpg");
+        given(photoRepository.findById(1L)).willReturn(Optional.of(mock(Photo.class)));
+
+        // when
+        thumbnailService.generateAndUploadThumbnail("originals/1/a.jpg").join();
+
+        // then
+        for (String phase : new String[]{"download", "resize", "upload", "persist"}) {
+            assertThat(meterRegistry.get("thumbnail.phase").tag("phase", phase).timer().count()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("실패한 단계도 소요 시간을 기록하고 이후 단계는 기록하지 않는다")
+    void generateAndUploadThumbnail_RecordsFailedPhase() {
+        // given
+        given(imageService.downloadFile("originals/1/a.jpg")).willThrow(new IllegalStateException("S3 오류"));
+
+        // when & then
+        assertThatThrownBy(() -> thumbnailService.generateAndUploadThumbnail("originals/1/a.jpg"))
+                .isInstanceOf(BaseException.class);
+        assertThat(meterRegistry.get("thumbnail.phase").tag("phase", "download").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("thumbnail.phase").tag("phase", "resize").timer()).isNull();
+    }
+
+    private byte[] sampleImage() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(20, 20, BufferedImage.TYPE_INT_RGB), "png", outputStream);
+        return outputStream.toByteArray();
+    }
+}
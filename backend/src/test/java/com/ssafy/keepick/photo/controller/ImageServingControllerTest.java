@@ -0,0 +1,143 @@
+package com.ssafy.keepick.photo.controller;
+
+import com.ssafy.keepick.auth.application.dto.CustomOAuth2Member;
+import com.ssafy.keepick.auth.application.dto.MemberDto;
+import com.ssafy.keepick.external.s3.dto.S3ObjectStreamDto;
+import com.ssafy.keepick.global.exception.BaseException;
+import com.ssafy.keepick.global.exception.ErrorCode;
+import com.ssafy.keepick.global.exception.GlobalExceptionHandler;
+import com.ssafy.keepick.photo.application.ImageService;
+import com.ssafy.keepick.support.BaseTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.io.ByteArrayInputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class ImageServingControllerTest extends BaseTest {
+
+    private static final Long MEMBER_ID = 1L;
+    private static final Long PHOTO_ID = 10L;
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private ImageService imageService;
+
+    @InjectMocks
+    private ImageServingController imageServingController;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(imageServingController, "cacheMaxAge", 3600L);
+        mockMvc = MockMvcBuilders.standaloneSetup(imageServingController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Range 요청 시 206 응답과 Content-Range 헤더를 반환한다")
+    void getImage_range() throws Exception {
+        // given
+        authenticate();
+        byte[] body = "abcd".getBytes();
+        S3ObjectStreamDto image = S3ObjectStreamDto.builder()
+                .inputStream(new ByteArrayInputStream(body))
+                .eTag("\"etag\"")
+                .contentType("image/jpeg")
+                .contentLength((long) body.length)
+                .contentRange("bytes 0-3/100")
+                .build();
+        given(imageService.openImageStream(MEMBER_ID, "originals", PHOTO_ID, "a.jpg", "bytes=0-3", null))
+                .willReturn(image);
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/images/{type}/{photoId}/{fileName}", "originals", PHOTO_ID, "a.jpg")
+                        .header(HttpHeaders.RANGE, "bytes=0-3"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isPartialContent())
+                .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 0-3/100"))
+                .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "max-age=3600, private, immutable"))
+                .andExpect(content().bytes(body));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 사진이면 404를 반환한다")
+    void getImage_notFound() throws Exception {
+        // given
+        authenticate();
+        given(imageService.openImageStream(eq(MEMBER_ID), anyString(), anyLong(), anyString(), any(), any()))
+                .willThrow(new BaseException(ErrorCode.PHOTO_NOT_FOUND));
+
+        // when & then
+        mockMvc.perform(get("/api/images/{type}/{photoId}/{fileName}", "originals", PHOTO_ID, "a.jpg"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.errorCode").value(ErrorCode.PHOTO_NOT_FOUND.getCode()));
+    }
+
+    @Test
+    @DisplayName("그룹 멤버가 아니면 403을 반환한다")
+    void getImage_forbidden() throws Exception {
+        // given
+        authenticate();
+        given(imageService.openImageStream(eq(MEMBER_ID), anyString(), anyLong(), anyString(), any(), any()))
+                .willThrow(new BaseException(ErrorCode.FORBIDDEN));
+
+        // when & then
+        mockMvc.perform(get("/api/images/{type}/{photoId}/{fileName}", "originals", PHOTO_ID, "a.jpg"))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("인증 정보가 없으면 401을 반환하고 S3를 조회하지 않는다")
+    void getImage_unauthorized() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/images/{type}/{photoId}/{fileName}", "originals", PHOTO_ID, "a.jpg"))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.errorCode").value(ErrorCode.UNAUTHORIZED.getCode()));
+        verifyNoInteractions(imageService);
+    }
+
+    private void authenticate() {
+        CustomOAuth2Member principal = CustomOAuth2Member.from(MemberDto.of(MEMBER_ID, "user", "ROLE_USER"));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
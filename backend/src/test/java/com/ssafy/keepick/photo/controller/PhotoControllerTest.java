@@ -0,0 +1,70 @@
+package com.ssafy.keepick.photo.controller;
+
+import com.ssafy.keepick.global.exception.GlobalExceptionHandler;
+import com.ssafy.keepick.photo.application.GroupPhotoService;
+import com.ssafy.keepick.photo.application.PhotoFacetService;
+import com.ssafy.keepick.support.BaseTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@ExtendWith(MockitoExtension.class)
+class PhotoControllerTest extends BaseTest {
+
+    private MockMvc mockMvc;
+
+    @Mock
+    private GroupPhotoService groupPhotoService;
+
+    @Mock
+    private PhotoFacetService photoFacetService;
+
+    @InjectMocks
+    private PhotoController photoController;
+
+    @BeforeEach
+    void setUp() {
+        mockMvc = MockMvcBuilders.standaloneSetup(photoController)
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+    }
+
+    @Test
+    @DisplayName("최근 사진 조회 시 page, size 범위를 벗어나면 400을 반환한다")
+    void getRecentPhotos_InvalidPaging() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/photos/recent").param("page", "-1"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("B004"));
+        mockMvc.perform(get("/api/photos/recent").param("size", "0"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/photos/recent").param("size", "101"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(groupPhotoService);
+    }
+
+    @Test
+    @DisplayName("랜덤 사진 조회 시 size 범위를 벗어나면 400을 반환한다")
+    void getRandomPhotos_InvalidSize() throws Exception {
+        // when & then
+        mockMvc.perform(get("/api/photos/random").param("size", "0"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("B004"));
+        mockMvc.perform(get("/api/photos/random").param("size", "101"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(groupPhotoService);
+    }
+}
@@ -43,7 +43,7 @@ class PhotoRepositoryTest extends BaseRepositoryTest {
     private Group testGroup;
     private Member testMember1, testMember2;
     private Photo testPhoto1, testPhoto2, testPhoto3, deletedPhoto;
-    private String tag1, tag2;
+    private Integer tag1, tag2;
 
     @BeforeEach
     void setUp() {
@@ -80,8 +80,8 @@ class PhotoRepositoryTest extends BaseRepositoryTest {
         entityManager.persist(groupMember2);
 
         // 태그 생성
-        tag1 = "FOOD";
-        tag2 = "SCENERY";
+        tag1 = 1;
+        tag2 = 2;
 
         // 사진 생성
         testPhoto1 = Photo.builder()
@@ -205,59 +205,41 @@ class PhotoRepositoryTest extends BaseRepositoryTest {
     }
 
     @Nested
-    @DisplayName("findRandomByMemberId 테스트")
-    class FindRandomByMemberIdTest {
+    @DisplayName("findFeedIdsByMemberId 테스트")
+    class FindFeedIdsByMemberIdTest {
 
         @Test
-        @DisplayName("멤버의 랜덤 사진 조회 테스트")
-        void findRandomByMemberId_Success() {
-            // when
-            List<Photo> result = photoRepository.findRandomByMemberId(testMember1.getId(), 10, 0);
-
-            // then
-            assertThat(result).isNotEmpty();
-            assertThat(result).allMatch(photo -> photo.getDeletedAt() == null);
-            // 속한 그룹의 모든 사진이 조회 대상
-            assertThat(result).hasSize(3);
-        }
-
-        @Test
-        @DisplayName("멤버의 랜덤 사진 조회 1개 제한 테스트")
-        void findRandomByMemberId_Success_WithSizeLimit() {
-            // when
-            List<Photo> result = photoRepository.findRandomByMemberId(testMember1.getId(), 1, 0);
-
-            // then
-            assertThat(result).hasSize(1);
-        }
-
-        @Test
-        @DisplayName("사진이 없는 멤버의 랜덤 조회 테스트")
-        void findRandomByMemberId_Success_NoPhotos() {
+        @DisplayName("가입한 그룹의 썸네일 생성이 끝난 사진 ID를 최신순으로 조회한다")
+        void findFeedIdsByMemberId_Success() {
             // given
-            Member memberWithNoPhotos = Member.builder()
-                    .name("사진없는멤버")
-                    .email("nophoto@test.com")
-                    .nickname("사진없는닉네임")
-                    .profileUrl("https://example.com/noprofile.jpg")
-                    .provider("naver")
-                    .providerId("naver_999999")
-                    .identificationUrl("https://example.com/noid")
+            Member joinedMember = Member.builder()
+                    .name("가입멤버")
+                    .email("joined@test.com")
+                    .nickname("가입닉네임")
+                    .provider("kakao")
+                    .providerId("kakao_555555")
                     .build();
-            entityManager.persistAndFlush(memberWithNoPhotos);
+            entityManager.persist(joinedMember);
+            GroupMember joined = GroupMember.createGroupMember(testGroup, joinedMember);
+            joined.accept();
+            entityManager.persistAndFlush(joined);
+
+            testPhoto1.uploadThumbnail("https://example.com/thumb1.webp");
+            testPhoto3.uploadThumbnail("https://example.com/thumb3.webp");
+            entityManager.flush();
 
             // when
-            List<Photo> result = photoRepository.findRandomByMemberId(memberWithNoPhotos.getId(), 10, 0);
+            List<Long> result = photoRepository.findFeedIdsByMemberId(joinedMember.getId(), PageRequest.of(0, 10));
 
             // then
-            assertThat(result).isEmpty();
+            assertThat(result).containsExactly(testPhoto3.getId(), testPhoto1.getId());
         }
 
         @Test
-        @DisplayName("크기 0으로 랜덤 사진 요청한 경우 테스트")
-        void findRandomByMemberId_Success_ZeroSize() {
+        @DisplayName("가입 수락 전인 그룹의 사진은 조회하지 않는다")
+        void findFeedIdsByMemberId_Success_PendingMember() {
             // when
-            List<Photo> result = photoRepository.findRandomByMemberId(testMember1.getId(), 0, 0);
+            List<Long> result = photoRepository.findFeedIdsByMemberId(testMember1.getId(), PageRequest.of(0, 10));
 
             // then
             assertThat(result).isEmpty();
@@ -306,11 +288,11 @@ class PhotoRepositoryTest extends BaseRepositoryTest {
         void findAllPhotosByGroupIdAndOption_Success_WithTagFilter() {
             // given
             Pageable pageable = PageRequest.of(0, 10);
-            List<String> tags = Arrays.asList(tag1);
+            List<Integer> tagIds = Arrays.asList(tag1);
 
             // when
             Page<Photo> result = photoRepository.findAllPhotosByGroupIdAndOption(
-                    pageable, testGroup.getId(), null, tags, null, null);
+                    pageable, testGroup.getId(), null, tagIds, null, null);
 
             // then
             assertThat(result.getContent()).hasSize(2); // testPhoto1, testPhoto3 (tag1 연관)
@@ -340,13 +322,13 @@ class PhotoRepositoryTest extends BaseRepositoryTest {
             // given
             Pageable pageable = PageRequest.of(0, 10);
             List<Long> memberIds = Arrays.asList(testMember1.getId());
-            List<String> tags = Arrays.asList(tag1);
+            List<Integer> tagIds = Arrays.asList(tag1);
             LocalDate startDate = LocalDate.now().minusDays(2);
             LocalDate endDate = LocalDate.now();
 
             // when
             Page<Photo> result = photoRepository.findAllPhotosByGroupIdAndOption(
-                    pageable, testGroup.getId(), memberIds, tags, startDate, endDate);
+                    pageable, testGroup.getId(), memberIds, tagIds, startDate, endDate);
 
             // then
             assertThat(result.getContent()).hasSize(1); // testPhoto1만 모든 조건 만족
@@ -428,7 +410,7 @@ class PhotoRepositoryTest extends BaseRepositoryTest {
             // given
             Pageable pageable = PageRequest.of(0, 10);
             List<Long> emptyMemberIds = Collections.emptyList();
-            List<String> emptyTags = Collections.emptyList();
+            List<Integer> emptyTags = Collections.emptyList();
 
             // when
             Page<Photo> result = photoRepository.findAllPhotosByGroupIdAndOption(
@@ -28,21 +28,21 @@ class PhotoTagRepositoryTest extends BaseRepositoryTest {
         // given
         Photo photo = photoRepository.save(Photo.builder().build());
 
-        photoTagRepository.save(PhotoTag.of(photo, "태그1"));
-        photoTagRepository.save(PhotoTag.of(photo, "태그2"));
-        photoTagRepository.save(PhotoTag.of(photo, "태그3"));
+        photoTagRepository.save(PhotoTag.of(photo, 1));
+        photoTagRepository.save(PhotoTag.of(photo, 2));
+        photoTagRepository.save(PhotoTag.of(photo, 3));
 
         // when
         List<PhotoTag> photoTags = photoTagRepository.findAllByPhotoId(photo.getId());
 
         // then
         assertThat(photoTags.size()).isEqualTo(3);
-        assertThat(photoTags).extracting("tag").containsExactly("태그1", "태그2", "태그3");
+        assertThat(photoTags).extracting("tagId").containsExactly(1, 2, 3);
     }
 
     @DisplayName("그룹갤러리의 모든 고유한 태그를 조회합니다.")
     @Test
-    void findTagsByGroupIdTest() {
+    void findTagIdsByGroupIdTest() {
         // given
         Member member = memberRepository.save(createMember());
         Group group = groupRepository.save(Group.createGroup("그룹 이름", member));
@@ -50,18 +50,18 @@ class PhotoTagRepositoryTest extends BaseRepositoryTest {
         Photo deletedPhoto = photoRepository.save(Photo.builder().group(group).build());
         deletedPhoto.delete();
 
-        photoTagRepository.save(PhotoTag.of(photo, "태그1"));
-        photoTagRepository.save(PhotoTag.of(photo, "태그2"));
-        photoTagRepository.save(PhotoTag.of(photo, "태그3"));
-        photoTagRepository.save(PhotoTag.of(photo, "태그3"));
-        photoTagRepository.save(PhotoTag.of(deletedPhoto, "태그4"));
+        photoTagRepository.save(PhotoTag.of(photo, 1));
+        photoTagRepository.save(PhotoTag.of(photo, 2));
+        photoTagRepository.save(PhotoTag.of(photo, 3));
+        photoTagRepository.save(PhotoTag.of(photo, 3));
+        photoTagRepository.save(PhotoTag.of(deletedPhoto, 4));
 
         // when
-        List<String> photoTags = photoTagRepository.findTagsByGroupId(group.getId());
+        List<Integer> tagIds = photoTagRepository.findTagIdsByGroupId(group.getId());
 
         // then
-        assertThat(photoTags.size()).isEqualTo(3);
-        assertThat(photoTags).containsExactly("태그1", "태그2", "태그3");
+        assertThat(tagIds.size()).isEqualTo(3);
+        assertThat(tagIds).containsExactly(1, 2, 3);
     }
 
     Member createMember() {
@@ -23,6 +23,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -33,6 +34,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 @Import({
         TimelineInteractionService.class
 })
+@TestPropertySource(properties = "app.album.timeline.section-gap-hours=6")
 class TimelineInteractionServiceTest extends BaseRepositoryTest {
 
     @Autowired
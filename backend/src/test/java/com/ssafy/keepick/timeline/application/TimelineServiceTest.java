@@ -1,5 +1,6 @@
 package com.ssafy.keepick.timeline.application;
 
+import com.ssafy.keepick.global.cache.VersionedLocalCacheFactory;
 import com.ssafy.keepick.group.domain.Group;
 import com.ssafy.keepick.group.persistence.GroupRepository;
 import com.ssafy.keepick.photo.domain.Photo;
@@ -16,7 +17,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
 import org.springframework.data.domain.Page;
 
 import java.time.LocalDate;
@@ -26,10 +30,21 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 @ExtendWith(MockitoExtension.class)
 @Import({
-        TimelineService.class
+        TimelineService.class,
+        TimelineServiceTest.DetailCacheConfig.class
 })
+@TestPropertySource(properties = "app.album.timeline.detail-cache-size=0")
 class TimelineServiceTest extends BaseRepositoryTest {
 
+    // 캐시를 끄고 매번 DB에서 상세를 조회
+    @TestConfiguration
+    static class DetailCacheConfig {
+        @Bean
+        TimelineAlbumDetailCache timelineAlbumDetailCache() {
+            return new TimelineAlbumDetailCache(new VersionedLocalCacheFactory(null));
+        }
+    }
+
     @Autowired TimelineService timelineService;
 
     @Autowired
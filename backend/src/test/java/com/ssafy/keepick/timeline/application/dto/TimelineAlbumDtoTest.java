@@ -0,0 +1,60 @@
+package com.ssafy.keepick.timeline.application.dto;
+
+import com.ssafy.keepick.group.domain.Group;
+import com.ssafy.keepick.photo.domain.Photo;
+import com.ssafy.keepick.support.BaseTest;
+import com.ssafy.keepick.timeline.domain.TimelineAlbum;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimelineAlbumDtoTest extends BaseTest {
+
+    @DisplayName("상세 조회 행을 섹션별 사진과 사용하지 않는 사진으로 나눈다.")
+    @Test
+    void fromDetail() {
+        // given
+        Group group = Group.createGroup("TEST", null);
+        Photo photo = Photo.createPhoto(null, null, null, group);
+        photo.upload("https://example.com/photo.jpg");
+        TimelineAlbum album = TimelineAlbum.createTimelineAlbum(group, List.of(photo));
+
+        List<TimelineAlbumDetailRowDto> rows = List.of(
+                sectionRow(10L, 0),
+                sectionRow(20L, 1),
+                photoRow(10L, 101L, 0),
+                photoRow(10L, 102L, 1),
+                photoRow(null, 103L, null));
+
+        // when
+        TimelineAlbumDto dto = TimelineAlbumDto.fromDetail(album, rows);
+
+        // then
+        assertThat(dto.getSections()).extracting("sectionId").containsExactly(10L, 20L);
+        assertThat(dto.getSections().get(0).getPhotos()).extracting("photoId").containsExactly(101L, 102L);
+        assertThat(dto.getSections().get(1).getPhotos()).isEmpty();
+        assertThat(dto.getUnusedPhotos()).extracting("photoId").containsExactly(103L);
+    }
+
+    private TimelineAlbumDetailRowDto sectionRow(Long sectionId, Integer sequence) {
+        return TimelineAlbumDetailRowDto.builder()
+                .photoRow(false)
+                .sectionId(sectionId)
+                .name("SECTION")
+                .sequence(sequence)
+                .build();
+    }
+
+    private TimelineAlbumDetailRowDto photoRow(Long sectionId, Long photoId, Integer sequence) {
+        return TimelineAlbumDetailRowDto.builder()
+                .photoRow(true)
+                .sectionId(sectionId)
+                .albumPhotoId(photoId * 10)
+                .photoId(photoId)
+                .sequence(sequence)
+                .build();
+    }
+}
@@ -6,6 +6,9 @@ import com.ssafy.keepick.support.BaseTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
@@ -152,6 +155,41 @@ class TimelineAlbumTest extends BaseTest {
 
     }
 
+    @DisplayName("촬영 시각 간격으로 섹션을 자동 생성한다. 촬영 시각이 없는 사진은 사용하지 않는 사진으로 남는다.")
+    @Test
+    void generateSections() {
+        // given
+        Group group = Group.createGroup("TEST", null);
+
+        Photo photo1 = Photo.createPhoto(LocalDateTime.of(2025, 7, 1, 12, 0), null, null, group);
+        Photo photo2 = Photo.createPhoto(LocalDateTime.of(2025, 7, 1, 10, 0), null, null, group);
+        Photo photo3 = Photo.createPhoto(LocalDateTime.of(2025, 7, 2, 9, 0), null, null, group);
+        Photo photo4 = Photo.createPhoto(null, null, null, group);
+
+        TimelineAlbum album = TimelineAlbum.createTimelineAlbum(group, List.of(photo1, photo2, photo3, photo4));
+
+        // when
+        album.generateSections(Duration.ofHours(6));
+
+        // then
+        assertThat(album.getSections().size()).isEqualTo(2);
+
+        TimelineAlbumSection section1 = album.getSections().get(0);
+        assertThat(section1.getSequence()).isEqualTo(0);
+        assertThat(section1.getStartDate()).isEqualTo(LocalDate.of(2025, 7, 1));
+        assertThat(section1.getEndDate()).isEqualTo(LocalDate.of(2025, 7, 1));
+        assertThat(section1.getPhotos()).extracting("photo").containsExactly(photo2, photo1);
+
+        TimelineAlbumSection section2 = album.getSections().get(1);
+        assertThat(section2.getSequence()).isEqualTo(1);
+        assertThat(section2.getPhotos()).extracting("photo").containsExactly(photo3);
+
+        assertThat(album.getStartDate()).isEqualTo(LocalDate.of(2025, 7, 1));
+        assertThat(album.getEndDate()).isEqualTo(LocalDate.of(2025, 7, 2));
+        assertThat(album.getPhotoCount()).isEqualTo(3);
+        assertThat(album.getPhotos().get(3).getSection()).isNull();
+    }
+
     private Photo createPhoto(Group group) {
         Photo photo = Photo.createPhoto(null, null, null, group);
         photo.upload("https://example.com/photo.jpg");
@@ -159,4 +197,34 @@ class TimelineAlbumTest extends BaseTest {
         return photo;
     }
 
-}
\ No newline at end of file
+    @DisplayName("사진을 다른 섹션으로 배치하면 기존 섹션에서 빠지고 새 섹션의 순서가 지정된다.")
+    @Test
+    void placePhotoInSection() {
+        // given
+        Group group = Group.createGroup("TEST", null);
+
+        Photo photo = createPhoto(group);
+
+        TimelineAlbum album = TimelineAlbum.createTimelineAlbum(group, List.of(photo));
+        TimelineAlbumSection section1 = album.createTimelineAlbumSection();
+        TimelineAlbumSection section2 = album.createTimelineAlbumSection();
+
+        TimelineAlbumPhoto albumPhoto = album.getPhotos().get(0);
+        albumPhoto.placeInSection(section1, 0);
+
+        // when
+        albumPhoto.placeInSection(section2, 3);
+
+        // then
+        assertThat(section1.getPhotos()).isEmpty();
+        assertThat(section2.getPhotos()).containsExactly(albumPhoto);
+        assertThat(albumPhoto.getSection()).isSameAs(section2);
+        assertThat(albumPhoto.getSequence()).isEqualTo(3);
+
+        // 섹션에서 빼면 사용하지 않는 사진이 된다.
+        albumPhoto.leaveSection();
+        assertThat(section2.getPhotos()).isEmpty();
+        assertThat(albumPhoto.getSection()).isNull();
+        assertThat(albumPhoto.getSequence()).isNull();
+    }
+}
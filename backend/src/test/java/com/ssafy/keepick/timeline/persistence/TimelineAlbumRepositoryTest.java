@@ -5,7 +5,9 @@ import com.ssafy.keepick.group.persistence.GroupRepository;
 import com.ssafy.keepick.photo.domain.Photo;
 import com.ssafy.keepick.photo.persistence.PhotoRepository;
 import com.ssafy.keepick.support.BaseRepositoryTest;
+import com.ssafy.keepick.timeline.application.dto.TimelineAlbumDetailRowDto;
 import com.ssafy.keepick.timeline.domain.TimelineAlbum;
+import com.ssafy.keepick.timeline.domain.TimelineAlbumPhoto;
 import com.ssafy.keepick.timeline.domain.TimelineAlbumSection;
 import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.DisplayName;
@@ -16,6 +18,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 
 class TimelineAlbumRepositoryTest extends BaseRepositoryTest {
 
@@ -64,4 +67,48 @@ class TimelineAlbumRepositoryTest extends BaseRepositoryTest {
 
         assertThat(findAlbum2.isEmpty()).isTrue();
     }
-}
\ No newline at end of file
+
+    @DisplayName("타임라인 앨범 상세를 섹션 행, 사진 행 순서의 평평한 행으로 조회합니다.")
+    @Test
+    void findDetailRowsByAlbumId() {
+        // given
+        Group group = groupRepository.save(Group.createGroup("Group", null));
+        Photo photo1 = photoRepository.save(Photo.createPhoto(null, null, null, group));
+        Photo photo2 = photoRepository.save(Photo.createPhoto(null, null, null, group));
+        Photo photo3 = photoRepository.save(Photo.createPhoto(null, null, null, group));
+
+        TimelineAlbum album = timelineAlbumRepository.save(TimelineAlbum.createTimelineAlbum(group, List.of(photo1, photo2, photo3)));
+        TimelineAlbumSection sectionA = album.createTimelineAlbumSection();
+        TimelineAlbumSection sectionB = album.createTimelineAlbumSection();
+        sectionA.updateSequence(1);
+        sectionB.updateSequence(0);
+        entityManager.flush();
+
+        List<TimelineAlbumPhoto> albumPhotos = album.getPhotos();
+        albumPhotos.get(0).placeInSection(sectionB, 1);
+        albumPhotos.get(1).placeInSection(sectionB, 0);
+
+        TimelineAlbum otherAlbum = timelineAlbumRepository.save(TimelineAlbum.createTimelineAlbum(group, List.of(photo1)));
+        otherAlbum.createTimelineAlbumSection();
+
+        entityManager.flush();
+        entityManager.clear();
+
+        // when
+        List<TimelineAlbumDetailRowDto> rows = timelineAlbumRepository.findDetailRowsByAlbumId(album.getId());
+
+        // then
+        List<TimelineAlbumDetailRowDto> sectionRows = rows.stream().filter(row -> !row.isPhotoRow()).toList();
+        List<TimelineAlbumDetailRowDto> photoRows = rows.stream().filter(TimelineAlbumDetailRowDto::isPhotoRow).toList();
+
+        assertThat(rows).hasSize(5);
+        assertThat(rows.subList(0, 2)).allMatch(row -> !row.isPhotoRow());
+        assertThat(sectionRows).extracting("sectionId").containsExactly(sectionB.getId(), sectionA.getId());
+        assertThat(photoRows.stream().filter(row -> row.getSectionId() != null))
+                .extracting("photoId", "sequence")
+                .containsExactly(tuple(photo2.getId(), 0), tuple(photo1.getId(), 1));
+        assertThat(photoRows.stream().filter(row -> row.getSectionId() == null))
+                .extracting("photoId")
+                .containsExactly(photo3.getId());
+    }
+}
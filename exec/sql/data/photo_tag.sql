@@ -1,65 +1,65 @@
 
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (571,925,'cat');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (572,926,'cat');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (573,927,'Coliseum');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (574,928,'Machu_Picchu');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (575,929,'Machu_Picchu');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (576,930,'burj_khalifa');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (577,931,'burj_khalifa');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (578,932,'eiffel_tower');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (579,933,'chumsungdae');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (580,934,'wine glass');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (581,934,'lottetower');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (582,935,'Yisunshin');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (583,936,'Tiger');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (584,937,'gyungbokgung');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (585,938,'Yisunshin');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (586,939,'lion');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (587,941,'soju');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (588,942,'soju');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (589,943,'spaghetti');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (590,944,'spaghetti');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (594,996,'umbrella');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (595,1006,'skateboard');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (596,1006,'umbrella');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (597,1007,'skateboard');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (598,1012,'japchae');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (599,1014,'tteokbokki');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (600,1014,'beer');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (601,1123,'dog');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (602,1124,'dog');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (603,1125,'dog');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (604,1126,'dog');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (605,1127,'dog');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (606,1128,'dog');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (607,1129,'dog');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (608,1130,'person');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (609,1131,'person');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (610,1132,'person');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (611,1133,'person');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (612,1134,'person');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (613,1135,'person');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (614,1136,'person');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (615,1137,'dog');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (616,1138,'baseball');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (617,1139,'basketball');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (618,1140,'bibimbap');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (619,1141,'bird');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (620,1142,'bread');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (621,1143,'Coliseum');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (622,1144,'eiffel_tower');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (623,1145,'pyramid');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (624,1145,'beer');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (625,1146,'lottetower');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (626,1146,'beer');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (627,1147,'k-gung');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (628,1149,'lion');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (629,1150,'Machu_Picchu');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (630,1151,'ramen-noodle');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (631,1152,'samgyeopsal');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (632,1153,'skis');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (633,1154,'tajimahal');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (634,1155,'takoyaki');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (635,1156,'unagi');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (636,1157,'fried-noodle');
-INSERT INTO `photo_tag` (`id`,`photo_id`,`tag`) VALUES (637,1158,'umbrella');
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (571,925,1);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (572,926,1);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (573,927,2);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (574,928,3);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (575,929,3);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (576,930,4);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (577,931,4);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (578,932,5);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (579,933,6);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (580,934,7);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (581,934,8);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (582,935,9);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (583,936,10);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (584,937,11);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (585,938,9);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (586,939,12);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (587,941,13);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (588,942,13);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (589,943,14);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (590,944,14);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (594,996,15);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (595,1006,16);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (596,1006,15);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (597,1007,16);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (598,1012,17);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (599,1014,18);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (600,1014,19);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (601,1123,20);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (602,1124,20);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (603,1125,20);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (604,1126,20);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (605,1127,20);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (606,1128,20);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (607,1129,20);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (608,1130,21);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (609,1131,21);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (610,1132,21);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (611,1133,21);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (612,1134,21);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (613,1135,21);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (614,1136,21);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (615,1137,20);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (616,1138,22);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (617,1139,23);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (618,1140,24);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (619,1141,25);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (620,1142,26);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (621,1143,2);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (622,1144,5);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (623,1145,27);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (624,1145,19);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (625,1146,8);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (626,1146,19);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (627,1147,28);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (628,1149,12);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (629,1150,3);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (630,1151,29);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (631,1152,30);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (632,1153,31);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (633,1154,32);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (634,1155,33);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (635,1156,34);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (636,1157,35);
+INSERT INTO `photo_tag` (`id`,`photo_id`,`tag_id`) VALUES (637,1158,15);
@@ -0,0 +1,36 @@
+
+INSERT INTO `tag` (`id`,`name`) VALUES (1,'cat');
+INSERT INTO `tag` (`id`,`name`) VALUES (2,'Coliseum');
+INSERT INTO `tag` (`id`,`name`) VALUES (3,'Machu_Picchu');
+INSERT INTO `tag` (`id`,`name`) VALUES (4,'burj_khalifa');
+INSERT INTO `tag` (`id`,`name`) VALUES (5,'eiffel_tower');
+INSERT INTO `tag` (`id`,`name`) VALUES (6,'chumsungdae');
+INSERT INTO `tag` (`id`,`name`) VALUES (7,'wine glass');
+INSERT INTO `tag` (`id`,`name`) VALUES (8,'lottetower');
+INSERT INTO `tag` (`id`,`name`) VALUES (9,'Yisunshin');
+INSERT INTO `tag` (`id`,`name`) VALUES (10,'Tiger');
+INSERT INTO `tag` (`id`,`name`) VALUES (11,'gyungbokgung');
+INSERT INTO `tag` (`id`,`name`) VALUES (12,'lion');
+INSERT INTO `tag` (`id`,`name`) VALUES (13,'soju');
+INSERT INTO `tag` (`id`,`name`) VALUES (14,'spaghetti');
+INSERT INTO `tag` (`id`,`name`) VALUES (15,'umbrella');
+INSERT INTO `tag` (`id`,`name`) VALUES (16,'skateboard');
+INSERT INTO `tag` (`id`,`name`) VALUES (17,'japchae');
+INSERT INTO `tag` (`id`,`name`) VALUES (18,'tteokbokki');
+INSERT INTO `tag` (`id`,`name`) VALUES (19,'beer');
+INSERT INTO `tag` (`id`,`name`) VALUES (20,'dog');
+INSERT INTO `tag` (`id`,`name`) VALUES (21,'person');
+INSERT INTO `tag` (`id`,`name`) VALUES (22,'baseball');
+INSERT INTO `tag` (`id`,`name`) VALUES (23,'basketball');
+INSERT INTO `tag` (`id`,`name`) VALUES (24,'bibimbap');
+INSERT INTO `tag` (`id`,`name`) VALUES (25,'bird');
+INSERT INTO `tag` (`id`,`name`) VALUES (26,'bread');
+INSERT INTO `tag` (`id`,`name`) VALUES (27,'pyramid');
+INSERT INTO `tag` (`id`,`name`) VALUES (28,'k-gung');
+INSERT INTO `tag` (`id`,`name`) VALUES (29,'ramen-noodle');
+INSERT INTO `tag` (`id`,`name`) VALUES (30,'samgyeopsal');
+INSERT INTO `tag` (`id`,`name`) VALUES (31,'skis');
+INSERT INTO `tag` (`id`,`name`) VALUES (32,'tajimahal');
+INSERT INTO `tag` (`id`,`name`) VALUES (33,'takoyaki');
+INSERT INTO `tag` (`id`,`name`) VALUES (34,'unagi');
+INSERT INTO `tag` (`id`,`name`) VALUES (35,'fried-noodle');
@@ -155,6 +155,7 @@ CREATE TABLE IF NOT EXISTS `keepick`.`highlight_album_photo` (
   PRIMARY KEY (`id`),
   INDEX `FK76272p32ipv32w848iavbfe63` (`album_id` ASC) VISIBLE,
   INDEX `FKr0vfyywqg7cdq9uikuil4hy5k` (`member_id` ASC) VISIBLE,
+  INDEX `idx_highlight_album_photo_chat_session` (`chat_session_id` ASC, `album_id` ASC) VISIBLE,
   CONSTRAINT `FK76272p32ipv32w848iavbfe63`
     FOREIGN KEY (`album_id`)
     REFERENCES `keepick`.`highlight_album` (`id`),
@@ -219,18 +220,35 @@ DEFAULT CHARACTER SET = utf8mb4
 COLLATE = utf8mb4_0900_ai_ci;
 
 
+-- -----------------------------------------------------
+-- Table `keepick`.`tag`
+-- -----------------------------------------------------
+CREATE TABLE IF NOT EXISTS `keepick`.`tag` (
+  `id` INT NOT NULL AUTO_INCREMENT,
+  `name` VARCHAR(100) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE INDEX `UK_tag_name` (`name` ASC) VISIBLE)
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci;
+
+
 -- -----------------------------------------------------
 -- Table `keepick`.`photo_tag`
 -- -----------------------------------------------------
 CREATE TABLE IF NOT EXISTS `keepick`.`photo_tag` (
   `id` BIGINT NOT NULL AUTO_INCREMENT,
   `photo_id` BIGINT NULL DEFAULT NULL,
-  `tag` VARCHAR(255) NULL DEFAULT NULL,
+  `tag_id` INT NULL DEFAULT NULL,
   PRIMARY KEY (`id`),
   INDEX `FKb87vf7pn9a1d06sqflxtcx30b` (`photo_id` ASC) VISIBLE,
+  INDEX `IDX_photo_tag_tag_id_photo_id` (`tag_id` ASC, `photo_id` ASC) VISIBLE,
   CONSTRAINT `FKb87vf7pn9a1d06sqflxtcx30b`
     FOREIGN KEY (`photo_id`)
-    REFERENCES `keepick`.`photo` (`id`))
+    REFERENCES `keepick`.`photo` (`id`),
+  CONSTRAINT `FK_photo_tag_tag_id`
+    FOREIGN KEY (`tag_id`)
+    REFERENCES `keepick`.`tag` (`id`))
 ENGINE = InnoDB
 AUTO_INCREMENT = 638
 DEFAULT CHARACTER SET = utf8mb4
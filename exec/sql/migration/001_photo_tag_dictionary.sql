@@ -0,0 +1,45 @@
+-- -----------------------------------------------------
+-- photo_tag.tag (문자열) → tag 사전 + photo_tag.tag_id (FK) 전환
+-- 기존 데이터베이스에 한 번 실행 (새로 만드는 DB는 ddl.sql만 실행)
+-- 실행 순서: 1) 이 스크립트 2) 애플리케이션 배포
+-- -----------------------------------------------------
+USE `keepick` ;
+
+-- 1. 태그 사전 테이블 생성
+CREATE TABLE IF NOT EXISTS `keepick`.`tag` (
+  `id` INT NOT NULL AUTO_INCREMENT,
+  `name` VARCHAR(100) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+  PRIMARY KEY (`id`),
+  UNIQUE INDEX `UK_tag_name` (`name` ASC) VISIBLE)
+ENGINE = InnoDB
+DEFAULT CHARACTER SET = utf8mb4
+COLLATE = utf8mb4_0900_ai_ci;
+
+-- 2. 기존 태그 이름 등록 (대소문자를 구분해 애플리케이션과 같은 기준으로 중복 제거)
+INSERT IGNORE INTO `keepick`.`tag` (`name`)
+SELECT DISTINCT `tag` COLLATE utf8mb4_bin
+FROM `keepick`.`photo_tag`
+WHERE `tag` IS NOT NULL;
+
+-- 3. tag_id 컬럼 추가 후 채우기
+ALTER TABLE `keepick`.`photo_tag`
+  ADD COLUMN `tag_id` INT NULL DEFAULT NULL AFTER `photo_id`;
+
+UPDATE `keepick`.`photo_tag` pt
+  JOIN `keepick`.`tag` t ON t.`name` = pt.`tag` COLLATE utf8mb4_bin
+SET pt.`tag_id` = t.`id`;
+
+-- 4. 채워지지 않은 행 확인 (0이어야 다음 단계 진행)
+SELECT COUNT(*) AS `unmapped_rows`
+FROM `keepick`.`photo_tag`
+WHERE `tag` IS NOT NULL AND `tag_id` IS NULL;
+
+-- 5. 인덱스, FK 추가 후 기존 컬럼 삭제
+ALTER TABLE `keepick`.`photo_tag`
+  ADD INDEX `IDX_photo_tag_tag_id_photo_id` (`tag_id` ASC, `photo_id` ASC) VISIBLE,
+  ADD CONSTRAINT `FK_photo_tag_tag_id`
+    FOREIGN KEY (`tag_id`)
+    REFERENCES `keepick`.`tag` (`id`);
+
+ALTER TABLE `keepick`.`photo_tag`
+  DROP COLUMN `tag`;